@@ -1,30 +1,52 @@
 package com.techbra.billing.application.usecases;
 
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import com.techbra.billing.domain.model.BillSettlement;
+import com.techbra.billing.domain.model.BillStatus;
+import com.techbra.billing.domain.model.SettlementReport;
 import com.techbra.billing.domain.ports.in.BillUseCases;
 import com.techbra.billing.domain.ports.out.BillRepositoryPort;
 import com.techbra.billing.domain.events.BillPaidEvent;
 import com.techbra.billing.infrastructure.events.EventPublisher;
+import com.techbra.billing.service.LogisticsEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class BillUseCasesImpl implements BillUseCases {
     
     private final BillRepositoryPort billRepositoryPort;
     private final EventPublisher eventPublisher;
+    private final LogisticsEventPublisher logisticsEventPublisher;
     
-    public BillUseCasesImpl(BillRepositoryPort billRepositoryPort, EventPublisher eventPublisher) {
+    public BillUseCasesImpl(BillRepositoryPort billRepositoryPort, EventPublisher eventPublisher,
+                            LogisticsEventPublisher logisticsEventPublisher) {
         this.billRepositoryPort = billRepositoryPort;
         this.eventPublisher = eventPublisher;
+        this.logisticsEventPublisher = logisticsEventPublisher;
     }
     
     @Override
-    public List<Bill> getAllBills() {
-        return billRepositoryPort.findAll();
+    public List<Bill> searchBills(BillFilter filter, BillCursor cursor, int limit) {
+        return billRepositoryPort.findPage(filter, cursor, limit);
+    }
+    
+    @Override
+    public void exportBills(BillFilter filter, Consumer<Bill> consumer) {
+        billRepositoryPort.streamBills(filter, consumer);
     }
     
     @Override
@@ -39,11 +61,14 @@ public class BillUseCasesImpl implements BillUseCases {
     
     @Override
     public Optional<Bill> updateBill(Long id, Bill bill) {
-        if (billRepositoryPort.existsById(id)) {
+        return billRepositoryPort.findById(id).map(existing -> {
             bill.setId(id);
-            return Optional.of(billRepositoryPort.save(bill));
-        }
-        return Optional.empty();
+            if (bill.getVersion() == null) {
+                // Requisição sem versão: a alteração vale sobre a versão atual
+                bill.setVersion(existing.getVersion());
+            }
+            return billRepositoryPort.save(bill);
+        });
     }
     
     @Override
@@ -55,9 +80,16 @@ public class BillUseCasesImpl implements BillUseCases {
         return false;
     }
     
+    /**
+     * Paga a cobrança sob bloqueio de linha, publicando os eventos após o commit
+     * 
+     * Pagamentos concorrentes da mesma cobrança esperam o bloqueio e encontram a
+     * cobrança já paga, de modo que BILL_PAID é publicado uma única vez.
+     */
     @Override
+    @Transactional
     public Optional<Bill> payBill(Long id) {
-        Optional<Bill> billOpt = billRepositoryPort.findById(id);
+        Optional<Bill> billOpt = billRepositoryPort.findAllByIdForUpdate(List.of(id)).stream().findFirst();
         
         if (billOpt.isPresent()) {
             Bill bill = billOpt.get();
@@ -66,15 +98,8 @@ public class BillUseCasesImpl implements BillUseCases {
                 bill.markAsPaid();
                 Bill paidBill = billRepositoryPort.save(bill);
                 
-                // Criar e publicar evento
-                BillPaidEvent event = new BillPaidEvent(
-                    paidBill.getId(),
-                    paidBill.getDescription(),
-                    paidBill.getAmount(),
-                    paidBill.getPaidAt()
-                );
-                
-                eventPublisher.publishBillPaidEvent(event);
+                // Nenhum dos envios aguarda a confirmação do broker
+                publishAfterCommit(() -> publishPaidEvent(paidBill));
                 
                 return Optional.of(paidBill);
             }
@@ -83,4 +108,95 @@ public class BillUseCasesImpl implements BillUseCases {
         
         return Optional.empty();
     }
+    
+    @Override
+    @Transactional
+    public SettlementReport settleBills(List<BillSettlement> settlements) {
+        LocalDateTime settledAt = LocalDateTime.now();
+        Map<Long, LocalDateTime> paidAtByBillId = new LinkedHashMap<>();
+        for (BillSettlement settlement : settlements) {
+            paidAtByBillId.putIfAbsent(settlement.getBillId(),
+                    settlement.getPaidAt() != null ? settlement.getPaidAt() : settledAt);
+        }
+        
+        // Uma leitura com bloqueio para o lote; pagamentos concorrentes da mesma cobrança esperam este commit
+        Map<Long, Bill> billsById = new HashMap<>();
+        for (Bill bill : billRepositoryPort.findAllByIdForUpdate(paidAtByBillId.keySet())) {
+            billsById.put(bill.getId(), bill);
+        }
+        
+        SettlementReport report = new SettlementReport();
+        List<Bill> paidBills = new ArrayList<>();
+        paidAtByBillId.forEach((billId, paidAt) -> {
+            Bill bill = billsById.get(billId);
+            if (bill == null) {
+                report.addNotFound(billId);
+            } else if (bill.isPaid()) {
+                report.addAlreadyPaid();
+            } else if (bill.getStatus() == BillStatus.CANCELLED) {
+                report.addRejected(billId);
+            } else {
+                bill.markAsPaid(paidAt);
+                bill.setUpdatedAt(settledAt);
+                paidBills.add(bill);
+                report.addSettled();
+            }
+        });
+        
+        // Atualizações gravadas em lotes JDBC
+        billRepositoryPort.saveAll(paidBills);
+        if (!paidBills.isEmpty()) {
+            // Eventos do lote publicados apenas se a liquidação for confirmada no banco
+            publishAfterCommit(() -> publishPaidEvents(paidBills));
+        }
+        return report;
+    }
+    
+    /**
+     * Executa a publicação apenas se a transação for confirmada no banco
+     */
+    private void publishAfterCommit(Runnable publication) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publication.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publication.run();
+            }
+        });
+    }
+    
+    private void publishPaidEvent(Bill paidBill) {
+        BillPaidEvent event = new BillPaidEvent(
+            paidBill.getId(),
+            paidBill.getOrderId(),
+            paidBill.getDescription(),
+            paidBill.getAmount(),
+            paidBill.getPaidAt()
+        );
+        
+        eventPublisher.publishBillPaidEvent(event);
+        if (paidBill.getOrderId() != null) {
+            // Libera o pedido para expedição no logistics-service
+            logisticsEventPublisher.publishBillPaidEvent(paidBill);
+        }
+    }
+    
+    private void publishPaidEvents(List<Bill> paidBills) {
+        List<BillPaidEvent> events = new ArrayList<>(paidBills.size());
+        List<Bill> orderBills = new ArrayList<>(paidBills.size());
+        for (Bill bill : paidBills) {
+            events.add(new BillPaidEvent(bill.getId(), bill.getOrderId(), bill.getDescription(),
+                    bill.getAmount(), bill.getPaidAt()));
+            if (bill.getOrderId() != null) {
+                orderBills.add(bill);
+            }
+        }
+        eventPublisher.publishBillPaidEvents(events);
+        if (!orderBills.isEmpty()) {
+            logisticsEventPublisher.publishBillPaidEvents(orderBills);
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.techbra.billing.config;
 
+import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.infrastructure.messaging.EventDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,10 +12,16 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Configuration
@@ -25,33 +34,80 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:billing-service-group}")
     private String groupId;
 
+    @Value("${billing.kafka.batch.max-poll-records:500}")
+    private Integer batchMaxPollRecords;
+
+    @Value("${billing.kafka.batch.retry-interval-ms:1000}")
+    private Long batchRetryIntervalMs;
+
+    @Value("${billing.kafka.batch.retry-attempts:2}")
+    private Long batchRetryAttempts;
+
+    @Value("${billing.kafka.dead-letter-topic:billing-events.DLT}")
+    private String deadLetterTopic;
+
+    /**
+     * Consumer factory do modo individual
+     * 
+     * Os eventos são lidos como OrderEvent em JSON ou SMILE, conforme o header
+     * event-format de cada registro (ver {@link EventDeserializer}). Um registro
+     * ilegível não interrompe o consumo: o ErrorHandlingDeserializer o entrega ao
+     * error handler, que o encaminha ao dead letter topic sem novas tentativas.
+     */
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProperties(10),
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(new EventDeserializer<>(OrderEvent.class)));
+    }
+
+    /**
+     * Consumer factory do modo em lote, com polls maiores para amortizar as gravações
+     */
+    @Bean
+    public ConsumerFactory<String, Object> batchConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProperties(batchMaxPollRecords),
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(new EventDeserializer<>(OrderEvent.class)));
+    }
+
+    private Map<String, Object> consumerProperties(int maxPollRecords) {
         Map<String, Object> configProps = new HashMap<>();
         
         // Configurações básicas
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        
-        // Configurações de deserialização JSON
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.techbra.order.domain.event,com.techbra.billing.domain.event");
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "com.techbra.billing.domain.event.OrderEvent");
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         
         // Configurações de performance e confiabilidade
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 10000);
         
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
+    }
+
+    /**
+     * Encaminha ao dead letter topic os registros que esgotaram as novas tentativas
+     * 
+     * O registro mantém a chave (id do pedido) e os headers originais, acrescidos
+     * dos headers kafka_dlt-* com a exceção e a origem; a partição fica a cargo do
+     * particionador, para que o tópico não precise ter as mesmas partições do original.
+     * Registros que não puderam ser desserializados seguem com os bytes recebidos.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(
+            KafkaTemplate<String, Object> deadLetterKafkaTemplate,
+            KafkaTemplate<String, byte[]> deadLetterBytesKafkaTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, deadLetterBytesKafkaTemplate);
+        templates.put(Object.class, deadLetterKafkaTemplate);
+        return new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(deadLetterTopic, -1));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         
@@ -62,8 +118,37 @@ public class KafkaConsumerConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         factory.getContainerProperties().setPollTimeout(3000);
         
-        // Configurações de retry e error handling
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        // Configurações de retry e error handling: esgotadas as tentativas, o registro vai para o DLT
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer));
+        
+        return factory;
+    }
+
+    /**
+     * Container factory do modo em lote
+     * 
+     * O listener recebe o poll inteiro e confirma o lote uma única vez. Quando um
+     * registro falha, o listener lança BatchListenerFailedException com o índice do
+     * registro: os offsets anteriores são confirmados e apenas o registro que falhou
+     * (e os seguintes) são reentregues, com nova tentativa após o intervalo configurado.
+     * Esgotadas as tentativas, o registro é encaminhado ao dead letter topic e o
+     * consumo segue a partir do registro seguinte.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setBatchListener(true);
+        
+        factory.setConcurrency(3);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setPollTimeout(3000);
+        
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer,
+                new FixedBackOff(batchRetryIntervalMs, batchRetryAttempts)));
         
         return factory;
     }
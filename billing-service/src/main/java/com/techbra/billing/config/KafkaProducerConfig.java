@@ -1,7 +1,11 @@
 package com.techbra.billing.config;
 
 import com.techbra.billing.domain.event.LogisticsEvent;
+import com.techbra.billing.domain.events.BillPaidEvent;
+import com.techbra.billing.infrastructure.messaging.EventSerializer;
+import com.techbra.billing.infrastructure.messaging.EventWireFormat;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -32,17 +36,44 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.producer.retries:3}")
     private Integer retries;
 
-    @Value("${spring.kafka.producer.batch-size:16384}")
+    @Value("${spring.kafka.producer.batch-size:65536}")
     private Integer batchSize;
 
-    @Value("${spring.kafka.producer.linger-ms:1}")
+    @Value("${spring.kafka.producer.linger-ms:10}")
     private Integer lingerMs;
 
     @Value("${spring.kafka.producer.buffer-memory:33554432}")
     private Long bufferMemory;
 
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.max-in-flight-requests-per-connection:5}")
+    private Integer maxInFlightRequests;
+
+    @Value("${billing.kafka.logistics.event-format:json}")
+    private String logisticsEventFormat;
+
+    @Value("${billing.kafka.payments.batch-size:65536}")
+    private Integer paymentsBatchSize;
+
+    @Value("${billing.kafka.payments.linger-ms:20}")
+    private Integer paymentsLingerMs;
+
+    @Value("${billing.kafka.payments.compression-type:lz4}")
+    private String paymentsCompressionType;
+
+    @Value("${billing.kafka.payments.buffer-memory:8388608}")
+    private Long paymentsBufferMemory;
+
+    @Value("${billing.kafka.payments.max-block-ms:2000}")
+    private Long paymentsMaxBlockMs;
+
     /**
      * Configuração do Producer Factory para eventos de logística
+     * 
+     * Os eventos seguem em JSON ou, com billing.kafka.logistics.event-format=smile,
+     * no formato binário SMILE sinalizado pelo header event-format.
      */
     @Bean
     public ProducerFactory<String, LogisticsEvent> logisticsEventProducerFactory() {
@@ -52,26 +83,25 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
         
-        // Serializers
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        
         // Configurações de confiabilidade
         configProps.put(ProducerConfig.ACKS_CONFIG, acks);
         configProps.put(ProducerConfig.RETRIES_CONFIG, retries);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // Com idempotência, até 5 requisições em voo preservam a ordem por partição
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, Math.min(maxInFlightRequests, 5));
         
         // Configurações de performance
         configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
         configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
-        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
         
         // Configurações de timeout
         configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120000);
         
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new EventSerializer<>(EventWireFormat.fromName(logisticsEventFormat)));
     }
 
     /**
@@ -86,4 +116,101 @@ public class KafkaProducerConfig {
         
         return template;
     }
+
+    /**
+     * Producer Factory para eventos de pagamento de cobranças
+     * 
+     * O envio é assíncrono: os eventos se acumulam no buffer local do produtor
+     * e seguem em lotes comprimidos (linger.ms/batch.size). O buffer é limitado
+     * (buffer.memory) e, quando cheio, o envio bloqueia o chamador por até
+     * max.block.ms antes de falhar, aplicando backpressure sem crescer a memória.
+     */
+    @Bean
+    public ProducerFactory<String, BillPaidEvent> billPaidEventProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + "-payments");
+        
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        
+        configProps.put(ProducerConfig.ACKS_CONFIG, acks);
+        configProps.put(ProducerConfig.RETRIES_CONFIG, retries);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        
+        // Lotes e compressão
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, paymentsBatchSize);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, paymentsLingerMs);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, paymentsCompressionType);
+        
+        // Buffer local limitado com backpressure
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, paymentsBufferMemory);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, paymentsMaxBlockMs);
+        
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120000);
+        
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * KafkaTemplate para publicar eventos de pagamento de cobranças
+     */
+    @Bean
+    public KafkaTemplate<String, BillPaidEvent> billPaidEventKafkaTemplate() {
+        return new KafkaTemplate<>(billPaidEventProducerFactory());
+    }
+
+    /**
+     * Producer Factory dos eventos de pedido encaminhados ao dead letter topic
+     * 
+     * Os eventos seguem em JSON, qualquer que tenha sido o formato recebido.
+     */
+    @Bean
+    public ProducerFactory<String, Object> deadLetterProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(deadLetterProducerProperties("-dlt"), new StringSerializer(),
+                new EventSerializer<>(EventWireFormat.JSON));
+    }
+
+    /**
+     * KafkaTemplate usado pelo error handler dos listeners para o dead letter topic
+     */
+    @Bean
+    public KafkaTemplate<String, Object> deadLetterKafkaTemplate() {
+        return new KafkaTemplate<>(deadLetterProducerFactory());
+    }
+
+    /**
+     * Producer Factory dos registros ilegíveis encaminhados ao dead letter topic
+     * 
+     * O registro segue com os bytes recebidos, sem conversão, e os headers originais.
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> deadLetterBytesProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(deadLetterProducerProperties("-dlt-raw"), new StringSerializer(),
+                new ByteArraySerializer());
+    }
+
+    /**
+     * KafkaTemplate do dead letter topic para registros que não puderam ser desserializados
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> deadLetterBytesKafkaTemplate() {
+        return new KafkaTemplate<>(deadLetterBytesProducerFactory());
+    }
+
+    private Map<String, Object> deadLetterProducerProperties(String clientIdSuffix) {
+        Map<String, Object> configProps = new HashMap<>();
+        
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + clientIdSuffix);
+        
+        configProps.put(ProducerConfig.ACKS_CONFIG, acks);
+        configProps.put(ProducerConfig.RETRIES_CONFIG, retries);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        
+        return configProps;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Evento de pedido recebido do order-service via Kafka
@@ -22,10 +23,10 @@ public class OrderEvent {
     private LocalDateTime timestamp;
     
     @JsonProperty("orderId")
-    private Long orderId;
+    private UUID orderId;
     
     @JsonProperty("customerId")
-    private Long customerId;
+    private UUID customerId;
     
     @JsonProperty("totalAmount")
     private BigDecimal totalAmount;
@@ -40,7 +41,7 @@ public class OrderEvent {
     public OrderEvent() {}
 
     public OrderEvent(String eventId, String eventType, LocalDateTime timestamp, 
-                     Long orderId, Long customerId, BigDecimal totalAmount, 
+                     UUID orderId, UUID customerId, BigDecimal totalAmount, 
                      String status, OrderPayload payload) {
         this.eventId = eventId;
         this.eventType = eventType;
@@ -77,19 +78,19 @@ public class OrderEvent {
         this.timestamp = timestamp;
     }
 
-    public Long getOrderId() {
+    public UUID getOrderId() {
         return orderId;
     }
 
-    public void setOrderId(Long orderId) {
+    public void setOrderId(UUID orderId) {
         this.orderId = orderId;
     }
 
-    public Long getCustomerId() {
+    public UUID getCustomerId() {
         return customerId;
     }
 
-    public void setCustomerId(Long customerId) {
+    public void setCustomerId(UUID customerId) {
         this.customerId = customerId;
     }
 
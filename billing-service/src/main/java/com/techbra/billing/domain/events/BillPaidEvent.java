@@ -2,19 +2,26 @@ package com.techbra.billing.domain.events;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Evento de domínio disparado quando uma fatura é paga.
  */
 public class BillPaidEvent {
     private final Long billId;
+    private final UUID orderId;
     private final String description;
     private final BigDecimal amount;
     private final LocalDateTime paidAt;
     private final LocalDateTime occurredAt;
 
     public BillPaidEvent(Long billId, String description, BigDecimal amount, LocalDateTime paidAt) {
+        this(billId, null, description, amount, paidAt);
+    }
+
+    public BillPaidEvent(Long billId, UUID orderId, String description, BigDecimal amount, LocalDateTime paidAt) {
         this.billId = billId;
+        this.orderId = orderId;
         this.description = description;
         this.amount = amount;
         this.paidAt = paidAt;
@@ -25,6 +32,10 @@ public class BillPaidEvent {
         return billId;
     }
 
+    public UUID getOrderId() {
+        return orderId;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -45,6 +56,7 @@ public class BillPaidEvent {
     public String toString() {
         return "BillPaidEvent{" +
                 "billId=" + billId +
+                ", orderId=" + orderId +
                 ", description='" + description + '\'' +
                 ", amount=" + amount +
                 ", paidAt=" + paidAt +
@@ -6,10 +6,15 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bills")
+@Table(name = "bills", indexes = {
+    @Index(name = "uk_bills_order_id", columnList = "order_id", unique = true),
+    @Index(name = "idx_bills_status_due_date", columnList = "status, due_date, id"),
+    @Index(name = "idx_bills_due_date", columnList = "due_date, id")
+})
 public class Bill {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bills_seq")
+    @SequenceGenerator(name = "bills_seq", sequenceName = "bills_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "order_id", nullable = false)
@@ -43,6 +48,13 @@ public class Bill {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    /**
+     * Versão para controle otimista: uma gravação sobre uma leitura desatualizada
+     * falha em vez de desfazer alterações concorrentes (ex.: a marcação de vencidas)
+     */
+    @Version
+    private Long version;
+    
     public Bill() {
         this.createdAt = LocalDateTime.now();
         this.status = BillStatus.CREATED;
@@ -97,12 +109,22 @@ public class Bill {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     /**
      * Marca a fatura como paga.
      */
     public void markAsPaid() {
+        markAsPaid(LocalDateTime.now());
+    }
+    
+    /**
+     * Marca a fatura como paga no instante informado pelo provedor de pagamento.
+     */
+    public void markAsPaid(LocalDateTime paidAt) {
         this.status = BillStatus.PAID;
-        this.paidAt = LocalDateTime.now();
+        this.paidAt = paidAt;
     }
     
     /**
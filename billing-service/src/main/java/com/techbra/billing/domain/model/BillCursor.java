@@ -0,0 +1,104 @@
+package com.techbra.billing.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Cursor de paginação por chave (keyset) para listagens de cobranças
+ * 
+ * Representa a posição da última cobrança retornada, identificada pelo par
+ * (dueDate, id). A próxima página contém as cobranças estritamente posteriores
+ * a essa posição na ordenação (due_date, id), servida pelos índices de
+ * vencimento sem OFFSET, com custo constante em qualquer profundidade.
+ */
+public final class BillCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime dueDate;
+    private final Long id;
+
+    public BillCursor(LocalDateTime dueDate, Long id) {
+        if (dueDate == null || id == null) {
+            throw new IllegalArgumentException("Cursor requer data de vencimento e ID da cobrança");
+        }
+        this.dueDate = dueDate;
+        this.id = id;
+    }
+
+    /**
+     * Cria o cursor que aponta para a posição de uma cobrança
+     * 
+     * @param bill a última cobrança da página atual
+     * @return cursor posicionado na cobrança
+     */
+    public static BillCursor of(Bill bill) {
+        return new BillCursor(bill.getDueDate(), bill.getId());
+    }
+
+    /**
+     * Decodifica um cursor opaco recebido do cliente
+     * 
+     * @param token cursor codificado em Base64 URL-safe
+     * @return o cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static BillCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return new BillCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                Long.valueOf(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+
+    /**
+     * Codifica o cursor em um token opaco para o cliente
+     * 
+     * @return cursor codificado em Base64 URL-safe
+     */
+    public String encode() {
+        String raw = dueDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BillCursor that = (BillCursor) o;
+        return Objects.equals(dueDate, that.dueDate) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dueDate, id);
+    }
+
+    @Override
+    public String toString() {
+        return "BillCursor{" +
+                "dueDate=" + dueDate +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.techbra.billing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Filtros opcionais para consulta e exportação de cobranças
+ * 
+ * Campos nulos não restringem o resultado. O intervalo de vencimento é inclusivo.
+ */
+public final class BillFilter {
+
+    private final BillStatus status;
+    private final UUID orderId;
+    private final LocalDateTime dueFrom;
+    private final LocalDateTime dueTo;
+
+    public BillFilter(BillStatus status, UUID orderId, LocalDateTime dueFrom, LocalDateTime dueTo) {
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new IllegalArgumentException("Data inicial de vencimento deve ser anterior à data final");
+        }
+        this.status = status;
+        this.orderId = orderId;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+    }
+
+    /**
+     * Filtro que não restringe nenhuma cobrança
+     */
+    public static BillFilter none() {
+        return new BillFilter(null, null, null, null);
+    }
+
+    public BillStatus getStatus() {
+        return status;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getDueFrom() {
+        return dueFrom;
+    }
+
+    public LocalDateTime getDueTo() {
+        return dueTo;
+    }
+}
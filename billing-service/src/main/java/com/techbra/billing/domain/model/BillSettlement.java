@@ -0,0 +1,39 @@
+package com.techbra.billing.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha de um arquivo de liquidação: uma cobrança paga e o instante do pagamento
+ */
+public class BillSettlement {
+
+    private Long billId;
+    private LocalDateTime paidAt;
+
+    public BillSettlement() {
+    }
+
+    public BillSettlement(Long billId, LocalDateTime paidAt) {
+        this.billId = billId;
+        this.paidAt = paidAt;
+    }
+
+    public Long getBillId() {
+        return billId;
+    }
+
+    public void setBillId(Long billId) {
+        this.billId = billId;
+    }
+
+    /**
+     * Instante do pagamento; quando ausente, é usado o instante da liquidação
+     */
+    public LocalDateTime getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(LocalDateTime paidAt) {
+        this.paidAt = paidAt;
+    }
+}
@@ -19,6 +19,11 @@ public enum BillStatus {
      */
     PAID,
     
+    /**
+     * Status quando a fatura venceu sem pagamento.
+     */
+    OVERDUE,
+    
     /**
      * Status quando a fatura foi cancelada.
      */
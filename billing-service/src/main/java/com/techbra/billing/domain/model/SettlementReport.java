@@ -0,0 +1,61 @@
+package com.techbra.billing.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma liquidação em lote
+ * 
+ * Cobranças já pagas não são alteradas nem geram eventos, o que permite
+ * reenviar o mesmo arquivo com segurança. Cobranças canceladas são rejeitadas.
+ */
+public class SettlementReport {
+
+    private int settled;
+    private int alreadyPaid;
+    private final List<Long> notFound = new ArrayList<>();
+    private final List<Long> rejected = new ArrayList<>();
+
+    public void addSettled() {
+        settled++;
+    }
+
+    public void addAlreadyPaid() {
+        alreadyPaid++;
+    }
+
+    public void addNotFound(Long billId) {
+        notFound.add(billId);
+    }
+
+    public void addRejected(Long billId) {
+        rejected.add(billId);
+    }
+
+    /**
+     * Acumula o resultado de outro lote neste relatório
+     */
+    public SettlementReport merge(SettlementReport other) {
+        settled += other.settled;
+        alreadyPaid += other.alreadyPaid;
+        notFound.addAll(other.notFound);
+        rejected.addAll(other.rejected);
+        return this;
+    }
+
+    public int getSettled() {
+        return settled;
+    }
+
+    public int getAlreadyPaid() {
+        return alreadyPaid;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public List<Long> getRejected() {
+        return rejected;
+    }
+}
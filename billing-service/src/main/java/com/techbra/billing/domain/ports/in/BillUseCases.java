@@ -1,14 +1,46 @@
 package com.techbra.billing.domain.ports.in;
 
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import com.techbra.billing.domain.model.BillSettlement;
+import com.techbra.billing.domain.model.SettlementReport;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BillUseCases {
-    List<Bill> getAllBills();
+    /**
+     * Busca cobranças filtradas com paginação por keyset
+     * 
+     * @param filter filtros da consulta
+     * @param cursor posição da última cobrança da página anterior, ou null para a primeira página
+     * @param limit tamanho da página
+     * @return cobranças da página, ordenadas por vencimento e ID
+     */
+    List<Bill> searchBills(BillFilter filter, BillCursor cursor, int limit);
+    
+    /**
+     * Exporta todas as cobranças filtradas, uma a uma, para o consumidor
+     * 
+     * @param filter filtros da exportação
+     * @param consumer recebe cada cobrança, ordenadas por vencimento e ID
+     */
+    void exportBills(BillFilter filter, Consumer<Bill> consumer);
     Optional<Bill> getBillById(Long id);
     Bill createBill(Bill bill);
     Optional<Bill> updateBill(Long id, Bill bill);
     boolean deleteBill(Long id);
     Optional<Bill> payBill(Long id);
+    
+    /**
+     * Liquida um lote de cobranças pagas em uma única transação
+     * 
+     * Cobranças já pagas são ignoradas e os eventos de pagamento do lote
+     * são publicados juntos após o commit.
+     * 
+     * @param settlements cobranças pagas e instantes de pagamento
+     * @return resultado da liquidação do lote
+     */
+    SettlementReport settleBills(List<BillSettlement> settlements);
 }
\ No newline at end of file
@@ -1,15 +1,62 @@
 package com.techbra.billing.domain.ports.out;
 
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface BillRepositoryPort {
     List<Bill> findAll();
     Optional<Bill> findById(Long id);
     Optional<Bill> findByOrderId(UUID orderId);
+    List<Bill> findByOrderIdIn(Collection<UUID> orderIds);
+    
+    /**
+     * Busca as cobranças e as bloqueia para alteração até o fim da transação corrente
+     */
+    List<Bill> findAllByIdForUpdate(Collection<Long> ids);
+    
+    /**
+     * Busca uma página de cobranças filtradas, ordenada por vencimento e ID
+     * 
+     * @param filter filtros da consulta
+     * @param cursor posição da última cobrança da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de cobranças
+     * @return cobranças posteriores ao cursor
+     */
+    List<Bill> findPage(BillFilter filter, BillCursor cursor, int limit);
+    
+    /**
+     * Entrega ao consumidor todas as cobranças filtradas, sem carregá-las em memória de uma vez
+     * 
+     * @param filter filtros da consulta
+     * @param consumer recebe cada cobrança, ordenadas por vencimento e ID
+     */
+    void streamBills(BillFilter filter, Consumer<Bill> consumer);
     Bill save(Bill bill);
+    
+    /**
+     * Insere a cobrança em um único comando, se o pedido ainda não tiver cobrança
+     * 
+     * @param bill nova cobrança, sem ID
+     * @return a cobrança com o ID gerado, ou vazio se já existia cobrança para o pedido
+     */
+    Optional<Bill> insertIfAbsent(Bill bill);
+    List<Bill> saveAll(List<Bill> bills);
+    
+    /**
+     * Marca como vencidas, em uma transação própria, até limit cobranças em aberto vencidas antes de now
+     * 
+     * @param now instante de referência
+     * @param limit tamanho máximo do lote
+     * @return as cobranças marcadas como vencidas
+     */
+    List<Bill> markOverdue(LocalDateTime now, int limit);
     void deleteById(Long id);
     boolean existsById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.techbra.billing.domain.ports.out;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registro dos eventos já processados, usado para descartar reentregas
+ */
+public interface ProcessedEventPort {
+    
+    /**
+     * Registra o evento na transação corrente, se ainda não registrado
+     * 
+     * @return true se o evento foi registrado agora, false se já havia sido processado
+     */
+    boolean markProcessed(String eventId, String eventType);
+    
+    /**
+     * Retorna, entre os IDs informados, os que já foram processados
+     */
+    Set<String> findProcessed(Collection<String> eventIds);
+    
+    /**
+     * Registra os eventos na transação corrente, em lote
+     * 
+     * @param eventTypesById tipo do evento por ID, para eventos ainda não registrados
+     */
+    void markAllProcessed(Map<String, String> eventTypesById);
+    
+    /**
+     * Remove os registros anteriores ao limite de retenção
+     * 
+     * @return número de registros removidos
+     */
+    int deleteProcessedBefore(LocalDateTime cutoff);
+}
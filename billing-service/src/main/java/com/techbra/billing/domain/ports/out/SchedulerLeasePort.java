@@ -0,0 +1,24 @@
+package com.techbra.billing.domain.ports.out;
+
+import java.time.Duration;
+
+/**
+ * Leases com prazo para que apenas uma instância execute cada tarefa agendada
+ */
+public interface SchedulerLeasePort {
+    
+    /**
+     * Adquire ou renova o lease, se estiver livre, expirado ou já pertencer ao dono
+     * 
+     * @param name nome da tarefa
+     * @param owner identificador da instância
+     * @param duration prazo do lease a partir de agora
+     * @return true se o lease pertence ao dono até o fim do prazo
+     */
+    boolean tryAcquire(String name, String owner, Duration duration);
+    
+    /**
+     * Libera o lease, se ainda pertencer ao dono
+     */
+    void release(String name, String owner);
+}
@@ -1,13 +1,66 @@
 package com.techbra.billing.infrastructure.adapters.persistence;
 
 import com.techbra.billing.domain.model.Bill;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface BillJpaRepository extends JpaRepository<Bill, Long> {
+public interface BillJpaRepository extends JpaRepository<Bill, Long>, BillQueryRepository {
     Optional<Bill> findByOrderId(UUID orderId);
+    
+    List<Bill> findByOrderIdIn(Collection<UUID> orderIds);
+    
+    /**
+     * Busca e bloqueia cobranças por ID, em ordem de ID para evitar deadlocks entre lotes concorrentes
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bill b WHERE b.id IN :ids ORDER BY b.id")
+    List<Bill> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Insere a cobrança se ainda não existir uma para o pedido (PostgreSQL)
+     * 
+     * @return ID da cobrança inserida, ou vazio se o pedido já tinha cobrança
+     */
+    @Query(value = "INSERT INTO bills (id, order_id, description, amount, due_date, created_at, status, updated_at, version) " +
+                   "VALUES (nextval('bills_seq'), :orderId, :description, :amount, :dueDate, :createdAt, :status, :updatedAt, 0) " +
+                   "ON CONFLICT (order_id) DO NOTHING " +
+                   "RETURNING id",
+           nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("orderId") UUID orderId,
+                                  @Param("description") String description,
+                                  @Param("amount") BigDecimal amount,
+                                  @Param("dueDate") LocalDateTime dueDate,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("status") String status,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Marca como vencido um lote de cobranças em aberto com vencimento anterior a :now (PostgreSQL)
+     * 
+     * O lote é escolhido pelo índice idx_bills_status_due_date. SKIP LOCKED evita
+     * esperar por cobranças que estão sendo pagas ou alteradas no mesmo instante.
+     * A versão é incrementada, para que gravações de cobranças lidas antes da
+     * marcação falhem em vez de devolvê-las a PENDING.
+     * 
+     * @return as cobranças atualizadas
+     */
+    @Query(value = "UPDATE bills SET status = 'OVERDUE', updated_at = :now, version = version + 1 " +
+                   "WHERE id IN (SELECT id FROM bills " +
+                   "             WHERE status IN ('CREATED', 'PENDING') AND due_date < :now " +
+                   "             ORDER BY due_date, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    List<Bill> markOverdue(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
\ No newline at end of file
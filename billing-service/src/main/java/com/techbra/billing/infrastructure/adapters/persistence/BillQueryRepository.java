@@ -0,0 +1,35 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Consultas de cobranças com filtros opcionais, montadas apenas com os filtros informados
+ */
+public interface BillQueryRepository {
+
+    /**
+     * Busca uma página de cobranças ordenada por (due_date, id) a partir de um cursor
+     * 
+     * @param filter filtros da consulta
+     * @param cursor posição da última cobrança da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de cobranças
+     * @return cobranças posteriores ao cursor
+     */
+    List<Bill> findPage(BillFilter filter, BillCursor cursor, int limit);
+
+    /**
+     * Percorre todas as cobranças do filtro por meio de um cursor do banco
+     * 
+     * Deve ser chamado dentro de uma transação. O contexto de persistência é
+     * limpo periodicamente para manter o uso de memória constante.
+     * 
+     * @param filter filtros da consulta
+     * @param consumer recebe cada cobrança, na ordem (due_date, id)
+     */
+    void forEachMatching(BillFilter filter, Consumer<Bill> consumer);
+}
@@ -0,0 +1,93 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementação das consultas filtradas de cobranças
+ * 
+ * O JPQL inclui apenas os predicados dos filtros informados, para que o plano
+ * use o índice adequado (uk_bills_order_id, idx_bills_status_due_date ou
+ * idx_bills_due_date) em vez de um predicado genérico "parâmetro IS NULL OR ...".
+ */
+class BillQueryRepositoryImpl implements BillQueryRepository {
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Bill> findPage(BillFilter filter, BillCursor cursor, int limit) {
+        return createQuery(filter, cursor)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public void forEachMatching(BillFilter filter, Consumer<Bill> consumer) {
+        TypedQuery<Bill> query = createQuery(filter, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<Bill> stream = query.getResultStream()) {
+            Iterator<Bill> iterator = stream.iterator();
+            int sinceClear = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++sinceClear == EXPORT_FETCH_SIZE) {
+                    entityManager.clear();
+                    sinceClear = 0;
+                }
+            }
+        }
+    }
+
+    private TypedQuery<Bill> createQuery(BillFilter filter, BillCursor cursor) {
+        StringBuilder jpql = new StringBuilder("SELECT b FROM Bill b WHERE 1 = 1");
+        if (filter.getStatus() != null) {
+            jpql.append(" AND b.status = :status");
+        }
+        if (filter.getOrderId() != null) {
+            jpql.append(" AND b.orderId = :orderId");
+        }
+        if (filter.getDueFrom() != null) {
+            jpql.append(" AND b.dueDate >= :dueFrom");
+        }
+        if (filter.getDueTo() != null) {
+            jpql.append(" AND b.dueDate <= :dueTo");
+        }
+        if (cursor != null) {
+            jpql.append(" AND (b.dueDate > :cursorDueDate OR (b.dueDate = :cursorDueDate AND b.id > :cursorId))");
+        }
+        jpql.append(" ORDER BY b.dueDate, b.id");
+
+        TypedQuery<Bill> query = entityManager.createQuery(jpql.toString(), Bill.class);
+        if (filter.getStatus() != null) {
+            query.setParameter("status", filter.getStatus());
+        }
+        if (filter.getOrderId() != null) {
+            query.setParameter("orderId", filter.getOrderId());
+        }
+        if (filter.getDueFrom() != null) {
+            query.setParameter("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            query.setParameter("dueTo", filter.getDueTo());
+        }
+        if (cursor != null) {
+            query.setParameter("cursorDueDate", cursor.getDueDate());
+            query.setParameter("cursorId", cursor.getId());
+        }
+        return query;
+    }
+}
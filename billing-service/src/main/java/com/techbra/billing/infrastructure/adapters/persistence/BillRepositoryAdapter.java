@@ -1,12 +1,18 @@
 package com.techbra.billing.infrastructure.adapters.persistence;
 
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
 import com.techbra.billing.domain.ports.out.BillRepositoryPort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 public class BillRepositoryAdapter implements BillRepositoryPort {
@@ -32,11 +38,66 @@ public class BillRepositoryAdapter implements BillRepositoryPort {
         return billJpaRepository.findByOrderId(orderId);
     }
     
+    @Override
+    public List<Bill> findByOrderIdIn(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return billJpaRepository.findByOrderIdIn(orderIds);
+    }
+    
+    @Override
+    public List<Bill> findAllByIdForUpdate(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return billJpaRepository.findAllByIdInForUpdate(ids);
+    }
+    
+    @Override
+    public List<Bill> findPage(BillFilter filter, BillCursor cursor, int limit) {
+        return billJpaRepository.findPage(filter, cursor, limit);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamBills(BillFilter filter, Consumer<Bill> consumer) {
+        billJpaRepository.forEachMatching(filter, consumer);
+    }
+    
     @Override
     public Bill save(Bill bill) {
         return billJpaRepository.save(bill);
     }
     
+    @Override
+    public Optional<Bill> insertIfAbsent(Bill bill) {
+        return billJpaRepository.insertIfAbsent(
+                bill.getOrderId(),
+                bill.getDescription(),
+                bill.getAmount(),
+                bill.getDueDate(),
+                bill.getCreatedAt(),
+                bill.getStatus().name(),
+                bill.getUpdatedAt())
+            .map(id -> {
+                bill.setId(id);
+                bill.setVersion(0L);
+                return bill;
+            });
+    }
+    
+    @Override
+    public List<Bill> saveAll(List<Bill> bills) {
+        return billJpaRepository.saveAll(bills);
+    }
+    
+    @Override
+    @Transactional
+    public List<Bill> markOverdue(LocalDateTime now, int limit) {
+        return billJpaRepository.markOverdue(now, limit);
+    }
+    
     @Override
     public void deleteById(Long id) {
         billJpaRepository.deleteById(id);
@@ -0,0 +1,48 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de um evento de pedido já processado
+ * 
+ * O ID é atribuído pela aplicação (eventId do evento); isNew evita o SELECT
+ * que o merge faria antes de cada inserção.
+ */
+@Entity
+@Table(name = "processed_events", indexes = @Index(name = "idx_processed_events_processed_at", columnList = "processed_at"))
+public class ProcessedEventEntity implements Persistable<String> {
+    
+    @Id
+    @Column(name = "event_id", length = 64)
+    private String eventId;
+    
+    @Column(name = "event_type", length = 50)
+    private String eventType;
+    
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+    
+    protected ProcessedEventEntity() {
+    }
+    
+    public ProcessedEventEntity(String eventId, String eventType, LocalDateTime processedAt) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.processedAt = processedAt;
+    }
+    
+    @Override
+    public String getId() { return eventId; }
+    
+    @Override
+    public boolean isNew() { return true; }
+    
+    public String getEventId() { return eventId; }
+    
+    public String getEventType() { return eventType; }
+    
+    public LocalDateTime getProcessedAt() { return processedAt; }
+}
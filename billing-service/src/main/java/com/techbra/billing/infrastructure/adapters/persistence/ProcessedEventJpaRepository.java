@@ -0,0 +1,36 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, String> {
+    
+    /**
+     * Registra o evento se ainda não registrado (PostgreSQL)
+     * 
+     * @return 1 se registrado agora, 0 se já existia
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (event_id, event_type, processed_at) " +
+                   "VALUES (:eventId, :eventType, :processedAt) " +
+                   "ON CONFLICT (event_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") String eventId,
+                       @Param("eventType") String eventType,
+                       @Param("processedAt") LocalDateTime processedAt);
+    
+    @Query("SELECT p.eventId FROM ProcessedEventEntity p WHERE p.eventId IN :eventIds")
+    List<String> findExistingIds(@Param("eventIds") Collection<String> eventIds);
+    
+    @Modifying
+    @Query("DELETE FROM ProcessedEventEntity p WHERE p.processedAt < :cutoff")
+    int deleteByProcessedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
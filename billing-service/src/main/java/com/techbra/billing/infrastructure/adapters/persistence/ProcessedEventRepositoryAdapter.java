@@ -0,0 +1,50 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import com.techbra.billing.domain.ports.out.ProcessedEventPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class ProcessedEventRepositoryAdapter implements ProcessedEventPort {
+    
+    private final ProcessedEventJpaRepository processedEventJpaRepository;
+    
+    public ProcessedEventRepositoryAdapter(ProcessedEventJpaRepository processedEventJpaRepository) {
+        this.processedEventJpaRepository = processedEventJpaRepository;
+    }
+    
+    @Override
+    public boolean markProcessed(String eventId, String eventType) {
+        return processedEventJpaRepository.insertIfAbsent(eventId, eventType, LocalDateTime.now()) > 0;
+    }
+    
+    @Override
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(processedEventJpaRepository.findExistingIds(eventIds));
+    }
+    
+    @Override
+    public void markAllProcessed(Map<String, String> eventTypesById) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProcessedEventEntity> entities = new ArrayList<>(eventTypesById.size());
+        eventTypesById.forEach((eventId, eventType) -> entities.add(new ProcessedEventEntity(eventId, eventType, now)));
+        processedEventJpaRepository.saveAll(entities);
+    }
+    
+    @Override
+    @Transactional
+    public int deleteProcessedBefore(LocalDateTime cutoff) {
+        return processedEventJpaRepository.deleteByProcessedAtBefore(cutoff);
+    }
+}
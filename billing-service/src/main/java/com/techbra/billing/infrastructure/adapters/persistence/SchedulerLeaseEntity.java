@@ -0,0 +1,32 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease de uma tarefa agendada; gravado apenas pelas consultas nativas de {@link SchedulerLeaseJpaRepository}
+ */
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLeaseEntity {
+    
+    @Id
+    @Column(length = 100)
+    private String name;
+    
+    @Column(nullable = false)
+    private String owner;
+    
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+    
+    protected SchedulerLeaseEntity() {
+    }
+    
+    public String getName() { return name; }
+    
+    public String getOwner() { return owner; }
+    
+    public LocalDateTime getLockedUntil() { return lockedUntil; }
+}
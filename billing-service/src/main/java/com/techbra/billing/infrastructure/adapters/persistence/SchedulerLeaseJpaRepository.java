@@ -0,0 +1,29 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLeaseJpaRepository extends JpaRepository<SchedulerLeaseEntity, String> {
+    
+    /**
+     * Adquire ou renova o lease usando o relógio do banco, comum a todas as instâncias (PostgreSQL)
+     * 
+     * @return 1 se o lease pertence ao dono, 0 se está com outra instância
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, locked_until) " +
+                   "VALUES (:name, :owner, now() + :seconds * INTERVAL '1 second') " +
+                   "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, locked_until = EXCLUDED.locked_until " +
+                   "WHERE scheduler_leases.locked_until < now() OR scheduler_leases.owner = EXCLUDED.owner",
+           nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+    
+    @Modifying
+    @Query(value = "UPDATE scheduler_leases SET locked_until = now() WHERE name = :name AND owner = :owner",
+           nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,29 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import com.techbra.billing.domain.ports.out.SchedulerLeasePort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+@Component
+public class SchedulerLeaseRepositoryAdapter implements SchedulerLeasePort {
+    
+    private final SchedulerLeaseJpaRepository schedulerLeaseJpaRepository;
+    
+    public SchedulerLeaseRepositoryAdapter(SchedulerLeaseJpaRepository schedulerLeaseJpaRepository) {
+        this.schedulerLeaseJpaRepository = schedulerLeaseJpaRepository;
+    }
+    
+    @Override
+    @Transactional
+    public boolean tryAcquire(String name, String owner, Duration duration) {
+        return schedulerLeaseJpaRepository.tryAcquire(name, owner, duration.toSeconds()) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void release(String name, String owner) {
+        schedulerLeaseJpaRepository.release(name, owner);
+    }
+}
@@ -1,28 +1,99 @@
 package com.techbra.billing.infrastructure.adapters.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import com.techbra.billing.domain.model.BillSettlement;
+import com.techbra.billing.domain.model.BillStatus;
+import com.techbra.billing.domain.model.SettlementReport;
 import com.techbra.billing.domain.ports.in.BillUseCases;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/bills")
 public class BillController {
     
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int SETTLEMENT_CHUNK_SIZE = 500;
+    
     private final BillUseCases billUseCases;
+    private final ObjectMapper objectMapper;
     
-    public BillController(BillUseCases billUseCases) {
+    public BillController(BillUseCases billUseCases, ObjectMapper objectMapper) {
         this.billUseCases = billUseCases;
+        this.objectMapper = objectMapper;
     }
     
+    /**
+     * Lista cobranças filtradas, paginadas por cursor e ordenadas por vencimento
+     */
     @GetMapping
-    public ResponseEntity<List<Bill>> getAllBills() {
-        List<Bill> bills = billUseCases.getAllBills();
-        return ResponseEntity.ok(bills);
+    public ResponseEntity<BillPageResponse> searchBills(
+            @RequestParam(required = false) BillStatus status,
+            @RequestParam(required = false) UUID orderId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamanho de página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        BillFilter filter = new BillFilter(status, orderId, dueFrom, dueTo);
+        BillCursor after = cursor != null && !cursor.isBlank() ? BillCursor.decode(cursor) : null;
+        // Uma cobrança além do limite indica se há próxima página, sem devolver cursor na última
+        List<Bill> bills = billUseCases.searchBills(filter, after, limit + 1);
+        String nextCursor = null;
+        if (bills.size() > limit) {
+            bills = bills.subList(0, limit);
+            nextCursor = BillCursor.of(bills.get(limit - 1)).encode();
+        }
+        return ResponseEntity.ok(new BillPageResponse(bills, nextCursor));
+    }
+    
+    /**
+     * Exporta cobranças filtradas em streaming (NDJSON ou CSV)
+     * 
+     * As cobranças são lidas do banco por cursor e escritas diretamente na
+     * resposta, mantendo o uso de memória constante para qualquer volume.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBills(
+            @RequestParam(required = false) BillStatus status,
+            @RequestParam(required = false) UUID orderId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        BillFilter filter = new BillFilter(status, orderId, dueFrom, dueTo);
+        BillExportFormat exportFormat = BillExportFormat.fromValue(format);
+        
+        StreamingResponseBody body = outputStream -> {
+            BillExportWriter writer = new BillExportWriter(exportFormat, objectMapper, outputStream);
+            writer.writeHeader();
+            billUseCases.exportBills(filter, writer::write);
+            writer.finish();
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bills-export." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
     
     @GetMapping("/{id}")
@@ -45,6 +116,45 @@ public class BillController {
                       .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Liquida em lote as cobranças pagas informadas em um array JSON
+     * 
+     * Cada lote de até 500 cobranças é confirmado em sua própria transação.
+     */
+    @PostMapping(value = "/settlements", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SettlementReport> settleBills(@RequestBody List<BillSettlement> settlements) {
+        for (BillSettlement settlement : settlements) {
+            if (settlement.getBillId() == null) {
+                throw new IllegalArgumentException("Liquidação sem billId");
+            }
+        }
+        SettlementReport report = new SettlementReport();
+        for (int from = 0; from < settlements.size(); from += SETTLEMENT_CHUNK_SIZE) {
+            int to = Math.min(from + SETTLEMENT_CHUNK_SIZE, settlements.size());
+            report.merge(billUseCases.settleBills(settlements.subList(from, to)));
+        }
+        return ResponseEntity.ok(report);
+    }
+    
+    /**
+     * Liquida em lote as cobranças de um arquivo CSV (billId[,paidAt]) lido linha a linha
+     * 
+     * Cada lote é confirmado ao ser lido. Como cobranças já pagas são ignoradas,
+     * um arquivo interrompido por uma linha inválida pode ser corrigido e reenviado inteiro.
+     */
+    @PostMapping(value = "/settlements", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<SettlementReport> settleBillsFromFile(@RequestParam("file") MultipartFile file) throws IOException {
+        SettlementReport report = new SettlementReport();
+        try (InputStream inputStream = file.getInputStream()) {
+            BillSettlementCsvReader reader = new BillSettlementCsvReader(inputStream);
+            List<BillSettlement> chunk;
+            while (!(chunk = reader.nextChunk(SETTLEMENT_CHUNK_SIZE)).isEmpty()) {
+                report.merge(billUseCases.settleBills(chunk));
+            }
+        }
+        return ResponseEntity.ok(report);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Bill> updateBill(@PathVariable Long id, @RequestBody Bill bill) {
         Optional<Bill> updatedBill = billUseCases.updateBill(id, bill);
@@ -58,4 +168,14 @@ public class BillController {
         return deleted ? ResponseEntity.noContent().build() 
                       : ResponseEntity.notFound().build();
     }
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Cobrança alterada concorrentemente; recarregue e tente novamente");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.techbra.billing.infrastructure.adapters.web;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos suportados pela exportação de cobranças em streaming
+ */
+public enum BillExportFormat {
+    
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv"));
+    
+    private final String extension;
+    private final MediaType mediaType;
+    
+    BillExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+    
+    /**
+     * Resolve o formato a partir do parâmetro da requisição
+     * 
+     * @param value nome do formato (ndjson ou csv)
+     * @return o formato correspondente
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static BillExportFormat fromValue(String value) {
+        for (BillExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação não suportado: " + value);
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
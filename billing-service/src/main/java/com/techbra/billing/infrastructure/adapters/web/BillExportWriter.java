@@ -0,0 +1,99 @@
+package com.techbra.billing.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techbra.billing.domain.model.Bill;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve cobranças diretamente na resposta HTTP, uma por vez, com buffer de tamanho fixo
+ */
+public class BillExportWriter {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final String CSV_HEADER = "id,orderId,description,amount,status,dueDate,"
+            + "createdAt,paidAt,cancelledAt";
+    
+    private final BillExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+    
+    public BillExportWriter(BillExportFormat format, ObjectMapper objectMapper, OutputStream outputStream) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    /**
+     * Escreve o cabeçalho do arquivo, quando o formato exigir
+     */
+    public void writeHeader() throws IOException {
+        if (format == BillExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+    
+    /**
+     * Escreve uma cobrança no formato configurado
+     * 
+     * @param bill cobrança a ser exportada
+     */
+    public void write(Bill bill) {
+        try {
+            if (format == BillExportFormat.CSV) {
+                writeCsvLine(bill);
+            } else {
+                writer.write(objectMapper.writeValueAsString(bill));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever cobrança na exportação: " + bill.getId(), e);
+        }
+    }
+    
+    /**
+     * Descarrega o buffer restante na resposta
+     */
+    public void finish() throws IOException {
+        writer.flush();
+    }
+    
+    private void writeCsvLine(Bill bill) throws IOException {
+        writer.write(csv(bill.getId()));
+        writer.write(',');
+        writer.write(csv(bill.getOrderId()));
+        writer.write(',');
+        writer.write(csv(bill.getDescription()));
+        writer.write(',');
+        writer.write(csv(bill.getAmount()));
+        writer.write(',');
+        writer.write(csv(bill.getStatus()));
+        writer.write(',');
+        writer.write(csv(bill.getDueDate()));
+        writer.write(',');
+        writer.write(csv(bill.getCreatedAt()));
+        writer.write(',');
+        writer.write(csv(bill.getPaidAt()));
+        writer.write(',');
+        writer.write(csv(bill.getCancelledAt()));
+    }
+    
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
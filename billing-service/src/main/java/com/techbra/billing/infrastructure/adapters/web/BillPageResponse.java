@@ -0,0 +1,50 @@
+package com.techbra.billing.infrastructure.adapters.web;
+
+import com.techbra.billing.domain.model.Bill;
+
+import java.util.List;
+
+/**
+ * Página de cobranças paginada por cursor
+ * 
+ * O campo nextCursor é opaco para o cliente e deve ser reenviado
+ * para obter a página seguinte; quando nulo, não há mais cobranças.
+ */
+public class BillPageResponse {
+
+    private List<Bill> items;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    public BillPageResponse() {}
+
+    public BillPageResponse(List<Bill> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    public List<Bill> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Bill> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,63 @@
+package com.techbra.billing.infrastructure.adapters.web;
+
+import com.techbra.billing.domain.model.BillSettlement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê um arquivo de liquidação em CSV linha a linha, em lotes de tamanho fixo
+ * 
+ * Formato: billId[,paidAt], com paidAt em ISO-8601 (opcional). Uma linha de
+ * cabeçalho e linhas em branco são ignoradas. Apenas o lote corrente fica em memória.
+ */
+public class BillSettlementCsvReader {
+    
+    private final BufferedReader reader;
+    private int lineNumber;
+    
+    public BillSettlementCsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Lê as próximas linhas do arquivo
+     * 
+     * @param size quantidade máxima de liquidações
+     * @return o próximo lote, vazio ao fim do arquivo
+     * @throws IllegalArgumentException se uma linha for inválida
+     */
+    public List<BillSettlement> nextChunk(int size) throws IOException {
+        List<BillSettlement> chunk = new ArrayList<>(size);
+        String line;
+        while (chunk.size() < size && (line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || (lineNumber == 1 && !Character.isDigit(trimmed.charAt(0)))) {
+                continue;
+            }
+            chunk.add(parse(trimmed));
+        }
+        return chunk;
+    }
+    
+    private BillSettlement parse(String line) {
+        String[] fields = line.split(",", -1);
+        try {
+            Long billId = Long.valueOf(fields[0].trim());
+            LocalDateTime paidAt = fields.length > 1 && !fields[1].isBlank()
+                    ? LocalDateTime.parse(fields[1].trim())
+                    : null;
+            return new BillSettlement(billId, paidAt);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Linha " + lineNumber + " inválida no arquivo de liquidação: " + line, e);
+        }
+    }
+}
@@ -3,29 +3,71 @@ package com.techbra.billing.infrastructure.events;
 import com.techbra.billing.domain.events.BillPaidEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
- * Publisher de eventos que simula o envio para um sistema de mensageria.
- * Futuramente será integrado com Kafka.
+ * Publisher assíncrono de eventos de pagamento de cobranças no Kafka
+ * 
+ * O chamador não espera pela confirmação do broker: o evento entra no buffer
+ * do produtor dedicado (ver KafkaProducerConfig#billPaidEventProducerFactory),
+ * que agrupa e comprime os envios. O resultado é apenas registrado em log.
  */
 @Component
 public class EventPublisher {
     
     private static final Logger logger = LoggerFactory.getLogger(EventPublisher.class);
     
+    private final KafkaTemplate<String, BillPaidEvent> billPaidEventKafkaTemplate;
+    private final String billPaymentsTopic;
+    
+    public EventPublisher(KafkaTemplate<String, BillPaidEvent> billPaidEventKafkaTemplate,
+                          @Value("${app.kafka.topics.bill-payments:bill-payments}") String billPaymentsTopic) {
+        this.billPaidEventKafkaTemplate = billPaidEventKafkaTemplate;
+        this.billPaymentsTopic = billPaymentsTopic;
+    }
+    
     /**
-     * Publica um evento de fatura paga.
-     * Por enquanto apenas simula o envio logando o evento.
+     * Publica eventos de fatura paga em lote
+     * 
+     * Os envios são disparados em sequência e agrupados pelo produtor (linger.ms/batch.size)
+     * em poucas requisições comprimidas, sem aguardar a confirmação do broker.
+     * 
+     * @param events os eventos de fatura paga
+     */
+    public void publishBillPaidEvents(List<BillPaidEvent> events) {
+        events.forEach(this::publishBillPaidEvent);
+        logger.info("Eventos BillPaidEvent publicados em lote: count={}", events.size());
+    }
+    
+    /**
+     * Publica um evento de fatura paga, sem aguardar a confirmação do broker
+     * 
+     * Só bloqueia se o buffer local do produtor estiver cheio, por até max.block.ms.
      * 
      * @param event o evento de fatura paga
      */
     public void publishBillPaidEvent(BillPaidEvent event) {
-        logger.info("📧 Simulando envio de evento: {}", event);
-        logger.info("🚀 Evento BillPaidEvent seria enviado para Kafka - Bill ID: {}, Amount: {}", 
-                   event.getBillId(), event.getAmount());
-        
-        // Aqui futuramente será implementada a integração com Kafka
-        // kafkaTemplate.send("bill-paid-topic", event);
+        String key = event.getOrderId() != null ? event.getOrderId().toString() : String.valueOf(event.getBillId());
+        try {
+            billPaidEventKafkaTemplate.send(billPaymentsTopic, key, event)
+                .whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        logger.debug("Evento BillPaidEvent publicado: billId={}, partition={}, offset={}",
+                                    event.getBillId(), result.getRecordMetadata().partition(),
+                                    result.getRecordMetadata().offset());
+                    } else {
+                        logger.error("Falha ao publicar evento BillPaidEvent: billId={}, topic={}",
+                                    event.getBillId(), billPaymentsTopic, exception);
+                    }
+                });
+        } catch (Exception e) {
+            // Buffer do produtor cheio além de max.block.ms ou falha de serialização
+            logger.error("Evento BillPaidEvent não enviado: billId={}, topic={}",
+                        event.getBillId(), billPaymentsTopic, e);
+        }
     }
 }
\ No newline at end of file
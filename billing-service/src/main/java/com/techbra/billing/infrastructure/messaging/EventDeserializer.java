@@ -0,0 +1,40 @@
+package com.techbra.billing.infrastructure.messaging;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Deserializer de eventos em JSON ou SMILE, conforme o header event-format de cada registro
+ * 
+ * O tipo do evento é fixo por consumidor, dispensando a resolução do tipo por
+ * reflexão (VALUE_DEFAULT_TYPE e pacotes confiáveis) do JsonDeserializer.
+ */
+public class EventDeserializer<T> implements Deserializer<T> {
+
+    private final Class<? extends T> type;
+
+    public EventDeserializer(Class<? extends T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        EventWireFormat format = null;
+        try {
+            format = EventWireFormat.of(headers);
+            return format.objectMapper().readValue(data, type);
+        } catch (Exception e) {
+            throw new SerializationException("Falha ao desserializar " + type.getSimpleName()
+                    + (format != null ? " em " + format : "") + " do tópico " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.techbra.billing.infrastructure.messaging;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Processa os registros de um poll em paralelo entre chaves, preservando a ordem por chave
+ * 
+ * Os registros são agrupados pela chave da mensagem (o orderId) e cada grupo é
+ * executado sequencialmente por um worker; grupos distintos executam em paralelo,
+ * de modo que a vazão acompanha o número de workers e não o de partições. Se um
+ * registro falhar, os registros seguintes da mesma chave não são processados.
+ * 
+ * O trabalho em andamento é limitado pelo tamanho do poll e pela fila do pool:
+ * com a fila cheia, o próprio consumidor executa o grupo, freando o poll seguinte.
+ * O poll só termina quando o grupo mais lento termina: uma chave com muitos
+ * registros ou um registro lento atrasa o lote inteiro (limitar max.poll.records
+ * reduz esse efeito).
+ * 
+ * Os offsets são confirmados pelo prefixo contíguo do lote, não por registro.
+ * Quando um registro falha, os registros de outras chaves posteriores a ele,
+ * mesmo já concluídos, são reentregues junto com ele. A correção depende de o
+ * handler ser idempotente: no billing-service cada evento passa pelo
+ * ProcessedEventGuard, que descarta eventos já registrados em processed_events.
+ */
+@Component
+public class KeyOrderedBatchProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyOrderedBatchProcessor.class);
+
+    private final ThreadPoolExecutor executor;
+
+    public KeyOrderedBatchProcessor(
+            @Value("${billing.kafka.parallel.workers:0}") int workers,
+            @Value("${billing.kafka.parallel.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "billing-key-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Processa o lote e aguarda a conclusão de todos os grupos de chaves
+     * 
+     * Como registros da mesma chave estão na mesma partição, todos os registros
+     * anteriores ao primeiro que falhou foram concluídos; apenas esse prefixo
+     * contíguo pode ter o offset confirmado. Os registros concluídos após ele
+     * são reentregues e devem ser descartados pelo handler.
+     * 
+     * @param records registros do poll, na ordem de consumo
+     * @param handler processamento de um registro
+     * @return resultado com o índice do primeiro registro que falhou, se houver
+     */
+    public <K, V> BatchResult process(List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        Map<Object, List<Integer>> indexesByKey = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<K, V> record = records.get(i);
+            Object key = record.key() != null ? record.key() : record.topic() + "-" + record.partition();
+            indexesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        Throwable[] failures = new Throwable[records.size()];
+        List<Future<?>> futures = new ArrayList<>(indexesByKey.size());
+        for (List<Integer> indexes : indexesByKey.values()) {
+            futures.add(executor.submit(() -> {
+                for (int index : indexes) {
+                    try {
+                        handler.accept(records.get(index));
+                    } catch (Exception e) {
+                        failures[index] = e;
+                        return;
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido aguardando o processamento do lote", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falha inesperada no worker do lote", e.getCause());
+            }
+        }
+
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                logger.debug("Primeiro registro com falha no lote: index={}, size={}", i, records.size());
+                return new BatchResult(i, failures[i]);
+            }
+        }
+        return BatchResult.COMPLETED;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resultado do processamento de um lote
+     */
+    public static final class BatchResult {
+
+        static final BatchResult COMPLETED = new BatchResult(-1, null);
+
+        private final int firstFailedIndex;
+        private final Throwable failure;
+
+        public BatchResult(int firstFailedIndex, Throwable failure) {
+            this.firstFailedIndex = firstFailedIndex;
+            this.failure = failure;
+        }
+
+        public boolean isCompleted() {
+            return firstFailedIndex < 0;
+        }
+
+        public int getFirstFailedIndex() {
+            return firstFailedIndex;
+        }
+
+        public Throwable getFailure() {
+            return failure;
+        }
+    }
+}
@@ -10,10 +10,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -25,35 +33,49 @@ public class BillingProcessingService {
 
     private static final Logger logger = LoggerFactory.getLogger(BillingProcessingService.class);
 
+    private static final String BILL_CREATED = "BILL_CREATED";
+    private static final String BILL_UPDATED = "BILL_UPDATED";
+    private static final String BILL_CANCELLED = "BILL_CANCELLED";
+
     @Autowired
     private BillRepositoryPort billRepository;
 
     @Autowired
     private LogisticsEventPublisher logisticsEventPublisher;
 
+    @Autowired
+    private ProcessedEventGuard processedEventGuard;
+
     /**
      * Processa evento de criação de pedido e gera cobrança
      */
     public void processOrderCreated(OrderEvent orderEvent) {
         logger.info("Iniciando processamento de cobrança para pedido criado: orderId={}", orderEvent.getOrderId());
 
-        try {
-            // Verifica se já existe uma cobrança para este pedido
-            Optional<Bill> existingBill = billRepository.findByOrderId(UUID.fromString(orderEvent.getOrderId().toString()));
-            if (existingBill.isPresent()) {
-                logger.warn("Cobrança já existe para o pedido: orderId={}, billId={}", 
-                           orderEvent.getOrderId(), existingBill.get().getId());
-                return;
-            }
+        if (!processedEventGuard.firstDelivery(orderEvent)) {
+            return;
+        }
+        createBill(orderEvent);
+    }
 
+    /**
+     * Cria a cobrança do pedido, descartando a inclusão se o pedido já tiver cobrança
+     */
+    private void createBill(OrderEvent orderEvent) {
+        try {
             // Cria nova cobrança
             Bill bill = createBillFromOrderEvent(orderEvent);
             
-            // Salva a cobrança
-            Bill savedBill = billRepository.save(bill);
+            // Insere a cobrança; o índice único em order_id descarta reentregas, inclusive concorrentes
+            Optional<Bill> insertedBill = billRepository.insertIfAbsent(bill);
+            if (insertedBill.isEmpty()) {
+                logger.warn("Cobrança já existe para o pedido: orderId={}", orderEvent.getOrderId());
+                return;
+            }
+            Bill savedBill = insertedBill.get();
             
-            // Publica evento de cobrança criada no logistics-events
-            logisticsEventPublisher.publishBillCreatedEvent(savedBill);
+            // Publica evento de cobrança criada no logistics-events após o commit
+            publishAfterCommit(List.of(new BillChange(BILL_CREATED, savedBill)));
             
             logger.info("Cobrança criada com sucesso: billId={}, orderId={}, amount={}", 
                        savedBill.getId(), orderEvent.getOrderId(), orderEvent.getTotalAmount());
@@ -76,14 +98,18 @@ public class BillingProcessingService {
     public void processOrderUpdated(OrderEvent orderEvent) {
         logger.info("Iniciando processamento de atualização de cobrança: orderId={}", orderEvent.getOrderId());
 
+        if (!processedEventGuard.firstDelivery(orderEvent)) {
+            return;
+        }
+
         try {
             // Busca a cobrança existente
-            Optional<Bill> existingBill = billRepository.findByOrderId(UUID.fromString(orderEvent.getOrderId().toString()));
+            Optional<Bill> existingBill = billRepository.findByOrderId(orderEvent.getOrderId());
             
             if (existingBill.isEmpty()) {
                 logger.warn("Cobrança não encontrada para o pedido: orderId={}", orderEvent.getOrderId());
                 // Cria nova cobrança se não existir
-                processOrderCreated(orderEvent);
+                createBill(orderEvent);
                 return;
             }
 
@@ -95,8 +121,8 @@ public class BillingProcessingService {
             // Salva as alterações
             Bill updatedBill = billRepository.save(bill);
             
-            // Publica evento de cobrança atualizada no logistics-events
-            logisticsEventPublisher.publishBillUpdatedEvent(updatedBill);
+            // Publica evento de cobrança atualizada no logistics-events após o commit
+            publishAfterCommit(List.of(new BillChange(BILL_UPDATED, updatedBill)));
             
             logger.info("Cobrança atualizada com sucesso: billId={}, orderId={}", 
                        updatedBill.getId(), orderEvent.getOrderId());
@@ -114,9 +140,13 @@ public class BillingProcessingService {
     public void processOrderCancelled(OrderEvent orderEvent) {
         logger.info("Iniciando processamento de cancelamento de cobrança: orderId={}", orderEvent.getOrderId());
 
+        if (!processedEventGuard.firstDelivery(orderEvent)) {
+            return;
+        }
+
         try {
             // Busca a cobrança existente
-            Optional<Bill> existingBill = billRepository.findByOrderId(UUID.fromString(orderEvent.getOrderId().toString()));
+            Optional<Bill> existingBill = billRepository.findByOrderId(orderEvent.getOrderId());
             
             if (existingBill.isEmpty()) {
                 logger.warn("Cobrança não encontrada para cancelamento: orderId={}", orderEvent.getOrderId());
@@ -126,15 +156,13 @@ public class BillingProcessingService {
             Bill bill = existingBill.get();
             
             // Cancela a cobrança
-            bill.setStatus(BillStatus.CANCELLED);
-            bill.setCancelledAt(LocalDateTime.now());
-            bill.setCancellationReason("Pedido cancelado");
+            cancelBill(bill);
             
             // Salva as alterações
             Bill cancelledBill = billRepository.save(bill);
             
-            // Publica evento de cobrança cancelada no logistics-events
-            logisticsEventPublisher.publishBillCancelledEvent(cancelledBill);
+            // Publica evento de cobrança cancelada no logistics-events após o commit
+            publishAfterCommit(List.of(new BillChange(BILL_CANCELLED, cancelledBill)));
             
             logger.info("Cobrança cancelada com sucesso: billId={}, orderId={}", 
                        cancelledBill.getId(), orderEvent.getOrderId());
@@ -150,12 +178,90 @@ public class BillingProcessingService {
         }
     }
 
+    /**
+     * Processa um lote de eventos de pedidos com uma única leitura e uma única gravação
+     * 
+     * As cobranças existentes são resolvidas com uma consulta por lote e todas as
+     * inclusões e alterações são gravadas juntas, em lotes JDBC. Os eventos são
+     * aplicados na ordem recebida, com as mesmas regras do processamento individual,
+     * inclusive quando o lote contém mais de um evento do mesmo pedido. Uma cobrança
+     * criada concorrentemente para o mesmo pedido viola o índice único em order_id e
+     * faz o lote inteiro ser desfeito, para ser reprocessado evento a evento.
+     * Eventos já processados em entregas anteriores são descartados antes da leitura.
+     * Os eventos de cobrança só são publicados após o commit do lote.
+     * 
+     * @param receivedEvents eventos na ordem de consumo
+     */
+    public void processOrderEvents(List<OrderEvent> receivedEvents) {
+        logger.info("Iniciando processamento de lote de eventos de pedidos: size={}", receivedEvents.size());
+
+        List<OrderEvent> orderEvents = processedEventGuard.filterFirstDeliveries(receivedEvents);
+        if (orderEvents.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> orderIds = new LinkedHashSet<>();
+        for (OrderEvent orderEvent : orderEvents) {
+            orderIds.add(orderEvent.getOrderId());
+        }
+        Map<UUID, Bill> billsByOrderId = new HashMap<>();
+        for (Bill bill : billRepository.findByOrderIdIn(orderIds)) {
+            billsByOrderId.put(bill.getOrderId(), bill);
+        }
+
+        Set<Bill> changedBills = new LinkedHashSet<>();
+        List<BillChange> changes = new ArrayList<>();
+        for (OrderEvent orderEvent : orderEvents) {
+            UUID orderId = orderEvent.getOrderId();
+            Bill bill = billsByOrderId.get(orderId);
+            switch (orderEvent.getEventType()) {
+                case "ORDER_CREATED":
+                    if (bill != null) {
+                        logger.warn("Cobrança já existe para o pedido: orderId={}, billId={}", orderId, bill.getId());
+                        continue;
+                    }
+                    bill = createBillFromOrderEvent(orderEvent);
+                    billsByOrderId.put(orderId, bill);
+                    changes.add(new BillChange(BILL_CREATED, bill));
+                    break;
+                case "ORDER_UPDATED":
+                    if (bill == null) {
+                        logger.warn("Cobrança não encontrada para o pedido: orderId={}", orderId);
+                        bill = createBillFromOrderEvent(orderEvent);
+                        billsByOrderId.put(orderId, bill);
+                        changes.add(new BillChange(BILL_CREATED, bill));
+                    } else {
+                        updateBillFromOrderEvent(bill, orderEvent);
+                        changes.add(new BillChange(BILL_UPDATED, bill));
+                    }
+                    break;
+                case "ORDER_CANCELLED":
+                    if (bill == null) {
+                        logger.warn("Cobrança não encontrada para cancelamento: orderId={}", orderId);
+                        continue;
+                    }
+                    cancelBill(bill);
+                    changes.add(new BillChange(BILL_CANCELLED, bill));
+                    break;
+                default:
+                    logger.warn("Tipo de evento não reconhecido: {}", orderEvent.getEventType());
+                    continue;
+            }
+            changedBills.add(bill);
+        }
+
+        billRepository.saveAll(new ArrayList<>(changedBills));
+        publishAfterCommit(changes);
+
+        logger.info("Lote de eventos processado: events={}, bills={}", orderEvents.size(), changedBills.size());
+    }
+
     /**
      * Cria uma nova cobrança a partir do evento de pedido
      */
     private Bill createBillFromOrderEvent(OrderEvent orderEvent) {
         // Dados básicos
-        UUID orderId = UUID.fromString(orderEvent.getOrderId().toString());
+        UUID orderId = orderEvent.getOrderId();
         String description;
         BigDecimal amount = orderEvent.getTotalAmount();
         LocalDateTime dueDate = LocalDateTime.now().plusDays(30);
@@ -189,4 +295,58 @@ public class BillingProcessingService {
         
         logger.debug("Cobrança atualizada: billId={}, newAmount={}", bill.getId(), bill.getAmount());
     }
+
+    /**
+     * Cancela a cobrança em razão do cancelamento do pedido
+     */
+    private void cancelBill(Bill bill) {
+        bill.setStatus(BillStatus.CANCELLED);
+        bill.setCancelledAt(LocalDateTime.now());
+        bill.setCancellationReason("Pedido cancelado");
+    }
+
+    /**
+     * Publica as alterações de cobrança apenas se a transação for confirmada no banco
+     * 
+     * Um lote desfeito (por exemplo, pela violação do índice único em order_id)
+     * não deixa eventos de cobranças que não existem no logistics-events.
+     */
+    private void publishAfterCommit(List<BillChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishChanges(changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishChanges(changes);
+            }
+        });
+    }
+
+    private void publishChanges(List<BillChange> changes) {
+        for (BillChange change : changes) {
+            switch (change.eventType) {
+                case BILL_CREATED -> logisticsEventPublisher.publishBillCreatedEvent(change.bill);
+                case BILL_UPDATED -> logisticsEventPublisher.publishBillUpdatedEvent(change.bill);
+                default -> logisticsEventPublisher.publishBillCancelledEvent(change.bill);
+            }
+        }
+    }
+
+    /**
+     * Alteração de cobrança pendente de publicação no logistics-events
+     */
+    private static final class BillChange {
+        private final String eventType;
+        private final Bill bill;
+
+        private BillChange(String eventType, Bill bill) {
+            this.eventType = eventType;
+            this.bill = bill;
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.techbra.billing.service;
 import com.techbra.billing.domain.event.LogisticsEvent;
 import com.techbra.billing.domain.event.LogisticsPayload;
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,8 +13,11 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 /**
  * Serviço responsável por publicar eventos de cobrança para o logistics-service
@@ -57,6 +61,22 @@ public class LogisticsEventPublisher {
         }
     }
 
+    /**
+     * Publica eventos de cobrança atualizada para um lote de cobranças
+     */
+    public void publishBillUpdatedEvents(List<Bill> bills) {
+        publishBatch("BILL_UPDATED", bills, bill -> bill.getStatus() == BillStatus.OVERDUE
+                ? "Cobrança vencida sem pagamento"
+                : "Cobrança atualizada com novos dados");
+    }
+
+    /**
+     * Publica eventos de cobrança paga para um lote de cobranças
+     */
+    public void publishBillPaidEvents(List<Bill> bills) {
+        publishBatch("BILL_PAID", bills, bill -> "Cobrança paga - pedido liberado para logística");
+    }
+
     /**
      * Publica evento de cobrança paga
      */
@@ -85,11 +105,31 @@ public class LogisticsEventPublisher {
         }
     }
 
+    /**
+     * Publica um evento por cobrança e descarrega o produtor uma única vez ao final
+     * 
+     * Os envios são disparados juntos, de modo que o lote segue para o broker
+     * em poucas requisições em vez de uma por cobrança.
+     */
+    private void publishBatch(String eventType, List<Bill> bills, Function<Bill, String> processingNotes) {
+        for (Bill bill : bills) {
+            try {
+                LogisticsEvent event = createLogisticsEvent(eventType, bill, processingNotes.apply(bill));
+                publishEvent(event, bill.getOrderId().toString());
+            } catch (Exception e) {
+                logger.error("Erro ao publicar evento {}: billId={}, orderId={}", eventType, bill.getId(), bill.getOrderId(), e);
+            }
+        }
+        logisticsEventKafkaTemplate.flush();
+        
+        logger.info("Eventos {} publicados em lote: count={}", eventType, bills.size());
+    }
+
     /**
      * Cria um evento de logística a partir de uma cobrança
      */
     private LogisticsEvent createLogisticsEvent(String eventType, Bill bill, String processingNotes) {
-        String eventId = UUID.randomUUID().toString();
+        String eventId = newEventId();
         LocalDateTime timestamp = LocalDateTime.now();
 
         // Cria o payload com informações detalhadas
@@ -117,6 +157,20 @@ public class LogisticsEventPublisher {
         return event;
     }
 
+    /**
+     * Gera um UUID aleatório (versão 4) para o evento
+     * 
+     * Usa ThreadLocalRandom em vez do SecureRandom compartilhado de UUID.randomUUID(),
+     * que serializa as threads publicadoras sob carga. O ID apenas identifica o evento
+     * para deduplicação e rastreio; não precisa ser imprevisível.
+     */
+    static String newEventId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
     /**
      * Publica o evento no tópico Kafka
      */
@@ -1,16 +1,25 @@
 package com.techbra.billing.service;
 
 import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.infrastructure.messaging.KeyOrderedBatchProcessor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Listener responsável por consumir eventos de pedidos do tópico billing-events
  */
@@ -19,16 +28,23 @@ public class OrderEventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderEventListener.class);
 
+    private static final LogAccessor logAccessor = new LogAccessor(OrderEventListener.class);
+
     @Autowired
     private BillingProcessingService billingProcessingService;
 
+    @Autowired
+    private KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+
     /**
      * Consome eventos de criação de pedidos do tópico billing-events
      */
     @KafkaListener(
+        id = "billing-order-events",
         topics = "billing-events",
         groupId = "billing-service-group",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "kafkaListenerContainerFactory",
+        autoStartup = "#{'${billing.kafka.listener.mode:batch}' == 'single'}"
     )
     public void handleOrderEvent(
             @Payload OrderEvent orderEvent,
@@ -42,19 +58,7 @@ public class OrderEventListener {
                        orderEvent.getEventId(), orderEvent.getEventType(), orderEvent.getOrderId(), topic, partition, offset);
 
             // Processa o evento baseado no tipo
-            switch (orderEvent.getEventType()) {
-                case "ORDER_CREATED":
-                    handleOrderCreated(orderEvent);
-                    break;
-                case "ORDER_UPDATED":
-                    handleOrderUpdated(orderEvent);
-                    break;
-                case "ORDER_CANCELLED":
-                    handleOrderCancelled(orderEvent);
-                    break;
-                default:
-                    logger.warn("Tipo de evento não reconhecido: {}", orderEvent.getEventType());
-            }
+            dispatch(orderEvent);
 
             // Confirma o processamento da mensagem
             acknowledgment.acknowledge();
@@ -70,6 +74,155 @@ public class OrderEventListener {
         }
     }
 
+    /**
+     * Consome os eventos do tópico billing-events em lotes (modo padrão)
+     * 
+     * O lote é aplicado com uma única consulta e uma única gravação e confirmado
+     * uma vez. Se o lote falhar, os eventos são reprocessados individualmente até o
+     * primeiro que falhar novamente, sinalizado ao error handler pelo seu índice
+     * para que apenas esse ponto do lote seja reentregue. Um registro ilegível
+     * encerra o lote: os anteriores são aplicados e ele segue para o dead letter topic.
+     */
+    @KafkaListener(
+        id = "billing-order-events-batch",
+        topics = "billing-events",
+        groupId = "billing-service-group",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "#{'${billing.kafka.listener.mode:batch}' == 'batch'}"
+    )
+    public void handleOrderEvents(List<ConsumerRecord<String, OrderEvent>> records, Acknowledgment acknowledgment) {
+        logger.info("Recebido lote de eventos de pedido: size={}", records.size());
+
+        int unreadableIndex = firstUnreadableIndex(records);
+        List<ConsumerRecord<String, OrderEvent>> readable =
+            unreadableIndex < 0 ? records : records.subList(0, unreadableIndex);
+
+        if (!readable.isEmpty()) {
+            List<OrderEvent> orderEvents = new ArrayList<>(readable.size());
+            for (ConsumerRecord<String, OrderEvent> record : readable) {
+                orderEvents.add(record.value());
+            }
+
+            try {
+                billingProcessingService.processOrderEvents(orderEvents);
+            } catch (Exception e) {
+                logger.warn("Falha no processamento do lote, reprocessando eventos individualmente: size={}, erro={}",
+                           readable.size(), e.getMessage());
+                processIndividually(readable);
+            }
+        }
+
+        if (unreadableIndex >= 0) {
+            throw new BatchListenerFailedException("Evento de pedido ilegível",
+                deserializationFailure(records.get(unreadableIndex)), unreadableIndex);
+        }
+
+        acknowledgment.acknowledge();
+        logger.info("Lote de eventos processado com sucesso: size={}", records.size());
+    }
+
+    /**
+     * Consome os eventos do tópico billing-events em paralelo por pedido
+     * 
+     * Eventos do mesmo pedido são processados em ordem e pedidos distintos em
+     * paralelo, cada evento em sua própria transação. O lote só é confirmado
+     * quando todos os eventos concluem; se algum falhar, apenas o prefixo contíguo
+     * de eventos concluídos tem o offset confirmado e o restante é reentregue,
+     * inclusive eventos de outros pedidos já aplicados, que o ProcessedEventGuard
+     * descarta na reentrega.
+     */
+    @KafkaListener(
+        id = "billing-order-events-parallel",
+        topics = "billing-events",
+        groupId = "billing-service-group",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "#{'${billing.kafka.listener.mode:batch}' == 'parallel'}"
+    )
+    public void handleOrderEventsInParallel(List<ConsumerRecord<String, OrderEvent>> records,
+                                            Acknowledgment acknowledgment) {
+        logger.info("Recebido lote de eventos de pedido para processamento paralelo: size={}", records.size());
+
+        KeyOrderedBatchProcessor.BatchResult result = keyOrderedBatchProcessor.process(records, record -> {
+            if (record.value() == null) {
+                throw deserializationFailure(record);
+            }
+            dispatch(record.value());
+        });
+        if (!result.isCompleted()) {
+            throw new BatchListenerFailedException("Falha no processamento do evento",
+                result.getFailure(), result.getFirstFailedIndex());
+        }
+
+        acknowledgment.acknowledge();
+        logger.info("Lote de eventos processado com sucesso: size={}", records.size());
+    }
+
+    /**
+     * Reprocessa o lote evento a evento, cada um em sua própria transação
+     * 
+     * O reprocessamento para no primeiro evento que falhar: os anteriores já
+     * foram gravados e têm o offset confirmado pelo error handler, e os
+     * seguintes são reentregues junto com ele, sem serem aplicados duas vezes.
+     * 
+     * @throws BatchListenerFailedException com o índice do evento que falhou
+     */
+    private void processIndividually(List<ConsumerRecord<String, OrderEvent>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, OrderEvent> record = records.get(i);
+            try {
+                dispatch(record.value());
+            } catch (Exception e) {
+                logger.error("Erro ao processar evento de pedido: eventId={}, partition={}, offset={}, erro={}",
+                            record.value().getEventId(), record.partition(), record.offset(), e.getMessage(), e);
+                throw new BatchListenerFailedException("Falha no processamento do evento", e, i);
+            }
+        }
+    }
+
+    /**
+     * Índice do primeiro registro que não pôde ser desserializado, ou -1
+     */
+    private int firstUnreadableIndex(List<ConsumerRecord<String, OrderEvent>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).value() == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Falha de desserialização registrada pelo ErrorHandlingDeserializer nos headers do registro
+     * 
+     * Repassada como causa ao error handler, que não repete a tentativa e
+     * encaminha os bytes originais ao dead letter topic.
+     */
+    private DeserializationException deserializationFailure(ConsumerRecord<String, OrderEvent> record) {
+        DeserializationException failure = SerializationUtils.getExceptionFromHeader(record,
+            SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, logAccessor);
+        if (failure != null) {
+            return failure;
+        }
+        return new DeserializationException("Registro sem evento de pedido: partition=" + record.partition()
+            + ", offset=" + record.offset(), null, false, null);
+    }
+
+    private void dispatch(OrderEvent orderEvent) {
+        switch (orderEvent.getEventType()) {
+            case "ORDER_CREATED":
+                handleOrderCreated(orderEvent);
+                break;
+            case "ORDER_UPDATED":
+                handleOrderUpdated(orderEvent);
+                break;
+            case "ORDER_CANCELLED":
+                handleOrderCancelled(orderEvent);
+                break;
+            default:
+                logger.warn("Tipo de evento não reconhecido: {}", orderEvent.getEventType());
+        }
+    }
+
     /**
      * Processa evento de criação de pedido
      */
@@ -0,0 +1,131 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.ports.out.BillRepositoryPort;
+import com.techbra.billing.domain.ports.out.SchedulerLeasePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Marca como vencidas (OVERDUE) as cobranças em aberto com vencimento ultrapassado
+ * 
+ * Cada lote é um único UPDATE ... RETURNING em sua própria transação, e os
+ * eventos BILL_UPDATED do lote são publicados juntos após o commit. Apenas a
+ * instância que detém o lease executa a varredura; o lease é renovado a cada
+ * lote e, se a instância cair, expira e é assumido por outra.
+ * 
+ * A varredura só continua enquanto o lease adquirido ou renovado por último
+ * não expirou: um lote mais longo que o lease encerra a execução em vez de
+ * renová-lo, pois outra instância pode já tê-lo assumido. Instâncias sem o
+ * lease só voltam a consultá-lo no banco após {@code billing.overdue.lease-check-interval},
+ * independentemente da frequência do agendamento.
+ */
+@Component
+@ConditionalOnProperty(name = "billing.overdue.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueBillSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueBillSweeper.class);
+
+    static final String LEASE_NAME = "overdue-bill-sweeper";
+
+    private final BillRepositoryPort billRepository;
+    private final LogisticsEventPublisher logisticsEventPublisher;
+    private final SchedulerLeasePort schedulerLeasePort;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration leaseDuration;
+    private final Duration leaseCheckInterval;
+    private final Clock clock;
+    private final String owner;
+    private Instant nextLeaseCheck = Instant.MIN;
+
+    @Autowired
+    public OverdueBillSweeper(BillRepositoryPort billRepository,
+                              LogisticsEventPublisher logisticsEventPublisher,
+                              SchedulerLeasePort schedulerLeasePort,
+                              @Value("${billing.overdue.chunk-size:500}") int chunkSize,
+                              @Value("${billing.overdue.max-chunks-per-run:100}") int maxChunksPerRun,
+                              @Value("${billing.overdue.lease:PT5M}") Duration leaseDuration,
+                              @Value("${billing.overdue.lease-check-interval:PT1M}") Duration leaseCheckInterval) {
+        this(billRepository, logisticsEventPublisher, schedulerLeasePort, chunkSize, maxChunksPerRun,
+                leaseDuration, leaseCheckInterval, Clock.systemUTC());
+    }
+
+    OverdueBillSweeper(BillRepositoryPort billRepository,
+                       LogisticsEventPublisher logisticsEventPublisher,
+                       SchedulerLeasePort schedulerLeasePort,
+                       int chunkSize,
+                       int maxChunksPerRun,
+                       Duration leaseDuration,
+                       Duration leaseCheckInterval,
+                       Clock clock) {
+        this.billRepository = billRepository;
+        this.logisticsEventPublisher = logisticsEventPublisher;
+        this.schedulerLeasePort = schedulerLeasePort;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.leaseDuration = leaseDuration;
+        this.leaseCheckInterval = leaseCheckInterval;
+        this.clock = clock;
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "billing-service") + "-" + UUID.randomUUID();
+    }
+
+    @Scheduled(cron = "${billing.overdue.cron:0 */5 * * * *}")
+    public void sweep() {
+        Instant acquiredAt = clock.instant();
+        if (acquiredAt.isBefore(nextLeaseCheck)) {
+            return;
+        }
+        if (!schedulerLeasePort.tryAcquire(LEASE_NAME, owner, leaseDuration)) {
+            nextLeaseCheck = acquiredAt.plus(leaseCheckInterval);
+            logger.debug("Varredura de cobranças vencidas em execução em outra instância");
+            return;
+        }
+        nextLeaseCheck = Instant.MIN;
+        // Medido antes da aquisição: expira localmente no máximo quando expira no banco
+        Instant leaseUntil = acquiredAt.plus(leaseDuration);
+
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                List<Bill> overdueBills = billRepository.markOverdue(now, chunkSize);
+                if (!overdueBills.isEmpty()) {
+                    logisticsEventPublisher.publishBillUpdatedEvents(overdueBills);
+                    total += overdueBills.size();
+                }
+                if (overdueBills.size() < chunkSize) {
+                    break;
+                }
+                Instant renewedAt = clock.instant();
+                if (!renewedAt.isBefore(leaseUntil)) {
+                    logger.warn("Lease da varredura de cobranças vencidas expirou durante o lote: owner={}", owner);
+                    break;
+                }
+                if (!schedulerLeasePort.tryAcquire(LEASE_NAME, owner, leaseDuration)) {
+                    logger.warn("Lease da varredura de cobranças vencidas perdido: owner={}", owner);
+                    break;
+                }
+                leaseUntil = renewedAt.plus(leaseDuration);
+            }
+        } finally {
+            schedulerLeasePort.release(LEASE_NAME, owner);
+        }
+
+        if (total > 0) {
+            logger.info("Cobranças marcadas como vencidas: count={}, dueBefore={}", total, now);
+        }
+    }
+}
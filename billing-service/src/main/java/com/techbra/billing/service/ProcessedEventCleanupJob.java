@@ -0,0 +1,40 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.ports.out.ProcessedEventPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Remove do registro de eventos processados os eventos fora da janela de retenção
+ * 
+ * A janela deve ser maior que o maior atraso esperado de reentrega no billing-events.
+ */
+@Component
+@ConditionalOnProperty(name = "billing.dedup.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class ProcessedEventCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessedEventCleanupJob.class);
+
+    private final ProcessedEventPort processedEventPort;
+    private final Duration retention;
+
+    public ProcessedEventCleanupJob(ProcessedEventPort processedEventPort,
+                                    @Value("${billing.dedup.retention:P7D}") Duration retention) {
+        this.processedEventPort = processedEventPort;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${billing.dedup.cleanup.cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = processedEventPort.deleteProcessedBefore(cutoff);
+        logger.info("Registros de eventos processados removidos: deleted={}, cutoff={}", deleted, cutoff);
+    }
+}
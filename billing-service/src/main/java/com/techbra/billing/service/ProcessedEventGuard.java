@@ -0,0 +1,150 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.domain.ports.out.ProcessedEventPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Descarta eventos de pedidos já processados (reentregas após rebalanceamento ou falha)
+ * 
+ * O registro definitivo é a tabela processed_events, gravada na mesma transação
+ * do processamento: se o processamento for desfeito, o evento volta a ser aceito.
+ * Na frente dela, um LRU em memória com os eventos confirmados recentemente
+ * responde às reentregas mais comuns sem ir ao banco.
+ */
+@Component
+public class ProcessedEventGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessedEventGuard.class);
+
+    private final ProcessedEventPort processedEventPort;
+    private final Map<String, Boolean> recentlyProcessed;
+    private final Counter cacheDuplicates;
+    private final Counter storeDuplicates;
+
+    public ProcessedEventGuard(ProcessedEventPort processedEventPort,
+                               MeterRegistry meterRegistry,
+                               @Value("${billing.dedup.cache-size:100000}") int cacheSize) {
+        this.processedEventPort = processedEventPort;
+        this.recentlyProcessed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.cacheDuplicates = Counter.builder("billing.events.duplicates")
+                .description("Eventos de pedidos descartados por já terem sido processados")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.storeDuplicates = Counter.builder("billing.events.duplicates")
+                .description("Eventos de pedidos descartados por já terem sido processados")
+                .tag("source", "store")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra o evento e indica se é a primeira entrega
+     * 
+     * Deve ser chamado dentro da transação do processamento, antes de qualquer escrita.
+     * Eventos sem eventId não podem ser deduplicados e são sempre aceitos.
+     * 
+     * @return true se o evento deve ser processado
+     */
+    public boolean firstDelivery(OrderEvent orderEvent) {
+        String eventId = orderEvent.getEventId();
+        if (eventId == null) {
+            return true;
+        }
+        if (recentlyProcessed.containsKey(eventId)) {
+            cacheDuplicates.increment();
+            logger.info("Evento já processado, ignorando: eventId={}", eventId);
+            return false;
+        }
+        if (!processedEventPort.markProcessed(eventId, orderEvent.getEventType())) {
+            storeDuplicates.increment();
+            rememberAfterCommit(List.of(eventId));
+            logger.info("Evento já processado, ignorando: eventId={}", eventId);
+            return false;
+        }
+        rememberAfterCommit(List.of(eventId));
+        return true;
+    }
+
+    /**
+     * Registra um lote de eventos com uma consulta e uma gravação em lote
+     * 
+     * Também descarta eventos repetidos dentro do próprio lote.
+     * 
+     * @return os eventos a processar, na ordem original
+     */
+    public List<OrderEvent> filterFirstDeliveries(List<OrderEvent> orderEvents) {
+        Map<String, String> candidates = new LinkedHashMap<>();
+        for (OrderEvent orderEvent : orderEvents) {
+            String eventId = orderEvent.getEventId();
+            if (eventId != null && !recentlyProcessed.containsKey(eventId)) {
+                candidates.putIfAbsent(eventId, orderEvent.getEventType());
+            }
+        }
+        Set<String> alreadyProcessed = processedEventPort.findProcessed(candidates.keySet());
+        candidates.keySet().removeAll(alreadyProcessed);
+        processedEventPort.markAllProcessed(candidates);
+
+        Set<String> pending = new HashSet<>(candidates.keySet());
+        List<OrderEvent> accepted = new ArrayList<>(orderEvents.size());
+        for (OrderEvent orderEvent : orderEvents) {
+            String eventId = orderEvent.getEventId();
+            if (eventId == null || pending.remove(eventId)) {
+                accepted.add(orderEvent);
+            } else if (alreadyProcessed.contains(eventId)) {
+                storeDuplicates.increment();
+            } else {
+                cacheDuplicates.increment();
+            }
+        }
+        if (accepted.size() < orderEvents.size()) {
+            logger.info("Eventos já processados ignorados no lote: duplicates={}, size={}",
+                       orderEvents.size() - accepted.size(), orderEvents.size());
+        }
+
+        List<String> processedIds = new ArrayList<>(orderEvents.size());
+        for (OrderEvent orderEvent : orderEvents) {
+            if (orderEvent.getEventId() != null) {
+                processedIds.add(orderEvent.getEventId());
+            }
+        }
+        rememberAfterCommit(processedIds);
+        return accepted;
+    }
+
+    /**
+     * Guarda os IDs no LRU apenas após o commit, para que um rollback não os marque como processados
+     */
+    private void rememberAfterCommit(Collection<String> eventIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventIds.forEach(eventId -> recentlyProcessed.put(eventId, Boolean.TRUE));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventIds.forEach(eventId -> recentlyProcessed.put(eventId, Boolean.TRUE));
+            }
+        });
+    }
+}
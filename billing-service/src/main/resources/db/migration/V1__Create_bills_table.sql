@@ -0,0 +1,29 @@
+-- Migration V1: Create bills table
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Baseline of the schema previously generated by Hibernate; bill ids
+--              come from a pooled sequence so inserts can be batched
+
+CREATE SEQUENCE IF NOT EXISTS bills_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS bills (
+    id BIGINT PRIMARY KEY,
+    order_id UUID NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    amount NUMERIC(38, 2) NOT NULL,
+    due_date TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6),
+    status VARCHAR(255) NOT NULL,
+    paid_at TIMESTAMP(6),
+    cancelled_at TIMESTAMP(6),
+    cancellation_reason VARCHAR(255),
+    updated_at TIMESTAMP(6)
+);
+
+COMMENT ON TABLE bills IS 'Cobranças geradas a partir dos eventos de pedidos';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V1__Create_bills_table completed successfully at %', NOW();
+END $$;
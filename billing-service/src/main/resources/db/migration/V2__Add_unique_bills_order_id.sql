@@ -0,0 +1,26 @@
+-- Migration V2: Unique index on bills.order_id
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: One bill per order. Replaces the sequential scan of the duplicate
+--              check and backs the INSERT ... ON CONFLICT (order_id) creation path
+
+-- Duplicated bills must be reconciled manually before the index can be created
+DO $$
+DECLARE
+    duplicated_orders BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO duplicated_orders
+    FROM (SELECT order_id FROM bills GROUP BY order_id HAVING COUNT(*) > 1) duplicates;
+
+    IF duplicated_orders > 0 THEN
+        RAISE EXCEPTION 'Migration V2 aborted: % orders have more than one bill', duplicated_orders;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_bills_order_id ON bills(order_id);
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V2__Add_unique_bills_order_id completed successfully at %', NOW();
+END $$;
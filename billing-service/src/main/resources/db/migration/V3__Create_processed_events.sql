@@ -0,0 +1,21 @@
+-- Migration V3: Create processed events ledger
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Records the eventId of every consumed order event so redeliveries
+--              are skipped; rows older than the retention window are purged
+
+CREATE TABLE IF NOT EXISTS processed_events (
+    event_id VARCHAR(64) PRIMARY KEY,
+    event_type VARCHAR(50),
+    processed_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events(processed_at);
+
+COMMENT ON TABLE processed_events IS 'Eventos de pedidos já processados pelo billing-service';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V3__Create_processed_events completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,14 @@
+-- Migration V4: Indexes for filtered bill listings
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Backs the keyset-paged GET /api/bills and its streaming export,
+--              both ordered by (due_date, id), with and without a status filter
+
+CREATE INDEX IF NOT EXISTS idx_bills_status_due_date ON bills(status, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_bills_due_date ON bills(due_date, id);
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V4__Add_bills_query_indexes completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,19 @@
+-- Migration V5: Create scheduler leases
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Time-bound leases that let a single pod run each scheduled job
+--              (e.g. the overdue bill sweeper); an expired lease is taken over
+
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL
+);
+
+COMMENT ON TABLE scheduler_leases IS 'Leases das tarefas agendadas do billing-service';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V5__Create_scheduler_leases completed successfully at %', NOW();
+END $$;
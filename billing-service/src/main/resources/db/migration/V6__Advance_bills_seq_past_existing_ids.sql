@@ -0,0 +1,17 @@
+-- Migration V6: Advance bills_seq past existing ids
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Databases created by Hibernate before V1 already have bills whose ids
+--              did not come from bills_seq; the sequence is moved past the highest id
+--              (never backwards) so new bills do not collide with them
+
+SELECT setval('bills_seq', GREATEST(
+    (SELECT last_value FROM bills_seq),
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM bills)
+));
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V6__Advance_bills_seq_past_existing_ids completed successfully at %', NOW();
+END $$;
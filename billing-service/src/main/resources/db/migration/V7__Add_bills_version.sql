@@ -0,0 +1,14 @@
+-- Migration V7: Add bills version
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Optimistic locking column for bills; full-entity saves fail instead of
+--              overwriting a concurrent change (e.g. the overdue sweep), which also
+--              increments it
+
+ALTER TABLE bills ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V7__Add_bills_version completed successfully at %', NOW();
+END $$;
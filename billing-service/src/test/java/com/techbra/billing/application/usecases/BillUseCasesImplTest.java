@@ -1,26 +1,36 @@
 package com.techbra.billing.application.usecases;
 
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import com.techbra.billing.domain.model.BillSettlement;
+import com.techbra.billing.domain.model.SettlementReport;
 import com.techbra.billing.domain.model.BillStatus;
 import com.techbra.billing.domain.events.BillPaidEvent;
 import com.techbra.billing.domain.ports.out.BillRepositoryPort;
 import com.techbra.billing.infrastructure.events.EventPublisher;
+import com.techbra.billing.service.LogisticsEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +41,9 @@ class BillUseCasesImplTest {
     
     @Mock
     private EventPublisher eventPublisher;
+    
+    @Mock
+    private LogisticsEventPublisher logisticsEventPublisher;
 
     @InjectMocks
     private BillUseCasesImpl billUseCases;
@@ -46,17 +59,19 @@ class BillUseCasesImplTest {
     }
 
     @Test
-    void getAllBills_ShouldReturnAllBills() {
+    void searchBills_ShouldDelegateFilterCursorAndLimit() {
         // Given
+        BillFilter filter = new BillFilter(BillStatus.CREATED, null, testDueDate.minusDays(1), testDueDate);
+        BillCursor cursor = new BillCursor(testDueDate.minusDays(1), 9L);
         List<Bill> expectedBills = Arrays.asList(testBill);
-        when(billRepositoryPort.findAll()).thenReturn(expectedBills);
+        when(billRepositoryPort.findPage(filter, cursor, 20)).thenReturn(expectedBills);
 
         // When
-        List<Bill> actualBills = billUseCases.getAllBills();
+        List<Bill> actualBills = billUseCases.searchBills(filter, cursor, 20);
 
         // Then
         assertEquals(expectedBills, actualBills);
-        verify(billRepositoryPort).findAll();
+        verify(billRepositoryPort, never()).findAll();
     }
 
     @Test
@@ -109,7 +124,9 @@ class BillUseCasesImplTest {
         Bill updatedBill = new Bill("Updated Bill", new BigDecimal("150.00"), testDueDate);
         updatedBill.setId(1L);
         
-        when(billRepositoryPort.existsById(1L)).thenReturn(true);
+        testBill.setVersion(3L);
+        
+        when(billRepositoryPort.findById(1L)).thenReturn(Optional.of(testBill));
         when(billRepositoryPort.save(any(Bill.class))).thenReturn(updatedBill);
 
         // When
@@ -119,7 +136,26 @@ class BillUseCasesImplTest {
         assertTrue(result.isPresent());
         assertEquals(updatedBill, result.get());
         assertEquals(1L, result.get().getId());
-        verify(billRepositoryPort).existsById(1L);
+        assertEquals(3L, updatedBill.getVersion());
+        verify(billRepositoryPort).findById(1L);
+        verify(billRepositoryPort).save(updatedBill);
+    }
+
+    @Test
+    void updateBill_WithVersion_ShouldKeepRequestVersionForOptimisticCheck() {
+        // Given
+        Bill updatedBill = new Bill("Updated Bill", new BigDecimal("150.00"), testDueDate);
+        updatedBill.setVersion(2L);
+        testBill.setVersion(3L);
+        
+        when(billRepositoryPort.findById(1L)).thenReturn(Optional.of(testBill));
+        when(billRepositoryPort.save(any(Bill.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        billUseCases.updateBill(1L, updatedBill);
+
+        // Then
+        assertEquals(2L, updatedBill.getVersion());
         verify(billRepositoryPort).save(updatedBill);
     }
 
@@ -128,14 +164,14 @@ class BillUseCasesImplTest {
         // Given
         Bill updatedBill = new Bill("Updated Bill", new BigDecimal("150.00"), testDueDate);
         
-        when(billRepositoryPort.existsById(1L)).thenReturn(false);
+        when(billRepositoryPort.findById(1L)).thenReturn(Optional.empty());
 
         // When
         Optional<Bill> result = billUseCases.updateBill(1L, updatedBill);
 
         // Then
         assertFalse(result.isPresent());
-        verify(billRepositoryPort).existsById(1L);
+        verify(billRepositoryPort).findById(1L);
         verify(billRepositoryPort, never()).save(any(Bill.class));
     }
 
@@ -177,7 +213,7 @@ class BillUseCasesImplTest {
         paidBill.setId(1L);
         paidBill.markAsPaid();
         
-        when(billRepositoryPort.findById(1L)).thenReturn(Optional.of(unpaidBill));
+        when(billRepositoryPort.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(unpaidBill));
         when(billRepositoryPort.save(any(Bill.class))).thenReturn(paidBill);
         
         // When
@@ -188,9 +224,27 @@ class BillUseCasesImplTest {
         assertEquals(BillStatus.PAID, result.get().getStatus());
         assertNotNull(result.get().getPaidAt());
         
-        verify(billRepositoryPort).findById(1L);
+        verify(billRepositoryPort).findAllByIdForUpdate(List.of(1L));
         verify(billRepositoryPort).save(any(Bill.class));
         verify(eventPublisher).publishBillPaidEvent(any(BillPaidEvent.class));
+        verify(logisticsEventPublisher, never()).publishBillPaidEvent(any(Bill.class));
+    }
+    
+    @Test
+    void payBill_WhenBillBelongsToOrder_ShouldAlsoReleaseOrderToLogistics() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        Bill unpaidBill = new Bill(orderId, "Pedido", new BigDecimal("80.00"), testDueDate);
+        unpaidBill.setId(2L);
+        when(billRepositoryPort.findAllByIdForUpdate(List.of(2L))).thenReturn(List.of(unpaidBill));
+        when(billRepositoryPort.save(any(Bill.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        billUseCases.payBill(2L);
+        
+        // Then
+        verify(eventPublisher).publishBillPaidEvent(argThat(event -> orderId.equals(event.getOrderId())));
+        verify(logisticsEventPublisher).publishBillPaidEvent(unpaidBill);
     }
     
     @Test
@@ -200,7 +254,7 @@ class BillUseCasesImplTest {
         alreadyPaidBill.setId(1L);
         alreadyPaidBill.markAsPaid();
         
-        when(billRepositoryPort.findById(1L)).thenReturn(Optional.of(alreadyPaidBill));
+        when(billRepositoryPort.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(alreadyPaidBill));
         
         // When
         Optional<Bill> result = billUseCases.payBill(1L);
@@ -209,7 +263,7 @@ class BillUseCasesImplTest {
         assertTrue(result.isPresent());
         assertEquals(BillStatus.PAID, result.get().getStatus());
         
-        verify(billRepositoryPort).findById(1L);
+        verify(billRepositoryPort).findAllByIdForUpdate(List.of(1L));
         verify(billRepositoryPort, never()).save(any(Bill.class));
         verify(eventPublisher, never()).publishBillPaidEvent(any(BillPaidEvent.class));
     }
@@ -217,7 +271,7 @@ class BillUseCasesImplTest {
     @Test
     void payBill_WhenBillDoesNotExist_ShouldReturnEmpty() {
         // Given
-        when(billRepositoryPort.findById(1L)).thenReturn(Optional.empty());
+        when(billRepositoryPort.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of());
         
         // When
         Optional<Bill> result = billUseCases.payBill(1L);
@@ -225,8 +279,88 @@ class BillUseCasesImplTest {
         // Then
         assertFalse(result.isPresent());
         
-        verify(billRepositoryPort).findById(1L);
+        verify(billRepositoryPort).findAllByIdForUpdate(List.of(1L));
+        verify(billRepositoryPort, never()).save(any(Bill.class));
+        verify(eventPublisher, never()).publishBillPaidEvent(any(BillPaidEvent.class));
+    }
+    
+    @Test
+    void payBill_InsideTransaction_ShouldPublishOnlyAfterCommit() {
+        // Given
+        Bill unpaidBill = new Bill(UUID.randomUUID(), "Pedido", new BigDecimal("80.00"), testDueDate);
+        unpaidBill.setId(3L);
+        when(billRepositoryPort.findAllByIdForUpdate(List.of(3L))).thenReturn(List.of(unpaidBill));
+        when(billRepositoryPort.save(any(Bill.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            billUseCases.payBill(3L);
+            
+            // Then
+            verifyNoInteractions(eventPublisher, logisticsEventPublisher);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(eventPublisher).publishBillPaidEvent(any(BillPaidEvent.class));
+            verify(logisticsEventPublisher).publishBillPaidEvent(unpaidBill);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void settleBills_ShouldPayOpenBillsOnceAndSkipPaidCancelledAndMissing() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        Bill openBill = new Bill(orderId, "Pedido", new BigDecimal("80.00"), testDueDate);
+        openBill.setId(1L);
+        Bill paidBill = new Bill("Paga", new BigDecimal("10.00"), testDueDate);
+        paidBill.setId(2L);
+        paidBill.markAsPaid();
+        Bill cancelledBill = new Bill("Cancelada", new BigDecimal("10.00"), testDueDate);
+        cancelledBill.setId(3L);
+        cancelledBill.setStatus(BillStatus.CANCELLED);
+        when(billRepositoryPort.findAllByIdForUpdate(any())).thenReturn(List.of(openBill, paidBill, cancelledBill));
+        LocalDateTime paidAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+        
+        // When
+        SettlementReport report = billUseCases.settleBills(List.of(
+                new BillSettlement(1L, paidAt),
+                new BillSettlement(1L, paidAt),
+                new BillSettlement(2L, null),
+                new BillSettlement(3L, null),
+                new BillSettlement(4L, null)));
+        
+        // Then
+        assertEquals(1, report.getSettled());
+        assertEquals(1, report.getAlreadyPaid());
+        assertEquals(List.of(3L), report.getRejected());
+        assertEquals(List.of(4L), report.getNotFound());
+        assertEquals(paidAt, openBill.getPaidAt());
+        
+        verify(billRepositoryPort).saveAll(List.of(openBill));
         verify(billRepositoryPort, never()).save(any(Bill.class));
+        ArgumentCaptor<List<BillPaidEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishBillPaidEvents(eventsCaptor.capture());
+        assertEquals(1, eventsCaptor.getValue().size());
+        assertEquals(1L, eventsCaptor.getValue().get(0).getBillId());
+        verify(logisticsEventPublisher).publishBillPaidEvents(List.of(openBill));
         verify(eventPublisher, never()).publishBillPaidEvent(any(BillPaidEvent.class));
     }
+    
+    @Test
+    void settleBills_WhenEverythingAlreadyPaid_ShouldNotPublish() {
+        // Given
+        Bill paidBill = new Bill("Paga", new BigDecimal("10.00"), testDueDate);
+        paidBill.setId(2L);
+        paidBill.markAsPaid();
+        when(billRepositoryPort.findAllByIdForUpdate(any())).thenReturn(List.of(paidBill));
+        
+        // When
+        SettlementReport report = billUseCases.settleBills(List.of(new BillSettlement(2L, null)));
+        
+        // Then
+        assertEquals(0, report.getSettled());
+        assertEquals(1, report.getAlreadyPaid());
+        verifyNoInteractions(eventPublisher, logisticsEventPublisher);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import com.techbra.billing.domain.model.BillStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BillQueryRepositoryImplTest {
+
+    private static final LocalDateTime BASE_DUE_DATE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private BillJpaRepository billJpaRepository;
+
+    private final List<Bill> bills = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Duas cobranças por dia de vencimento, para exercitar o desempate por ID
+        for (int i = 0; i < 10; i++) {
+            Bill bill = new Bill(UUID.randomUUID(), "Cobrança " + i, new BigDecimal("10.00"),
+                    BASE_DUE_DATE.plusDays(i / 2));
+            if (i % 3 == 0) {
+                bill.markAsPaid();
+            }
+            bills.add(bill);
+        }
+        billJpaRepository.saveAllAndFlush(bills);
+    }
+
+    @Test
+    void findPage_ShouldWalkAllBillsInDueDateOrderWithoutGapsOrRepeats() {
+        // Given
+        List<Long> visited = new ArrayList<>();
+        BillCursor cursor = null;
+
+        // When
+        List<Bill> page;
+        do {
+            page = billJpaRepository.findPage(BillFilter.none(), cursor, 3);
+            page.forEach(bill -> visited.add(bill.getId()));
+            cursor = page.isEmpty() ? null : BillCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 3);
+
+        // Then
+        List<Long> expected = bills.stream().map(Bill::getId).toList();
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void findPage_ShouldApplyStatusAndDueDateFilters() {
+        // Given
+        BillFilter filter = new BillFilter(BillStatus.PAID, null, BASE_DUE_DATE.plusDays(1), BASE_DUE_DATE.plusDays(4));
+
+        // When
+        List<Bill> page = billJpaRepository.findPage(filter, null, 50);
+
+        // Then
+        assertEquals(List.of(bills.get(3).getId(), bills.get(6).getId(), bills.get(9).getId()),
+                page.stream().map(Bill::getId).toList());
+    }
+
+    @Test
+    void forEachMatching_ShouldStreamOnlyFilteredOrder() {
+        // Given
+        Bill target = bills.get(4);
+        List<Bill> streamed = new ArrayList<>();
+
+        // When
+        billJpaRepository.forEachMatching(new BillFilter(null, target.getOrderId(), null, null), streamed::add);
+
+        // Then
+        assertEquals(1, streamed.size());
+        assertEquals(target.getId(), streamed.get(0).getId());
+    }
+}
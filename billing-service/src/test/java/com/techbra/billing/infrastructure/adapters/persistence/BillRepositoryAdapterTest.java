@@ -13,10 +13,12 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,6 +98,60 @@ class BillRepositoryAdapterTest {
         verify(billJpaRepository).save(billToSave);
     }
 
+    @Test
+    void findByOrderIdIn_ShouldResolveAllBillsWithSingleQuery() {
+        // Given
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(billJpaRepository.findByOrderIdIn(orderIds)).thenReturn(Arrays.asList(testBill));
+
+        // When
+        List<Bill> result = billRepositoryAdapter.findByOrderIdIn(orderIds);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(billJpaRepository, times(1)).findByOrderIdIn(orderIds);
+    }
+
+    @Test
+    void findByOrderIdIn_WithNoIds_ShouldNotQuery() {
+        // When
+        List<Bill> result = billRepositoryAdapter.findByOrderIdIn(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(billJpaRepository);
+    }
+
+    @Test
+    void insertIfAbsent_WhenInserted_ShouldReturnBillWithGeneratedId() {
+        // Given
+        Bill bill = new Bill(UUID.randomUUID(), "Nova cobrança", new BigDecimal("10.00"), testDueDate);
+        when(billJpaRepository.insertIfAbsent(eq(bill.getOrderId()), any(), any(), any(), any(), eq("CREATED"), any()))
+            .thenReturn(Optional.of(42L));
+
+        // When
+        Optional<Bill> result = billRepositoryAdapter.insertIfAbsent(bill);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(42L, result.get().getId());
+    }
+
+    @Test
+    void insertIfAbsent_WhenOrderAlreadyBilled_ShouldReturnEmpty() {
+        // Given
+        Bill bill = new Bill(UUID.randomUUID(), "Nova cobrança", new BigDecimal("10.00"), testDueDate);
+        when(billJpaRepository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Optional.empty());
+
+        // When
+        Optional<Bill> result = billRepositoryAdapter.insertIfAbsent(bill);
+
+        // Then
+        assertFalse(result.isPresent());
+        assertNull(bill.getId());
+    }
+
     @Test
     void deleteById_ShouldCallJpaRepositoryDelete() {
         // Given
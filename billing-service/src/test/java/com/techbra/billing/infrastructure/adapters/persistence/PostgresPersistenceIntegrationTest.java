@@ -0,0 +1,174 @@
+package com.techbra.billing.infrastructure.adapters.persistence;
+
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consultas nativas do PostgreSQL (ON CONFLICT, RETURNING, SKIP LOCKED) contra
+ * um PostgreSQL real, com o schema criado pelas migrações
+ *
+ * Ignorado quando não há Docker disponível.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BillRepositoryAdapter.class, ProcessedEventRepositoryAdapter.class, SchedulerLeaseRepositoryAdapter.class})
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresPersistenceIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BillRepositoryAdapter billRepositoryAdapter;
+
+    @Autowired
+    private BillJpaRepository billJpaRepository;
+
+    @Autowired
+    private ProcessedEventRepositoryAdapter processedEventRepositoryAdapter;
+
+    @Autowired
+    private SchedulerLeaseRepositoryAdapter schedulerLeaseRepositoryAdapter;
+
+    @Test
+    void insertIfAbsent_ShouldInsertOncePerOrder() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+
+        // When
+        Optional<Bill> first = billRepositoryAdapter.insertIfAbsent(pendingBill(orderId, LocalDateTime.now().plusDays(30)));
+        Optional<Bill> second = billRepositoryAdapter.insertIfAbsent(pendingBill(orderId, LocalDateTime.now().plusDays(30)));
+
+        // Then
+        assertTrue(first.isPresent());
+        assertNotNull(first.get().getId());
+        assertTrue(second.isEmpty());
+        assertEquals(first.get().getId(), billJpaRepository.findByOrderId(orderId).orElseThrow().getId());
+    }
+
+    @Test
+    void insertIfAbsent_ShouldNotCollideWithIdsAllocatedByHibernate() {
+        // Given
+        Bill saved = billJpaRepository.saveAndFlush(pendingBill(UUID.randomUUID(), LocalDateTime.now().plusDays(30)));
+
+        // When
+        Optional<Bill> inserted = billRepositoryAdapter.insertIfAbsent(pendingBill(UUID.randomUUID(), LocalDateTime.now().plusDays(30)));
+
+        // Then
+        assertTrue(inserted.isPresent());
+        assertNotEquals(saved.getId(), inserted.get().getId());
+    }
+
+    @Test
+    void markOverdue_ShouldReturnOnlyOpenBillsPastDue() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Bill overdue = billJpaRepository.save(pendingBill(UUID.randomUUID(), now.minusDays(1)));
+        billJpaRepository.save(pendingBill(UUID.randomUUID(), now.plusDays(1)));
+        Bill paid = pendingBill(UUID.randomUUID(), now.minusDays(2));
+        paid.markAsPaid();
+        billJpaRepository.saveAndFlush(paid);
+        entityManager.clear();
+
+        // When
+        List<Bill> marked = billJpaRepository.markOverdue(now, 10);
+
+        // Then
+        assertEquals(List.of(overdue.getId()), marked.stream().map(Bill::getId).toList());
+        assertEquals(BillStatus.OVERDUE, marked.get(0).getStatus());
+    }
+
+    @Test
+    void save_AfterMarkOverdue_ShouldFailInsteadOfRestoringPending() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Bill bill = billJpaRepository.saveAndFlush(pendingBill(UUID.randomUUID(), now.minusDays(1)));
+        entityManager.detach(bill);
+        billJpaRepository.markOverdue(now, 10);
+        entityManager.clear();
+
+        // When
+        bill.setAmount(new BigDecimal("20.00"));
+
+        // Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> billJpaRepository.saveAndFlush(bill));
+    }
+
+    @Test
+    void markProcessed_ShouldRegisterEachEventOnce() {
+        // Given
+        String eventId = UUID.randomUUID().toString();
+
+        // When
+        boolean first = processedEventRepositoryAdapter.markProcessed(eventId, "ORDER_CREATED");
+        boolean second = processedEventRepositoryAdapter.markProcessed(eventId, "ORDER_CREATED");
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(Set.of(eventId), processedEventRepositoryAdapter.findProcessed(List.of(eventId)));
+    }
+
+    /**
+     * Fora da transação do teste: now() é fixo dentro de uma transação e a liberação
+     * só vale para as aquisições de transações posteriores
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void tryAcquire_ShouldGrantLeaseToOneOwnerUntilReleased() {
+        // Given
+        String lease = "lease-" + UUID.randomUUID();
+
+        // When / Then
+        assertTrue(schedulerLeaseRepositoryAdapter.tryAcquire(lease, "pod-a", Duration.ofMinutes(5)));
+        assertFalse(schedulerLeaseRepositoryAdapter.tryAcquire(lease, "pod-b", Duration.ofMinutes(5)));
+        assertTrue(schedulerLeaseRepositoryAdapter.tryAcquire(lease, "pod-a", Duration.ofMinutes(5)));
+
+        schedulerLeaseRepositoryAdapter.release(lease, "pod-a");
+        assertTrue(schedulerLeaseRepositoryAdapter.tryAcquire(lease, "pod-b", Duration.ofMinutes(5)));
+    }
+
+    private Bill pendingBill(UUID orderId, LocalDateTime dueDate) {
+        Bill bill = new Bill(orderId, "Cobrança " + orderId, new BigDecimal("10.00"), dueDate);
+        bill.setStatus(BillStatus.PENDING);
+        return bill;
+    }
+}
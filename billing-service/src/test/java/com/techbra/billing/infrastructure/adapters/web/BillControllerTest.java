@@ -2,26 +2,43 @@ package com.techbra.billing.infrastructure.adapters.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillCursor;
+import com.techbra.billing.domain.model.BillFilter;
+import com.techbra.billing.domain.model.BillSettlement;
 import com.techbra.billing.domain.model.BillStatus;
+import com.techbra.billing.domain.model.SettlementReport;
 import com.techbra.billing.domain.ports.in.BillUseCases;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
@@ -51,36 +68,148 @@ class BillControllerTest {
     }
 
     @Test
-    void getAllBills_ShouldReturnListOfBills() throws Exception {
+    void searchBills_ShouldReturnPageWithNextCursor() throws Exception {
         // Given
-        List<Bill> bills = Arrays.asList(testBill);
-        when(billUseCases.getAllBills()).thenReturn(bills);
+        Bill nextBill = new Bill("Next Bill", new BigDecimal("20.00"), testDueDate.plusDays(1));
+        nextBill.setId(2L);
+        when(billUseCases.searchBills(any(BillFilter.class), isNull(), eq(2))).thenReturn(List.of(testBill, nextBill));
 
         // When & Then
-        mockMvc.perform(get("/api/bills"))
+        mockMvc.perform(get("/api/bills")
+                        .param("status", "CREATED")
+                        .param("dueFrom", "2024-12-01T00:00:00")
+                        .param("limit", "1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].description").value("Test Bill"))
-                .andExpect(jsonPath("$[0].amount").value(100.50))
-                .andExpect(jsonPath("$[0].dueDate").value("2024-12-31T23:59:59"));
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.items[0].description").value("Test Bill"))
+                .andExpect(jsonPath("$.items[0].dueDate").value("2024-12-31T23:59:59"))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(new BillCursor(testDueDate, 1L).encode()));
+
+        ArgumentCaptor<BillFilter> filterCaptor = ArgumentCaptor.forClass(BillFilter.class);
+        verify(billUseCases).searchBills(filterCaptor.capture(), isNull(), eq(2));
+        assertEquals(BillStatus.CREATED, filterCaptor.getValue().getStatus());
+        assertEquals(LocalDateTime.of(2024, 12, 1, 0, 0), filterCaptor.getValue().getDueFrom());
+    }
+
+    @Test
+    void searchBills_WithCursor_ShouldContinueAfterCursor() throws Exception {
+        // Given
+        BillCursor cursor = new BillCursor(testDueDate, 1L);
+        when(billUseCases.searchBills(any(BillFilter.class), eq(cursor), eq(51))).thenReturn(List.of());
 
-        verify(billUseCases).getAllBills();
+        // When & Then
+        mockMvc.perform(get("/api/bills").param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(false));
     }
 
     @Test
-    void getAllBills_WhenNoBills_ShouldReturnEmptyList() throws Exception {
+    void searchBills_WithExactlyLimitBillsLeft_ShouldNotReturnNextCursor() throws Exception {
         // Given
-        when(billUseCases.getAllBills()).thenReturn(Arrays.asList());
+        when(billUseCases.searchBills(any(BillFilter.class), isNull(), eq(2))).thenReturn(List.of(testBill));
 
         // When & Then
-        mockMvc.perform(get("/api/bills"))
+        mockMvc.perform(get("/api/bills").param("limit", "1"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").isEmpty());
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
 
-        verify(billUseCases).getAllBills();
+    @Test
+    void searchBills_WithInvalidDueRange_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/bills")
+                        .param("dueFrom", "2024-12-31T00:00:00")
+                        .param("dueTo", "2024-12-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(billUseCases);
+    }
+
+    @Test
+    void exportBills_WithCsvFormat_ShouldStreamHeaderAndRows() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Bill> consumer = invocation.getArgument(1);
+            consumer.accept(testBill);
+            return null;
+        }).when(billUseCases).exportBills(any(BillFilter.class), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/bills/export")
+                        .param("status", "CREATED")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,orderId,description,amount,status,dueDate"));
+        assertTrue(lines[1].startsWith("1,,Test Bill,100.50,CREATED,2024-12-31T23:59:59"));
+    }
+
+    @Test
+    void settleBills_WithJsonArray_ShouldReturnReport() throws Exception {
+        // Given
+        SettlementReport report = new SettlementReport();
+        report.addSettled();
+        report.addNotFound(9L);
+        when(billUseCases.settleBills(anyList())).thenReturn(report);
+
+        // When & Then
+        mockMvc.perform(post("/api/bills/settlements")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"billId\":1,\"paidAt\":\"2026-10-01T12:00:00\"},{\"billId\":9}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.settled").value(1))
+                .andExpect(jsonPath("$.alreadyPaid").value(0))
+                .andExpect(jsonPath("$.notFound[0]").value(9));
+
+        verify(billUseCases).settleBills(argThat(settlements -> settlements.size() == 2
+                && settlements.get(0).getPaidAt().equals(LocalDateTime.of(2026, 10, 1, 12, 0))));
+    }
+
+    @Test
+    void settleBillsFromFile_ShouldSkipHeaderAndBlankLines() throws Exception {
+        // Given
+        when(billUseCases.settleBills(anyList())).thenAnswer(invocation -> {
+            SettlementReport report = new SettlementReport();
+            List<BillSettlement> settlements = invocation.getArgument(0);
+            settlements.forEach(settlement -> report.addSettled());
+            return report;
+        });
+        MockMultipartFile file = new MockMultipartFile("file", "settlement.csv", "text/csv",
+                "billId,paidAt\n1,2026-10-01T12:00:00\n\n2\n".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/bills/settlements").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.settled").value(2));
+
+        verify(billUseCases).settleBills(argThat(settlements -> settlements.size() == 2
+                && settlements.get(1).getBillId() == 2L && settlements.get(1).getPaidAt() == null));
+    }
+
+    @Test
+    void settleBillsFromFile_WithInvalidLine_ShouldReturnBadRequest() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "settlement.csv", "text/csv",
+                "1\nabc\n".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/bills/settlements").file(file))
+                .andExpect(status().isBadRequest());
+
+        verify(billUseCases, never()).settleBills(anyList());
     }
 
     @Test
@@ -155,6 +284,22 @@ class BillControllerTest {
         verify(billUseCases).updateBill(eq(1L), any(Bill.class));
     }
 
+    @Test
+    void updateBill_WhenBillChangedConcurrently_ShouldReturnConflict() throws Exception {
+        // Given
+        Bill updatedBill = new Bill("Updated Bill", new BigDecimal("150.00"), testDueDate);
+        updatedBill.setVersion(1L);
+        
+        when(billUseCases.updateBill(eq(1L), any(Bill.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Bill.class, 1L));
+
+        // When & Then
+        mockMvc.perform(put("/api/bills/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedBill)))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void updateBill_WhenBillDoesNotExist_ShouldReturnNotFound() throws Exception {
         // Given
@@ -0,0 +1,75 @@
+package com.techbra.billing.infrastructure.events;
+
+import com.techbra.billing.domain.events.BillPaidEvent;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, BillPaidEvent> billPaidEventKafkaTemplate;
+
+    private EventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = new EventPublisher(billPaidEventKafkaTemplate, "bill-payments");
+    }
+
+    @Test
+    void publishBillPaidEvent_ShouldReturnWithoutWaitingForBrokerAck() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        BillPaidEvent event = new BillPaidEvent(1L, orderId, "Pedido", new BigDecimal("10.00"), LocalDateTime.now());
+        CompletableFuture<SendResult<String, BillPaidEvent>> pendingAck = new CompletableFuture<>();
+        when(billPaidEventKafkaTemplate.send("bill-payments", orderId.toString(), event)).thenReturn(pendingAck);
+
+        // When
+        eventPublisher.publishBillPaidEvent(event);
+
+        // Then
+        assertFalse(pendingAck.isDone());
+        verify(billPaidEventKafkaTemplate).send("bill-payments", orderId.toString(), event);
+    }
+
+    @Test
+    void publishBillPaidEvent_WithoutOrder_ShouldKeyByBillId() {
+        // Given
+        BillPaidEvent event = new BillPaidEvent(7L, "Avulsa", new BigDecimal("10.00"), LocalDateTime.now());
+        when(billPaidEventKafkaTemplate.send("bill-payments", "7", event)).thenReturn(new CompletableFuture<>());
+
+        // When
+        eventPublisher.publishBillPaidEvent(event);
+
+        // Then
+        verify(billPaidEventKafkaTemplate).send("bill-payments", "7", event);
+    }
+
+    @Test
+    void publishBillPaidEvent_WhenBufferStaysFull_ShouldNotPropagateFailure() {
+        // Given
+        BillPaidEvent event = new BillPaidEvent(1L, "Pedido", new BigDecimal("10.00"), LocalDateTime.now());
+        when(billPaidEventKafkaTemplate.send(anyString(), anyString(), any(BillPaidEvent.class)))
+                .thenThrow(new TimeoutException("buffer cheio"));
+
+        // When / Then
+        assertDoesNotThrow(() -> eventPublisher.publishBillPaidEvent(event));
+    }
+}
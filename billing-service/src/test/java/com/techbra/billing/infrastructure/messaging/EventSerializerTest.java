@@ -0,0 +1,145 @@
+package com.techbra.billing.infrastructure.messaging;
+
+import com.techbra.billing.domain.event.LogisticsEvent;
+import com.techbra.billing.domain.event.LogisticsPayload;
+import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.domain.event.OrderPayload;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSerializerTest {
+
+    private static final String TOPIC = "logistics-events";
+
+    @Test
+    void serialize_WithSmile_ShouldSignalFormatAndRoundTrip() {
+        // Given
+        LogisticsEvent event = logisticsEvent();
+        Headers headers = new RecordHeaders();
+
+        // When
+        byte[] data = new EventSerializer<LogisticsEvent>(EventWireFormat.SMILE).serialize(TOPIC, headers, event);
+        LogisticsEvent received = new EventDeserializer<>(LogisticsEvent.class).deserialize(TOPIC, headers, data);
+
+        // Then
+        assertEquals("smile", new String(headers.lastHeader(EventWireFormat.HEADER).value(), StandardCharsets.UTF_8));
+        assertEquals(event.getEventId(), received.getEventId());
+        assertEquals(event.getOrderId(), received.getOrderId());
+        assertEquals(0, event.getAmount().compareTo(received.getAmount()));
+        assertEquals(event.getTimestamp(), received.getTimestamp());
+        assertEquals(event.getPayload().getDueDate(), received.getPayload().getDueDate());
+    }
+
+    @Test
+    void serialize_WithJson_ShouldMatchJsonSerializerWithoutHeader() {
+        // Given
+        LogisticsEvent event = logisticsEvent();
+        Headers headers = new RecordHeaders();
+
+        // When
+        byte[] data = new EventSerializer<LogisticsEvent>(EventWireFormat.JSON).serialize(TOPIC, headers, event);
+
+        // Then
+        assertNull(headers.lastHeader(EventWireFormat.HEADER));
+        try (JsonSerializer<LogisticsEvent> jsonSerializer = new JsonSerializer<>()) {
+            assertArrayEquals(jsonSerializer.serialize(TOPIC, event), data);
+        }
+    }
+
+    @Test
+    void serialize_RepublishedSmileRecordAsJson_ShouldDropFormatHeader() {
+        // Given
+        OrderEvent event = orderEvent(1);
+        Headers headers = new RecordHeaders();
+        new EventSerializer<OrderEvent>(EventWireFormat.SMILE).serialize("billing-events", headers, event);
+
+        // When
+        byte[] data = new EventSerializer<OrderEvent>(EventWireFormat.JSON).serialize("billing-events.DLT", headers, event);
+        OrderEvent received = new EventDeserializer<>(OrderEvent.class).deserialize("billing-events.DLT", headers, data);
+
+        // Then
+        assertNull(headers.lastHeader(EventWireFormat.HEADER));
+        assertEquals(event.getOrderId(), received.getOrderId());
+    }
+
+    @Test
+    void deserialize_LegacyJsonWithoutHeader_ShouldReadAsJson() {
+        // Given
+        OrderEvent event = orderEvent(3);
+        byte[] data;
+        try (JsonSerializer<OrderEvent> jsonSerializer = new JsonSerializer<>()) {
+            data = jsonSerializer.serialize("billing-events", event);
+        }
+
+        // When
+        OrderEvent received = new EventDeserializer<>(OrderEvent.class)
+                .deserialize("billing-events", new RecordHeaders(), data);
+
+        // Then
+        assertEquals(event.getOrderId(), received.getOrderId());
+        assertEquals(3, received.getPayload().getItems().size());
+    }
+
+    @Test
+    void serialize_OrderEventWithItems_SmileShouldBeSmallerThanJson() {
+        // Given
+        OrderEvent event = orderEvent(50);
+
+        // When
+        byte[] json = new EventSerializer<OrderEvent>(EventWireFormat.JSON).serialize("billing-events", new RecordHeaders(), event);
+        byte[] smile = new EventSerializer<OrderEvent>(EventWireFormat.SMILE).serialize("billing-events", new RecordHeaders(), event);
+
+        // Then
+        assertTrue(smile.length < json.length, "smile=" + smile.length + " json=" + json.length);
+    }
+
+    @Test
+    void deserialize_WithUnknownFormat_ShouldFail() {
+        // Given
+        Headers headers = new RecordHeaders();
+        headers.add(EventWireFormat.HEADER, "avro".getBytes(StandardCharsets.UTF_8));
+
+        // When / Then
+        assertThrows(SerializationException.class,
+                () -> new EventDeserializer<>(LogisticsEvent.class).deserialize(TOPIC, headers, new byte[] {1}));
+    }
+
+    private LogisticsEvent logisticsEvent() {
+        LogisticsPayload payload = new LogisticsPayload("Cobrança para pedido: ORD-1", LocalDateTime.of(2024, 5, 1, 10, 0),
+                LocalDateTime.of(2024, 4, 1, 10, 0), null, "Cobrança atualizada com novos dados");
+        return new LogisticsEvent(UUID.randomUUID().toString(), "BILL_UPDATED", LocalDateTime.of(2024, 4, 2, 9, 30),
+                1L, UUID.randomUUID(), null, new BigDecimal("199.90"), "PENDING", payload);
+    }
+
+    private OrderEvent orderEvent(int itemCount) {
+        List<OrderPayload.OrderItemPayload> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderPayload.OrderItemPayload item = new OrderPayload.OrderItemPayload();
+            item.setProductId((long) i);
+            item.setProductName("Produto " + i);
+            item.setQuantity(2);
+            item.setUnitPrice(new BigDecimal("10.50"));
+            item.setTotalPrice(new BigDecimal("21.00"));
+            items.add(item);
+        }
+        OrderPayload payload = new OrderPayload();
+        payload.setOrderNumber("ORD-1");
+        payload.setCreatedAt(LocalDateTime.of(2024, 4, 1, 10, 0));
+        payload.setItems(items);
+        return new OrderEvent(UUID.randomUUID().toString(), "ORDER_CREATED", LocalDateTime.of(2024, 4, 1, 10, 0),
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("21.00").multiply(BigDecimal.valueOf(itemCount)),
+                "PENDING", payload);
+    }
+}
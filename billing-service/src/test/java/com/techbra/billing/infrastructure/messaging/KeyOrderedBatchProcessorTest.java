@@ -0,0 +1,99 @@
+package com.techbra.billing.infrastructure.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrderedBatchProcessorTest {
+
+    private final KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4, 100);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.shutdown();
+    }
+
+    @Test
+    void process_ShouldKeepOrderPerKey() {
+        // Given
+        List<ConsumerRecord<String, Integer>> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add(new ConsumerRecord<>("billing-events", 0, i, "pedido-" + (i % 7), i));
+        }
+        Map<String, List<Integer>> processedByKey = new ConcurrentHashMap<>();
+
+        // When
+        KeyOrderedBatchProcessor.BatchResult result = processor.process(records, record ->
+            processedByKey.computeIfAbsent(record.key(), k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(record.value()));
+
+        // Then
+        assertTrue(result.isCompleted());
+        assertEquals(7, processedByKey.size());
+        processedByKey.values().forEach(values -> {
+            for (int i = 1; i < values.size(); i++) {
+                assertTrue(values.get(i - 1) < values.get(i));
+            }
+        });
+    }
+
+    @Test
+    void process_ShouldRunDistinctKeysInParallel() {
+        // Given
+        List<ConsumerRecord<String, Integer>> records = List.of(
+            new ConsumerRecord<>("billing-events", 0, 0, "pedido-1", 0),
+            new ConsumerRecord<>("billing-events", 0, 1, "pedido-2", 1));
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        KeyOrderedBatchProcessor.BatchResult result = processor.process(records, record -> {
+            bothStarted.countDown();
+            try {
+                // Só conclui se o outro pedido estiver sendo processado ao mesmo tempo
+                assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Then
+        assertTrue(result.isCompleted());
+    }
+
+    @Test
+    void process_WhenRecordFails_ShouldSkipRestOfKeyAndReportFirstFailedIndex() {
+        // Given
+        List<ConsumerRecord<String, Integer>> records = List.of(
+            new ConsumerRecord<>("billing-events", 0, 0, "pedido-1", 0),
+            new ConsumerRecord<>("billing-events", 0, 1, "pedido-2", 1),
+            new ConsumerRecord<>("billing-events", 0, 2, "pedido-2", 2),
+            new ConsumerRecord<>("billing-events", 0, 3, "pedido-1", 3),
+            new ConsumerRecord<>("billing-events", 0, 4, "pedido-2", 4));
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        KeyOrderedBatchProcessor.BatchResult result = processor.process(records, record -> {
+            if (record.value() == 2) {
+                throw new IllegalStateException("falha");
+            }
+            processed.add(record.value());
+        });
+
+        // Then
+        assertFalse(result.isCompleted());
+        assertEquals(2, result.getFirstFailedIndex());
+        assertInstanceOf(IllegalStateException.class, result.getFailure());
+        assertFalse(processed.contains(4));
+        assertTrue(processed.containsAll(List.of(0, 1, 3)));
+    }
+}
@@ -0,0 +1,207 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillStatus;
+import com.techbra.billing.domain.ports.out.BillRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillingProcessingServiceTest {
+
+    @Mock
+    private BillRepositoryPort billRepository;
+
+    @Mock
+    private LogisticsEventPublisher logisticsEventPublisher;
+
+    @Mock
+    private ProcessedEventGuard processedEventGuard;
+
+    @InjectMocks
+    private BillingProcessingService billingProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(processedEventGuard.firstDelivery(any(OrderEvent.class))).thenReturn(true);
+        lenient().when(processedEventGuard.filterFirstDeliveries(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processOrderEvents_ShouldResolveBillsOnceAndSaveAllChangesTogether() {
+        // Given
+        UUID newOrderId = UUID.randomUUID();
+        UUID existingOrderId = UUID.randomUUID();
+        Bill existingBill = new Bill(existingOrderId, "Cobrança existente", new BigDecimal("50.00"),
+                LocalDateTime.now().plusDays(30));
+        existingBill.setId(1L);
+        when(billRepository.findByOrderIdIn(anyCollection())).thenReturn(List.of(existingBill));
+
+        List<OrderEvent> events = List.of(
+                orderEvent("ORDER_CREATED", newOrderId, "100.00"),
+                orderEvent("ORDER_UPDATED", existingOrderId, "75.00"),
+                orderEvent("ORDER_CANCELLED", newOrderId, "100.00"));
+
+        // When
+        billingProcessingService.processOrderEvents(events);
+
+        // Then
+        ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(billRepository, times(1)).findByOrderIdIn(idsCaptor.capture());
+        assertEquals(2, idsCaptor.getValue().size());
+
+        ArgumentCaptor<List<Bill>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(billRepository, times(1)).saveAll(savedCaptor.capture());
+        List<Bill> saved = savedCaptor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(newOrderId, saved.get(0).getOrderId());
+        assertEquals(BillStatus.CANCELLED, saved.get(0).getStatus());
+        assertEquals(0, new BigDecimal("75.00").compareTo(existingBill.getAmount()));
+
+        verify(billRepository, never()).findByOrderId(any());
+        verify(billRepository, never()).save(any());
+        verify(logisticsEventPublisher).publishBillCreatedEvent(saved.get(0));
+        verify(logisticsEventPublisher).publishBillUpdatedEvent(existingBill);
+        verify(logisticsEventPublisher).publishBillCancelledEvent(saved.get(0));
+    }
+
+    @Test
+    void processOrderEvents_WithDuplicateCreation_ShouldSkipExistingBill() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        Bill existingBill = new Bill(orderId, "Cobrança existente", new BigDecimal("50.00"),
+                LocalDateTime.now().plusDays(30));
+        when(billRepository.findByOrderIdIn(anyCollection())).thenReturn(List.of(existingBill));
+
+        // When
+        billingProcessingService.processOrderEvents(List.of(orderEvent("ORDER_CREATED", orderId, "50.00")));
+
+        // Then
+        verify(billRepository).saveAll(List.of());
+        verifyNoInteractions(logisticsEventPublisher);
+    }
+
+    @Test
+    void processOrderCreated_ShouldInsertWithoutPriorLookup() {
+        // Given
+        OrderEvent event = orderEvent("ORDER_CREATED", UUID.randomUUID(), "100.00");
+        when(billRepository.insertIfAbsent(any(Bill.class))).thenAnswer(invocation -> {
+            Bill bill = invocation.getArgument(0);
+            bill.setId(10L);
+            return Optional.of(bill);
+        });
+
+        // When
+        billingProcessingService.processOrderCreated(event);
+
+        // Then
+        verify(billRepository, never()).findByOrderId(any());
+        verify(logisticsEventPublisher).publishBillCreatedEvent(argThat(bill -> bill.getId() == 10L));
+    }
+
+    @Test
+    void processOrderCreated_WhenBillAlreadyExists_ShouldNotPublish() {
+        // Given
+        when(billRepository.insertIfAbsent(any(Bill.class))).thenReturn(Optional.empty());
+
+        // When
+        billingProcessingService.processOrderCreated(orderEvent("ORDER_CREATED", UUID.randomUUID(), "100.00"));
+
+        // Then
+        verify(billRepository, never()).save(any());
+        verifyNoInteractions(logisticsEventPublisher);
+    }
+
+    @Test
+    void processOrderCreated_WhenEventAlreadyProcessed_ShouldSkipWithoutWriting() {
+        // Given
+        OrderEvent event = orderEvent("ORDER_CREATED", UUID.randomUUID(), "100.00");
+        when(processedEventGuard.firstDelivery(event)).thenReturn(false);
+
+        // When
+        billingProcessingService.processOrderCreated(event);
+
+        // Then
+        verifyNoInteractions(billRepository, logisticsEventPublisher);
+    }
+
+    @Test
+    void processOrderEvents_WhenAllEventsAlreadyProcessed_ShouldNotQueryBills() {
+        // Given
+        when(processedEventGuard.filterFirstDeliveries(anyList())).thenReturn(List.of());
+
+        // When
+        billingProcessingService.processOrderEvents(List.of(orderEvent("ORDER_UPDATED", UUID.randomUUID(), "10.00")));
+
+        // Then
+        verifyNoInteractions(billRepository, logisticsEventPublisher);
+    }
+
+    @Test
+    void processOrderEvents_InsideTransaction_ShouldPublishOnlyAfterCommit() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        when(billRepository.findByOrderIdIn(anyCollection())).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            billingProcessingService.processOrderEvents(List.of(orderEvent("ORDER_CREATED", orderId, "50.00")));
+
+            // Then
+            verify(billRepository).saveAll(anyList());
+            verifyNoInteractions(logisticsEventPublisher);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(logisticsEventPublisher).publishBillCreatedEvent(argThat(bill -> orderId.equals(bill.getOrderId())));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void processOrderCreated_WhenTransactionRollsBack_ShouldNotPublish() {
+        // Given
+        when(billRepository.insertIfAbsent(any(Bill.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            billingProcessingService.processOrderCreated(orderEvent("ORDER_CREATED", UUID.randomUUID(), "100.00"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verifyNoInteractions(logisticsEventPublisher);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private OrderEvent orderEvent(String eventType, UUID orderId, String totalAmount) {
+        return new OrderEvent(UUID.randomUUID().toString(), eventType, LocalDateTime.now(),
+                orderId, UUID.randomUUID(), new BigDecimal(totalAmount), "PENDING", null);
+    }
+}
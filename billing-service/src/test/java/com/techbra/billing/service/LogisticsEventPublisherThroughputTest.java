@@ -0,0 +1,165 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.config.KafkaProducerConfig;
+import com.techbra.billing.domain.event.LogisticsEvent;
+import com.techbra.billing.domain.model.Bill;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Harness de vazão do LogisticsEventPublisher contra um Kafka embarcado
+ * 
+ * Fora do build padrão; executar com mvn -Pthroughput test. A latência de envio
+ * vai da chamada a send() até a confirmação do broker (timestamp CreateTime do
+ * registro), com resolução de milissegundos.
+ */
+@Tag("throughput")
+@SpringBootTest(
+    classes = {KafkaProducerConfig.class, LogisticsEventPublisher.class},
+    properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "logging.level.com.techbra.billing=WARN"
+    })
+@EmbeddedKafka(partitions = 6, topics = "logistics-events")
+class LogisticsEventPublisherThroughputTest {
+
+    private static final int EVENTS = Integer.getInteger("throughput.events", 50_000);
+    private static final int THREADS = Integer.getInteger("throughput.threads", 4);
+    private static final int WARMUP_EVENTS = Math.min(5_000, EVENTS);
+    private static final int DISTINCT_ORDERS = 1_000;
+
+    @Autowired
+    private LogisticsEventPublisher logisticsEventPublisher;
+
+    @Autowired
+    private KafkaTemplate<String, LogisticsEvent> logisticsEventKafkaTemplate;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.linger-ms:10}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Test
+    void publishBillUpdatedEvent_UnderLoad_ShouldReportThroughputAndLatency() throws Exception {
+        // Given
+        List<Bill> bills = new ArrayList<>(DISTINCT_ORDERS);
+        for (int i = 0; i < DISTINCT_ORDERS; i++) {
+            Bill bill = new Bill(UUID.randomUUID(), "Cobrança de carga " + i, new BigDecimal("199.90"),
+                    LocalDateTime.now().plusDays(30));
+            bill.setId((long) i + 1);
+            bills.add(bill);
+        }
+
+        AckRecorder warmup = new AckRecorder(WARMUP_EVENTS);
+        logisticsEventKafkaTemplate.setProducerListener(warmup);
+        publish(bills, WARMUP_EVENTS);
+        assertTrue(warmup.await(), "Aquecimento não confirmado pelo broker");
+
+        AckRecorder recorder = new AckRecorder(EVENTS);
+        logisticsEventKafkaTemplate.setProducerListener(recorder);
+
+        // When
+        long start = System.nanoTime();
+        publish(bills, EVENTS);
+        boolean acknowledged = recorder.await();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Then
+        assertTrue(acknowledged, "Nem todos os eventos foram confirmados pelo broker");
+        assertEquals(0, recorder.failures.get());
+
+        long[] latencies = recorder.sortedLatencies();
+        System.out.printf("%nLogisticsEventPublisher: events=%d threads=%d compression=%s linger.ms=%d batch.size=%d%n",
+                EVENTS, THREADS, compressionType, lingerMs, batchSize);
+        System.out.printf("  throughput: %.0f events/s (%.2f s)%n", EVENTS / elapsedSeconds, elapsedSeconds);
+        System.out.printf("  send latency ms: p50=%d p99=%d max=%d%n%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1]);
+    }
+
+    private void publish(List<Bill> bills, int events) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger next = new AtomicInteger();
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < events) {
+                    logisticsEventPublisher.publishBillUpdatedEvent(bills.get(i % bills.size()));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * Registra a latência de cada confirmação no thread de I/O do produtor, sem alocação por evento
+     */
+    private static final class AckRecorder implements ProducerListener<String, LogisticsEvent> {
+
+        private final long[] latencies;
+        private final AtomicInteger recorded = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch completed;
+
+        AckRecorder(int expected) {
+            this.latencies = new long[expected];
+            this.completed = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onSuccess(ProducerRecord<String, LogisticsEvent> record, RecordMetadata metadata) {
+            int index = recorded.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = System.currentTimeMillis() - metadata.timestamp();
+            }
+            completed.countDown();
+        }
+
+        @Override
+        public void onError(ProducerRecord<String, LogisticsEvent> record, RecordMetadata metadata, Exception exception) {
+            failures.incrementAndGet();
+            completed.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return completed.await(5, TimeUnit.MINUTES);
+        }
+
+        long[] sortedLatencies() {
+            long[] copy = Arrays.copyOf(latencies, Math.min(recorded.get(), latencies.length));
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.infrastructure.messaging.KeyOrderedBatchProcessor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventListenerTest {
+
+    @Mock
+    private BillingProcessingService billingProcessingService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+
+    @InjectMocks
+    private OrderEventListener orderEventListener;
+
+    @Test
+    void handleOrderEvents_ShouldProcessWholeBatchAndAcknowledgeOnce() {
+        // Given
+        List<ConsumerRecord<String, OrderEvent>> records = List.of(record(0), record(1), record(2));
+
+        // When
+        orderEventListener.handleOrderEvents(records, acknowledgment);
+
+        // Then
+        verify(billingProcessingService, times(1)).processOrderEvents(anyList());
+        verify(billingProcessingService, never()).processOrderCreated(any());
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    void handleOrderEvents_WhenBatchFails_ShouldRetryIndividuallyUntilFirstFailedRecord() {
+        // Given
+        List<ConsumerRecord<String, OrderEvent>> records = List.of(record(0), record(1), record(2));
+        doThrow(new RuntimeException("falha no lote")).when(billingProcessingService).processOrderEvents(anyList());
+        OrderEvent failingEvent = records.get(1).value();
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == failingEvent) {
+                throw new RuntimeException("falha no registro");
+            }
+            return null;
+        }).when(billingProcessingService).processOrderCreated(any());
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> orderEventListener.handleOrderEvents(records, acknowledgment));
+
+        // Then
+        assertEquals(1, exception.getIndex());
+        verify(billingProcessingService, times(2)).processOrderCreated(any());
+        verify(billingProcessingService, never()).processOrderCreated(records.get(2).value());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void handleOrderEvents_WithUnreadableRecord_ShouldApplyPreviousRecordsAndReportItWithoutRetrying() {
+        // Given
+        List<ConsumerRecord<String, OrderEvent>> records = List.of(record(0), unreadableRecord(1), record(2));
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> orderEventListener.handleOrderEvents(records, acknowledgment));
+
+        // Then
+        assertEquals(1, exception.getIndex());
+        assertInstanceOf(DeserializationException.class, exception.getCause());
+        verify(billingProcessingService).processOrderEvents(List.of(records.get(0).value()));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void handleOrderEventsInParallel_WhenRecordFails_ShouldReportFirstFailedIndexWithoutAcknowledging() {
+        // Given
+        List<ConsumerRecord<String, OrderEvent>> records = List.of(record(0), record(1), record(2));
+        RuntimeException failure = new RuntimeException("falha no registro");
+        when(keyOrderedBatchProcessor.process(eq(records), any()))
+                .thenReturn(new KeyOrderedBatchProcessor.BatchResult(2, failure));
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> orderEventListener.handleOrderEventsInParallel(records, acknowledgment));
+
+        // Then
+        assertEquals(2, exception.getIndex());
+        assertSame(failure, exception.getCause());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private ConsumerRecord<String, OrderEvent> unreadableRecord(long offset) {
+        byte[] data = "{não é json".getBytes(StandardCharsets.UTF_8);
+        RecordHeaders headers = new RecordHeaders();
+        SerializationUtils.deserializationException(headers, data,
+                new DeserializationException("falha", data, false, new IllegalStateException("json inválido")), false);
+        return new ConsumerRecord<>("billing-events", 0, offset, ConsumerRecord.NO_TIMESTAMP, TimestampType.NO_TIMESTAMP_TYPE,
+                data.length, data.length, UUID.randomUUID().toString(), null, headers, Optional.empty());
+    }
+
+    private ConsumerRecord<String, OrderEvent> record(long offset) {
+        UUID orderId = UUID.randomUUID();
+        OrderEvent event = new OrderEvent(UUID.randomUUID().toString(), "ORDER_CREATED", LocalDateTime.now(),
+                orderId, UUID.randomUUID(), new BigDecimal("10.00"), "PENDING", null);
+        return new ConsumerRecord<>("billing-events", 0, offset, orderId.toString(), event);
+    }
+}
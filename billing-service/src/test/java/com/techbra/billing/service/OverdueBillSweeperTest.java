@@ -0,0 +1,211 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.model.Bill;
+import com.techbra.billing.domain.model.BillStatus;
+import com.techbra.billing.domain.ports.out.BillRepositoryPort;
+import com.techbra.billing.domain.ports.out.SchedulerLeasePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueBillSweeperTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration LEASE_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    @Mock
+    private BillRepositoryPort billRepository;
+
+    @Mock
+    private LogisticsEventPublisher logisticsEventPublisher;
+
+    @Mock
+    private SchedulerLeasePort schedulerLeasePort;
+
+    private MutableClock clock;
+
+    private OverdueBillSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-17T12:00:00Z"));
+        sweeper = new OverdueBillSweeper(billRepository, logisticsEventPublisher, schedulerLeasePort, 2, 10, LEASE,
+                LEASE_CHECK_INTERVAL, clock);
+    }
+
+    @Test
+    void sweep_ShouldProcessChunksUntilShortChunkAndPublishEachChunk() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE))).thenReturn(true);
+        List<Bill> firstChunk = List.of(overdueBill(), overdueBill());
+        List<Bill> lastChunk = List.of(overdueBill());
+        when(billRepository.markOverdue(any(LocalDateTime.class), eq(2))).thenReturn(firstChunk, lastChunk);
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(billRepository, times(2)).markOverdue(any(LocalDateTime.class), eq(2));
+        verify(logisticsEventPublisher).publishBillUpdatedEvents(firstChunk);
+        verify(logisticsEventPublisher).publishBillUpdatedEvents(lastChunk);
+        verify(schedulerLeasePort).release(eq(OverdueBillSweeper.LEASE_NAME), anyString());
+    }
+
+    @Test
+    void sweep_WhenLeaseHeldElsewhere_ShouldDoNothing() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE))).thenReturn(false);
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verifyNoInteractions(billRepository, logisticsEventPublisher);
+        verify(schedulerLeasePort, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void sweep_WhenLeaseRenewalFails_ShouldStopAfterCurrentChunk() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE)))
+                .thenReturn(true, false);
+        when(billRepository.markOverdue(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(overdueBill(), overdueBill()));
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(billRepository, times(1)).markOverdue(any(LocalDateTime.class), eq(2));
+        verify(logisticsEventPublisher, times(1)).publishBillUpdatedEvents(anyList());
+    }
+
+    @Test
+    void sweep_WhenLeaseHeldElsewhere_ShouldNotCheckLeaseAgainBeforeInterval() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE))).thenReturn(false);
+
+        // When
+        sweeper.sweep();
+        clock.advance(LEASE_CHECK_INTERVAL.minusSeconds(1));
+        sweeper.sweep();
+        clock.advance(Duration.ofSeconds(1));
+        sweeper.sweep();
+
+        // Then
+        verify(schedulerLeasePort, times(2)).tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE));
+        verifyNoInteractions(billRepository, logisticsEventPublisher);
+    }
+
+    @Test
+    void sweep_WhenChunkOutlastsLease_ShouldStopWithoutRenewingLease() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE))).thenReturn(true);
+        when(billRepository.markOverdue(any(LocalDateTime.class), eq(2))).thenAnswer(invocation -> {
+            clock.advance(LEASE);
+            return List.of(overdueBill(), overdueBill());
+        });
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(billRepository, times(1)).markOverdue(any(LocalDateTime.class), eq(2));
+        verify(schedulerLeasePort, times(1)).tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE));
+        verify(logisticsEventPublisher, times(1)).publishBillUpdatedEvents(anyList());
+        verify(schedulerLeasePort).release(eq(OverdueBillSweeper.LEASE_NAME), anyString());
+    }
+
+    @Test
+    void sweep_WhenEveryChunkFitsInLease_ShouldRenewLeaseBetweenChunks() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE))).thenReturn(true);
+        Answer<List<Bill>> slowFullChunk = invocation -> {
+            clock.advance(LEASE.minusSeconds(1));
+            return List.of(overdueBill(), overdueBill());
+        };
+        when(billRepository.markOverdue(any(LocalDateTime.class), eq(2)))
+                .thenAnswer(slowFullChunk)
+                .thenAnswer(slowFullChunk)
+                .thenReturn(List.of());
+
+        // When
+        sweeper.sweep();
+
+        // Then - dois lotes somam mais que um lease, mas cada um termina antes da renovação anterior expirar
+        verify(billRepository, times(3)).markOverdue(any(LocalDateTime.class), eq(2));
+        verify(schedulerLeasePort, times(3)).tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE));
+    }
+
+    @Test
+    void sweep_WhenNothingIsOverdue_ShouldNotPublish() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(OverdueBillSweeper.LEASE_NAME), anyString(), eq(LEASE))).thenReturn(true);
+        when(billRepository.markOverdue(any(LocalDateTime.class), eq(2))).thenReturn(List.of());
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verifyNoInteractions(logisticsEventPublisher);
+        verify(schedulerLeasePort).release(eq(OverdueBillSweeper.LEASE_NAME), anyString());
+    }
+
+    /**
+     * Relógio controlado pelo teste
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private Bill overdueBill() {
+        Bill bill = new Bill(UUID.randomUUID(), "Cobrança vencida", new BigDecimal("10.00"),
+                LocalDateTime.now().minusDays(1));
+        bill.setStatus(BillStatus.OVERDUE);
+        return bill;
+    }
+}
@@ -0,0 +1,105 @@
+package com.techbra.billing.service;
+
+import com.techbra.billing.domain.event.OrderEvent;
+import com.techbra.billing.domain.ports.out.ProcessedEventPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventGuardTest {
+
+    @Mock
+    private ProcessedEventPort processedEventPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessedEventGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new ProcessedEventGuard(processedEventPort, meterRegistry, 100);
+    }
+
+    @Test
+    void firstDelivery_ShouldAnswerRedeliveryFromCache() {
+        // Given
+        OrderEvent event = orderEvent("evt-1");
+        when(processedEventPort.markProcessed("evt-1", "ORDER_CREATED")).thenReturn(true);
+
+        // When
+        boolean first = guard.firstDelivery(event);
+        boolean second = guard.firstDelivery(event);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        verify(processedEventPort, times(1)).markProcessed("evt-1", "ORDER_CREATED");
+        assertEquals(1.0, duplicates("cache"));
+    }
+
+    @Test
+    void firstDelivery_WhenStoreAlreadyHasEvent_ShouldSkip() {
+        // Given
+        when(processedEventPort.markProcessed("evt-1", "ORDER_CREATED")).thenReturn(false);
+
+        // When
+        boolean first = guard.firstDelivery(orderEvent("evt-1"));
+
+        // Then
+        assertFalse(first);
+        assertEquals(1.0, duplicates("store"));
+    }
+
+    @Test
+    void firstDelivery_WithoutEventId_ShouldAlwaysProcess() {
+        // When / Then
+        assertTrue(guard.firstDelivery(orderEvent(null)));
+        verifyNoInteractions(processedEventPort);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void filterFirstDeliveries_ShouldDropStoredAndRepeatedEvents() {
+        // Given
+        OrderEvent stored = orderEvent("evt-1");
+        OrderEvent fresh = orderEvent("evt-2");
+        OrderEvent repeated = orderEvent("evt-2");
+        when(processedEventPort.findProcessed(anyCollection())).thenReturn(Set.of("evt-1"));
+
+        // When
+        List<OrderEvent> accepted = guard.filterFirstDeliveries(List.of(stored, fresh, repeated));
+
+        // Then
+        assertEquals(List.of(fresh), accepted);
+        ArgumentCaptor<Map<String, String>> markedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(processedEventPort).markAllProcessed(markedCaptor.capture());
+        assertEquals(Map.of("evt-2", "ORDER_CREATED"), markedCaptor.getValue());
+        assertEquals(1.0, duplicates("store"));
+        assertEquals(1.0, duplicates("cache"));
+    }
+
+    private double duplicates(String source) {
+        return meterRegistry.get("billing.events.duplicates").tag("source", source).counter().count();
+    }
+
+    private OrderEvent orderEvent(String eventId) {
+        return new OrderEvent(eventId, "ORDER_CREATED", LocalDateTime.now(),
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("10.00"), "PENDING", null);
+    }
+}
@@ -9,6 +9,9 @@ import java.util.UUID;
 
 /**
  * Evento de logística recebido do billing-service
+ * 
+ * Os tipos espelham o LogisticsEvent publicado pelo billing-service: billId e
+ * customerId são numéricos e apenas orderId é UUID.
  */
 public class LogisticsEvent {
 
@@ -23,13 +26,13 @@ public class LogisticsEvent {
     private LocalDateTime timestamp;
 
     @JsonProperty("billId")
-    private UUID billId;
+    private Long billId;
 
     @JsonProperty("orderId")
     private UUID orderId;
 
     @JsonProperty("customerId")
-    private UUID customerId;
+    private Long customerId;
 
     @JsonProperty("amount")
     private BigDecimal amount;
@@ -44,7 +47,7 @@ public class LogisticsEvent {
     public LogisticsEvent() {}
 
     public LogisticsEvent(UUID eventId, String eventType, LocalDateTime timestamp, 
-                         UUID billId, UUID orderId, UUID customerId, 
+                         Long billId, UUID orderId, Long customerId, 
                          BigDecimal amount, String billStatus, LogisticsPayload payload) {
         this.eventId = eventId;
         this.eventType = eventType;
@@ -82,11 +85,11 @@ public class LogisticsEvent {
         this.timestamp = timestamp;
     }
 
-    public UUID getBillId() {
+    public Long getBillId() {
         return billId;
     }
 
-    public void setBillId(UUID billId) {
+    public void setBillId(Long billId) {
         this.billId = billId;
     }
 
@@ -98,11 +101,11 @@ public class LogisticsEvent {
         this.orderId = orderId;
     }
 
-    public UUID getCustomerId() {
+    public Long getCustomerId() {
         return customerId;
     }
 
-    public void setCustomerId(UUID customerId) {
+    public void setCustomerId(Long customerId) {
         this.customerId = customerId;
     }
 
@@ -3,9 +3,10 @@ package com.techbra.logistics.domain.events;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 public class OrderPaidEvent {
-    private Long orderId;
+    private UUID orderId;
     private String customerName;
     private String customerEmail;
     private String deliveryAddress;
@@ -21,7 +22,7 @@ public class OrderPaidEvent {
         this.occurredAt = LocalDateTime.now();
     }
 
-    public OrderPaidEvent(Long orderId, String customerName, String customerEmail,
+    public OrderPaidEvent(UUID orderId, String customerName, String customerEmail,
                          String deliveryAddress, String city, String state,
                          String zipCode, String country, BigDecimal totalAmount,
                          LocalDateTime paidAt) {
@@ -39,7 +40,7 @@ public class OrderPaidEvent {
     }
 
     // Getters
-    public Long getOrderId() {
+    public UUID getOrderId() {
         return orderId;
     }
 
@@ -84,7 +85,7 @@ public class OrderPaidEvent {
     }
 
     // Setters (para deserialização)
-    public void setOrderId(Long orderId) {
+    public void setOrderId(UUID orderId) {
         this.orderId = orderId;
     }
 
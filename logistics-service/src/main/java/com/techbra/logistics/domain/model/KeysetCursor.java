@@ -0,0 +1,97 @@
+package com.techbra.logistics.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Cursor de paginação por chave (keyset) sobre o par (timestamp, id)
+ * 
+ * Representa a posição do último item retornado. A próxima página contém os
+ * itens estritamente anteriores a essa posição na ordem (timestamp, id)
+ * decrescente, sem OFFSET e com custo constante em qualquer profundidade; o id
+ * desempata itens com o mesmo timestamp. Cada listagem tem sua subclasse, para
+ * que o cursor de uma não seja aceito pela outra.
+ */
+public abstract class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    protected KeysetCursor(LocalDateTime timestamp, Long id) {
+        if (timestamp == null || id == null) {
+            throw new IllegalArgumentException("Cursor requer data e ID do item");
+        }
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * Decodifica um cursor opaco recebido do cliente
+     * 
+     * @param token cursor codificado em Base64 URL-safe
+     * @param factory construtor do cursor da listagem
+     * @return o cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    protected static <C extends KeysetCursor> C decode(String token, BiFunction<LocalDateTime, Long, C> factory) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return factory.apply(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                Long.valueOf(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+
+    /**
+     * Codifica o cursor em um token opaco para o cliente
+     * 
+     * @return cursor codificado em Base64 URL-safe
+     */
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KeysetCursor that = (KeysetCursor) o;
+        return Objects.equals(timestamp, that.timestamp) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), timestamp, id);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "timestamp=" + timestamp +
+                ", id=" + id +
+                '}';
+    }
+}
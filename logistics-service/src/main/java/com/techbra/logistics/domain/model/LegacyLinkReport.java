@@ -0,0 +1,52 @@
+package com.techbra.logistics.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da correlação de envios anteriores à V2 com os UUIDs dos pedidos
+ *
+ * Pedidos ambíguos não são associados: o identificador legado (hash do UUID)
+ * corresponde a mais de um envio, já foi associado a outro pedido ou é
+ * compartilhado por outro pedido do mesmo lote. Precisam de correção manual.
+ */
+public class LegacyLinkReport {
+
+    private int linked;
+    private int alreadyLinked;
+    private int notFound;
+    private final List<UUID> ambiguous = new ArrayList<>();
+
+    public void addLinked() {
+        linked++;
+    }
+
+    public void addAlreadyLinked() {
+        alreadyLinked++;
+    }
+
+    public void addNotFound() {
+        notFound++;
+    }
+
+    public void addAmbiguous(UUID orderId) {
+        ambiguous.add(orderId);
+    }
+
+    public int getLinked() {
+        return linked;
+    }
+
+    public int getAlreadyLinked() {
+        return alreadyLinked;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public List<UUID> getAmbiguous() {
+        return ambiguous;
+    }
+}
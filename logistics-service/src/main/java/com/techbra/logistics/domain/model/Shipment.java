@@ -3,10 +3,11 @@ package com.techbra.logistics.domain.model;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 public class Shipment {
     private Long id;
-    private Long orderId;
+    private UUID orderId;
     private String customerName;
     private String customerEmail;
     private String deliveryAddress;
@@ -28,7 +29,7 @@ public class Shipment {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public Shipment(Long orderId, String customerName, String customerEmail, 
+    public Shipment(UUID orderId, String customerName, String customerEmail, 
                    String deliveryAddress, String city, String state, 
                    String zipCode, String country, BigDecimal totalAmount) {
         this();
@@ -63,7 +64,7 @@ public class Shipment {
         return id;
     }
 
-    public Long getOrderId() {
+    public UUID getOrderId() {
         return orderId;
     }
 
@@ -124,7 +125,7 @@ public class Shipment {
         this.id = id;
     }
 
-    public void setOrderId(Long orderId) {
+    public void setOrderId(UUID orderId) {
         this.orderId = orderId;
     }
 
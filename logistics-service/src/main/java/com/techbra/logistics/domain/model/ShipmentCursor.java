@@ -0,0 +1,38 @@
+package com.techbra.logistics.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cursor da listagem de envios, posicionado no par (createdAt, id) do último envio retornado
+ */
+public final class ShipmentCursor extends KeysetCursor {
+
+    public ShipmentCursor(LocalDateTime createdAt, Long id) {
+        super(createdAt, id);
+    }
+
+    /**
+     * Cria o cursor que aponta para a posição de um envio
+     * 
+     * @param shipment o último envio da página atual
+     * @return cursor posicionado no envio
+     */
+    public static ShipmentCursor of(Shipment shipment) {
+        return new ShipmentCursor(shipment.getCreatedAt(), shipment.getId());
+    }
+
+    /**
+     * Decodifica um cursor opaco recebido do cliente
+     * 
+     * @param token cursor codificado em Base64 URL-safe
+     * @return o cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static ShipmentCursor decode(String token) {
+        return decode(token, ShipmentCursor::new);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return getTimestamp();
+    }
+}
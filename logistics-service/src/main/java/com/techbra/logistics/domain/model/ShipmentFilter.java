@@ -0,0 +1,38 @@
+package com.techbra.logistics.domain.model;
+
+/**
+ * Filtros opcionais para a listagem de envios
+ * 
+ * Campos nulos não restringem o resultado e não entram na consulta.
+ */
+public final class ShipmentFilter {
+
+    private final ShipmentStatus status;
+    private final String customerEmail;
+    private final String city;
+
+    public ShipmentFilter(ShipmentStatus status, String customerEmail, String city) {
+        this.status = status;
+        this.customerEmail = customerEmail;
+        this.city = city;
+    }
+
+    /**
+     * Filtro que não restringe nenhum envio
+     */
+    public static ShipmentFilter none() {
+        return new ShipmentFilter(null, null, null);
+    }
+
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public String getCity() {
+        return city;
+    }
+}
@@ -0,0 +1,103 @@
+package com.techbra.logistics.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Ocorrência na linha do tempo de um envio
+ * 
+ * Os eventos são apenas inseridos, nunca alterados: cada ocorrência é uma nova
+ * linha em shipment_tracking_events e o registro do envio não cresce com o histórico.
+ */
+public class ShipmentTrackingEvent {
+    private Long id;
+    private Long shipmentId;
+    private String eventType;
+    private ShipmentStatus status;
+    private String description;
+    private LocalDateTime occurredAt;
+
+    public ShipmentTrackingEvent() {
+    }
+
+    public ShipmentTrackingEvent(Long shipmentId, String eventType, ShipmentStatus status, String description) {
+        this.shipmentId = shipmentId;
+        this.eventType = eventType;
+        this.status = status;
+        this.description = description;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getShipmentId() {
+        return shipmentId;
+    }
+
+    public void setShipmentId(Long shipmentId) {
+        this.shipmentId = shipmentId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ShipmentStatus status) {
+        this.status = status;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShipmentTrackingEvent that = (ShipmentTrackingEvent) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ShipmentTrackingEvent{" +
+                "id=" + id +
+                ", shipmentId=" + shipmentId +
+                ", eventType='" + eventType + '\'' +
+                ", status=" + status +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package com.techbra.logistics.domain.model;
+
+/**
+ * Mudança de status solicitada para um envio, identificado pelo número de rastreamento
+ */
+public class StatusTransition {
+
+    private final String trackingNumber;
+    private final ShipmentStatus status;
+
+    public StatusTransition(String trackingNumber, ShipmentStatus status) {
+        this.trackingNumber = trackingNumber;
+        this.status = status;
+    }
+
+    public String getTrackingNumber() {
+        return trackingNumber;
+    }
+
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+}
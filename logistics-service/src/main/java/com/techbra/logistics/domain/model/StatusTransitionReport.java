@@ -0,0 +1,113 @@
+package com.techbra.logistics.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma transição de status em lote
+ * 
+ * Itens que pedem o status atual do envio não alteram nada e são contados como
+ * inalterados, o que permite reenviar o mesmo manifesto com segurança. Itens
+ * rejeitados trazem o status em que o envio estava.
+ */
+public class StatusTransitionReport {
+
+    private int applied;
+    private int unchanged;
+    private final List<String> notFound = new ArrayList<>();
+    private final List<Rejection> rejected = new ArrayList<>();
+
+    public void addApplied() {
+        applied++;
+    }
+
+    public void addUnchanged() {
+        unchanged++;
+    }
+
+    public void addNotFound(String trackingNumber) {
+        notFound.add(trackingNumber);
+    }
+
+    public void addRejected(Rejection rejection) {
+        rejected.add(rejection);
+    }
+
+    /**
+     * Desfaz itens contados como aplicados cujo envio não pôde ser gravado
+     */
+    public void removeApplied(int count) {
+        applied -= count;
+    }
+
+    /**
+     * Acumula o resultado de outro lote neste relatório
+     */
+    public StatusTransitionReport merge(StatusTransitionReport other) {
+        applied += other.applied;
+        unchanged += other.unchanged;
+        notFound.addAll(other.notFound);
+        rejected.addAll(other.rejected);
+        return this;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public List<String> getNotFound() {
+        return notFound;
+    }
+
+    public List<Rejection> getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Item rejeitado do lote
+     */
+    public static class Rejection {
+
+        /**
+         * INVALID_TRANSITION: a matriz de ShipmentStatus não permite a transição;
+         * CONCURRENT_UPDATE: o envio mudou de status durante o processamento do lote
+         */
+        public enum Reason {
+            INVALID_TRANSITION,
+            CONCURRENT_UPDATE
+        }
+
+        private final String trackingNumber;
+        private final ShipmentStatus currentStatus;
+        private final ShipmentStatus requestedStatus;
+        private final Reason reason;
+
+        public Rejection(String trackingNumber, ShipmentStatus currentStatus,
+                         ShipmentStatus requestedStatus, Reason reason) {
+            this.trackingNumber = trackingNumber;
+            this.currentStatus = currentStatus;
+            this.requestedStatus = requestedStatus;
+            this.reason = reason;
+        }
+
+        public String getTrackingNumber() {
+            return trackingNumber;
+        }
+
+        public ShipmentStatus getCurrentStatus() {
+            return currentStatus;
+        }
+
+        public ShipmentStatus getRequestedStatus() {
+            return requestedStatus;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+    }
+}
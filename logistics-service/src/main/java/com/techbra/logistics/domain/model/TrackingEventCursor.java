@@ -0,0 +1,40 @@
+package com.techbra.logistics.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cursor da linha do tempo de um envio, posicionado no par (occurredAt, id) do último evento retornado
+ * 
+ * O filtro por occurred_at também restringe a leitura às partições mensais envolvidas.
+ */
+public final class TrackingEventCursor extends KeysetCursor {
+
+    public TrackingEventCursor(LocalDateTime occurredAt, Long id) {
+        super(occurredAt, id);
+    }
+
+    /**
+     * Cria o cursor que aponta para a posição de um evento
+     * 
+     * @param event o último evento da página atual
+     * @return cursor posicionado no evento
+     */
+    public static TrackingEventCursor of(ShipmentTrackingEvent event) {
+        return new TrackingEventCursor(event.getOccurredAt(), event.getId());
+    }
+
+    /**
+     * Decodifica um cursor opaco recebido do cliente
+     * 
+     * @param token cursor codificado em Base64 URL-safe
+     * @return o cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static TrackingEventCursor decode(String token) {
+        return decode(token, TrackingEventCursor::new);
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return getTimestamp();
+    }
+}
@@ -1,11 +1,19 @@
 package com.techbra.logistics.domain.ports.in;
 
 import com.techbra.logistics.domain.events.OrderPaidEvent;
+import com.techbra.logistics.domain.model.LegacyLinkReport;
 import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
 import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.StatusTransition;
+import com.techbra.logistics.domain.model.StatusTransitionReport;
+import com.techbra.logistics.domain.model.TrackingEventCursor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface ShipmentUseCases {
     
@@ -28,13 +36,23 @@ public interface ShipmentUseCases {
      * @param orderId ID do pedido
      * @return envio encontrado ou vazio
      */
-    Optional<Shipment> findShipmentByOrderId(Long orderId);
+    Optional<Shipment> findShipmentByOrderId(UUID orderId);
     
     /**
-     * Lista todos os envios
-     * @return lista de envios
+     * Correlaciona, em uma transação, envios anteriores à V2 com os UUIDs dos pedidos
+     * @param orderIds UUIDs de pedidos criados antes da V2, exportados do order-service
+     * @return contagem de pedidos associados, já associados e sem envio legado, e os pedidos ambíguos
      */
-    List<Shipment> findAllShipments();
+    LegacyLinkReport linkLegacyShipments(List<UUID> orderIds);
+    
+    /**
+     * Lista envios filtrados, paginados por cursor, dos mais recentes para os mais antigos
+     * @param filter filtros opcionais
+     * @param cursor posição do último envio da página anterior, ou null para a primeira página
+     * @param limit número máximo de envios
+     * @return envios da página
+     */
+    List<Shipment> searchShipments(ShipmentFilter filter, ShipmentCursor cursor, int limit);
     
     /**
      * Lista envios por status
@@ -52,6 +70,17 @@ public interface ShipmentUseCases {
      */
     Shipment updateShipmentStatus(Long shipmentId, ShipmentStatus newStatus);
     
+    /**
+     * Aplica em lote as mudanças de status de um manifesto de transportadora
+     * 
+     * As transições são validadas em memória com {@link ShipmentStatus#canTransitionTo}
+     * e gravadas com uma atualização por par (status atual, novo status). Itens de um
+     * mesmo envio são aplicados na ordem recebida.
+     * @param transitions mudanças de status por número de rastreamento
+     * @return contagem de itens aplicados e inalterados, e os itens não encontrados ou rejeitados
+     */
+    StatusTransitionReport transitionShipmentStatuses(List<StatusTransition> transitions);
+    
     /**
      * Define o número de rastreamento para um envio
      * @param shipmentId ID do envio
@@ -61,6 +90,24 @@ public interface ShipmentUseCases {
      */
     Shipment setTrackingNumber(Long shipmentId, String trackingNumber);
     
+    /**
+     * Registra um evento na linha do tempo do envio, com o status atual do envio
+     * @param shipment envio já persistido
+     * @param eventType tipo do evento
+     * @param description descrição do evento
+     * @return evento registrado
+     */
+    ShipmentTrackingEvent recordTrackingEvent(Shipment shipment, String eventType, String description);
+    
+    /**
+     * Busca uma página da linha do tempo do envio, do evento mais recente para o mais antigo
+     * @param shipmentId ID do envio
+     * @param cursor posição do último evento da página anterior, ou null para a primeira página
+     * @param limit número máximo de eventos
+     * @return eventos da página
+     */
+    List<ShipmentTrackingEvent> findTrackingTimeline(Long shipmentId, TrackingEventCursor cursor, int limit);
+    
     /**
      * Busca envios por email do cliente
      * @param customerEmail email do cliente
@@ -76,16 +123,21 @@ public interface ShipmentUseCases {
     Shipment createShipment(Shipment shipment);
     
     /**
-     * Atualiza um envio
+     * Cria um novo envio e registra o primeiro evento da sua linha do tempo na mesma transação
+     * 
+     * Usado pelos consumidores de eventos: se o registro do evento falhar, o envio também
+     * não é gravado e a reentrega da mensagem cria ambos.
      * @param shipment dados do envio
-     * @return envio atualizado
+     * @param eventType tipo do evento
+     * @param description descrição do evento
+     * @return envio criado
      */
-    Shipment updateShipment(Shipment shipment);
+    Shipment createShipmentWithEvent(Shipment shipment, String eventType, String description);
     
     /**
-     * Busca envios por ID do pedido
-     * @param orderId ID do pedido
-     * @return lista de envios do pedido
+     * Atualiza um envio
+     * @param shipment dados do envio
+     * @return envio atualizado
      */
-    List<Shipment> findByOrderId(Long orderId);
+    Shipment updateShipment(Shipment shipment);
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.techbra.logistics.domain.ports.out;
 
+import com.techbra.logistics.domain.model.LegacyLinkReport;
 import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
 import com.techbra.logistics.domain.model.ShipmentStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface ShipmentRepositoryPort {
     
@@ -25,22 +31,28 @@ public interface ShipmentRepositoryPort {
     /**
      * Busca um envio pelo ID do pedido
      * @param orderId ID do pedido
-     * @return envio encontrado ou vazio
+     * @return envio encontrado ou vazio; envios anteriores à V2 só são encontrados depois de correlacionados
      */
-    Optional<Shipment> findByOrderId(Long orderId);
+    Optional<Shipment> findByOrderId(UUID orderId);
     
     /**
-     * Busca envios pelo ID do pedido (pode haver múltiplos)
-     * @param orderId ID do pedido
-     * @return lista de envios do pedido
+     * Correlaciona envios anteriores à V2 com os UUIDs dos pedidos
+     * 
+     * Um envio legado só recebe o UUID quando é o único com o identificador legado
+     * do pedido e nenhum outro pedido do lote tem o mesmo identificador.
+     * @param orderIds UUIDs de pedidos criados antes da V2
+     * @return contagem de pedidos associados, já associados e sem envio legado, e os pedidos ambíguos
      */
-    List<Shipment> findAllByOrderId(Long orderId);
+    LegacyLinkReport linkLegacyShipments(Collection<UUID> orderIds);
     
     /**
-     * Lista todos os envios
-     * @return lista de todos os envios
+     * Busca uma página de envios filtrados, dos mais recentes para os mais antigos
+     * @param filter filtros opcionais; apenas os informados entram na consulta
+     * @param cursor posição do último envio da página anterior, ou null para a primeira página
+     * @param limit número máximo de envios
+     * @return envios anteriores ao cursor na ordem (createdAt, id)
      */
-    List<Shipment> findAll();
+    List<Shipment> findPage(ShipmentFilter filter, ShipmentCursor cursor, int limit);
     
     /**
      * Lista envios por status
@@ -56,12 +68,29 @@ public interface ShipmentRepositoryPort {
      */
     List<Shipment> findByCustomerEmail(String customerEmail);
     
+    /**
+     * Busca o status atual dos envios pelos números de rastreamento
+     * @param trackingNumbers números de rastreamento
+     * @return status por número de rastreamento; números sem envio não aparecem
+     */
+    Map<String, ShipmentStatus> findStatusesByTrackingNumbers(Collection<String> trackingNumbers);
+    
+    /**
+     * Altera em uma única instrução o status dos envios que ainda estiverem no status atual informado
+     * @param trackingNumbers números de rastreamento
+     * @param currentStatus status esperado dos envios
+     * @param newStatus novo status
+     * @return número de envios alterados
+     */
+    int updateStatusByTrackingNumbers(Collection<String> trackingNumbers, ShipmentStatus currentStatus,
+                                      ShipmentStatus newStatus);
+    
     /**
      * Verifica se existe um envio para o pedido especificado
      * @param orderId ID do pedido
      * @return true se existe, false caso contrário
      */
-    boolean existsByOrderId(Long orderId);
+    boolean existsByOrderId(UUID orderId);
     
     /**
      * Remove um envio pelo ID
@@ -0,0 +1,32 @@
+package com.techbra.logistics.domain.ports.out;
+
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.TrackingEventCursor;
+
+import java.util.List;
+
+public interface ShipmentTrackingEventRepositoryPort {
+    
+    /**
+     * Insere um evento na linha do tempo do envio
+     * @param event evento a ser inserido
+     * @return evento inserido com ID gerado
+     */
+    ShipmentTrackingEvent append(ShipmentTrackingEvent event);
+    
+    /**
+     * Busca uma página da linha do tempo do envio, do evento mais recente para o mais antigo
+     * @param shipmentId ID do envio
+     * @param cursor posição do último evento da página anterior, ou null para a primeira página
+     * @param limit número máximo de eventos
+     * @return eventos anteriores ao cursor
+     */
+    List<ShipmentTrackingEvent> findTimeline(Long shipmentId, TrackingEventCursor cursor, int limit);
+    
+    /**
+     * Cria as partições mensais que faltam, do mês corrente até monthsAhead meses à frente
+     * @param monthsAhead número de meses à frente do mês corrente
+     * @return número de partições criadas
+     */
+    int createPartitionsAhead(int monthsAhead);
+}
@@ -1,17 +1,34 @@
 package com.techbra.logistics.domain.service;
 
 import com.techbra.logistics.domain.events.OrderPaidEvent;
+import com.techbra.logistics.domain.model.LegacyLinkReport;
 import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
 import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.StatusTransition;
+import com.techbra.logistics.domain.model.StatusTransitionReport;
+import com.techbra.logistics.domain.model.StatusTransitionReport.Rejection;
+import com.techbra.logistics.domain.model.TrackingEventCursor;
 import com.techbra.logistics.domain.ports.in.ShipmentUseCases;
 import com.techbra.logistics.domain.ports.out.ShipmentRepositoryPort;
+import com.techbra.logistics.domain.ports.out.ShipmentTrackingEventRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -20,9 +37,12 @@ public class ShipmentUseCasesImpl implements ShipmentUseCases {
     private static final Logger logger = LoggerFactory.getLogger(ShipmentUseCasesImpl.class);
     
     private final ShipmentRepositoryPort shipmentRepository;
+    private final ShipmentTrackingEventRepositoryPort trackingEventRepository;
     
-    public ShipmentUseCasesImpl(ShipmentRepositoryPort shipmentRepository) {
+    public ShipmentUseCasesImpl(ShipmentRepositoryPort shipmentRepository,
+                                ShipmentTrackingEventRepositoryPort trackingEventRepository) {
         this.shipmentRepository = shipmentRepository;
+        this.trackingEventRepository = trackingEventRepository;
     }
     
     @Override
@@ -70,15 +90,28 @@ public class ShipmentUseCasesImpl implements ShipmentUseCases {
     }
     
     @Override
-    public Optional<Shipment> findShipmentByOrderId(Long orderId) {
+    public Optional<Shipment> findShipmentByOrderId(UUID orderId) {
         logger.debug("Buscando envio por Order ID: {}", orderId);
         return shipmentRepository.findByOrderId(orderId);
     }
     
     @Override
-    public List<Shipment> findAllShipments() {
-        logger.debug("Listando todos os envios");
-        return shipmentRepository.findAll();
+    @Transactional
+    public LegacyLinkReport linkLegacyShipments(List<UUID> orderIds) {
+        logger.info("Correlacionando envios legados para {} pedidos", orderIds.size());
+        
+        LegacyLinkReport report = shipmentRepository.linkLegacyShipments(orderIds);
+        
+        logger.info("Correlação de envios legados concluída. Associados: {}, Já associados: {}, Sem envio: {}, Ambíguos: {}",
+                   report.getLinked(), report.getAlreadyLinked(), report.getNotFound(), report.getAmbiguous().size());
+        
+        return report;
+    }
+    
+    @Override
+    public List<Shipment> searchShipments(ShipmentFilter filter, ShipmentCursor cursor, int limit) {
+        logger.debug("Listando envios a partir de {} (limite {})", cursor, limit);
+        return shipmentRepository.findPage(filter, cursor, limit);
     }
     
     @Override
@@ -110,6 +143,81 @@ public class ShipmentUseCasesImpl implements ShipmentUseCases {
         return updatedShipment;
     }
     
+    @Override
+    @Transactional
+    public StatusTransitionReport transitionShipmentStatuses(List<StatusTransition> transitions) {
+        logger.info("Aplicando {} transições de status em lote", transitions.size());
+        
+        Set<String> trackingNumbers = new LinkedHashSet<>();
+        for (StatusTransition transition : transitions) {
+            trackingNumbers.add(transition.getTrackingNumber());
+        }
+        // Uma leitura para o lote, apenas número de rastreamento e status
+        Map<String, ShipmentStatus> originalStatuses = shipmentRepository.findStatusesByTrackingNumbers(trackingNumbers);
+        
+        StatusTransitionReport report = new StatusTransitionReport();
+        Map<String, ShipmentStatus> currentStatuses = new HashMap<>(originalStatuses);
+        Map<String, Integer> appliedByTrackingNumber = new LinkedHashMap<>();
+        for (StatusTransition transition : transitions) {
+            String trackingNumber = transition.getTrackingNumber();
+            ShipmentStatus currentStatus = currentStatuses.get(trackingNumber);
+            ShipmentStatus newStatus = transition.getStatus();
+            if (currentStatus == null) {
+                report.addNotFound(trackingNumber);
+            } else if (currentStatus == newStatus) {
+                report.addUnchanged();
+            } else if (!currentStatus.canTransitionTo(newStatus)) {
+                report.addRejected(new Rejection(trackingNumber, currentStatus, newStatus,
+                        Rejection.Reason.INVALID_TRANSITION));
+            } else {
+                currentStatuses.put(trackingNumber, newStatus);
+                appliedByTrackingNumber.merge(trackingNumber, 1, Integer::sum);
+                report.addApplied();
+            }
+        }
+        
+        // Um UPDATE por par (status lido, status final); envios que voltaram ao status lido não são gravados
+        Map<ShipmentStatus, Map<ShipmentStatus, List<String>>> groups = new EnumMap<>(ShipmentStatus.class);
+        for (String trackingNumber : appliedByTrackingNumber.keySet()) {
+            ShipmentStatus originalStatus = originalStatuses.get(trackingNumber);
+            ShipmentStatus finalStatus = currentStatuses.get(trackingNumber);
+            if (originalStatus != finalStatus) {
+                groups.computeIfAbsent(originalStatus, status -> new EnumMap<>(ShipmentStatus.class))
+                      .computeIfAbsent(finalStatus, status -> new ArrayList<>())
+                      .add(trackingNumber);
+            }
+        }
+        groups.forEach((originalStatus, byFinalStatus) -> byFinalStatus.forEach((finalStatus, group) -> {
+            int updated = shipmentRepository.updateStatusByTrackingNumbers(group, originalStatus, finalStatus);
+            if (updated < group.size()) {
+                rejectConcurrentUpdates(group, finalStatus, appliedByTrackingNumber, report);
+            }
+        }));
+        
+        logger.info("Transições em lote concluídas. Aplicadas: {}, Inalteradas: {}, Não encontradas: {}, Rejeitadas: {}",
+                   report.getApplied(), report.getUnchanged(), report.getNotFound().size(), report.getRejected().size());
+        
+        return report;
+    }
+    
+    /**
+     * Rejeita os envios do grupo que mudaram de status entre a leitura e o UPDATE
+     */
+    private void rejectConcurrentUpdates(List<String> group, ShipmentStatus finalStatus,
+                                         Map<String, Integer> appliedByTrackingNumber,
+                                         StatusTransitionReport report) {
+        Map<String, ShipmentStatus> statuses = shipmentRepository.findStatusesByTrackingNumbers(group);
+        for (String trackingNumber : group) {
+            ShipmentStatus status = statuses.get(trackingNumber);
+            if (status != finalStatus) {
+                logger.warn("Envio alterado durante a transição em lote: {} está em {}", trackingNumber, status);
+                report.removeApplied(appliedByTrackingNumber.get(trackingNumber));
+                report.addRejected(new Rejection(trackingNumber, status, finalStatus,
+                        Rejection.Reason.CONCURRENT_UPDATE));
+            }
+        }
+    }
+    
     @Override
     public Shipment setTrackingNumber(Long shipmentId, String trackingNumber) {
         logger.info("Definindo número de rastreamento para envio ID: {}", shipmentId);
@@ -130,6 +238,23 @@ public class ShipmentUseCasesImpl implements ShipmentUseCases {
         return updatedShipment;
     }
     
+    @Override
+    public ShipmentTrackingEvent recordTrackingEvent(Shipment shipment, String eventType, String description) {
+        logger.debug("Registrando evento {} para envio ID: {}", eventType, shipment.getId());
+        
+        if (shipment.getId() == null) {
+            throw new IllegalArgumentException("Evento de rastreamento requer envio persistido");
+        }
+        return trackingEventRepository.append(
+            new ShipmentTrackingEvent(shipment.getId(), eventType, shipment.getStatus(), description));
+    }
+    
+    @Override
+    public List<ShipmentTrackingEvent> findTrackingTimeline(Long shipmentId, TrackingEventCursor cursor, int limit) {
+        logger.debug("Buscando linha do tempo do envio ID: {}", shipmentId);
+        return trackingEventRepository.findTimeline(shipmentId, cursor, limit);
+    }
+    
     @Override
     public List<Shipment> findShipmentsByCustomerEmail(String customerEmail) {
         logger.debug("Buscando envios por email do cliente: {}", customerEmail);
@@ -179,6 +304,14 @@ public class ShipmentUseCasesImpl implements ShipmentUseCases {
         return shipmentRepository.save(shipment);
     }
     
+    @Override
+    @Transactional
+    public Shipment createShipmentWithEvent(Shipment shipment, String eventType, String description) {
+        Shipment createdShipment = createShipment(shipment);
+        recordTrackingEvent(createdShipment, eventType, description);
+        return createdShipment;
+    }
+    
     @Override
     public Shipment updateShipment(Shipment shipment) {
         logger.info("Atualizando envio ID: {}", shipment.getId());
@@ -186,11 +319,5 @@ public class ShipmentUseCasesImpl implements ShipmentUseCases {
         shipment.setUpdatedAt(LocalDateTime.now());
         return shipmentRepository.save(shipment);
     }
-    
-    @Override
-    public List<Shipment> findByOrderId(Long orderId) {
-        logger.info("Buscando envios para pedido ID: {}", orderId);
-        
-        return shipmentRepository.findAllByOrderId(orderId);
-    }
+
 }
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.techbra.logistics.infrastructure.config;
 
 import com.techbra.logistics.domain.events.LogisticsEvent;
+import com.techbra.logistics.infrastructure.messaging.EventDeserializer;
+import com.techbra.logistics.infrastructure.messaging.EventSerializer;
+import com.techbra.logistics.infrastructure.messaging.EventWireFormat;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,10 +17,18 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -29,8 +44,22 @@ public class KafkaConsumerConfig {
     @Value("${app.kafka.consumer.group-id:logistics-service-group}")
     private String groupId;
 
+    @Value("${app.kafka.consumer.retry-interval-ms:1000}")
+    private Long retryIntervalMs;
+
+    @Value("${app.kafka.consumer.retry-attempts:2}")
+    private Long retryAttempts;
+
+    @Value("${app.kafka.dead-letter-topic:logistics-events.DLT}")
+    private String deadLetterTopic;
+
     /**
      * Configuração do Consumer Factory para LogisticsEvent
+     * 
+     * Os eventos são lidos em JSON ou SMILE, conforme o header event-format de
+     * cada registro (ver {@link EventDeserializer}). Um registro ilegível não
+     * interrompe o consumo: o ErrorHandlingDeserializer o entrega ao error
+     * handler, que o encaminha ao dead letter topic sem novas tentativas.
      */
     @Bean
     public ConsumerFactory<String, LogisticsEvent> logisticsEventConsumerFactory() {
@@ -39,13 +68,6 @@ public class KafkaConsumerConfig {
         // Configurações básicas
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        
-        // Configurações de deserialização JSON
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.techbra.logistics.domain.events");
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, LogisticsEvent.class.getName());
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         
         // Configurações de offset e commit
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
@@ -60,7 +82,51 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 10000);
         
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return new DefaultKafkaConsumerFactory<>(configProps,
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(new EventDeserializer<>(LogisticsEvent.class)));
+    }
+
+    /**
+     * Producer Factory dos eventos encaminhados ao dead letter topic, em JSON
+     */
+    @Bean
+    public ProducerFactory<String, Object> deadLetterProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(deadLetterProducerProperties("logistics-service-dlt"),
+                new StringSerializer(), new EventSerializer<>(EventWireFormat.JSON));
+    }
+
+    /**
+     * Producer Factory dos registros ilegíveis, republicados com os bytes recebidos
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> deadLetterBytesProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(deadLetterProducerProperties("logistics-service-dlt-raw"),
+                new StringSerializer(), new ByteArraySerializer());
+    }
+
+    private Map<String, Object> deadLetterProducerProperties(String clientId) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return configProps;
+    }
+
+    /**
+     * Encaminha ao dead letter topic os registros que esgotaram as novas tentativas
+     * 
+     * O registro mantém a chave e os headers originais, acrescidos dos headers
+     * kafka_dlt-* com a exceção e a origem. Registros que não puderam ser
+     * desserializados seguem com os bytes recebidos.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, new KafkaTemplate<>(deadLetterBytesProducerFactory()));
+        templates.put(Object.class, new KafkaTemplate<>(deadLetterProducerFactory()));
+        return new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(deadLetterTopic, -1));
     }
 
     /**
@@ -78,8 +144,10 @@ public class KafkaConsumerConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         factory.getContainerProperties().setSyncCommits(true);
         
-        // Configurações de retry e error handling
-        factory.setCommonErrorHandler(null); // Pode ser configurado posteriormente
+        // Novas tentativas a intervalos fixos; esgotadas (ou de imediato, para registros
+        // ilegíveis), o registro vai para o dead letter topic
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer(),
+                new FixedBackOff(retryIntervalMs, retryAttempts)));
         
         return factory;
     }
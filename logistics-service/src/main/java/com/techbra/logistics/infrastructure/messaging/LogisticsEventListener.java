@@ -15,6 +15,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * Listener para processar eventos de logística recebidos do Kafka
@@ -75,6 +76,9 @@ public class LogisticsEventListener {
             case "BILL_UPDATED":
                 handleBillUpdated(event);
                 break;
+            case "BILL_PAID":
+                handleBillPaid(event);
+                break;
             case "BILL_CANCELLED":
                 handleBillCancelled(event);
                 break;
@@ -91,27 +95,29 @@ public class LogisticsEventListener {
                 event.getBillId(), event.getOrderId(), event.getCustomerId());
 
         try {
-            // Verifica se já existe um shipment para este pedido
             if (event.getOrderId() != null) {
-                // Converte UUID para Long
-                Long orderId = Long.valueOf(event.getOrderId().toString().hashCode());
+                // Verifica se já existe um shipment para este pedido (reentrega do evento)
+                Optional<Shipment> existing = shipmentUseCases.findShipmentByOrderId(event.getOrderId());
+                if (existing.isPresent()) {
+                    logger.warn("Shipment já existe para o pedido: orderId={}, shipmentId={}",
+                            event.getOrderId(), existing.get().getId());
+                    return;
+                }
                 
                 // Cria um novo shipment com status PENDING
                 Shipment shipment = new Shipment();
-                shipment.setOrderId(orderId);
+                shipment.setOrderId(event.getOrderId());
                 shipment.setStatus(ShipmentStatus.PENDING);
                 shipment.setCreatedAt(LocalDateTime.now());
                 shipment.setUpdatedAt(LocalDateTime.now());
-                
-                // Adiciona informações da cobrança como observações
-                String notes = String.format("Cobrança criada - ID: %s, Valor: %s, Status: %s", 
-                        event.getBillId(), event.getAmount(), event.getBillStatus());
-                shipment.setTrackingNotes(notes);
 
-                shipmentUseCases.createShipment(shipment);
+                // Envio e registro da cobrança na linha do tempo gravados na mesma transação
+                Shipment createdShipment = shipmentUseCases.createShipmentWithEvent(shipment, "BILL_CREATED",
+                        String.format("Cobrança criada - ID: %s, Valor: %s, Status: %s",
+                                event.getBillId(), event.getAmount(), event.getBillStatus()));
                 
                 logger.info("Shipment criado para pedido: orderId={}, shipmentId={}", 
-                        event.getOrderId(), shipment.getId());
+                        event.getOrderId(), createdShipment.getId());
             }
         } catch (Exception e) {
             logger.error("Erro ao processar criação de cobrança: {}", e.getMessage(), e);
@@ -128,31 +134,33 @@ public class LogisticsEventListener {
 
         try {
             if (event.getOrderId() != null) {
-                // Converte UUID para Long
-                Long orderId = Long.valueOf(event.getOrderId().toString().hashCode());
+                // Busca o shipment do pedido
+                Optional<Shipment> existing = shipmentUseCases.findShipmentByOrderId(event.getOrderId());
                 
-                // Busca shipments relacionados ao pedido
-                var shipments = shipmentUseCases.findByOrderId(orderId);
-                
-                for (Shipment shipment : shipments) {
-                    // Atualiza status baseado no status da cobrança
+                if (existing.isPresent()) {
+                    Shipment shipment = existing.get();
+                    
                     if ("PAID".equals(event.getBillStatus())) {
-                        shipment.updateStatus(ShipmentStatus.PROCESSING);
-                        
-                        String notes = (shipment.getTrackingNotes() != null ? shipment.getTrackingNotes() : "") + 
-                                String.format(" | Cobrança paga - %s", LocalDateTime.now());
-                        shipment.setTrackingNotes(notes);
-                        
-                    } else if ("OVERDUE".equals(event.getBillStatus())) {
+                        releaseForShipping(shipment);
+                        return;
+                    }
+                    
+                    // Atualiza status baseado no status da cobrança
+                    String trackingEventType = null;
+                    String trackingDescription = null;
+                    if ("OVERDUE".equals(event.getBillStatus())) {
                         shipment.updateStatus(ShipmentStatus.CANCELLED);
-                        
-                        String notes = (shipment.getTrackingNotes() != null ? shipment.getTrackingNotes() : "") + 
-                                String.format(" | Cobrança em atraso - %s", LocalDateTime.now());
-                        shipment.setTrackingNotes(notes);
+                        trackingEventType = "BILL_OVERDUE";
+                        trackingDescription = "Cobrança em atraso";
                     }
                     
                     shipment.setUpdatedAt(LocalDateTime.now());
-                    shipmentUseCases.updateShipment(shipment);
+                    Shipment updatedShipment = shipmentUseCases.updateShipment(shipment);
+                    
+                    // Registra a ocorrência na linha do tempo em vez de reescrever o envio
+                    if (trackingEventType != null) {
+                        shipmentUseCases.recordTrackingEvent(updatedShipment, trackingEventType, trackingDescription);
+                    }
                     
                     logger.info("Shipment atualizado: shipmentId={}, novoStatus={}", 
                             shipment.getId(), shipment.getStatus());
@@ -164,6 +172,51 @@ public class LogisticsEventListener {
         }
     }
 
+    /**
+     * Processa evento de cobrança paga, publicado pelo pagamento individual e pela liquidação em lote
+     */
+    private void handleBillPaid(LogisticsEvent event) {
+        logger.info("Processando pagamento de cobrança: billId={}, orderId={}", 
+                event.getBillId(), event.getOrderId());
+
+        try {
+            if (event.getOrderId() != null) {
+                Optional<Shipment> existing = shipmentUseCases.findShipmentByOrderId(event.getOrderId());
+                
+                if (existing.isPresent()) {
+                    releaseForShipping(existing.get());
+                } else {
+                    logger.warn("Shipment não encontrado para cobrança paga: billId={}, orderId={}",
+                            event.getBillId(), event.getOrderId());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao processar pagamento de cobrança: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Libera para expedição (PROCESSING) o envio cuja cobrança foi paga
+     * 
+     * Apenas envios ainda PENDING mudam de status; a reentrega do pagamento não
+     * faz um envio já em andamento voltar para PROCESSING nem repete o evento
+     * na linha do tempo.
+     */
+    private void releaseForShipping(Shipment shipment) {
+        if (shipment.getStatus() != ShipmentStatus.PENDING) {
+            logger.info("Shipment já liberado para expedição: shipmentId={}, status={}",
+                    shipment.getId(), shipment.getStatus());
+            return;
+        }
+        
+        shipment.updateStatus(ShipmentStatus.PROCESSING);
+        Shipment updatedShipment = shipmentUseCases.updateShipment(shipment);
+        shipmentUseCases.recordTrackingEvent(updatedShipment, "BILL_PAID", "Cobrança paga");
+        
+        logger.info("Shipment liberado para expedição: shipmentId={}", shipment.getId());
+    }
+
     /**
      * Processa evento de cobrança cancelada
      */
@@ -173,22 +226,18 @@ public class LogisticsEventListener {
 
         try {
             if (event.getOrderId() != null) {
-                // Converte UUID para Long
-                Long orderId = Long.valueOf(event.getOrderId().toString().hashCode());
-                
-                // Busca shipments relacionados ao pedido
-                var shipments = shipmentUseCases.findByOrderId(orderId);
+                // Busca o shipment do pedido
+                Optional<Shipment> existing = shipmentUseCases.findShipmentByOrderId(event.getOrderId());
                 
-                for (Shipment shipment : shipments) {
+                if (existing.isPresent()) {
+                    Shipment shipment = existing.get();
+                    
                     // Cancela o shipment
                     shipment.updateStatus(ShipmentStatus.CANCELLED);
                     
-                    String notes = (shipment.getTrackingNotes() != null ? shipment.getTrackingNotes() : "") + 
-                            String.format(" | Cobrança cancelada - %s", LocalDateTime.now());
-                    shipment.setTrackingNotes(notes);
-                    
                     shipment.setUpdatedAt(LocalDateTime.now());
-                    shipmentUseCases.updateShipment(shipment);
+                    Shipment cancelledShipment = shipmentUseCases.updateShipment(shipment);
+                    shipmentUseCases.recordTrackingEvent(cancelledShipment, "BILL_CANCELLED", "Cobrança cancelada");
                     
                     logger.info("Shipment cancelado: shipmentId={}", shipment.getId());
                 }
@@ -1,17 +1,30 @@
 package com.techbra.logistics.infrastructure.persistence.adapter;
 
+import com.techbra.logistics.domain.model.LegacyLinkReport;
 import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
 import com.techbra.logistics.domain.model.ShipmentStatus;
 import com.techbra.logistics.domain.ports.out.ShipmentRepositoryPort;
 import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
 import com.techbra.logistics.infrastructure.persistence.mapper.ShipmentMapper;
 import com.techbra.logistics.infrastructure.persistence.repository.ShipmentJpaRepository;
+import com.techbra.logistics.infrastructure.persistence.repository.ShipmentSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Repository
 public class ShipmentRepositoryAdapter implements ShipmentRepositoryPort {
@@ -48,26 +61,74 @@ public class ShipmentRepositoryAdapter implements ShipmentRepositoryPort {
     }
     
     @Override
-    public Optional<Shipment> findByOrderId(Long orderId) {
+    public Optional<Shipment> findByOrderId(UUID orderId) {
         logger.debug("Buscando envio por Order ID: {}", orderId);
         
         return jpaRepository.findByOrderId(orderId)
                 .map(mapper::toDomain);
     }
     
+    /**
+     * Grava o UUID do pedido nos envios anteriores à V2
+     * 
+     * Envios criados antes da V2 guardam apenas o identificador legado (hashCode
+     * do UUID), que não é reversível e colide entre pedidos. Por isso a
+     * correlação não acontece nas buscas: recebe a lista de pedidos exportada do
+     * order-service e só associa um envio quando ele é o único com o
+     * identificador do pedido, ainda não foi associado e nenhum outro pedido do
+     * lote tem o mesmo identificador. Um envio legado já associado a outro
+     * pedido torna o pedido ambíguo, o que expõe colisões entre lotes.
+     */
     @Override
-    public List<Shipment> findAllByOrderId(Long orderId) {
-        logger.debug("Buscando envios por Order ID: {}", orderId);
+    public LegacyLinkReport linkLegacyShipments(Collection<UUID> orderIds) {
+        LegacyLinkReport report = new LegacyLinkReport();
+        Set<UUID> pending = new LinkedHashSet<>(orderIds);
         
-        List<ShipmentEntity> entities = jpaRepository.findAllByOrderId(orderId);
-        return mapper.toDomainList(entities);
+        for (UUID linkedOrderId : jpaRepository.findOrderIdsIn(pending)) {
+            pending.remove(linkedOrderId);
+            report.addAlreadyLinked();
+        }
+        if (pending.isEmpty()) {
+            return report;
+        }
+        
+        Map<Long, List<UUID>> orderIdsByLegacyId = new LinkedHashMap<>();
+        for (UUID orderId : pending) {
+            orderIdsByLegacyId.computeIfAbsent(legacyOrderId(orderId), id -> new ArrayList<>()).add(orderId);
+        }
+        Map<Long, List<ShipmentEntity>> candidatesByLegacyId = new HashMap<>();
+        for (ShipmentEntity candidate : jpaRepository.findByLegacyOrderIdIn(orderIdsByLegacyId.keySet())) {
+            candidatesByLegacyId.computeIfAbsent(candidate.getLegacyOrderId(), id -> new ArrayList<>()).add(candidate);
+        }
+        
+        List<ShipmentEntity> linked = new ArrayList<>();
+        orderIdsByLegacyId.forEach((legacyId, sameLegacyId) -> {
+            List<ShipmentEntity> candidates = candidatesByLegacyId.getOrDefault(legacyId, List.of());
+            if (candidates.isEmpty()) {
+                sameLegacyId.forEach(orderId -> report.addNotFound());
+            } else if (sameLegacyId.size() == 1 && candidates.size() == 1 && candidates.get(0).getOrderId() == null) {
+                ShipmentEntity candidate = candidates.get(0);
+                candidate.setOrderId(sameLegacyId.get(0));
+                linked.add(candidate);
+                report.addLinked();
+                logger.info("Envio legado {} associado ao Order ID {}", candidate.getId(), sameLegacyId.get(0));
+            } else {
+                logger.warn("Envio legado ambíguo para os Order IDs {}: {} candidatos com o identificador {}",
+                        sameLegacyId, candidates.size(), legacyId);
+                sameLegacyId.forEach(report::addAmbiguous);
+            }
+        });
+        jpaRepository.saveAll(linked);
+        
+        return report;
     }
     
     @Override
-    public List<Shipment> findAll() {
-        logger.debug("Listando todos os envios");
+    public List<Shipment> findPage(ShipmentFilter filter, ShipmentCursor cursor, int limit) {
+        logger.debug("Buscando página de envios - Status: {}, Email: {}, Cidade: {}, Cursor: {}",
+                    filter.getStatus(), filter.getCustomerEmail(), filter.getCity(), cursor);
         
-        List<ShipmentEntity> entities = jpaRepository.findAllByOrderByCreatedAtDesc();
+        List<ShipmentEntity> entities = jpaRepository.findPage(ShipmentSpecifications.matching(filter, cursor), limit);
         return mapper.toDomainList(entities);
     }
     
@@ -88,7 +149,28 @@ public class ShipmentRepositoryAdapter implements ShipmentRepositoryPort {
     }
     
     @Override
-    public boolean existsByOrderId(Long orderId) {
+    public Map<String, ShipmentStatus> findStatusesByTrackingNumbers(Collection<String> trackingNumbers) {
+        logger.debug("Buscando status de {} números de rastreamento", trackingNumbers.size());
+        
+        Map<String, ShipmentStatus> statuses = new HashMap<>();
+        for (ShipmentJpaRepository.TrackingStatus row : jpaRepository.findStatusesByTrackingNumberIn(trackingNumbers)) {
+            statuses.put(row.getTrackingNumber(), row.getStatus());
+        }
+        return statuses;
+    }
+    
+    @Override
+    public int updateStatusByTrackingNumbers(Collection<String> trackingNumbers, ShipmentStatus currentStatus,
+                                             ShipmentStatus newStatus) {
+        int updated = jpaRepository.updateStatusByTrackingNumberIn(
+                trackingNumbers, currentStatus, newStatus, LocalDateTime.now());
+        logger.debug("Envios alterados de {} para {}: {} de {}",
+                currentStatus, newStatus, updated, trackingNumbers.size());
+        return updated;
+    }
+    
+    @Override
+    public boolean existsByOrderId(UUID orderId) {
         logger.debug("Verificando se existe envio para Order ID: {}", orderId);
         
         boolean exists = jpaRepository.existsByOrderId(orderId);
@@ -124,6 +206,13 @@ public class ShipmentRepositoryAdapter implements ShipmentRepositoryPort {
         return count;
     }
     
+    /**
+     * Identificador numérico que o envio recebia antes da V2
+     */
+    static Long legacyOrderId(UUID orderId) {
+        return (long) orderId.toString().hashCode();
+    }
+    
     /**
      * Método adicional para buscar por número de rastreamento
      */
@@ -133,15 +222,4 @@ public class ShipmentRepositoryAdapter implements ShipmentRepositoryPort {
         return jpaRepository.findByTrackingNumber(trackingNumber)
                 .map(mapper::toDomain);
     }
-    
-    /**
-     * Método adicional para buscar com filtros múltiplos
-     */
-    public List<Shipment> findShipmentsWithFilters(ShipmentStatus status, String customerEmail, String city) {
-        logger.debug("Buscando envios com filtros - Status: {}, Email: {}, Cidade: {}", 
-                    status, customerEmail, city);
-        
-        List<ShipmentEntity> entities = jpaRepository.findShipmentsWithFilters(status, customerEmail, city);
-        return mapper.toDomainList(entities);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.techbra.logistics.infrastructure.persistence.adapter;
+
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.TrackingEventCursor;
+import com.techbra.logistics.domain.ports.out.ShipmentTrackingEventRepositoryPort;
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentTrackingEventEntity;
+import com.techbra.logistics.infrastructure.persistence.repository.ShipmentTrackingEventJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+public class ShipmentTrackingEventRepositoryAdapter implements ShipmentTrackingEventRepositoryPort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ShipmentTrackingEventRepositoryAdapter.class);
+    
+    private final ShipmentTrackingEventJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public ShipmentTrackingEventRepositoryAdapter(ShipmentTrackingEventJpaRepository jpaRepository,
+                                                  JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public ShipmentTrackingEvent append(ShipmentTrackingEvent event) {
+        logger.debug("Inserindo evento de rastreamento: {}", event);
+        
+        ShipmentTrackingEventEntity entity = new ShipmentTrackingEventEntity(
+            event.getShipmentId(),
+            event.getEventType(),
+            event.getStatus(),
+            event.getDescription(),
+            event.getOccurredAt()
+        );
+        return toDomain(jpaRepository.save(entity));
+    }
+    
+    @Override
+    public List<ShipmentTrackingEvent> findTimeline(Long shipmentId, TrackingEventCursor cursor, int limit) {
+        logger.debug("Buscando linha do tempo do envio {} a partir de {}", shipmentId, cursor);
+        
+        PageRequest page = PageRequest.of(0, limit);
+        List<ShipmentTrackingEventEntity> entities = cursor == null
+                ? jpaRepository.findByShipmentIdOrderByOccurredAtDescIdDesc(shipmentId, page)
+                : jpaRepository.findTimelineBefore(shipmentId, cursor.getOccurredAt(), cursor.getId(), page);
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Função ensure_shipment_tracking_event_partitions (V6), exclusiva do PostgreSQL
+     */
+    @Override
+    public int createPartitionsAhead(int monthsAhead) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_shipment_tracking_event_partitions(?)", Integer.class, monthsAhead);
+        return created == null ? 0 : created;
+    }
+    
+    private ShipmentTrackingEvent toDomain(ShipmentTrackingEventEntity entity) {
+        ShipmentTrackingEvent event = new ShipmentTrackingEvent();
+        event.setId(entity.getId());
+        event.setShipmentId(entity.getShipmentId());
+        event.setEventType(entity.getEventType());
+        event.setStatus(entity.getStatus());
+        event.setDescription(entity.getDescription());
+        event.setOccurredAt(entity.getOccurredAt());
+        return event;
+    }
+}
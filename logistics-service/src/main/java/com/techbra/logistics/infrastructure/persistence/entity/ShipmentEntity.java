@@ -8,17 +8,38 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Os índices espelham as migrações em db/migration; idx_shipments_legacy_order_id
+ * é parcial (WHERE legacy_order_id IS NOT NULL) no PostgreSQL
+ */
 @Entity
-@Table(name = "shipments")
+@Table(name = "shipments", indexes = {
+    @Index(name = "uk_shipments_order_id", columnList = "order_id", unique = true),
+    @Index(name = "idx_shipments_legacy_order_id", columnList = "legacy_order_id"),
+    @Index(name = "uk_shipments_tracking_number", columnList = "tracking_number", unique = true),
+    @Index(name = "idx_shipments_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_shipments_customer_email_created_at", columnList = "customer_email, created_at"),
+    @Index(name = "idx_shipments_created_at_id", columnList = "created_at DESC, id DESC")
+})
 public class ShipmentEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(name = "order_id", nullable = false, unique = true)
-    private Long orderId;
+    /**
+     * UUID do pedido no order-service; nulo apenas em envios anteriores à V2 ainda não correlacionados
+     */
+    @Column(name = "order_id")
+    private UUID orderId;
+    
+    /**
+     * Identificador numérico usado antes da V2 (hashCode do UUID, sujeito a colisões)
+     */
+    @Column(name = "legacy_order_id", updatable = false)
+    private Long legacyOrderId;
     
     @Column(name = "customer_name", nullable = false, length = 255)
     private String customerName;
@@ -62,13 +83,16 @@ public class ShipmentEntity {
     @Column(name = "tracking_number", length = 50)
     private String trackingNumber;
     
+    /**
+     * Observações gravadas antes da linha do tempo (V4); as ocorrências novas vão para shipment_tracking_events
+     */
     @Column(name = "tracking_notes", columnDefinition = "TEXT")
     private String trackingNotes;
     
     // Construtores
     public ShipmentEntity() {}
     
-    public ShipmentEntity(Long orderId, String customerName, String customerEmail,
+    public ShipmentEntity(UUID orderId, String customerName, String customerEmail,
                          String deliveryAddress, String city, String state,
                          String zipCode, String country, BigDecimal totalAmount,
                          ShipmentStatus status) {
@@ -93,14 +117,18 @@ public class ShipmentEntity {
         this.id = id;
     }
     
-    public Long getOrderId() {
+    public UUID getOrderId() {
         return orderId;
     }
     
-    public void setOrderId(Long orderId) {
+    public void setOrderId(UUID orderId) {
         this.orderId = orderId;
     }
     
+    public Long getLegacyOrderId() {
+        return legacyOrderId;
+    }
+    
     public String getCustomerName() {
         return customerName;
     }
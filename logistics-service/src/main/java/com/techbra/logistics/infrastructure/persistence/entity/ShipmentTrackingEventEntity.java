@@ -0,0 +1,90 @@
+package com.techbra.logistics.infrastructure.persistence.entity;
+
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Evento da linha do tempo de um envio, somente inserido
+ * 
+ * No PostgreSQL a tabela é particionada por mês em occurred_at (V4); a chave
+ * primária física é (id, occurred_at), e o id continua único pela sequência.
+ */
+@Entity
+@Table(name = "shipment_tracking_events", indexes = {
+    @Index(name = "idx_shipment_tracking_events_timeline", columnList = "shipment_id, occurred_at, id")
+})
+public class ShipmentTrackingEventEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "shipment_id", nullable = false, updatable = false)
+    private Long shipmentId;
+    
+    @Column(name = "event_type", nullable = false, updatable = false, length = 50)
+    private String eventType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", updatable = false, length = 50)
+    private ShipmentStatus status;
+    
+    @Column(name = "description", updatable = false, length = 500)
+    private String description;
+    
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+    
+    // Construtores
+    public ShipmentTrackingEventEntity() {}
+    
+    public ShipmentTrackingEventEntity(Long shipmentId, String eventType, ShipmentStatus status,
+                                       String description, LocalDateTime occurredAt) {
+        this.shipmentId = shipmentId;
+        this.eventType = eventType;
+        this.status = status;
+        this.description = description;
+        this.occurredAt = occurredAt;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getShipmentId() {
+        return shipmentId;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShipmentTrackingEventEntity that = (ShipmentTrackingEventEntity) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
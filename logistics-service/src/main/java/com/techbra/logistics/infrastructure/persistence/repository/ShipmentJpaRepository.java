@@ -3,87 +3,92 @@ package com.techbra.logistics.infrastructure.persistence.repository;
 import com.techbra.logistics.domain.model.ShipmentStatus;
 import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface ShipmentJpaRepository extends JpaRepository<ShipmentEntity, Long> {
+public interface ShipmentJpaRepository extends JpaRepository<ShipmentEntity, Long>, ShipmentQueryRepository {
     
     /**
-     * Busca um envio pelo ID do pedido
+     * Busca um envio pelo ID do pedido (índice único uk_shipments_order_id)
      */
-    Optional<ShipmentEntity> findByOrderId(Long orderId);
+    Optional<ShipmentEntity> findByOrderId(UUID orderId);
     
     /**
-     * Busca todos os envios pelo ID do pedido
+     * Busca os UUIDs informados que já têm envio (índice único uk_shipments_order_id)
      */
-    List<ShipmentEntity> findAllByOrderId(Long orderId);
+    @Query("SELECT s.orderId FROM ShipmentEntity s WHERE s.orderId IN :orderIds")
+    List<UUID> findOrderIdsIn(@Param("orderIds") Collection<UUID> orderIds);
     
     /**
-     * Verifica se existe um envio para o pedido especificado
-     */
-    boolean existsByOrderId(Long orderId);
-    
-    /**
-     * Lista envios por status
+     * Busca os envios anteriores à V2 pelos identificadores legados, associados ou não
+     * (índice parcial idx_shipments_legacy_order_id)
      */
-    List<ShipmentEntity> findByStatus(ShipmentStatus status);
+    List<ShipmentEntity> findByLegacyOrderIdIn(Collection<Long> legacyOrderIds);
     
     /**
-     * Lista envios por email do cliente
+     * Verifica se existe um envio para o pedido especificado
      */
-    List<ShipmentEntity> findByCustomerEmail(String customerEmail);
+    boolean existsByOrderId(UUID orderId);
     
     /**
-     * Lista envios por email do cliente ordenados por data de criação (mais recentes primeiro)
+     * Lista envios por email do cliente ordenados por data de criação, mais recentes primeiro
+     * (índice idx_shipments_customer_email_created_at)
      */
     List<ShipmentEntity> findByCustomerEmailOrderByCreatedAtDesc(String customerEmail);
     
     /**
-     * Conta envios por status
+     * Conta envios por status (índice idx_shipments_status_created_at)
      */
     long countByStatus(ShipmentStatus status);
     
     /**
-     * Busca envios por cidade
-     */
-    List<ShipmentEntity> findByCity(String city);
-    
-    /**
-     * Busca envios por estado
+     * Busca envios por número de rastreamento (índice único uk_shipments_tracking_number)
      */
-    List<ShipmentEntity> findByState(String state);
+    Optional<ShipmentEntity> findByTrackingNumber(String trackingNumber);
     
     /**
-     * Busca envios por número de rastreamento
+     * Busca o status atual dos envios pelos números de rastreamento, sem carregar as entidades
+     * (índice único uk_shipments_tracking_number)
      */
-    Optional<ShipmentEntity> findByTrackingNumber(String trackingNumber);
+    @Query("SELECT s.trackingNumber AS trackingNumber, s.status AS status FROM ShipmentEntity s " +
+           "WHERE s.trackingNumber IN :trackingNumbers")
+    List<TrackingStatus> findStatusesByTrackingNumberIn(@Param("trackingNumbers") Collection<String> trackingNumbers);
     
     /**
-     * Lista todos os envios ordenados por data de criação (mais recentes primeiro)
+     * Altera o status dos envios informados que ainda estiverem em currentStatus
+     * (índice único uk_shipments_tracking_number)
+     * 
+     * @return número de envios alterados
      */
-    List<ShipmentEntity> findAllByOrderByCreatedAtDesc();
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ShipmentEntity s SET s.status = :newStatus, s.updatedAt = :updatedAt " +
+           "WHERE s.trackingNumber IN :trackingNumbers AND s.status = :currentStatus")
+    int updateStatusByTrackingNumberIn(
+        @Param("trackingNumbers") Collection<String> trackingNumbers,
+        @Param("currentStatus") ShipmentStatus currentStatus,
+        @Param("newStatus") ShipmentStatus newStatus,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
     
     /**
-     * Busca envios por status ordenados por data de criação
+     * Busca envios por status ordenados por data de criação (índice idx_shipments_status_created_at)
      */
     List<ShipmentEntity> findByStatusOrderByCreatedAtDesc(ShipmentStatus status);
     
     /**
-     * Query customizada para buscar envios com filtros múltiplos
+     * Número de rastreamento e status de um envio
      */
-    @Query("SELECT s FROM ShipmentEntity s WHERE " +
-           "(:status IS NULL OR s.status = :status) AND " +
-           "(:customerEmail IS NULL OR s.customerEmail = :customerEmail) AND " +
-           "(:city IS NULL OR s.city = :city) " +
-           "ORDER BY s.createdAt DESC")
-    List<ShipmentEntity> findShipmentsWithFilters(
-        @Param("status") ShipmentStatus status,
-        @Param("customerEmail") String customerEmail,
-        @Param("city") String city
-    );
+    interface TrackingStatus {
+        String getTrackingNumber();
+        ShipmentStatus getStatus();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas de envios com predicados dinâmicos e paginação por cursor
+ */
+public interface ShipmentQueryRepository {
+
+    /**
+     * Busca uma página de envios que atendem à especificação, ordenada por (created_at, id) decrescente
+     * 
+     * @param spec predicados montados por {@link ShipmentSpecifications#matching}
+     * @param limit quantidade máxima de envios
+     * @return envios da página, sem consulta de contagem
+     */
+    List<ShipmentEntity> findPage(Specification<ShipmentEntity> spec, int limit);
+}
@@ -0,0 +1,42 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implementação da listagem paginada de envios
+ * 
+ * A consulta é montada com Criteria a partir da especificação, com uma única
+ * ordenação (created_at DESC, id DESC) igual à dos índices da listagem, e
+ * limitada por setMaxResults, sem a consulta de contagem de uma Page.
+ */
+class ShipmentQueryRepositoryImpl implements ShipmentQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ShipmentEntity> findPage(Specification<ShipmentEntity> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ShipmentEntity> query = cb.createQuery(ShipmentEntity.class);
+        Root<ShipmentEntity> root = query.from(ShipmentEntity.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Predicados dinâmicos da listagem de envios
+ * 
+ * Somente os filtros informados entram no WHERE, de modo que cada combinação
+ * gera um SQL próprio que o banco pode atender pelo índice correspondente,
+ * ao contrário de predicados (:x IS NULL OR ...) fixos na consulta.
+ */
+public final class ShipmentSpecifications {
+
+    private ShipmentSpecifications() {
+    }
+
+    /**
+     * Combina os filtros informados e a posição do cursor
+     * 
+     * @param filter filtros opcionais
+     * @param cursor posição do último envio da página anterior, ou null para a primeira página
+     * @return especificação com apenas os predicados necessários
+     */
+    public static Specification<ShipmentEntity> matching(ShipmentFilter filter, ShipmentCursor cursor) {
+        Specification<ShipmentEntity> spec = Specification.where(null);
+        if (filter.getStatus() != null) {
+            spec = spec.and(hasStatus(filter.getStatus()));
+        }
+        if (filter.getCustomerEmail() != null) {
+            spec = spec.and(hasCustomerEmail(filter.getCustomerEmail()));
+        }
+        if (filter.getCity() != null) {
+            spec = spec.and(inCity(filter.getCity()));
+        }
+        if (cursor != null) {
+            spec = spec.and(before(cursor));
+        }
+        return spec;
+    }
+
+    static Specification<ShipmentEntity> hasStatus(ShipmentStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    static Specification<ShipmentEntity> hasCustomerEmail(String customerEmail) {
+        return (root, query, cb) -> cb.equal(root.get("customerEmail"), customerEmail);
+    }
+
+    static Specification<ShipmentEntity> inCity(String city) {
+        return (root, query, cb) -> cb.equal(root.get("city"), city);
+    }
+
+    /**
+     * Envios anteriores à posição do cursor na ordem (createdAt, id) decrescente
+     * 
+     * O limite createdAt <= :createdAt, redundante com o OR, permite ao banco
+     * iniciar a leitura do índice na posição do cursor.
+     */
+    static Specification<ShipmentEntity> before(ShipmentCursor cursor) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.get("createdAt"), cursor.getCreatedAt()),
+            cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.lessThan(root.get("id"), cursor.getId())
+            )
+        );
+    }
+}
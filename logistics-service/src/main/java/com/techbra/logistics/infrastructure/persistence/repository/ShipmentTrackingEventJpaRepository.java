@@ -0,0 +1,36 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentTrackingEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ShipmentTrackingEventJpaRepository extends JpaRepository<ShipmentTrackingEventEntity, Long> {
+    
+    /**
+     * Primeira página da linha do tempo do envio, mais recentes primeiro
+     * (índice idx_shipment_tracking_events_timeline)
+     */
+    List<ShipmentTrackingEventEntity> findByShipmentIdOrderByOccurredAtDescIdDesc(Long shipmentId, Pageable pageable);
+    
+    /**
+     * Página seguinte da linha do tempo, com os eventos anteriores à posição (occurredAt, id)
+     * (índice idx_shipment_tracking_events_timeline)
+     */
+    @Query("SELECT e FROM ShipmentTrackingEventEntity e WHERE e.shipmentId = :shipmentId " +
+           "AND e.occurredAt <= :occurredAt " +
+           "AND (e.occurredAt < :occurredAt OR e.id < :id) " +
+           "ORDER BY e.occurredAt DESC, e.id DESC")
+    List<ShipmentTrackingEventEntity> findTimelineBefore(
+        @Param("shipmentId") Long shipmentId,
+        @Param("occurredAt") LocalDateTime occurredAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+}
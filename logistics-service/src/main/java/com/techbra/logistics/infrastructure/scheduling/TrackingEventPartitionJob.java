@@ -0,0 +1,56 @@
+package com.techbra.logistics.infrastructure.scheduling;
+
+import com.techbra.logistics.domain.ports.out.ShipmentTrackingEventRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cria antecipadamente as partições mensais de shipment_tracking_events
+ *
+ * Executa na inicialização e diariamente, mantendo sempre
+ * {@code logistics.tracking-events.partitions.months-ahead} meses criados à
+ * frente; eventos de meses sem partição iriam para a partição DEFAULT. Várias
+ * instâncias podem executar ao mesmo tempo: a função do banco serializa a
+ * criação com um advisory lock. Exclusivo do PostgreSQL; desabilitado nos
+ * perfis com H2.
+ */
+@Component
+@ConditionalOnProperty(name = "logistics.tracking-events.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class TrackingEventPartitionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackingEventPartitionJob.class);
+
+    private final ShipmentTrackingEventRepositoryPort trackingEventRepository;
+    private final int monthsAhead;
+
+    public TrackingEventPartitionJob(ShipmentTrackingEventRepositoryPort trackingEventRepository,
+                                     @Value("${logistics.tracking-events.partitions.months-ahead:3}") int monthsAhead) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("Partições de eventos de rastreamento devem ser criadas ao menos um mês à frente");
+        }
+        this.trackingEventRepository = trackingEventRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createOnStartup() {
+        createPartitionsAhead();
+    }
+
+    @Scheduled(cron = "${logistics.tracking-events.partitions.cron:0 15 2 * * *}")
+    public void createPartitionsAhead() {
+        try {
+            int created = trackingEventRepository.createPartitionsAhead(monthsAhead);
+            logger.info("Partições de eventos de rastreamento verificadas: created={}, monthsAhead={}",
+                    created, monthsAhead);
+        } catch (Exception e) {
+            logger.error("Erro ao criar partições de eventos de rastreamento: {}", e.getMessage(), e);
+        }
+    }
+}
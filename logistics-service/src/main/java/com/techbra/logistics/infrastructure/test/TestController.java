@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Controller para testes e simulações
@@ -24,10 +25,10 @@ public class TestController {
     @PostMapping("/create-test-shipment")
     public ResponseEntity<Map<String, String>> createTestShipment() {
         try {
-            testEventService.createTestShipment();
+            UUID orderId = testEventService.createTestShipment();
             return ResponseEntity.ok(Map.of(
                 "message", "Envio de teste criado com sucesso",
-                "orderId", "1001"
+                "orderId", orderId.toString()
             ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -59,7 +60,7 @@ public class TestController {
      */
     @PostMapping("/simulate-order-paid")
     public ResponseEntity<Map<String, String>> simulateOrderPaid(
-            @RequestParam Long orderId,
+            @RequestParam UUID orderId,
             @RequestParam String customerName,
             @RequestParam String customerEmail,
             @RequestParam String deliveryAddress,
@@ -103,7 +104,7 @@ public class TestController {
                 "url", "/api/test/simulate-order-paid",
                 "method", "POST",
                 "params", Map.of(
-                    "orderId", "1234",
+                    "orderId", "3f1c2b7e-8d4a-4c5e-9b6f-1a2d3e4f5a6b",
                     "customerName", "João Silva",
                     "customerEmail", "joao@email.com",
                     "deliveryAddress", "Rua das Flores, 123",
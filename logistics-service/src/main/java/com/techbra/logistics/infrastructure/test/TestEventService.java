@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Serviço para testes manuais de processamento de eventos
@@ -25,7 +26,7 @@ public class TestEventService {
     /**
      * Simula o processamento de um evento de pedido pago
      */
-    public void simulateOrderPaidEvent(Long orderId, String customerName, String customerEmail,
+    public void simulateOrderPaidEvent(UUID orderId, String customerName, String customerEmail,
                                       String deliveryAddress, String city, String state,
                                       String zipCode, String country, BigDecimal totalAmount) {
         
@@ -55,10 +56,13 @@ public class TestEventService {
     
     /**
      * Cria um evento de teste com dados padrão
+     * 
+     * @return ID do pedido simulado
      */
-    public void createTestShipment() {
+    public UUID createTestShipment() {
+        UUID orderId = UUID.randomUUID();
         simulateOrderPaidEvent(
-            1001L,
+            orderId,
             "João Silva",
             "joao.silva@email.com",
             "Rua das Flores, 123, Apt 45",
@@ -68,6 +72,7 @@ public class TestEventService {
             "Brasil",
             new BigDecimal("299.99")
         );
+        return orderId;
     }
     
     /**
@@ -76,7 +81,7 @@ public class TestEventService {
     public void createMultipleTestShipments() {
         // Evento 1
         simulateOrderPaidEvent(
-            2001L,
+            UUID.randomUUID(),
             "Maria Santos",
             "maria.santos@email.com",
             "Av. Paulista, 1000",
@@ -89,7 +94,7 @@ public class TestEventService {
         
         // Evento 2
         simulateOrderPaidEvent(
-            2002L,
+            UUID.randomUUID(),
             "Pedro Oliveira",
             "pedro.oliveira@email.com",
             "Rua Copacabana, 500",
@@ -102,7 +107,7 @@ public class TestEventService {
         
         // Evento 3
         simulateOrderPaidEvent(
-            2003L,
+            UUID.randomUUID(),
             "Ana Costa",
             "ana.costa@email.com",
             "Rua da Praia, 200",
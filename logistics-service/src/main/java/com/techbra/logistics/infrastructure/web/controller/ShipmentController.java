@@ -1,20 +1,35 @@
 package com.techbra.logistics.infrastructure.web.controller;
 
+import com.techbra.logistics.domain.model.LegacyLinkReport;
 import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
 import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.StatusTransition;
+import com.techbra.logistics.domain.model.StatusTransitionReport;
+import com.techbra.logistics.domain.model.TrackingEventCursor;
 import com.techbra.logistics.domain.ports.in.ShipmentUseCases;
+import com.techbra.logistics.infrastructure.web.dto.BulkStatusUpdateRequestDto;
+import com.techbra.logistics.infrastructure.web.dto.LegacyLinkRequestDto;
+import com.techbra.logistics.infrastructure.web.dto.ShipmentPageResponseDto;
 import com.techbra.logistics.infrastructure.web.dto.ShipmentResponseDto;
+import com.techbra.logistics.infrastructure.web.dto.TrackingEventResponseDto;
+import com.techbra.logistics.infrastructure.web.dto.TrackingTimelineResponseDto;
 import com.techbra.logistics.infrastructure.web.dto.UpdateStatusRequestDto;
 import com.techbra.logistics.infrastructure.web.mapper.ShipmentWebMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/shipments")
@@ -23,6 +38,10 @@ public class ShipmentController {
     
     private static final Logger logger = LoggerFactory.getLogger(ShipmentController.class);
     
+    private static final int TRANSITION_CHUNK_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_TIMELINE_PAGE_SIZE = 200;
+    
     private final ShipmentUseCases shipmentUseCases;
     private final ShipmentWebMapper webMapper;
     
@@ -32,17 +51,42 @@ public class ShipmentController {
     }
     
     /**
-     * Lista todos os envios
+     * Lista envios filtrados, paginados por cursor, dos mais recentes para os mais antigos
      */
     @GetMapping
-    public ResponseEntity<List<ShipmentResponseDto>> getAllShipments() {
-        logger.info("Requisição para listar todos os envios");
+    public ResponseEntity<ShipmentPageResponseDto> searchShipments(
+            @RequestParam(required = false) ShipmentStatus status,
+            @RequestParam(required = false) String customerEmail,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         
-        List<Shipment> shipments = shipmentUseCases.findAllShipments();
-        List<ShipmentResponseDto> response = webMapper.toResponseDtoList(shipments);
+        logger.info("Requisição para listar envios - Status: {}, Email: {}, Cidade: {}", status, customerEmail, city);
         
-        logger.info("Retornando {} envios", response.size());
-        return ResponseEntity.ok(response);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            logger.warn("Tamanho de página inválido: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            ShipmentFilter filter = new ShipmentFilter(status, blankToNull(customerEmail), blankToNull(city));
+            ShipmentCursor after = cursor != null && !cursor.isBlank() ? ShipmentCursor.decode(cursor) : null;
+            // Um envio além do limite indica se há próxima página, sem devolver cursor na última
+            List<Shipment> shipments = shipmentUseCases.searchShipments(filter, after, limit + 1);
+            
+            String nextCursor = null;
+            if (shipments.size() > limit) {
+                shipments = shipments.subList(0, limit);
+                nextCursor = ShipmentCursor.of(shipments.get(limit - 1)).encode();
+            }
+            
+            logger.info("Retornando {} envios", shipments.size());
+            return ResponseEntity.ok(new ShipmentPageResponseDto(webMapper.toResponseDtoList(shipments), nextCursor));
+            
+        } catch (IllegalArgumentException e) {
+            logger.warn("Cursor inválido na listagem de envios: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     /**
@@ -67,7 +111,7 @@ public class ShipmentController {
      * Busca um envio pelo ID do pedido
      */
     @GetMapping("/order/{orderId}")
-    public ResponseEntity<ShipmentResponseDto> getShipmentByOrderId(@PathVariable Long orderId) {
+    public ResponseEntity<ShipmentResponseDto> getShipmentByOrderId(@PathVariable UUID orderId) {
         logger.info("Requisição para buscar envio por Order ID: {}", orderId);
         
         Optional<Shipment> shipment = shipmentUseCases.findShipmentByOrderId(orderId);
@@ -81,6 +125,47 @@ public class ShipmentController {
         }
     }
     
+    /**
+     * Lista a linha do tempo de um envio, do evento mais recente para o mais antigo, paginada por cursor
+     */
+    @GetMapping("/{id}/tracking-events")
+    public ResponseEntity<TrackingTimelineResponseDto> getTrackingTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        logger.info("Requisição para listar linha do tempo do envio {}", id);
+        
+        if (limit < 1 || limit > MAX_TIMELINE_PAGE_SIZE) {
+            logger.warn("Tamanho de página inválido: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+        if (shipmentUseCases.findShipmentById(id).isEmpty()) {
+            logger.warn("Envio não encontrado: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        
+        try {
+            TrackingEventCursor after = cursor != null && !cursor.isBlank() ? TrackingEventCursor.decode(cursor) : null;
+            List<ShipmentTrackingEvent> events = shipmentUseCases.findTrackingTimeline(id, after, limit + 1);
+            
+            String nextCursor = null;
+            if (events.size() > limit) {
+                events = events.subList(0, limit);
+                nextCursor = TrackingEventCursor.of(events.get(limit - 1)).encode();
+            }
+            List<TrackingEventResponseDto> items = new ArrayList<>(events.size());
+            for (ShipmentTrackingEvent event : events) {
+                items.add(webMapper.toTrackingEventDto(event));
+            }
+            return ResponseEntity.ok(new TrackingTimelineResponseDto(items, nextCursor));
+            
+        } catch (IllegalArgumentException e) {
+            logger.warn("Cursor inválido para a linha do tempo do envio {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Lista envios por status
      */
@@ -132,6 +217,45 @@ public class ShipmentController {
         }
     }
     
+    /**
+     * Aplica em lote as mudanças de status de um manifesto de transportadora
+     * 
+     * Cada lote de até 500 itens é confirmado em sua própria transação; itens de
+     * um mesmo envio devem vir na ordem em que ocorreram.
+     */
+    @PostMapping("/status-transitions")
+    public ResponseEntity<StatusTransitionReport> transitionShipmentStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequestDto request) {
+        
+        logger.info("Requisição para transição de status em lote: {} itens", request.getTransitions().size());
+        
+        List<StatusTransition> transitions = new ArrayList<>(request.getTransitions().size());
+        for (BulkStatusUpdateRequestDto.Item item : request.getTransitions()) {
+            transitions.add(new StatusTransition(item.getTrackingNumber().trim(), item.getStatus()));
+        }
+        
+        StatusTransitionReport report = new StatusTransitionReport();
+        for (int from = 0; from < transitions.size(); from += TRANSITION_CHUNK_SIZE) {
+            int to = Math.min(from + TRANSITION_CHUNK_SIZE, transitions.size());
+            report.merge(shipmentUseCases.transitionShipmentStatuses(transitions.subList(from, to)));
+        }
+        return ResponseEntity.ok(report);
+    }
+    
+    /**
+     * Correlaciona envios anteriores à V2 com os UUIDs dos pedidos
+     * 
+     * Backfill executado pela operação com os pedidos exportados do order-service;
+     * as buscas por pedido não correlacionam envios legados. Reenviar a mesma
+     * lista é seguro: pedidos já associados são apenas contados.
+     */
+    @PostMapping("/legacy-links")
+    public ResponseEntity<LegacyLinkReport> linkLegacyShipments(@Valid @RequestBody LegacyLinkRequestDto request) {
+        logger.info("Requisição para correlacionar envios legados: {} pedidos", request.getOrderIds().size());
+        
+        return ResponseEntity.ok(shipmentUseCases.linkLegacyShipments(request.getOrderIds()));
+    }
+    
     /**
      * Define o número de rastreamento para um envio
      */
@@ -155,6 +279,10 @@ public class ShipmentController {
         }
     }
     
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+    
     /**
      * Endpoint de health check
      */
@@ -163,6 +291,15 @@ public class ShipmentController {
         return ResponseEntity.ok("Logistics Service is running");
     }
     
+    /**
+     * Requisições com corpo inválido
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<String> handleInvalidRequest(MethodArgumentNotValidException e) {
+        logger.warn("Requisição inválida: {}", e.getMessage());
+        return ResponseEntity.badRequest().body("Requisição inválida");
+    }
+    
     /**
      * Tratamento global de exceções
      */
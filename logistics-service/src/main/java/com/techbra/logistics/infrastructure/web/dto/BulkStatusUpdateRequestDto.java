@@ -0,0 +1,68 @@
+package com.techbra.logistics.infrastructure.web.dto;
+
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Manifesto de transportadora com as mudanças de status por número de rastreamento
+ */
+public class BulkStatusUpdateRequestDto {
+    
+    @NotEmpty(message = "Transições são obrigatórias")
+    private List<@Valid @NotNull Item> transitions;
+    
+    // Construtores
+    public BulkStatusUpdateRequestDto() {}
+    
+    public BulkStatusUpdateRequestDto(List<Item> transitions) {
+        this.transitions = transitions;
+    }
+    
+    // Getters e Setters
+    public List<Item> getTransitions() {
+        return transitions;
+    }
+    
+    public void setTransitions(List<Item> transitions) {
+        this.transitions = transitions;
+    }
+    
+    public static class Item {
+        
+        @NotBlank(message = "Número de rastreamento é obrigatório")
+        private String trackingNumber;
+        
+        @NotNull(message = "Status é obrigatório")
+        private ShipmentStatus status;
+        
+        // Construtores
+        public Item() {}
+        
+        public Item(String trackingNumber, ShipmentStatus status) {
+            this.trackingNumber = trackingNumber;
+            this.status = status;
+        }
+        
+        // Getters e Setters
+        public String getTrackingNumber() {
+            return trackingNumber;
+        }
+        
+        public void setTrackingNumber(String trackingNumber) {
+            this.trackingNumber = trackingNumber;
+        }
+        
+        public ShipmentStatus getStatus() {
+            return status;
+        }
+        
+        public void setStatus(ShipmentStatus status) {
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.techbra.logistics.infrastructure.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * UUIDs de pedidos criados antes da V2, exportados do order-service, para correlação com os envios legados
+ */
+public class LegacyLinkRequestDto {
+    
+    @NotEmpty(message = "Pedidos são obrigatórios")
+    @Size(max = 1000, message = "No máximo 1000 pedidos por requisição")
+    private List<@NotNull UUID> orderIds;
+    
+    // Construtores
+    public LegacyLinkRequestDto() {}
+    
+    public LegacyLinkRequestDto(List<UUID> orderIds) {
+        this.orderIds = orderIds;
+    }
+    
+    // Getters e Setters
+    public List<UUID> getOrderIds() {
+        return orderIds;
+    }
+    
+    public void setOrderIds(List<UUID> orderIds) {
+        this.orderIds = orderIds;
+    }
+}
@@ -5,11 +5,12 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public class ShipmentResponseDto {
     
     private Long id;
-    private Long orderId;
+    private UUID orderId;
     private String customerName;
     private String customerEmail;
     private String deliveryAddress;
@@ -36,7 +37,7 @@ public class ShipmentResponseDto {
     // Construtores
     public ShipmentResponseDto() {}
     
-    public ShipmentResponseDto(Long id, Long orderId, String customerName, String customerEmail,
+    public ShipmentResponseDto(Long id, UUID orderId, String customerName, String customerEmail,
                               String deliveryAddress, String city, String state, String zipCode,
                               String country, BigDecimal totalAmount, ShipmentStatus status,
                               LocalDateTime createdAt, LocalDateTime updatedAt,
@@ -69,11 +70,11 @@ public class ShipmentResponseDto {
         this.id = id;
     }
     
-    public Long getOrderId() {
+    public UUID getOrderId() {
         return orderId;
     }
     
-    public void setOrderId(Long orderId) {
+    public void setOrderId(UUID orderId) {
         this.orderId = orderId;
     }
     
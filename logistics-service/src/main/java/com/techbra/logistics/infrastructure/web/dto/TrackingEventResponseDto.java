@@ -0,0 +1,70 @@
+package com.techbra.logistics.infrastructure.web.dto;
+
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public class TrackingEventResponseDto {
+    
+    private Long id;
+    private String eventType;
+    private ShipmentStatus status;
+    private String description;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime occurredAt;
+    
+    // Construtores
+    public TrackingEventResponseDto() {}
+    
+    public TrackingEventResponseDto(Long id, String eventType, ShipmentStatus status,
+                                    String description, LocalDateTime occurredAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.status = status;
+        this.description = description;
+        this.occurredAt = occurredAt;
+    }
+    
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+    
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ShipmentStatus status) {
+        this.status = status;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
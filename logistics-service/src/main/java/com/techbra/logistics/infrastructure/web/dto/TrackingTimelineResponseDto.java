@@ -0,0 +1,50 @@
+package com.techbra.logistics.infrastructure.web.dto;
+
+import java.util.List;
+
+/**
+ * Página da linha do tempo de um envio paginada por cursor
+ * 
+ * O campo nextCursor é opaco para o cliente e deve ser reenviado
+ * para obter a página seguinte; quando nulo, não há mais eventos.
+ */
+public class TrackingTimelineResponseDto {
+    
+    private List<TrackingEventResponseDto> items;
+    private String nextCursor;
+    private Boolean hasMore;
+    
+    // Construtores
+    public TrackingTimelineResponseDto() {}
+    
+    public TrackingTimelineResponseDto(List<TrackingEventResponseDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+    
+    // Getters e Setters
+    public List<TrackingEventResponseDto> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<TrackingEventResponseDto> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
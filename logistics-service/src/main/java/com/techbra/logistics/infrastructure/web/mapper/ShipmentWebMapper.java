@@ -1,7 +1,9 @@
 package com.techbra.logistics.infrastructure.web.mapper;
 
 import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
 import com.techbra.logistics.infrastructure.web.dto.ShipmentResponseDto;
+import com.techbra.logistics.infrastructure.web.dto.TrackingEventResponseDto;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -37,6 +39,19 @@ public class ShipmentWebMapper {
         );
     }
     
+    /**
+     * Converte evento da linha do tempo para DTO de resposta
+     */
+    public TrackingEventResponseDto toTrackingEventDto(ShipmentTrackingEvent event) {
+        return new TrackingEventResponseDto(
+            event.getId(),
+            event.getEventType(),
+            event.getStatus(),
+            event.getDescription(),
+            event.getOccurredAt()
+        );
+    }
+    
     /**
      * Converte lista de modelos de domínio para lista de DTOs de resposta
      */
@@ -0,0 +1,32 @@
+-- Migration V1: Create shipments table
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Baseline of the schema previously generated by Hibernate; databases
+--              created by ddl-auto already have the table and skip it
+
+CREATE TABLE IF NOT EXISTS shipments (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL UNIQUE,
+    customer_name VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    delivery_address VARCHAR(500) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    state VARCHAR(100) NOT NULL,
+    zip_code VARCHAR(20) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    total_amount NUMERIC(10, 2) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    estimated_delivery_date TIMESTAMP(6),
+    tracking_number VARCHAR(50),
+    tracking_notes TEXT
+);
+
+COMMENT ON TABLE shipments IS 'Envios gerados a partir dos pedidos pagos e dos eventos de cobrança';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V1__Create_shipments_table completed successfully at %', NOW();
+END $$;
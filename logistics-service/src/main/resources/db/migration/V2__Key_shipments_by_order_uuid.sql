@@ -0,0 +1,49 @@
+-- Migration V2: Key shipments by the order UUID
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: order_id held Long.valueOf(uuid.toString().hashCode()), which collides
+--              across orders. The hash moves to legacy_order_id and order_id becomes
+--              the order-service UUID, with a unique index for single-row lookups.
+
+-- Preserva o identificador numérico anterior, sem a restrição de unicidade
+ALTER TABLE shipments RENAME COLUMN order_id TO legacy_order_id;
+ALTER TABLE shipments ALTER COLUMN legacy_order_id DROP NOT NULL;
+
+-- A restrição única da coluna tem nome gerado (V1 ou Hibernate); remove qualquer uma
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = 'shipments'::regclass
+          AND con.contype = 'u'
+          AND att.attname = 'legacy_order_id'
+    LOOP
+        EXECUTE format('ALTER TABLE shipments DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+
+ALTER TABLE shipments ADD COLUMN order_id UUID;
+
+-- Busca por evento: um único registro pelo UUID do pedido
+CREATE UNIQUE INDEX IF NOT EXISTS uk_shipments_order_id ON shipments (order_id);
+
+-- Correlação dos envios legados: o hash não é reversível, então o UUID é gravado
+-- pelo backfill POST /api/shipments/legacy-links a partir dos pedidos exportados do
+-- order-service. O índice cobre também os envios já associados, para que um hash
+-- repetido em outro pedido seja detectado; envios novos não têm legacy_order_id.
+CREATE INDEX IF NOT EXISTS idx_shipments_legacy_order_id
+    ON shipments (legacy_order_id)
+    WHERE legacy_order_id IS NOT NULL;
+
+COMMENT ON COLUMN shipments.order_id IS 'UUID do pedido no order-service';
+COMMENT ON COLUMN shipments.legacy_order_id IS 'Hash do UUID do pedido usado antes da V2 (sujeito a colisões)';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V2__Key_shipments_by_order_uuid completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,42 @@
+-- Migration V3: Indexes for shipment repository queries
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Backs the lookups by tracking number and the listings by status and
+--              by customer email, both ordered by created_at. The lookup by order id
+--              is already covered by uk_shipments_order_id (V2).
+
+-- Duplicated tracking numbers must be reconciled manually before the index can be created
+DO $$
+DECLARE
+    duplicated_tracking_numbers BIGINT;
+    examples TEXT;
+BEGIN
+    SELECT COUNT(*), string_agg(tracking_number, ', ' ORDER BY tracking_number) FILTER (WHERE rn <= 10)
+    INTO duplicated_tracking_numbers, examples
+    FROM (
+        SELECT tracking_number, ROW_NUMBER() OVER (ORDER BY tracking_number) AS rn
+        FROM shipments
+        WHERE tracking_number IS NOT NULL
+        GROUP BY tracking_number
+        HAVING COUNT(*) > 1
+    ) duplicates;
+
+    IF duplicated_tracking_numbers > 0 THEN
+        RAISE EXCEPTION 'Migration V3 aborted: % tracking numbers are shared by more than one shipment (e.g. %)',
+            duplicated_tracking_numbers, examples;
+    END IF;
+END $$;
+
+-- Rastreamento: um único envio por código; envios ainda sem código (NULL) não conflitam
+CREATE UNIQUE INDEX IF NOT EXISTS uk_shipments_tracking_number ON shipments (tracking_number);
+
+-- Listagens filtradas e ordenadas por data de criação (percorridas em ordem inversa no DESC);
+-- a do status também atende countByStatus
+CREATE INDEX IF NOT EXISTS idx_shipments_status_created_at ON shipments (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_shipments_customer_email_created_at ON shipments (customer_email, created_at);
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V3__Add_shipments_query_indexes completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,51 @@
+-- Migration V4: Append-only shipment tracking events
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Billing occurrences were concatenated into shipments.tracking_notes,
+--              rewriting an ever-growing row on every event. Each occurrence is now
+--              a row inserted into shipment_tracking_events, range-partitioned by
+--              month on occurred_at so old months can be detached or dropped.
+
+-- Tabela particionada: a chave primária precisa incluir a coluna de partição
+CREATE TABLE IF NOT EXISTS shipment_tracking_events (
+    id BIGSERIAL,
+    shipment_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50),
+    description VARCHAR(500),
+    occurred_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+-- Partições mensais do mês corrente até 24 meses à frente; os meses seguintes são
+-- criados pelo TrackingEventPartitionJob (V6) (shipment_tracking_events_yyyy_mm)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', now())::DATE;
+    partition_start DATE;
+BEGIN
+    FOR i IN 0..24 LOOP
+        partition_start := month_start + make_interval(months => i);
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF shipment_tracking_events FOR VALUES FROM (%L) TO (%L)',
+            'shipment_tracking_events_' || to_char(partition_start, 'YYYY_MM'),
+            partition_start,
+            partition_start + INTERVAL '1 month');
+    END LOOP;
+END $$;
+
+-- Recebe eventos fora das partições criadas, evitando falha na inserção
+CREATE TABLE IF NOT EXISTS shipment_tracking_events_default PARTITION OF shipment_tracking_events DEFAULT;
+
+-- Linha do tempo por envio, paginada por (occurred_at, id) em ordem decrescente
+CREATE INDEX IF NOT EXISTS idx_shipment_tracking_events_timeline
+    ON shipment_tracking_events (shipment_id, occurred_at, id);
+
+COMMENT ON TABLE shipment_tracking_events IS 'Linha do tempo dos envios; somente inserções';
+COMMENT ON COLUMN shipments.tracking_notes IS 'Observações anteriores à V4; novas ocorrências vão para shipment_tracking_events';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V4__Create_shipment_tracking_events completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,14 @@
+-- Migration V5: Index for the keyset-paged shipment listing
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Backs GET /api/shipments without a selective filter, ordered by
+--              (created_at, id) descending and resumed from a cursor; the status and
+--              customer email filters use the V3 indexes
+
+CREATE INDEX IF NOT EXISTS idx_shipments_created_at_id ON shipments (created_at DESC, id DESC);
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V5__Add_shipments_listing_index completed successfully at %', NOW();
+END $$;
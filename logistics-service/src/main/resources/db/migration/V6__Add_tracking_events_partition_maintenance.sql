@@ -0,0 +1,62 @@
+-- Migration V6: Monthly partition maintenance for shipment_tracking_events
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: V4 only creates partitions for 24 months. This function creates the
+--              missing monthly partitions from the current month up to N months ahead
+--              and is called on a schedule by the application
+--              (TrackingEventPartitionJob). Rows that already landed in the DEFAULT
+--              partition for a new month are moved into it before it is attached.
+
+CREATE OR REPLACE FUNCTION ensure_shipment_tracking_event_partitions(months_ahead INT)
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', now())::DATE;
+    partition_start DATE;
+    partition_end DATE;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    IF months_ahead < 0 THEN
+        RAISE EXCEPTION 'months_ahead must not be negative: %', months_ahead;
+    END IF;
+
+    -- Instâncias concorrentes do job criam as partições uma de cada vez
+    PERFORM pg_advisory_xact_lock(hashtext('shipment_tracking_events_partitions'));
+
+    FOR i IN 0..months_ahead LOOP
+        partition_start := month_start + make_interval(months => i);
+        partition_end := partition_start + INTERVAL '1 month';
+        partition_name := 'shipment_tracking_events_' || to_char(partition_start, 'YYYY_MM');
+
+        CONTINUE WHEN to_regclass(partition_name) IS NOT NULL;
+
+        -- Criada fora da tabela e anexada depois: eventos do mês que caíram na
+        -- partição DEFAULT são movidos antes, senão o ATTACH falharia
+        EXECUTE format(
+            'CREATE TABLE %I (LIKE shipment_tracking_events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+            partition_name);
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM shipment_tracking_events_default '
+            'WHERE occurred_at >= %L AND occurred_at < %L RETURNING *) '
+            'INSERT INTO %I SELECT * FROM moved',
+            partition_start, partition_end, partition_name);
+        EXECUTE format(
+            'ALTER TABLE shipment_tracking_events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, partition_start, partition_end);
+
+        created := created + 1;
+    END LOOP;
+
+    RETURN created;
+END $$;
+
+COMMENT ON FUNCTION ensure_shipment_tracking_event_partitions(INT) IS
+    'Cria as partições mensais de shipment_tracking_events do mês corrente até N meses à frente';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V6__Add_tracking_events_partition_maintenance completed successfully at %', NOW();
+END $$;
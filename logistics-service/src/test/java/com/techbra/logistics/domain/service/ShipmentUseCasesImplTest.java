@@ -0,0 +1,166 @@
+package com.techbra.logistics.domain.service;
+
+import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.StatusTransition;
+import com.techbra.logistics.domain.model.StatusTransitionReport;
+import com.techbra.logistics.domain.model.StatusTransitionReport.Rejection;
+import com.techbra.logistics.domain.ports.out.ShipmentRepositoryPort;
+import com.techbra.logistics.domain.ports.out.ShipmentTrackingEventRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShipmentUseCasesImplTest {
+
+    @Mock
+    private ShipmentRepositoryPort shipmentRepository;
+
+    @Mock
+    private ShipmentTrackingEventRepositoryPort trackingEventRepository;
+
+    @InjectMocks
+    private ShipmentUseCasesImpl shipmentUseCases;
+
+    @Test
+    void transitionShipmentStatuses_ShouldGroupUpdatesByStatusPair() {
+        // Given
+        Map<String, ShipmentStatus> statuses = new HashMap<>();
+        statuses.put("LOG-1", ShipmentStatus.SHIPPED);
+        statuses.put("LOG-2", ShipmentStatus.SHIPPED);
+        statuses.put("LOG-3", ShipmentStatus.PENDING);
+        when(shipmentRepository.findStatusesByTrackingNumbers(anyCollection())).thenReturn(statuses);
+        when(shipmentRepository.updateStatusByTrackingNumbers(anyCollection(), any(), any()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).size());
+
+        // When
+        StatusTransitionReport report = shipmentUseCases.transitionShipmentStatuses(List.of(
+                new StatusTransition("LOG-1", ShipmentStatus.IN_TRANSIT),
+                new StatusTransition("LOG-2", ShipmentStatus.IN_TRANSIT),
+                new StatusTransition("LOG-3", ShipmentStatus.PROCESSING)));
+
+        // Then
+        assertEquals(3, report.getApplied());
+        assertTrue(report.getRejected().isEmpty());
+        verify(shipmentRepository, times(1)).findStatusesByTrackingNumbers(anyCollection());
+        verify(shipmentRepository).updateStatusByTrackingNumbers(
+                List.of("LOG-1", "LOG-2"), ShipmentStatus.SHIPPED, ShipmentStatus.IN_TRANSIT);
+        verify(shipmentRepository).updateStatusByTrackingNumbers(
+                List.of("LOG-3"), ShipmentStatus.PENDING, ShipmentStatus.PROCESSING);
+        verify(shipmentRepository, never()).save(any());
+    }
+
+    @Test
+    void transitionShipmentStatuses_ShouldApplyItemsOfSameShipmentInOrder() {
+        // Given
+        when(shipmentRepository.findStatusesByTrackingNumbers(anyCollection()))
+                .thenReturn(Map.of("LOG-1", ShipmentStatus.SHIPPED));
+        when(shipmentRepository.updateStatusByTrackingNumbers(anyCollection(), any(), any())).thenReturn(1);
+
+        // When
+        StatusTransitionReport report = shipmentUseCases.transitionShipmentStatuses(List.of(
+                new StatusTransition("LOG-1", ShipmentStatus.IN_TRANSIT),
+                new StatusTransition("LOG-1", ShipmentStatus.OUT_FOR_DELIVERY)));
+
+        // Then
+        assertEquals(2, report.getApplied());
+        verify(shipmentRepository).updateStatusByTrackingNumbers(
+                List.of("LOG-1"), ShipmentStatus.SHIPPED, ShipmentStatus.OUT_FOR_DELIVERY);
+    }
+
+    @Test
+    void transitionShipmentStatuses_ShouldReportInvalidUnchangedAndUnknownItems() {
+        // Given
+        Map<String, ShipmentStatus> statuses = new HashMap<>();
+        statuses.put("LOG-1", ShipmentStatus.DELIVERED);
+        statuses.put("LOG-2", ShipmentStatus.IN_TRANSIT);
+        when(shipmentRepository.findStatusesByTrackingNumbers(anyCollection())).thenReturn(statuses);
+
+        // When
+        StatusTransitionReport report = shipmentUseCases.transitionShipmentStatuses(List.of(
+                new StatusTransition("LOG-1", ShipmentStatus.IN_TRANSIT),
+                new StatusTransition("LOG-2", ShipmentStatus.IN_TRANSIT),
+                new StatusTransition("LOG-9", ShipmentStatus.IN_TRANSIT)));
+
+        // Then
+        assertEquals(0, report.getApplied());
+        assertEquals(1, report.getUnchanged());
+        assertEquals(List.of("LOG-9"), report.getNotFound());
+        Rejection rejection = report.getRejected().get(0);
+        assertEquals("LOG-1", rejection.getTrackingNumber());
+        assertEquals(ShipmentStatus.DELIVERED, rejection.getCurrentStatus());
+        assertEquals(Rejection.Reason.INVALID_TRANSITION, rejection.getReason());
+        verify(shipmentRepository, never()).updateStatusByTrackingNumbers(anyCollection(), any(), any());
+    }
+
+    @Test
+    void transitionShipmentStatuses_WhenShipmentChangedConcurrently_ShouldRejectIt() {
+        // Given
+        Map<String, ShipmentStatus> statuses = new HashMap<>();
+        statuses.put("LOG-1", ShipmentStatus.SHIPPED);
+        statuses.put("LOG-2", ShipmentStatus.SHIPPED);
+        when(shipmentRepository.findStatusesByTrackingNumbers(anyCollection()))
+                .thenReturn(statuses)
+                .thenReturn(Map.of("LOG-1", ShipmentStatus.IN_TRANSIT, "LOG-2", ShipmentStatus.FAILED_DELIVERY));
+        when(shipmentRepository.updateStatusByTrackingNumbers(anyCollection(), eq(ShipmentStatus.SHIPPED),
+                eq(ShipmentStatus.IN_TRANSIT))).thenReturn(1);
+
+        // When
+        StatusTransitionReport report = shipmentUseCases.transitionShipmentStatuses(List.of(
+                new StatusTransition("LOG-1", ShipmentStatus.IN_TRANSIT),
+                new StatusTransition("LOG-2", ShipmentStatus.IN_TRANSIT)));
+
+        // Then
+        assertEquals(1, report.getApplied());
+        Rejection rejection = report.getRejected().get(0);
+        assertEquals("LOG-2", rejection.getTrackingNumber());
+        assertEquals(ShipmentStatus.FAILED_DELIVERY, rejection.getCurrentStatus());
+        assertEquals(Rejection.Reason.CONCURRENT_UPDATE, rejection.getReason());
+    }
+
+    @Test
+    void recordTrackingEvent_ShouldAppendEventWithCurrentShipmentStatus() {
+        // Given
+        Shipment shipment = new Shipment();
+        shipment.setId(7L);
+        shipment.updateStatus(ShipmentStatus.PROCESSING);
+        when(trackingEventRepository.append(any(ShipmentTrackingEvent.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        shipmentUseCases.recordTrackingEvent(shipment, "BILL_PAID", "Cobrança paga");
+
+        // Then
+        ArgumentCaptor<ShipmentTrackingEvent> captor = ArgumentCaptor.forClass(ShipmentTrackingEvent.class);
+        verify(trackingEventRepository).append(captor.capture());
+        ShipmentTrackingEvent event = captor.getValue();
+        assertEquals(7L, event.getShipmentId());
+        assertEquals("BILL_PAID", event.getEventType());
+        assertEquals(ShipmentStatus.PROCESSING, event.getStatus());
+        assertNotNull(event.getOccurredAt());
+        verify(shipmentRepository, never()).save(any());
+    }
+
+    @Test
+    void recordTrackingEvent_WithUnsavedShipment_ShouldThrow() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> shipmentUseCases.recordTrackingEvent(new Shipment(), "BILL_CREATED", "Cobrança criada"));
+        verifyNoInteractions(trackingEventRepository);
+    }
+}
@@ -0,0 +1,90 @@
+package com.techbra.logistics.domain.service;
+
+import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.ports.in.ShipmentUseCases;
+import com.techbra.logistics.domain.ports.out.ShipmentTrackingEventRepositoryPort;
+import com.techbra.logistics.infrastructure.persistence.adapter.ShipmentRepositoryAdapter;
+import com.techbra.logistics.infrastructure.persistence.mapper.ShipmentMapper;
+import com.techbra.logistics.infrastructure.persistence.repository.ShipmentJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Criação do envio e do primeiro evento da linha do tempo em uma única transação
+ * 
+ * Os testes não rodam dentro da transação do @DataJpaTest, para que o commit e o
+ * rollback sejam os do próprio caso de uso.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ShipmentUseCasesImpl.class, ShipmentRepositoryAdapter.class, ShipmentMapper.class})
+class ShipmentUseCasesImplTransactionTest {
+
+    @Autowired
+    private ShipmentUseCases shipmentUseCases;
+
+    @Autowired
+    private ShipmentJpaRepository shipmentJpaRepository;
+
+    @MockBean
+    private ShipmentTrackingEventRepositoryPort trackingEventRepository;
+
+    @AfterEach
+    void tearDown() {
+        shipmentJpaRepository.deleteAll();
+    }
+
+    @Test
+    void createShipmentWithEvent_ShouldPersistShipment() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        when(trackingEventRepository.append(any(ShipmentTrackingEvent.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Shipment created = shipmentUseCases.createShipmentWithEvent(shipment(orderId), "BILL_CREATED", "Cobrança criada");
+
+        // Then
+        assertNotNull(created.getId());
+        assertTrue(shipmentJpaRepository.findById(created.getId()).isPresent());
+    }
+
+    @Test
+    void createShipmentWithEvent_WhenEventFails_ShouldNotPersistShipment() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        when(trackingEventRepository.append(any(ShipmentTrackingEvent.class)))
+                .thenThrow(new IllegalStateException("Falha ao gravar evento"));
+
+        // When
+        assertThrows(IllegalStateException.class,
+                () -> shipmentUseCases.createShipmentWithEvent(shipment(orderId), "BILL_CREATED", "Cobrança criada"));
+
+        // Then - a reentrega da mensagem encontra o pedido sem envio e cria ambos
+        assertTrue(shipmentUseCases.findShipmentByOrderId(orderId).isEmpty());
+        assertEquals(0, shipmentJpaRepository.count());
+    }
+
+    private Shipment shipment(UUID orderId) {
+        return new Shipment(orderId, "Cliente", "cliente@techbra.com", "Rua A, 1",
+                "São Paulo", "SP", "01000-000", "Brasil", new BigDecimal("150.00"));
+    }
+}
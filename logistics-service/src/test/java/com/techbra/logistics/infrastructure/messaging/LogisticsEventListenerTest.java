@@ -0,0 +1,188 @@
+package com.techbra.logistics.infrastructure.messaging;
+
+import com.techbra.logistics.domain.events.LogisticsEvent;
+import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.domain.ports.in.ShipmentUseCases;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Eventos do tópico logistics-events no formato publicado pelo billing-service
+ * 
+ * Os eventos são desserializados a partir do JSON produzido pelo
+ * LogisticsEventPublisher do billing-service, para que divergências de tipo
+ * ou de contrato entre os serviços apareçam aqui.
+ */
+@ExtendWith(MockitoExtension.class)
+class LogisticsEventListenerTest {
+
+    private static final String TOPIC = "logistics-events";
+
+    private final EventDeserializer<LogisticsEvent> deserializer = new EventDeserializer<>(LogisticsEvent.class);
+
+    @Mock
+    private ShipmentUseCases shipmentUseCases;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private LogisticsEventListener listener;
+
+    @Test
+    void handleLogisticsEvent_WithBillPaid_ShouldReleasePendingShipment() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        Shipment shipment = shipment(orderId, ShipmentStatus.PENDING);
+        when(shipmentUseCases.findShipmentByOrderId(orderId)).thenReturn(Optional.of(shipment));
+        when(shipmentUseCases.updateShipment(any(Shipment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        listener.handleLogisticsEvent(billingEvent("BILL_PAID", 42L, orderId, "PAID"), TOPIC, 0, 0L, acknowledgment);
+
+        // Then
+        assertEquals(ShipmentStatus.PROCESSING, shipment.getStatus());
+        verify(shipmentUseCases).updateShipment(shipment);
+        verify(shipmentUseCases).recordTrackingEvent(eq(shipment), eq("BILL_PAID"), anyString());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void handleLogisticsEvent_WithRedeliveredBillPaid_ShouldNotRevertShipmentInProgress() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        Shipment shipment = shipment(orderId, ShipmentStatus.IN_TRANSIT);
+        when(shipmentUseCases.findShipmentByOrderId(orderId)).thenReturn(Optional.of(shipment));
+
+        // When
+        listener.handleLogisticsEvent(billingEvent("BILL_PAID", 42L, orderId, "PAID"), TOPIC, 0, 0L, acknowledgment);
+
+        // Then
+        assertEquals(ShipmentStatus.IN_TRANSIT, shipment.getStatus());
+        verify(shipmentUseCases, never()).updateShipment(any());
+        verify(shipmentUseCases, never()).recordTrackingEvent(any(), anyString(), anyString());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void handleLogisticsEvent_WithBillPaidBatch_ShouldReleaseEveryPendingShipment() {
+        // Given
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        UUID missingOrderId = UUID.randomUUID();
+        List<Shipment> shipments = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            Shipment shipment = shipment(orderId, ShipmentStatus.PENDING);
+            shipments.add(shipment);
+            when(shipmentUseCases.findShipmentByOrderId(orderId)).thenReturn(Optional.of(shipment));
+        }
+        when(shipmentUseCases.findShipmentByOrderId(missingOrderId)).thenReturn(Optional.empty());
+        when(shipmentUseCases.updateShipment(any(Shipment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When - um evento por cobrança, como no publishBillPaidEvents da liquidação em lote
+        long billId = 100L;
+        for (UUID orderId : orderIds) {
+            listener.handleLogisticsEvent(billingEvent("BILL_PAID", billId++, orderId, "PAID"), TOPIC, 0, billId, acknowledgment);
+        }
+        listener.handleLogisticsEvent(billingEvent("BILL_PAID", billId, missingOrderId, "PAID"), TOPIC, 0, billId, acknowledgment);
+
+        // Then
+        shipments.forEach(shipment -> assertEquals(ShipmentStatus.PROCESSING, shipment.getStatus()));
+        verify(shipmentUseCases, times(orderIds.size())).updateShipment(any(Shipment.class));
+        verify(shipmentUseCases, times(orderIds.size())).recordTrackingEvent(any(Shipment.class), eq("BILL_PAID"), anyString());
+        verify(acknowledgment, times(orderIds.size() + 1)).acknowledge();
+    }
+
+    @Test
+    void handleLogisticsEvent_WithBillUpdatedToPaid_ShouldReleasePendingShipment() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        Shipment shipment = shipment(orderId, ShipmentStatus.PENDING);
+        when(shipmentUseCases.findShipmentByOrderId(orderId)).thenReturn(Optional.of(shipment));
+        when(shipmentUseCases.updateShipment(any(Shipment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        listener.handleLogisticsEvent(billingEvent("BILL_UPDATED", 42L, orderId, "PAID"), TOPIC, 0, 0L, acknowledgment);
+
+        // Then
+        assertEquals(ShipmentStatus.PROCESSING, shipment.getStatus());
+        verify(shipmentUseCases).recordTrackingEvent(eq(shipment), eq("BILL_PAID"), anyString());
+    }
+
+    @Test
+    void handleLogisticsEvent_WithBillCreated_ShouldCreateShipmentAndEventTogether() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        when(shipmentUseCases.findShipmentByOrderId(orderId)).thenReturn(Optional.empty());
+        when(shipmentUseCases.createShipmentWithEvent(any(Shipment.class), eq("BILL_CREATED"), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        listener.handleLogisticsEvent(billingEvent("BILL_CREATED", 42L, orderId, "PENDING"), TOPIC, 0, 0L, acknowledgment);
+
+        // Then
+        ArgumentCaptor<Shipment> captor = ArgumentCaptor.forClass(Shipment.class);
+        verify(shipmentUseCases).createShipmentWithEvent(captor.capture(), eq("BILL_CREATED"), anyString());
+        assertEquals(orderId, captor.getValue().getOrderId());
+        assertEquals(ShipmentStatus.PENDING, captor.getValue().getStatus());
+        verify(shipmentUseCases, never()).createShipment(any());
+        verify(shipmentUseCases, never()).recordTrackingEvent(any(), anyString(), anyString());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void handleLogisticsEvent_WithRedeliveredBillCreated_ShouldNotCreateAnotherShipment() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        when(shipmentUseCases.findShipmentByOrderId(orderId))
+                .thenReturn(Optional.of(shipment(orderId, ShipmentStatus.PENDING)));
+
+        // When
+        listener.handleLogisticsEvent(billingEvent("BILL_CREATED", 42L, orderId, "PENDING"), TOPIC, 0, 0L, acknowledgment);
+
+        // Then
+        verify(shipmentUseCases, never()).createShipmentWithEvent(any(), anyString(), anyString());
+        verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * Evento desserializado do JSON no formato do LogisticsEvent do billing-service
+     * (billId numérico, customerId nulo, datas sem fração de segundo)
+     */
+    private LogisticsEvent billingEvent(String eventType, Long billId, UUID orderId, String billStatus) {
+        String json = """
+                {"eventId":"%s","eventType":"%s","timestamp":"2026-10-17T12:00:00",\
+                "billId":%d,"orderId":"%s","customerId":null,"amount":150.00,"billStatus":"%s",\
+                "payload":{"billDescription":"Pedido","dueDate":"2026-11-16T12:00:00",\
+                "createdAt":"2026-10-17T11:00:00","paidAt":"2026-10-17T12:00:00",\
+                "processingNotes":"Cobrança paga - pedido liberado para logística"}}
+                """.formatted(UUID.randomUUID(), eventType, billId, orderId, billStatus);
+        return deserializer.deserialize(TOPIC, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Shipment shipment(UUID orderId, ShipmentStatus status) {
+        Shipment shipment = new Shipment(orderId, "Cliente", "cliente@techbra.com", "Rua A, 1",
+                "São Paulo", "SP", "01000-000", "Brasil", new BigDecimal("150.00"));
+        shipment.setId(1L);
+        shipment.updateStatus(status);
+        return shipment;
+    }
+}
@@ -0,0 +1,224 @@
+package com.techbra.logistics.infrastructure.persistence.adapter;
+
+import com.techbra.logistics.domain.model.LegacyLinkReport;
+import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
+import com.techbra.logistics.infrastructure.persistence.mapper.ShipmentMapper;
+import com.techbra.logistics.infrastructure.persistence.repository.ShipmentJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Correlação dos envios anteriores à V2, que guardam apenas o hash do UUID do pedido,
+ * e paginação da listagem de envios por cursor
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({ShipmentRepositoryAdapter.class, ShipmentMapper.class})
+class ShipmentRepositoryAdapterTest {
+
+    /**
+     * UUIDs distintos com o mesmo String.hashCode (1224309705)
+     */
+    private static final UUID COLLIDING_ORDER_A = UUID.fromString("d46a5d5f-6d67-45ce-8381-62c6ee015311");
+    private static final UUID COLLIDING_ORDER_B = UUID.fromString("219416fa-5d53-4155-8059-40fbc113dc1e");
+
+    @Autowired
+    private ShipmentRepositoryAdapter adapter;
+
+    @Autowired
+    private ShipmentJpaRepository jpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findByOrderId_ShouldNotLinkLegacyShipment() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        ShipmentEntity legacy = legacyShipment(orderId);
+
+        // When
+        boolean found = adapter.findByOrderId(orderId).isPresent();
+
+        // Then
+        assertFalse(found);
+        assertNull(reload(legacy).getOrderId());
+    }
+
+    @Test
+    void linkLegacyShipments_ShouldLinkSingleCandidate() {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        ShipmentEntity legacy = legacyShipment(orderId);
+
+        // When
+        LegacyLinkReport report = adapter.linkLegacyShipments(List.of(orderId));
+
+        // Then
+        assertEquals(1, report.getLinked());
+        assertTrue(report.getAmbiguous().isEmpty());
+        assertEquals(orderId, reload(legacy).getOrderId());
+        assertEquals(legacy.getId(), adapter.findByOrderId(orderId).orElseThrow().getId());
+    }
+
+    @Test
+    void linkLegacyShipments_ShouldCountLinkedAndMissingOrders() {
+        // Given
+        UUID linkedOrderId = UUID.randomUUID();
+        UUID missingOrderId = UUID.randomUUID();
+        legacyShipment(linkedOrderId);
+        adapter.linkLegacyShipments(List.of(linkedOrderId));
+
+        // When
+        LegacyLinkReport report = adapter.linkLegacyShipments(List.of(linkedOrderId, missingOrderId));
+
+        // Then
+        assertEquals(0, report.getLinked());
+        assertEquals(1, report.getAlreadyLinked());
+        assertEquals(1, report.getNotFound());
+    }
+
+    @Test
+    void linkLegacyShipments_ShouldNotLinkWhenSeveralShipmentsShareLegacyId() {
+        // Given
+        ShipmentEntity first = legacyShipment(COLLIDING_ORDER_A);
+        ShipmentEntity second = legacyShipment(COLLIDING_ORDER_B);
+
+        // When
+        LegacyLinkReport report = adapter.linkLegacyShipments(List.of(COLLIDING_ORDER_A));
+
+        // Then
+        assertEquals(0, report.getLinked());
+        assertEquals(List.of(COLLIDING_ORDER_A), report.getAmbiguous());
+        assertNull(reload(first).getOrderId());
+        assertNull(reload(second).getOrderId());
+    }
+
+    @Test
+    void linkLegacyShipments_ShouldNotLinkWhenOrdersOfBatchShareLegacyId() {
+        // Given
+        ShipmentEntity legacy = legacyShipment(COLLIDING_ORDER_A);
+
+        // When
+        LegacyLinkReport report = adapter.linkLegacyShipments(List.of(COLLIDING_ORDER_A, COLLIDING_ORDER_B));
+
+        // Then
+        assertEquals(0, report.getLinked());
+        assertEquals(List.of(COLLIDING_ORDER_A, COLLIDING_ORDER_B), report.getAmbiguous());
+        assertNull(reload(legacy).getOrderId());
+    }
+
+    @Test
+    void linkLegacyShipments_ShouldNotLinkShipmentAlreadyLinkedToAnotherOrder() {
+        // Given
+        ShipmentEntity legacy = legacyShipment(COLLIDING_ORDER_A);
+        adapter.linkLegacyShipments(List.of(COLLIDING_ORDER_A));
+
+        // When
+        LegacyLinkReport report = adapter.linkLegacyShipments(List.of(COLLIDING_ORDER_B));
+
+        // Then
+        assertEquals(List.of(COLLIDING_ORDER_B), report.getAmbiguous());
+        assertEquals(COLLIDING_ORDER_A, reload(legacy).getOrderId());
+    }
+
+    @Test
+    void findPage_WithTiesOnCreatedAt_ShouldWalkEveryShipmentOnceInOrder() {
+        // Given
+        LocalDateTime tied = LocalDateTime.of(2026, 10, 1, 12, 0);
+        List<Long> tiedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tiedIds.add(shipmentCreatedAt(tied).getId());
+        }
+        Long olderId = shipmentCreatedAt(tied.minusSeconds(1)).getId();
+        Long newerId = shipmentCreatedAt(tied.plusSeconds(1)).getId();
+        List<Long> expected = new ArrayList<>();
+        expected.add(newerId);
+        tiedIds.stream().sorted(Comparator.reverseOrder()).forEach(expected::add);
+        expected.add(olderId);
+
+        // When
+        List<Long> walked = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        ShipmentCursor cursor = null;
+        List<Shipment> page;
+        do {
+            page = adapter.findPage(ShipmentFilter.none(), cursor, 3);
+            pageSizes.add(page.size());
+            page.forEach(shipment -> walked.add(shipment.getId()));
+            if (!page.isEmpty()) {
+                cursor = ShipmentCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == 3);
+
+        // Then
+        assertEquals(expected, walked);
+        assertEquals(List.of(3, 3, 1), pageSizes);
+    }
+
+    @Test
+    void findPage_AfterLastShipment_ShouldReturnEmptyPage() {
+        // Given
+        shipmentCreatedAt(LocalDateTime.of(2026, 10, 1, 12, 0));
+        Shipment last = adapter.findPage(ShipmentFilter.none(), null, 10).get(0);
+
+        // When
+        List<Shipment> page = adapter.findPage(ShipmentFilter.none(), ShipmentCursor.of(last), 10);
+
+        // Then
+        assertTrue(page.isEmpty());
+    }
+
+    /**
+     * Envio com data de criação fixa; a anotação @CreationTimestamp é sobrescrita após a inserção
+     */
+    private ShipmentEntity shipmentCreatedAt(LocalDateTime createdAt) {
+        ShipmentEntity entity = entityManager.persistAndFlush(new ShipmentEntity(UUID.randomUUID(), "Cliente",
+                "cliente@techbra.com", "Rua A, 1", "São Paulo", "SP", "01000-000", "Brasil",
+                new BigDecimal("10.00"), ShipmentStatus.PENDING));
+        entityManager.getEntityManager()
+                .createQuery("UPDATE ShipmentEntity s SET s.createdAt = :createdAt WHERE s.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", entity.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return entity;
+    }
+
+    /**
+     * Envio gravado antes da V2: sem UUID, apenas com o hash do UUID do pedido
+     */
+    private ShipmentEntity legacyShipment(UUID orderId) {
+        ShipmentEntity entity = new ShipmentEntity(null, "Cliente Legado", "legado@techbra.com",
+                "Rua A, 1", "São Paulo", "SP", "01000-000", "Brasil", new BigDecimal("10.00"),
+                ShipmentStatus.PENDING);
+        ReflectionTestUtils.setField(entity, "legacyOrderId", ShipmentRepositoryAdapter.legacyOrderId(orderId));
+        return entityManager.persistFlushFind(entity);
+    }
+
+    private ShipmentEntity reload(ShipmentEntity entity) {
+        entityManager.flush();
+        entityManager.clear();
+        return jpaRepository.findById(entity.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,110 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Base das verificações de plano de execução dos repositórios JPA
+ * 
+ * Cada consulta é executada pelo repositório, o SQL gerado pelo Hibernate é
+ * capturado e submetido ao EXPLAIN do H2, que cria o schema a partir dos índices
+ * declarados nas entidades; {@link EntityIndexMigrationConsistencyTest} garante que
+ * são os mesmos das migrações. A consulta falha se o plano não usar o índice
+ * esperado ou percorrer a tabela inteira (tableScan).
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.techbra.logistics.infrastructure.persistence.repository."
+                + "AbstractQueryPlanTest$CapturingStatementInspector"
+})
+abstract class AbstractQueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearCapturedStatements() {
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * Falha se algum método declarado no repositório não estiver em um dos conjuntos verificados
+     */
+    @SafeVarargs
+    protected static void assertAllQueriesCovered(Class<?> repositoryType, Set<String>... covered) {
+        Set<String> declared = Arrays.stream(repositoryType.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic())
+                .map(Method::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (Set<String> names : covered) {
+            declared.removeAll(names);
+        }
+        assertTrue(declared.isEmpty(), "Consultas sem verificação de plano: " + declared);
+    }
+
+    protected void assertUsesIndex(String indexName) {
+        String plan = assertNoTableScan();
+        assertTrue(plan.contains(indexName), "Consulta sem o índice " + indexName + ":\n" + plan);
+    }
+
+    /**
+     * Submete ao EXPLAIN o SQL da última consulta executada pelo repositório
+     * 
+     * @return plano de execução
+     */
+    protected String assertNoTableScan() {
+        String sql = CapturingStatementInspector.lastStatement();
+        assertNotNull(sql, "Nenhuma consulta capturada");
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertFalse(plan.contains(TABLE_SCAN), "Consulta com varredura completa da tabela:\n" + plan);
+        return plan;
+    }
+
+    /**
+     * Registra o SQL gerado pelo Hibernate sem alterá-lo
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static String lastStatement() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.isEmpty() ? null : STATEMENTS.get(STATEMENTS.size() - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentEntity;
+import com.techbra.logistics.infrastructure.persistence.entity.ShipmentTrackingEventEntity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que os índices declarados nas entidades são os criados pelas migrações
+ * 
+ * As verificações de plano de execução ({@link AbstractQueryPlanTest}) usam o schema
+ * que o Hibernate gera no H2 a partir das anotações @Index; este teste impede que elas
+ * divirjam das migrações do Flyway aplicadas no PostgreSQL. Os índices são comparados
+ * por nome, tabela, unicidade e colunas (com a direção da ordenação). Predicados de
+ * índices parciais não são expressáveis em @Index e não entram na comparação.
+ */
+class EntityIndexMigrationConsistencyTest {
+
+    private static final List<Class<?>> ENTITIES = List.of(ShipmentEntity.class, ShipmentTrackingEventEntity.class);
+
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+(UNIQUE\\s+)?INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)"
+                    + "\\s+ON\\s+(?:ONLY\\s+)?(\\w+)\\s*(?:USING\\s+\\w+\\s*)?\\(([^)]*)\\)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_INDEX = Pattern.compile(
+            "DROP\\s+INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+EXISTS\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    void entityIndexes_ShouldMatchIndexesCreatedByMigrations() throws IOException {
+        // Given
+        Map<String, String> migrationIndexes = migrationIndexes();
+
+        // When
+        Map<String, String> entityIndexes = entityIndexes();
+
+        // Then
+        assertFalse(migrationIndexes.isEmpty(), "Nenhum índice encontrado nas migrações");
+        assertEquals(migrationIndexes, entityIndexes);
+    }
+
+    /**
+     * Índices resultantes da aplicação das migrações em ordem de versão
+     */
+    private Map<String, String> migrationIndexes() throws IOException {
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        Arrays.sort(migrations, Comparator.comparingInt(EntityIndexMigrationConsistencyTest::version));
+
+        Map<String, String> indexes = new TreeMap<>();
+        for (Resource migration : migrations) {
+            String sql = LINE_COMMENT.matcher(migration.getContentAsString(StandardCharsets.UTF_8)).replaceAll("");
+            for (String statement : sql.split(";")) {
+                Matcher create = CREATE_INDEX.matcher(statement);
+                if (create.find()) {
+                    indexes.put(create.group(2).toLowerCase(Locale.ROOT),
+                            describe(create.group(3), create.group(1) != null, create.group(4)));
+                }
+                Matcher drop = DROP_INDEX.matcher(statement);
+                if (drop.find()) {
+                    indexes.remove(drop.group(1).toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private Map<String, String> entityIndexes() {
+        Map<String, String> indexes = new TreeMap<>();
+        for (Class<?> entity : ENTITIES) {
+            Table table = entity.getAnnotation(Table.class);
+            for (Index index : table.indexes()) {
+                indexes.put(index.name().toLowerCase(Locale.ROOT),
+                        describe(table.name(), index.unique(), index.columnList()));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Forma canônica do índice, por exemplo "UNIQUE shipments (order_id)"
+     */
+    private static String describe(String table, boolean unique, String columns) {
+        String columnList = Arrays.stream(columns.split(","))
+                .map(column -> column.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                .map(column -> column.endsWith(" asc") ? column.substring(0, column.length() - 4) : column)
+                .collect(Collectors.joining(", "));
+        return (unique ? "UNIQUE " : "") + table.toLowerCase(Locale.ROOT) + " (" + columnList + ")";
+    }
+
+    private static int version(Resource migration) {
+        String name = migration.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+}
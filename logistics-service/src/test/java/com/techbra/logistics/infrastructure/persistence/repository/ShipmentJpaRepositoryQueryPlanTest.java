@@ -0,0 +1,183 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Verifica o plano de execução das consultas do {@link ShipmentJpaRepository}
+ * 
+ * Consultas novas no repositório precisam ser incluídas aqui.
+ */
+class ShipmentJpaRepositoryQueryPlanTest extends AbstractQueryPlanTest {
+
+    private static final Set<String> INDEXED_QUERIES = Set.of(
+            "findByOrderId",
+            "findOrderIdsIn",
+            "findByLegacyOrderIdIn",
+            "existsByOrderId",
+            "findByCustomerEmailOrderByCreatedAtDesc",
+            "countByStatus",
+            "findByTrackingNumber",
+            "findStatusesByTrackingNumberIn",
+            "updateStatusByTrackingNumberIn",
+            "findByStatusOrderByCreatedAtDesc",
+            "findPage");
+
+    @Autowired
+    private ShipmentJpaRepository repository;
+
+    @Test
+    void everyRepositoryQuery_ShouldBeCoveredByThePlanSuite() {
+        assertAllQueriesCovered(ShipmentJpaRepository.class, INDEXED_QUERIES);
+        assertAllQueriesCovered(ShipmentQueryRepository.class, INDEXED_QUERIES);
+    }
+
+    @Test
+    void findByOrderId_ShouldUseUniqueOrderIdIndex() {
+        // When
+        repository.findByOrderId(UUID.randomUUID());
+
+        // Then
+        assertUsesIndex("UK_SHIPMENTS_ORDER_ID");
+    }
+
+    @Test
+    void findOrderIdsIn_ShouldUseUniqueOrderIdIndex() {
+        // When
+        repository.findOrderIdsIn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Then
+        assertUsesIndex("UK_SHIPMENTS_ORDER_ID");
+    }
+
+    @Test
+    void findByLegacyOrderIdIn_ShouldNotScanTable() {
+        // When
+        repository.findByLegacyOrderIdIn(List.of(42L, 43L));
+
+        // Then
+        // O índice parcial do PostgreSQL não existe no H2, que pode escolher outro índice
+        assertNoTableScan();
+    }
+
+    @Test
+    void existsByOrderId_ShouldUseUniqueOrderIdIndex() {
+        // When
+        repository.existsByOrderId(UUID.randomUUID());
+
+        // Then
+        assertUsesIndex("UK_SHIPMENTS_ORDER_ID");
+    }
+
+    @Test
+    void findByCustomerEmailOrderByCreatedAtDesc_ShouldUseCustomerEmailIndex() {
+        // When
+        repository.findByCustomerEmailOrderByCreatedAtDesc("cliente@techbra.com");
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_CUSTOMER_EMAIL_CREATED_AT");
+    }
+
+    @Test
+    void countByStatus_ShouldUseStatusIndex() {
+        // When
+        repository.countByStatus(ShipmentStatus.PENDING);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_STATUS_CREATED_AT");
+    }
+
+    @Test
+    void findByTrackingNumber_ShouldUseUniqueTrackingNumberIndex() {
+        // When
+        repository.findByTrackingNumber("LOG-20261017-ABC123");
+
+        // Then
+        assertUsesIndex("UK_SHIPMENTS_TRACKING_NUMBER");
+    }
+
+    @Test
+    void findStatusesByTrackingNumberIn_ShouldUseUniqueTrackingNumberIndex() {
+        // When
+        repository.findStatusesByTrackingNumberIn(List.of("LOG-20261017-ABC123", "LOG-20261017-DEF456"));
+
+        // Then
+        assertUsesIndex("UK_SHIPMENTS_TRACKING_NUMBER");
+    }
+
+    @Test
+    void updateStatusByTrackingNumberIn_ShouldUseUniqueTrackingNumberIndex() {
+        // When
+        repository.updateStatusByTrackingNumberIn(List.of("LOG-20261017-ABC123", "LOG-20261017-DEF456"),
+                ShipmentStatus.SHIPPED, ShipmentStatus.IN_TRANSIT, LocalDateTime.now());
+
+        // Then
+        assertUsesIndex("UK_SHIPMENTS_TRACKING_NUMBER");
+    }
+
+    @Test
+    void findByStatusOrderByCreatedAtDesc_ShouldUseStatusIndex() {
+        // When
+        repository.findByStatusOrderByCreatedAtDesc(ShipmentStatus.PENDING);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_STATUS_CREATED_AT");
+    }
+
+    @Test
+    void findPage_WithoutFilters_ShouldUseCreatedAtIndex() {
+        // When
+        repository.findPage(ShipmentSpecifications.matching(ShipmentFilter.none(), null), 50);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_CREATED_AT_ID");
+    }
+
+    @Test
+    void findPage_WithCursor_ShouldUseCreatedAtIndex() {
+        // When
+        repository.findPage(ShipmentSpecifications.matching(ShipmentFilter.none(),
+                new ShipmentCursor(LocalDateTime.now(), 100L)), 50);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_CREATED_AT_ID");
+    }
+
+    @Test
+    void findPage_ByStatus_ShouldUseStatusIndex() {
+        // When
+        repository.findPage(ShipmentSpecifications.matching(
+                new ShipmentFilter(ShipmentStatus.IN_TRANSIT, null, null),
+                new ShipmentCursor(LocalDateTime.now(), 100L)), 50);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_STATUS_CREATED_AT");
+    }
+
+    @Test
+    void findPage_ByCustomerEmail_ShouldUseCustomerEmailIndex() {
+        // When
+        repository.findPage(ShipmentSpecifications.matching(
+                new ShipmentFilter(null, "cliente@techbra.com", "São Paulo"), null), 50);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_CUSTOMER_EMAIL_CREATED_AT");
+    }
+
+    @Test
+    void findPage_ByCityOnly_ShouldWalkCreatedAtIndex() {
+        // When
+        repository.findPage(ShipmentSpecifications.matching(new ShipmentFilter(null, null, "São Paulo"), null), 50);
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENTS_CREATED_AT_ID");
+    }
+}
@@ -0,0 +1,46 @@
+package com.techbra.logistics.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Verifica o plano de execução das consultas do {@link ShipmentTrackingEventJpaRepository}
+ * 
+ * Consultas novas no repositório precisam ser incluídas aqui.
+ */
+class ShipmentTrackingEventJpaRepositoryQueryPlanTest extends AbstractQueryPlanTest {
+
+    private static final Set<String> INDEXED_QUERIES = Set.of(
+            "findByShipmentIdOrderByOccurredAtDescIdDesc",
+            "findTimelineBefore");
+
+    @Autowired
+    private ShipmentTrackingEventJpaRepository repository;
+
+    @Test
+    void everyRepositoryQuery_ShouldBeCoveredByThePlanSuite() {
+        assertAllQueriesCovered(ShipmentTrackingEventJpaRepository.class, INDEXED_QUERIES);
+    }
+
+    @Test
+    void findByShipmentIdOrderByOccurredAtDescIdDesc_ShouldUseTimelineIndex() {
+        // When
+        repository.findByShipmentIdOrderByOccurredAtDescIdDesc(1L, PageRequest.of(0, 50));
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENT_TRACKING_EVENTS_TIMELINE");
+    }
+
+    @Test
+    void findTimelineBefore_ShouldUseTimelineIndex() {
+        // When
+        repository.findTimelineBefore(1L, LocalDateTime.now(), 100L, PageRequest.of(0, 50));
+
+        // Then
+        assertUsesIndex("IDX_SHIPMENT_TRACKING_EVENTS_TIMELINE");
+    }
+}
@@ -0,0 +1,54 @@
+package com.techbra.logistics.infrastructure.scheduling;
+
+import com.techbra.logistics.domain.ports.out.ShipmentTrackingEventRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrackingEventPartitionJobTest {
+
+    @Mock
+    private ShipmentTrackingEventRepositoryPort trackingEventRepository;
+
+    private TrackingEventPartitionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new TrackingEventPartitionJob(trackingEventRepository, 3);
+    }
+
+    @Test
+    void createPartitionsAhead_ShouldCreateConfiguredMonthsAhead() {
+        // Given
+        when(trackingEventRepository.createPartitionsAhead(3)).thenReturn(1);
+
+        // When
+        job.createPartitionsAhead();
+
+        // Then
+        verify(trackingEventRepository).createPartitionsAhead(3);
+    }
+
+    @Test
+    void createPartitionsAhead_WhenDatabaseFails_ShouldNotPropagate() {
+        // Given
+        when(trackingEventRepository.createPartitionsAhead(3))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+
+        // When / Then
+        assertDoesNotThrow(job::createPartitionsAhead);
+    }
+
+    @Test
+    void constructor_ShouldRejectLessThanOneMonthAhead() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new TrackingEventPartitionJob(trackingEventRepository, 0));
+    }
+}
@@ -0,0 +1,180 @@
+package com.techbra.logistics.infrastructure.web.controller;
+
+import com.techbra.logistics.domain.model.Shipment;
+import com.techbra.logistics.domain.model.ShipmentCursor;
+import com.techbra.logistics.domain.model.ShipmentFilter;
+import com.techbra.logistics.domain.model.ShipmentStatus;
+import com.techbra.logistics.domain.model.ShipmentTrackingEvent;
+import com.techbra.logistics.domain.model.TrackingEventCursor;
+import com.techbra.logistics.domain.ports.in.ShipmentUseCases;
+import com.techbra.logistics.infrastructure.web.mapper.ShipmentWebMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ShipmentController.class, properties = "spring.cloud.config.enabled=false")
+@Import(ShipmentWebMapper.class)
+class ShipmentControllerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ShipmentUseCases shipmentUseCases;
+
+    @Test
+    void searchShipments_WhenMoreThanLimit_ShouldReturnLimitAndCursorOfLastItem() throws Exception {
+        // Given
+        when(shipmentUseCases.searchShipments(any(ShipmentFilter.class), isNull(), eq(3)))
+                .thenReturn(List.of(shipment(30L), shipment(20L), shipment(10L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/shipments").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].id").value(20))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(new ShipmentCursor(CREATED_AT, 20L).encode()));
+    }
+
+    @Test
+    void searchShipments_OnLastPage_ShouldNotReturnCursor() throws Exception {
+        // Given
+        ShipmentCursor cursor = new ShipmentCursor(CREATED_AT, 30L);
+        when(shipmentUseCases.searchShipments(any(ShipmentFilter.class), eq(cursor), eq(3)))
+                .thenReturn(List.of(shipment(20L), shipment(10L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/shipments").param("cursor", cursor.encode()).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void searchShipments_ShouldPassFiltersAndDefaultLimit() throws Exception {
+        // Given
+        when(shipmentUseCases.searchShipments(any(ShipmentFilter.class), isNull(), eq(51))).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/shipments").param("status", "IN_TRANSIT").param("city", " São Paulo "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+        ArgumentCaptor<ShipmentFilter> filter = ArgumentCaptor.forClass(ShipmentFilter.class);
+        verify(shipmentUseCases).searchShipments(filter.capture(), isNull(), eq(51));
+        assertEquals(ShipmentStatus.IN_TRANSIT, filter.getValue().getStatus());
+        assertNull(filter.getValue().getCustomerEmail());
+        assertEquals("São Paulo", filter.getValue().getCity());
+    }
+
+    @Test
+    void searchShipments_WithLimitOutOfBounds_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/shipments").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/shipments").param("limit", "201"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(shipmentUseCases);
+    }
+
+    @Test
+    void searchShipments_WithMaximumLimit_ShouldSucceed() throws Exception {
+        // Given
+        when(shipmentUseCases.searchShipments(any(ShipmentFilter.class), isNull(), eq(201))).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/shipments").param("limit", "200"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchShipments_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        String notBase64 = "%%%";
+        String withoutSeparator = encode("2026-10-01T12:00");
+        String invalidDate = encode("ontem|10");
+        String invalidId = encode("2026-10-01T12:00|dez");
+
+        // When & Then
+        for (String cursor : List.of(notBase64, withoutSeparator, invalidDate, invalidId)) {
+            mockMvc.perform(get("/api/shipments").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+        verifyNoInteractions(shipmentUseCases);
+    }
+
+    @Test
+    void getTrackingTimeline_OnLastPage_ShouldNotReturnCursor() throws Exception {
+        // Given
+        when(shipmentUseCases.findShipmentById(1L)).thenReturn(Optional.of(shipment(1L)));
+        when(shipmentUseCases.findTrackingTimeline(eq(1L), isNull(), eq(3)))
+                .thenReturn(List.of(trackingEvent(2L), trackingEvent(1L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/shipments/1/tracking-events").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getTrackingTimeline_WithInvalidCursorOrLimit_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(shipmentUseCases.findShipmentById(1L)).thenReturn(Optional.of(shipment(1L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/shipments/1/tracking-events").param("cursor", encode("ontem|1")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/shipments/1/tracking-events").param("limit", "201"))
+                .andExpect(status().isBadRequest());
+        verify(shipmentUseCases, never())
+                .findTrackingTimeline(any(), any(TrackingEventCursor.class), anyInt());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Shipment shipment(Long id) {
+        Shipment shipment = new Shipment(UUID.randomUUID(), "Cliente", "cliente@techbra.com", "Rua A, 1",
+                "São Paulo", "SP", "01000-000", "Brasil", new BigDecimal("10.00"));
+        shipment.setId(id);
+        shipment.setCreatedAt(CREATED_AT);
+        return shipment;
+    }
+
+    private static ShipmentTrackingEvent trackingEvent(Long id) {
+        ShipmentTrackingEvent event = new ShipmentTrackingEvent(1L, "BILL_CREATED", ShipmentStatus.PENDING, "Cobrança criada");
+        event.setId(id);
+        event.setOccurredAt(CREATED_AT);
+        return event;
+    }
+}
@@ -0,0 +1,57 @@
+package com.techbra.order.benchmark;
+
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderItem;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Massa de dados compartilhada pelos benchmarks de pedidos
+ * 
+ * Os preços usam duas casas decimais e variam por item, para que as somas
+ * com BigDecimal tenham o mesmo custo de escala que os pedidos reais.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public final class OrderFixtures {
+    
+    private OrderFixtures() {
+    }
+    
+    /**
+     * Cria itens de pedido com produtos e preços distintos
+     * 
+     * @param count quantidade de itens
+     * @return lista de itens ainda não associados a um pedido
+     */
+    public static List<OrderItem> items(int count) {
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(1999 + (i % 97) * 13L, 2);
+            items.add(new OrderItem(UUID.randomUUID(), "Produto " + i, "SKU-" + i, unitPrice, 1 + i % 5));
+        }
+        return items;
+    }
+    
+    /**
+     * Cria um pedido pendente completo com a quantidade de itens informada
+     * 
+     * @param itemCount quantidade de itens
+     * @return pedido com ID, endereços e forma de pagamento preenchidos
+     */
+    public static Order order(int itemCount) {
+        Order order = new Order(UUID.randomUUID(), "Entregar em horário comercial", "ORD-0000000000001");
+        order.setId(UUID.randomUUID());
+        order.setShippingAddress("Rua das Flores, 123 - São Paulo/SP");
+        order.setBillingAddress("Rua das Flores, 123 - São Paulo/SP");
+        order.setPaymentMethod("CREDIT_CARD");
+        for (OrderItem item : items(itemCount)) {
+            order.addItem(item);
+        }
+        return order;
+    }
+}
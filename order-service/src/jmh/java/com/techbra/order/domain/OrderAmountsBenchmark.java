@@ -0,0 +1,64 @@
+package com.techbra.order.domain;
+
+import com.techbra.order.benchmark.OrderFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do cálculo de valores do pedido
+ * 
+ * addItems mede a montagem de um pedido item a item, que recalcula os totais
+ * a cada inclusão; recalculateAmounts mede uma única soma sobre o pedido pronto.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderAmountsBenchmark {
+    
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+    
+    private List<OrderItem> items;
+    private Order order;
+    
+    @Setup
+    public void setUp() {
+        items = OrderFixtures.items(itemCount);
+        order = OrderFixtures.order(itemCount);
+    }
+    
+    @Benchmark
+    public Order addItems() {
+        Order newOrder = new Order(UUID.randomUUID(), null, "ORD-0000000000001");
+        for (OrderItem item : items) {
+            newOrder.addItem(item);
+        }
+        return newOrder;
+    }
+    
+    @Benchmark
+    public BigDecimal recalculateAmounts() {
+        order.recalculateAmounts();
+        return order.getFinalAmount();
+    }
+}
@@ -0,0 +1,160 @@
+package com.techbra.order.infrastructure.adapters;
+
+import com.techbra.order.benchmark.OrderFixtures;
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderItem;
+import com.techbra.order.infrastructure.cache.OrderCache;
+import com.techbra.order.infrastructure.persistence.OrderEntity;
+import com.techbra.order.infrastructure.persistence.OrderJpaRepository;
+import com.techbra.order.infrastructure.persistence.OrderMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das gravações de alteração de item do pedido
+ *
+ * Mede o caminho de escrita do adaptador, em H2 em memória, para pedidos com
+ * quantidade crescente de itens: a inclusão e a remoção de um item
+ * (insertItem + deleteItem), a alteração de quantidade (updateItem), cada uma
+ * acompanhada do UPDATE dos totais do pedido, e, para comparação, a gravação
+ * do agregado inteiro (save), usada antes das gravações por delta. As
+ * primeiras devem ter custo constante; save cresce com o número de itens.
+ *
+ * O cálculo dos totais no domínio fica fora da medição (ver
+ * {@code OrderAmountsBenchmark}).
+ *
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemMutationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private OrderMapper orderMapper;
+    private OrderRepositoryAdapter adapter;
+    private TransactionTemplate transactionTemplate;
+    private Order order;
+    private OrderItem item;
+    private int quantity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PersistenceContext.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.cloud.config.enabled=false",
+                     "--spring.config.import=",
+                     "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                     "--spring.jpa.hibernate.ddl-auto=create-drop",
+                     "--logging.level.root=WARN");
+        entityManager = context.getBean(EntityManager.class);
+        orderMapper = new OrderMapper();
+        adapter = new OrderRepositoryAdapter(context.getBean(OrderJpaRepository.class), orderMapper,
+                entityManager, new OrderCache(1000, Duration.ofSeconds(60), new SimpleMeterRegistry()));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Order newOrder = OrderFixtures.order(itemCount);
+        order = transactionTemplate.execute(status -> adapter.saveAllNew(List.of(newOrder)).get(0));
+        item = order.getItems().get(0);
+        quantity = item.getQuantity();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order insertAndDeleteItem() {
+        return transactionTemplate.execute(status -> {
+            OrderItem newItem = new OrderItem(UUID.randomUUID(), "Produto avulso", "SKU-AVULSO",
+                    new BigDecimal("9.90"), 1);
+            order.addItem(newItem);
+            adapter.insertItem(order, newItem);
+            order.removeItem(newItem);
+            return adapter.deleteItem(order, newItem.getId());
+        });
+    }
+
+    @Benchmark
+    public Order updateItemQuantity() {
+        return transactionTemplate.execute(status -> {
+            item.updateQuantity(nextQuantity());
+            return adapter.updateItem(order, item);
+        });
+    }
+
+    @Benchmark
+    public Order saveWholeOrder() {
+        return transactionTemplate.execute(status -> {
+            item.updateQuantity(nextQuantity());
+            adapter.save(order);
+            // O merge só incrementa as versões no flush; a cópia gerenciada já vem do contexto, sem SELECT
+            entityManager.flush();
+            order = orderMapper.toDomain(entityManager.find(OrderEntity.class, order.getId()));
+            item = order.getItems().get(0);
+            return order;
+        });
+    }
+
+    /**
+     * Alterna a quantidade do item, para que cada gravação altere de fato a linha
+     */
+    private int nextQuantity() {
+        quantity = quantity % 9 + 1;
+        return quantity;
+    }
+
+    /**
+     * Contexto mínimo de persistência: H2 em memória, entidades e repositórios JPA do serviço
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = OrderEntity.class)
+    @EnableJpaRepositories(basePackageClasses = OrderJpaRepository.class)
+    static class PersistenceContext {
+    }
+}
@@ -0,0 +1,123 @@
+package com.techbra.order.infrastructure.ordernumber;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de vazão e unicidade do gerador de números de pedido
+ *
+ * Quatro threads geram números distribuídas entre {@code nodes} nós
+ * simulados, cada um com seu próprio gerador: com um nó, todas disputam o
+ * mesmo CAS; com quatro, cada thread tem um nó exclusivo. Acima de 4096
+ * números por milissegundo o nó adianta o timestamp em relação ao relógio,
+ * sem esperar por ele.
+ *
+ * Ao fim de cada iteração, os primeiros números gerados por cada thread são
+ * comparados entre todos os nós; um número repetido interrompe o benchmark.
+ *
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class SnowflakeOrderNumberGeneratorBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 18;
+
+    /**
+     * Nós simulados, compartilhados pelas threads do benchmark
+     */
+    @State(Scope.Benchmark)
+    public static class Cluster {
+
+        @Param({"1", "2", "4"})
+        private int nodes;
+
+        private SnowflakeOrderNumberGenerator[] generators;
+        private final Queue<String[]> samples = new ConcurrentLinkedQueue<>();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            generators = new SnowflakeOrderNumberGenerator[nodes];
+            for (int nodeId = 0; nodeId < nodes; nodeId++) {
+                generators[nodeId] = new SnowflakeOrderNumberGenerator(nodeId);
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void clearSamples() {
+            samples.clear();
+        }
+
+        @TearDown(Level.Iteration)
+        public void verifyUniqueness() {
+            Set<String> unique = new HashSet<>();
+            int generated = 0;
+            for (String[] sample : samples) {
+                for (String number : sample) {
+                    if (number == null) {
+                        break;
+                    }
+                    generated++;
+                    if (!unique.add(number)) {
+                        throw new IllegalStateException("Número de pedido repetido entre os nós: " + number);
+                    }
+                }
+            }
+            if (generated == 0) {
+                throw new IllegalStateException("Nenhum número de pedido amostrado na iteração");
+            }
+        }
+    }
+
+    /**
+     * Thread do benchmark, associada a um dos nós simulados
+     */
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private SnowflakeOrderNumberGenerator generator;
+        private String[] sample;
+        private int sampled;
+
+        @Setup(Level.Iteration)
+        public void setUp(Cluster cluster, ThreadParams threadParams) {
+            generator = cluster.generators[threadParams.getThreadIndex() % cluster.nodes];
+            sample = new String[SAMPLE_SIZE];
+            sampled = 0;
+            cluster.samples.add(sample);
+        }
+    }
+
+    @Benchmark
+    public String nextOrderNumber(Worker worker) {
+        String number = worker.generator.nextOrderNumber();
+        if (worker.sampled < SAMPLE_SIZE) {
+            worker.sample[worker.sampled++] = number;
+        }
+        return number;
+    }
+}
@@ -0,0 +1,58 @@
+package com.techbra.order.infrastructure.persistence;
+
+import com.techbra.order.benchmark.OrderFixtures;
+import com.techbra.order.domain.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da conversão entre o domínio e as entidades JPA
+ * 
+ * A conversão roda em toda leitura e gravação de pedido, inclusive nos
+ * snapshots guardados pelo cache de pedidos.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+    
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+    
+    private final OrderMapper orderMapper = new OrderMapper();
+    private Order order;
+    private OrderEntity entity;
+    
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(itemCount);
+        entity = orderMapper.toEntity(order);
+    }
+    
+    @Benchmark
+    public OrderEntity toEntity() {
+        return orderMapper.toEntity(order);
+    }
+    
+    @Benchmark
+    public Order toDomain() {
+        return orderMapper.toDomain(entity);
+    }
+}
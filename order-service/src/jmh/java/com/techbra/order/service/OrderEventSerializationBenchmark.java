@@ -0,0 +1,121 @@
+package com.techbra.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techbra.order.benchmark.OrderFixtures;
+import com.techbra.order.config.JacksonConfig;
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.event.OrderEvent;
+import com.techbra.order.infrastructure.messaging.EventSerializer;
+import com.techbra.order.infrastructure.messaging.EventWireFormat;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da montagem e serialização do evento de pedido
+ * 
+ * writeOutboxPayload reproduz o caminho atual, em que o evento é serializado
+ * para a outbox com o ObjectMapper da aplicação; serializeWithJsonSerializer
+ * mede o JsonSerializer do Kafka com o mesmo ObjectMapper.
+ * 
+ * Os benchmarks *Wire comparam o EventSerializer do produtor em JSON e SMILE
+ * (serialização) e a leitura do registro pelo consumidor em cada formato
+ * (deserialização). O tamanho em bytes de cada formato é impresso no setup.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderEventSerializationBenchmark {
+    
+    private static final String TOPIC = "billing-events";
+    
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+    
+    private ObjectMapper objectMapper;
+    private OrderEventPublisher publisher;
+    private JsonSerializer<OrderEvent> jsonSerializer;
+    private EventSerializer<OrderEvent> jsonWireSerializer;
+    private EventSerializer<OrderEvent> smileWireSerializer;
+    private Order order;
+    private OrderEvent event;
+    private byte[] jsonRecord;
+    private byte[] smileRecord;
+    
+    @Setup
+    public void setUp() {
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        objectMapper = jacksonConfig.objectMapper(jacksonConfig.jackson2ObjectMapperBuilder());
+        publisher = new OrderEventPublisher(null, objectMapper);
+        jsonSerializer = new JsonSerializer<>(objectMapper);
+        jsonWireSerializer = new EventSerializer<>(EventWireFormat.JSON);
+        smileWireSerializer = new EventSerializer<>(EventWireFormat.SMILE);
+        order = OrderFixtures.order(itemCount);
+        event = publisher.createOrderEvent("ORDER_CREATED", order);
+        jsonRecord = jsonWireSerializer.serialize(TOPIC, new RecordHeaders(), event);
+        smileRecord = smileWireSerializer.serialize(TOPIC, new RecordHeaders(), event);
+        System.out.printf("%nitemCount=%d bytes/event: json=%d smile=%d (%.0f%%)%n", itemCount,
+                jsonRecord.length, smileRecord.length, 100.0 * smileRecord.length / jsonRecord.length);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+    }
+    
+    @Benchmark
+    public OrderEvent createOrderEvent() {
+        return publisher.createOrderEvent("ORDER_CREATED", order);
+    }
+    
+    @Benchmark
+    public String writeOutboxPayload() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(publisher.createOrderEvent("ORDER_CREATED", order));
+    }
+    
+    @Benchmark
+    public byte[] serializeWithJsonSerializer() {
+        return jsonSerializer.serialize(TOPIC, publisher.createOrderEvent("ORDER_CREATED", order));
+    }
+    
+    @Benchmark
+    public byte[] serializeJsonWire() {
+        return jsonWireSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+    
+    @Benchmark
+    public byte[] serializeSmileWire() {
+        return smileWireSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+    
+    @Benchmark
+    public OrderEvent deserializeJsonWire() throws IOException {
+        return EventWireFormat.JSON.objectMapper().readValue(jsonRecord, OrderEvent.class);
+    }
+    
+    @Benchmark
+    public OrderEvent deserializeSmileWire() throws IOException {
+        return EventWireFormat.SMILE.objectMapper().readValue(smileRecord, OrderEvent.class);
+    }
+}
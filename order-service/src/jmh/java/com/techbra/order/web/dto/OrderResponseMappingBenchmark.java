@@ -0,0 +1,47 @@
+package com.techbra.order.web.dto;
+
+import com.techbra.order.benchmark.OrderFixtures;
+import com.techbra.order.domain.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da conversão do pedido para o DTO de resposta da API
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseMappingBenchmark {
+    
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+    
+    private Order order;
+    
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(itemCount);
+    }
+    
+    @Benchmark
+    public OrderResponse fromDomain() {
+        return OrderResponse.fromDomain(order);
+    }
+}
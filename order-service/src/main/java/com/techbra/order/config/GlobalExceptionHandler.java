@@ -2,6 +2,7 @@ package com.techbra.order.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -107,6 +108,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
     
+    /**
+     * Trata conflitos de versão (pedido alterado concorrentemente)
+     * 
+     * @param ex exceção de conflito de versão
+     * @param request requisição web
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        
+        logger.warn("Version conflict: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "CONCURRENT_MODIFICATION",
+            "Pedido foi alterado por outra requisição; tente novamente",
+            null,
+            request.getDescription(false),
+            LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
     /**
      * Trata exceções de runtime genéricas
      * 
@@ -2,13 +2,30 @@ package com.techbra.order.config;
 
 import com.techbra.order.domain.service.OrderService;
 import com.techbra.order.domain.ports.in.OrderUseCase;
+import com.techbra.order.domain.ports.out.CustomerOrderStatsPort;
+import com.techbra.order.domain.ports.out.OrderNumberGenerator;
 import com.techbra.order.domain.ports.out.OrderRepositoryPort;
+import com.techbra.order.domain.ports.out.SchedulerLeasePort;
+import com.techbra.order.infrastructure.adapters.CustomerOrderStatsAdapter;
 import com.techbra.order.infrastructure.adapters.OrderRepositoryAdapter;
+import com.techbra.order.infrastructure.adapters.SchedulerLeaseAdapter;
+import com.techbra.order.infrastructure.cache.OrderCache;
+import com.techbra.order.infrastructure.ordernumber.SnowflakeOrderNumberGenerator;
+import com.techbra.order.infrastructure.persistence.CustomerOrderStatsJpaRepository;
 import com.techbra.order.infrastructure.persistence.OrderJpaRepository;
 import com.techbra.order.infrastructure.persistence.OrderMapper;
+import com.techbra.order.infrastructure.persistence.SchedulerLeaseJpaRepository;
+import com.techbra.order.service.OrderEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Configuração da arquitetura hexagonal
  * 
@@ -21,28 +38,100 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class HexagonalArchitectureConfig {
     
+    private static final Logger logger = LoggerFactory.getLogger(HexagonalArchitectureConfig.class);
+    
     /**
      * Configura o adaptador de saída para persistência
      * 
      * @param orderJpaRepository repositório JPA
      * @param orderMapper mapper entre domínio e entidade
+     * @param entityManager entity manager compartilhado, usado nas leituras em streaming
+     * @param orderCache cache de leitura de pedidos
      * @return implementação da porta de saída
      */
     @Bean
     public OrderRepositoryPort orderRepositoryPort(
             OrderJpaRepository orderJpaRepository,
-            OrderMapper orderMapper) {
-        return new OrderRepositoryAdapter(orderJpaRepository, orderMapper);
+            OrderMapper orderMapper,
+            EntityManager entityManager,
+            OrderCache orderCache) {
+        return new OrderRepositoryAdapter(orderJpaRepository, orderMapper, entityManager, orderCache);
+    }
+    
+    /**
+     * Configura o cache local de leitura de pedidos por ID e por número
+     * 
+     * @param maxSize número máximo de pedidos em cache
+     * @param ttl tempo de vida de cada entrada
+     * @param meterRegistry registro de métricas (acertos, falhas e remoções)
+     * @return cache de pedidos
+     */
+    @Bean
+    public OrderCache orderCache(
+            @Value("${order.cache.max-size:10000}") int maxSize,
+            @Value("${order.cache.ttl:PT60S}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        return new OrderCache(maxSize, ttl, meterRegistry);
+    }
+    
+    /**
+     * Configura o adaptador de saída do agregado de pedidos por cliente
+     * 
+     * @param statsJpaRepository repositório JPA do agregado
+     * @return implementação da porta de saída do agregado
+     */
+    @Bean
+    public CustomerOrderStatsPort customerOrderStatsPort(CustomerOrderStatsJpaRepository statsJpaRepository) {
+        return new CustomerOrderStatsAdapter(statsJpaRepository);
+    }
+    
+    /**
+     * Configura o adaptador de saída dos leases das tarefas agendadas
+     * 
+     * @param schedulerLeaseJpaRepository repositório JPA dos leases
+     * @return implementação da porta de saída dos leases
+     */
+    @Bean
+    public SchedulerLeasePort schedulerLeasePort(SchedulerLeaseJpaRepository schedulerLeaseJpaRepository) {
+        return new SchedulerLeaseAdapter(schedulerLeaseJpaRepository);
+    }
+    
+    /**
+     * Configura o gerador de números de pedido
+     * 
+     * Cada instância do serviço deve usar um ID de nó distinto (0 a 1023),
+     * atribuído explicitamente (por exemplo, o ordinal do pod em um
+     * StatefulSet). Dois nós com o mesmo ID geram números iguais, por isso
+     * a aplicação não sobe sem {@code order.number.node-id}.
+     * 
+     * @param nodeId ID do nó
+     * @return gerador de números de pedido
+     */
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(@Value("${order.number.node-id:-1}") int nodeId) {
+        if (nodeId < 0) {
+            throw new IllegalStateException(
+                    "order.number.node-id deve ser configurado com um ID de nó único por instância (0 a "
+                    + SnowflakeOrderNumberGenerator.MAX_NODE_ID + ")");
+        }
+        logger.info("Gerador de números de pedido usando o nó {}", nodeId);
+        return new SnowflakeOrderNumberGenerator(nodeId);
     }
     
     /**
      * Configura o serviço de domínio como implementação da porta de entrada
      * 
      * @param orderRepositoryPort porta de saída para persistência
+     * @param orderEventPublisher publicador de eventos de pedido
+     * @param customerOrderStatsPort porta de saída do agregado de pedidos por cliente
+     * @param orderNumberGenerator gerador de números de pedido
      * @return implementação da porta de entrada
      */
     @Bean
-    public OrderUseCase orderUseCase(OrderRepositoryPort orderRepositoryPort) {
-        return new OrderService(orderRepositoryPort);
+    public OrderUseCase orderUseCase(OrderRepositoryPort orderRepositoryPort,
+                                     OrderEventPublisher orderEventPublisher,
+                                     CustomerOrderStatsPort customerOrderStatsPort,
+                                     OrderNumberGenerator orderNumberGenerator) {
+        return new OrderService(orderRepositoryPort, orderEventPublisher, customerOrderStatsPort, orderNumberGenerator);
     }
 }
\ No newline at end of file
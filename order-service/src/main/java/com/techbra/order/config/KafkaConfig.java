@@ -1,5 +1,7 @@
 package com.techbra.order.config;
 
+import com.techbra.order.infrastructure.messaging.EventSerializer;
+import com.techbra.order.infrastructure.messaging.EventWireFormat;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,7 +10,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,9 +29,37 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${spring.kafka.producer.acks:all}")
+    private String acks;
+
+    @Value("${spring.kafka.producer.retries:3}")
+    private Integer retries;
+
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private Integer batchSize;
+
+    @Value("${spring.kafka.producer.linger-ms:10}")
+    private Integer lingerMs;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.buffer-memory:33554432}")
+    private Long bufferMemory;
+
+    @Value("${spring.kafka.producer.max-in-flight-requests-per-connection:5}")
+    private Integer maxInFlightRequests;
+
+    @Value("${order.kafka.event-format:json}")
+    private String eventFormat;
+
     /**
      * Configura as propriedades do producer do Kafka
      * 
+     * Os envios da outbox são agrupados em lotes comprimidos (batch.size,
+     * linger.ms, compression.type). Com idempotência, até 5 requisições em
+     * voo por conexão preservam a ordem por partição sem duplicar eventos.
+     * 
      * @return mapa com as configurações do producer
      */
     @Bean
@@ -38,21 +67,29 @@ public class KafkaConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        props.put(ProducerConfig.ACKS_CONFIG, "all");
-        props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        props.put(ProducerConfig.RETRIES_CONFIG, retries);
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, Math.min(maxInFlightRequests, 5));
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
         return props;
     }
 
     /**
      * Configura a factory do producer do Kafka
      * 
+     * Os eventos seguem em JSON ou, com order.kafka.event-format=smile, no
+     * formato binário SMILE sinalizado pelo header event-format.
+     * 
      * @return factory configurada para criar producers
      */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
+        return new DefaultKafkaProducerFactory<>(producerConfigs(), new StringSerializer(),
+                new EventSerializer<>(EventWireFormat.fromName(eventFormat)));
     }
 
     /**
@@ -0,0 +1,96 @@
+package com.techbra.order.domain;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Agregado materializado de pedidos de um cliente
+ * 
+ * Mantém, por status, a quantidade de pedidos e a soma dos seus valores totais.
+ * É atualizado incrementalmente a cada transição de pedido, de forma que
+ * contagens e totais de vendas são obtidos sem varrer o histórico do cliente.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class CustomerOrderStats {
+    
+    /**
+     * Status cujos valores são considerados como vendas efetivadas
+     */
+    public static final Set<OrderStatus> SALES_STATUSES =
+            Collections.unmodifiableSet(EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.SHIPPED, OrderStatus.DELIVERED));
+    
+    private final UUID customerId;
+    private final Map<OrderStatus, Long> countsByStatus;
+    private final Map<OrderStatus, BigDecimal> amountsByStatus;
+    
+    public CustomerOrderStats(UUID customerId) {
+        this.customerId = customerId;
+        this.countsByStatus = new EnumMap<>(OrderStatus.class);
+        this.amountsByStatus = new EnumMap<>(OrderStatus.class);
+    }
+    
+    /**
+     * Registra os totais de um status
+     * 
+     * @param status status do pedido
+     * @param orderCount quantidade de pedidos no status
+     * @param totalAmount soma dos valores totais dos pedidos no status
+     */
+    public void put(OrderStatus status, long orderCount, BigDecimal totalAmount) {
+        countsByStatus.put(status, orderCount);
+        amountsByStatus.put(status, totalAmount != null ? totalAmount : BigDecimal.ZERO);
+    }
+    
+    /**
+     * Retorna a quantidade total de pedidos do cliente
+     */
+    public long getOrderCount() {
+        return countsByStatus.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+    
+    /**
+     * Retorna o total de vendas do cliente (pedidos em status de venda efetivada)
+     */
+    public BigDecimal getTotalSales() {
+        return amountsByStatus.entrySet().stream()
+                .filter(entry -> SALES_STATUSES.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    /**
+     * Retorna a quantidade de pedidos em um status
+     */
+    public long getOrderCount(OrderStatus status) {
+        return countsByStatus.getOrDefault(status, 0L);
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public Map<OrderStatus, Long> getCountsByStatus() {
+        return Collections.unmodifiableMap(countsByStatus);
+    }
+    
+    public Map<OrderStatus, BigDecimal> getAmountsByStatus() {
+        return Collections.unmodifiableMap(amountsByStatus);
+    }
+    
+    @Override
+    public String toString() {
+        return "CustomerOrderStats{" +
+                "customerId=" + customerId +
+                ", countsByStatus=" + countsByStatus +
+                '}';
+    }
+}
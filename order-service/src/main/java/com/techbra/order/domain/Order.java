@@ -57,13 +57,13 @@ public class Order {
     }
     
     // Construtor para criação de novo pedido
-    public Order(UUID customerId, String notes) {
+    public Order(UUID customerId, String notes, String orderNumber) {
         this();
         this.id = UUID.randomUUID();
         this.customerId = customerId;
         this.notes = notes;
         this.customerNotes = notes;
-        this.orderNumber = generateOrderNumber();
+        this.orderNumber = orderNumber;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -189,14 +189,6 @@ public class Order {
         this.finalAmount = this.totalAmount.subtract(this.discountAmount != null ? this.discountAmount : BigDecimal.ZERO);
     }
     
-    /**
-     * Gera um número único para o pedido
-     */
-    private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis() + "-" + 
-               String.format("%04d", (int)(Math.random() * 10000));
-    }
-    
     /**
      * Retorna a quantidade total de itens no pedido
      */
@@ -0,0 +1,108 @@
+package com.techbra.order.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Cursor de paginação por chave (keyset) para listagens de pedidos
+ *
+ * Representa a posição do último pedido retornado, identificada pelo par
+ * (createdAt, id). A próxima página é obtida buscando os pedidos estritamente
+ * anteriores a essa posição na ordenação (created_at DESC, id DESC), o que
+ * mantém o custo constante independentemente da profundidade do histórico.
+ *
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public final class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public OrderCursor(LocalDateTime createdAt, UUID id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requer data de criação e ID do pedido");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Cria o cursor que aponta para a posição de um pedido
+     *
+     * @param order o último pedido da página atual
+     * @return cursor posicionado no pedido
+     */
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    /**
+     * Decodifica um cursor opaco recebido do cliente
+     *
+     * @param token cursor codificado em Base64 URL-safe
+     * @return o cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return new OrderCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+
+    /**
+     * Codifica o cursor em um token opaco para o cliente
+     *
+     * @return cursor codificado em Base64 URL-safe
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderCursor that = (OrderCursor) o;
+        return Objects.equals(createdAt, that.createdAt) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderCursor{" +
+                "createdAt=" + createdAt +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.techbra.order.domain.ports.in;
+
+import com.techbra.order.domain.OrderItem;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando de criação de um pedido com seus itens
+ * 
+ * Usado na criação em lote, em que o pedido e todos os itens são
+ * persistidos de uma só vez em vez de uma chamada por item.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class CreateOrderCommand {
+    
+    private final UUID customerId;
+    private final String shippingAddress;
+    private final String billingAddress;
+    private final String paymentMethod;
+    private final String notes;
+    private final List<OrderItem> items;
+    
+    public CreateOrderCommand(UUID customerId, String shippingAddress, String billingAddress,
+                              String paymentMethod, String notes, List<OrderItem> items) {
+        this.customerId = customerId;
+        this.shippingAddress = shippingAddress;
+        this.billingAddress = billingAddress;
+        this.paymentMethod = paymentMethod;
+        this.notes = notes;
+        this.items = items != null ? List.copyOf(items) : Collections.emptyList();
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public String getShippingAddress() {
+        return shippingAddress;
+    }
+    
+    public String getBillingAddress() {
+        return billingAddress;
+    }
+    
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public List<OrderItem> getItems() {
+        return items;
+    }
+}
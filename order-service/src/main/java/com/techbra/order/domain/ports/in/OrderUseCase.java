@@ -1,6 +1,8 @@
 package com.techbra.order.domain.ports.in;
 
+import com.techbra.order.domain.CustomerOrderStats;
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderCursor;
 import com.techbra.order.domain.OrderStatus;
 
 import java.math.BigDecimal;
@@ -8,6 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface que define os casos de uso para gerenciamento de pedidos
@@ -82,6 +85,14 @@ public interface OrderUseCase {
      */
     Order cancelOrder(UUID orderId, String reason);
     
+    /**
+     * Cria vários pedidos, com seus itens, em uma única transação
+     * 
+     * @param commands comandos de criação dos pedidos
+     * @return os pedidos criados, na mesma ordem dos comandos
+     */
+    List<Order> createOrders(List<CreateOrderCommand> commands);
+    
     /**
      * Aplica desconto ao pedido
      * 
@@ -142,6 +153,15 @@ public interface OrderUseCase {
      */
     List<Order> findOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate);
     
+    /**
+     * Exporta os pedidos criados em um período em modo streaming
+     * 
+     * @param startDate data inicial
+     * @param endDate data final
+     * @param consumer consumidor chamado para cada pedido exportado
+     */
+    void exportOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Order> consumer);
+    
     /**
      * Calcula o total de vendas de um cliente
      * 
@@ -158,6 +178,14 @@ public interface OrderUseCase {
      */
     Long countOrdersByCustomerId(UUID customerId);
     
+    /**
+     * Busca o resumo materializado de pedidos de um cliente
+     * 
+     * @param customerId ID do cliente
+     * @return quantidade de pedidos, total de vendas e contagem por status
+     */
+    CustomerOrderStats getCustomerOrderStats(UUID customerId);
+    
     /**
      * Busca pedidos de um cliente com paginação
      * 
@@ -168,6 +196,16 @@ public interface OrderUseCase {
      */
     List<Order> findOrdersByCustomerIdPaginated(UUID customerId, int page, int size);
     
+    /**
+     * Busca o histórico de pedidos de um cliente com paginação por keyset
+     * 
+     * @param customerId ID do cliente
+     * @param cursor cursor da página anterior, ou null para os pedidos mais recentes
+     * @param limit número máximo de pedidos
+     * @return pedidos do mais recente para o mais antigo
+     */
+    List<Order> findLatestOrdersByCustomerId(UUID customerId, OrderCursor cursor, int limit);
+    
     /**
      * Busca pedidos ativos de um cliente
      * 
@@ -0,0 +1,62 @@
+package com.techbra.order.domain.ports.out;
+
+import com.techbra.order.domain.CustomerOrderStats;
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta de saída para o agregado materializado de pedidos por cliente
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public interface CustomerOrderStatsPort {
+    
+    /**
+     * Aplica de forma incremental a transição de um pedido ao agregado do cliente
+     * 
+     * O pedido sai do status anterior (se houver) com o valor anterior e entra
+     * no novo status com o novo valor. Deve participar da mesma transação que
+     * persiste o pedido.
+     * 
+     * @param customerId ID do cliente
+     * @param previousStatus status anterior, ou null para pedidos novos
+     * @param previousAmount valor total anterior, ou null para pedidos novos
+     * @param newStatus novo status
+     * @param newAmount novo valor total
+     */
+    void recordTransition(UUID customerId, OrderStatus previousStatus, BigDecimal previousAmount,
+                          OrderStatus newStatus, BigDecimal newAmount);
+    
+    /**
+     * Aplica ao agregado a criação de vários pedidos
+     * 
+     * @param orders pedidos recém-criados
+     */
+    void recordNewOrders(List<Order> orders);
+    
+    /**
+     * Busca o agregado de um cliente
+     * 
+     * @param customerId ID do cliente
+     * @return agregado do cliente (vazio se não houver pedidos)
+     */
+    CustomerOrderStats findByCustomerId(UUID customerId);
+    
+    /**
+     * Reconstrói a partir da tabela de pedidos o agregado dos próximos clientes
+     * 
+     * Cada chamada é uma transação curta que cobre no máximo {@code limit}
+     * clientes, para que as escritas incrementais de outros pedidos esperem
+     * apenas por esse trecho e não pela reconstrução inteira.
+     * 
+     * @param afterCustomerId último cliente reconciliado, ou null para começar do início
+     * @param limit quantidade máxima de clientes reconciliados
+     * @return IDs dos clientes reconciliados, em ordem crescente (vazio ao fim da varredura)
+     */
+    List<UUID> reconcileCustomers(UUID afterCustomerId, int limit);
+}
@@ -0,0 +1,20 @@
+package com.techbra.order.domain.ports.out;
+
+/**
+ * Porta de saída para geração de números de pedido
+ * 
+ * Implementações devem produzir números únicos entre todas as instâncias do
+ * serviço, já que o número do pedido é protegido por índice único.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public interface OrderNumberGenerator {
+    
+    /**
+     * Gera o próximo número de pedido
+     * 
+     * @return número de pedido único
+     */
+    String nextOrderNumber();
+}
@@ -1,6 +1,8 @@
 package com.techbra.order.domain.ports.out;
 
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderCursor;
+import com.techbra.order.domain.OrderItem;
 import com.techbra.order.domain.OrderStatus;
 
 import java.math.BigDecimal;
@@ -8,6 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface que define as operações de persistência para pedidos
@@ -28,6 +31,51 @@ public interface OrderRepositoryPort {
      */
     Order save(Order order);
     
+    /**
+     * Persiste novos pedidos em lote
+     * 
+     * Os pedidos e seus itens são inseridos com inserts JDBC em lote, sem a
+     * leitura prévia que o merge de {@link #save(Order)} faz para cada pedido.
+     * 
+     * @param orders novos pedidos a serem inseridos
+     * @return os pedidos persistidos, na mesma ordem
+     */
+    List<Order> saveAllNew(List<Order> orders);
+    
+    /**
+     * Insere um item em um pedido existente sem regravar o pedido inteiro
+     * 
+     * Executa apenas o INSERT do item e um UPDATE dos totais do pedido,
+     * condicionado à versão lida. O pedido deve já conter o item, com os
+     * totais recalculados em memória.
+     * 
+     * @param order pedido alterado em memória, com a versão em que foi lido
+     * @param item item adicionado
+     * @return o pedido com a nova versão
+     * @throws org.springframework.dao.OptimisticLockingFailureException se o pedido foi alterado concorrentemente
+     */
+    Order insertItem(Order order, OrderItem item);
+    
+    /**
+     * Atualiza a quantidade de um item sem regravar o pedido inteiro
+     * 
+     * @param order pedido alterado em memória, com a versão em que foi lido
+     * @param item item com a nova quantidade
+     * @return o pedido com a nova versão
+     * @throws org.springframework.dao.OptimisticLockingFailureException se o pedido foi alterado concorrentemente
+     */
+    Order updateItem(Order order, OrderItem item);
+    
+    /**
+     * Remove um item sem regravar o pedido inteiro
+     * 
+     * @param order pedido alterado em memória, com a versão em que foi lido
+     * @param itemId ID do item removido
+     * @return o pedido com a nova versão
+     * @throws org.springframework.dao.OptimisticLockingFailureException se o pedido foi alterado concorrentemente
+     */
+    Order deleteItem(Order order, UUID itemId);
+    
     /**
      * Busca um pedido por ID
      * 
@@ -78,6 +126,18 @@ public interface OrderRepositoryPort {
      */
     List<Order> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
+    /**
+     * Percorre os pedidos criados em um período sem materializar o resultado
+     * 
+     * Cada pedido é entregue ao consumidor assim que lido, de forma que o uso
+     * de memória permanece constante independentemente do tamanho do período.
+     * 
+     * @param startDate data inicial (inclusive)
+     * @param endDate data final (inclusive)
+     * @param consumer consumidor chamado para cada pedido, em ordem de criação
+     */
+    void streamByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Consumer<Order> consumer);
+    
     /**
      * Busca pedidos de um cliente criados em um período específico
      * 
@@ -163,6 +223,16 @@ public interface OrderRepositoryPort {
      */
     List<Order> findOrdersByCustomerIdPaginated(UUID customerId, int page, int size);
     
+    /**
+     * Busca os pedidos mais recentes de um cliente usando paginação por keyset
+     * 
+     * @param customerId o ID do cliente
+     * @param cursor posição do último pedido da página anterior, ou null para a primeira página
+     * @param limit número máximo de pedidos
+     * @return pedidos ordenados por data de criação e ID, do mais recente para o mais antigo
+     */
+    List<Order> findLatestByCustomerId(UUID customerId, OrderCursor cursor, int limit);
+    
     /**
      * Busca pedidos ativos de um cliente
      * 
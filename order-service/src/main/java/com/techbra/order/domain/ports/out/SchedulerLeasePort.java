@@ -0,0 +1,31 @@
+package com.techbra.order.domain.ports.out;
+
+import java.time.Duration;
+
+/**
+ * Porta de saída para leases com prazo, que garantem que apenas uma
+ * instância do serviço execute cada tarefa agendada
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public interface SchedulerLeasePort {
+    
+    /**
+     * Adquire ou renova o lease, se estiver livre, expirado ou já pertencer ao dono
+     * 
+     * @param name nome da tarefa
+     * @param owner identificador da instância
+     * @param duration prazo do lease a partir de agora
+     * @return true se o lease pertence ao dono até o fim do prazo
+     */
+    boolean tryAcquire(String name, String owner, Duration duration);
+    
+    /**
+     * Libera o lease, se ainda pertencer ao dono
+     * 
+     * @param name nome da tarefa
+     * @param owner identificador da instância
+     */
+    void release(String name, String owner);
+}
@@ -1,11 +1,17 @@
 package com.techbra.order.domain.service;
 
+import com.techbra.order.domain.CustomerOrderStats;
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderCursor;
 import com.techbra.order.domain.OrderItem;
 import com.techbra.order.domain.OrderStatus;
+import com.techbra.order.domain.ports.in.CreateOrderCommand;
 import com.techbra.order.domain.ports.in.OrderUseCase;
+import com.techbra.order.domain.ports.out.CustomerOrderStatsPort;
+import com.techbra.order.domain.ports.out.OrderNumberGenerator;
 import com.techbra.order.domain.ports.out.OrderRepositoryPort;
 import com.techbra.order.service.OrderEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,9 +19,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,12 +40,20 @@ import java.util.stream.Collectors;
 @Service
 public class OrderService implements OrderUseCase {
     
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int MAX_BULK_ORDERS = 500;
+    
     private final OrderRepositoryPort orderRepositoryPort;
     private final OrderEventPublisher orderEventPublisher;
+    private final CustomerOrderStatsPort customerOrderStatsPort;
+    private final OrderNumberGenerator orderNumberGenerator;
 
-    public OrderService(OrderRepositoryPort orderRepositoryPort, OrderEventPublisher orderEventPublisher) {
+    public OrderService(OrderRepositoryPort orderRepositoryPort, OrderEventPublisher orderEventPublisher,
+                        CustomerOrderStatsPort customerOrderStatsPort, OrderNumberGenerator orderNumberGenerator) {
         this.orderRepositoryPort = orderRepositoryPort;
         this.orderEventPublisher = orderEventPublisher;
+        this.customerOrderStatsPort = customerOrderStatsPort;
+        this.orderNumberGenerator = orderNumberGenerator;
     }
     
     /**
@@ -56,26 +73,71 @@ public class OrderService implements OrderUseCase {
         validateAddresses(shippingAddress, billingAddress);
         validatePaymentMethod(paymentMethod);
         
-        Order order = new Order(customerId, null);
+        Order order = new Order(customerId, null, orderNumberGenerator.nextOrderNumber());
         order.setShippingAddress(shippingAddress);
         order.setBillingAddress(billingAddress);
         order.setPaymentMethod(paymentMethod);
         
         // Salvar o pedido no banco de dados
-        Order savedOrder = orderRepositoryPort.save(order);
+        Order savedOrder = saveAndRecord(order, null, null);
         
-        // Publicar evento de criação do pedido no Kafka
-        try {
-            orderEventPublisher.publishOrderCreatedEvent(savedOrder);
-        } catch (Exception e) {
-            // Log do erro, mas não falha a transação principal
-            // Em um cenário real, poderia implementar retry ou dead letter queue
-            System.err.println("Erro ao publicar evento de criação do pedido: " + e.getMessage());
-        }
+        // Gravar o evento de criação na outbox, na mesma transação do pedido
+        orderEventPublisher.publishOrderCreatedEvent(savedOrder);
         
         return savedOrder;
     }
     
+    /**
+     * Cria vários pedidos, com seus itens, em uma única transação
+     * 
+     * Todos os pedidos são validados antes de qualquer escrita; em seguida
+     * são inseridos em lote, o agregado por cliente é atualizado uma vez por
+     * cliente e os eventos de criação são gravados juntos na outbox.
+     * 
+     * @param commands comandos de criação dos pedidos
+     * @return os pedidos criados, na mesma ordem dos comandos
+     */
+    @Override
+    @Transactional
+    public List<Order> createOrders(List<CreateOrderCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("Lista de pedidos é obrigatória");
+        }
+        if (commands.size() > MAX_BULK_ORDERS) {
+            throw new IllegalArgumentException("Máximo de " + MAX_BULK_ORDERS + " pedidos por requisição");
+        }
+        
+        List<Order> orders = new ArrayList<>(commands.size());
+        for (CreateOrderCommand command : commands) {
+            validateCustomerId(command.getCustomerId());
+            validateAddresses(command.getShippingAddress(), command.getBillingAddress());
+            validatePaymentMethod(command.getPaymentMethod());
+            
+            Order order = new Order(command.getCustomerId(), command.getNotes(), orderNumberGenerator.nextOrderNumber());
+            order.setShippingAddress(command.getShippingAddress());
+            order.setBillingAddress(command.getBillingAddress());
+            order.setPaymentMethod(command.getPaymentMethod());
+            for (OrderItem item : command.getItems()) {
+                validateProductData(item.getProductId(), item.getProductName(), item.getUnitPrice(), item.getQuantity());
+                order.addItem(item);
+            }
+            orders.add(order);
+        }
+        
+        List<Order> savedOrders = orderRepositoryPort.saveAllNew(orders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            // Campos não persistidos na entidade, necessários para o payload do evento
+            Order source = orders.get(i);
+            Order saved = savedOrders.get(i);
+            saved.setShippingAddress(source.getShippingAddress());
+            saved.setBillingAddress(source.getBillingAddress());
+            saved.setPaymentMethod(source.getPaymentMethod());
+        }
+        customerOrderStatsPort.recordNewOrders(savedOrders);
+        orderEventPublisher.publishOrderCreatedEvents(savedOrders);
+        return savedOrders;
+    }
+    
     /**
      * Aplica desconto ao pedido com motivo
      * 
@@ -84,8 +146,11 @@ public class OrderService implements OrderUseCase {
      * @param discountReason motivo do desconto
      * @return o pedido com desconto aplicado
      */
+    @Transactional
     public Order applyDiscount(UUID orderId, BigDecimal discountAmount, String discountReason) {
         Order order = getOrderById(orderId);
+        OrderStatus previousStatus = order.getStatus();
+        BigDecimal previousAmount = order.getTotalAmount();
         
         if (!order.canBeModified()) {
             throw new IllegalStateException("Pedido não pode ser modificado no status atual: " + order.getStatus());
@@ -98,7 +163,7 @@ public class OrderService implements OrderUseCase {
                 "Desconto aplicado: " + discountReason);
         }
         
-        return orderRepositoryPort.save(order);
+        return saveAndRecord(order, previousStatus, previousAmount);
     }
     
     /**
@@ -123,6 +188,24 @@ public class OrderService implements OrderUseCase {
         return orderRepositoryPort.findByCreatedAtBetween(startDate, endDate);
     }
     
+    /**
+     * Exporta os pedidos criados em um período em modo streaming
+     * 
+     * @param startDate data inicial
+     * @param endDate data final
+     * @param consumer consumidor chamado para cada pedido exportado
+     */
+    @Override
+    public void exportOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Order> consumer) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Período de exportação é obrigatório");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Data inicial deve ser anterior à data final");
+        }
+        orderRepositoryPort.streamByCreatedAtBetween(startDate, endDate, consumer);
+    }
+    
     /**
      * Calcula o total de vendas de um cliente
      * 
@@ -130,7 +213,7 @@ public class OrderService implements OrderUseCase {
      * @return valor total das vendas
      */
     public BigDecimal calculateCustomerTotalSales(UUID customerId) {
-        return orderRepositoryPort.calculateTotalSalesByCustomerId(customerId);
+        return customerOrderStatsPort.findByCustomerId(customerId).getTotalSales();
     }
     
     /**
@@ -144,21 +227,18 @@ public class OrderService implements OrderUseCase {
      * @param quantity quantidade
      * @return o pedido atualizado
      */
+    @Transactional
     public Order addItemToOrder(UUID orderId, UUID productId, String productName, 
                                String productSku, BigDecimal unitPrice, Integer quantity) {
         
-        Order order = getOrderById(orderId);
-        
-        if (!order.canBeModified()) {
-            throw new IllegalStateException("Pedido não pode ser modificado no status atual: " + order.getStatus());
-        }
-        
-        validateProductData(productId, productName, unitPrice, quantity);
-        
-        OrderItem item = new OrderItem(productId, productName, productSku, unitPrice, quantity);
-        order.addItem(item);
-        
-        return orderRepositoryPort.save(order);
+        return mutateItems(orderId, order -> {
+            validateProductData(productId, productName, unitPrice, quantity);
+            
+            OrderItem item = new OrderItem(productId, productName, productSku, unitPrice, quantity);
+            order.addItem(item);
+            
+            return orderRepositoryPort.insertItem(order, item);
+        });
     }
     
     /**
@@ -168,19 +248,16 @@ public class OrderService implements OrderUseCase {
      * @param itemId ID do item
      * @return o pedido atualizado
      */
+    @Transactional
     public Order removeItemFromOrder(UUID orderId, UUID itemId) {
-        Order order = getOrderById(orderId);
-        
-        if (!order.canBeModified()) {
-            throw new IllegalStateException("Pedido não pode ser modificado no status atual: " + order.getStatus());
-        }
-        
-        OrderItem itemToRemove = order.getItems().stream()
-            .filter(item -> item.getId().equals(itemId))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Item não encontrado: " + itemId));
-        order.removeItem(itemToRemove);
-        return orderRepositoryPort.save(order);
+        return mutateItems(orderId, order -> {
+            OrderItem itemToRemove = order.getItems().stream()
+                .filter(item -> item.getId().equals(itemId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Item não encontrado: " + itemId));
+            order.removeItem(itemToRemove);
+            return orderRepositoryPort.deleteItem(order, itemId);
+        });
     }
     
     /**
@@ -191,30 +268,22 @@ public class OrderService implements OrderUseCase {
      * @param newQuantity nova quantidade
      * @return o pedido atualizado
      */
+    @Transactional
     public Order updateItemQuantity(UUID orderId, UUID itemId, Integer newQuantity) {
-        Order order = getOrderById(orderId);
-        
-        if (!order.canBeModified()) {
-            throw new IllegalStateException("Pedido não pode ser modificado no status atual: " + order.getStatus());
-        }
-        
-        if (newQuantity == null || newQuantity <= 0) {
-            throw new IllegalArgumentException("Quantidade deve ser maior que zero");
-        }
-        
-        Optional<OrderItem> itemOpt = order.getItems().stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst();
-        
-        if (itemOpt.isPresent()) {
-            OrderItem item = itemOpt.get();
+        return mutateItems(orderId, order -> {
+            if (newQuantity == null || newQuantity <= 0) {
+                throw new IllegalArgumentException("Quantidade deve ser maior que zero");
+            }
+            
+            OrderItem item = order.getItems().stream()
+                    .filter(candidate -> candidate.getId().equals(itemId))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Item não encontrado no pedido"));
+            
             item.updateQuantity(newQuantity);
             order.recalculateAmounts();
-        } else {
-            throw new IllegalArgumentException("Item não encontrado no pedido");
-        }
-        
-        return orderRepositoryPort.save(order);
+            return orderRepositoryPort.updateItem(order, item);
+        });
     }
     
     /**
@@ -223,15 +292,18 @@ public class OrderService implements OrderUseCase {
      * @param orderId ID do pedido
      * @return o pedido confirmado
      */
+    @Transactional
     public Order confirmOrder(UUID orderId) {
         Order order = getOrderById(orderId);
+        OrderStatus previousStatus = order.getStatus();
+        BigDecimal previousAmount = order.getTotalAmount();
         
         if (order.getItems().isEmpty()) {
             throw new IllegalStateException("Não é possível confirmar um pedido sem itens");
         }
         
         order.confirm();
-        return orderRepositoryPort.save(order);
+        return saveAndRecord(order, previousStatus, previousAmount);
     }
     
     /**
@@ -241,8 +313,11 @@ public class OrderService implements OrderUseCase {
      * @param reason motivo do cancelamento
      * @return o pedido cancelado
      */
+    @Transactional
     public Order cancelOrder(UUID orderId, String reason) {
         Order order = getOrderById(orderId);
+        OrderStatus previousStatus = order.getStatus();
+        BigDecimal previousAmount = order.getTotalAmount();
         
         if (!order.canBeCancelled()) {
             throw new IllegalStateException("Pedido não pode ser cancelado no status atual: " + order.getStatus());
@@ -255,7 +330,7 @@ public class OrderService implements OrderUseCase {
                 "Motivo do cancelamento: " + reason);
         }
         
-        return orderRepositoryPort.save(order);
+        return saveAndRecord(order, previousStatus, previousAmount);
     }
     
     /**
@@ -265,10 +340,13 @@ public class OrderService implements OrderUseCase {
      * @param newStatus novo status
      * @return o pedido atualizado
      */
+    @Transactional
     public Order updateOrderStatus(UUID orderId, OrderStatus newStatus) {
         Order order = getOrderById(orderId);
+        OrderStatus previousStatus = order.getStatus();
+        BigDecimal previousAmount = order.getTotalAmount();
         order.updateStatus(newStatus);
-        return orderRepositoryPort.save(order);
+        return saveAndRecord(order, previousStatus, previousAmount);
     }
     
     /**
@@ -278,15 +356,18 @@ public class OrderService implements OrderUseCase {
      * @param discountAmount valor do desconto
      * @return o pedido atualizado
      */
+    @Transactional
     public Order applyDiscount(UUID orderId, BigDecimal discountAmount) {
         Order order = getOrderById(orderId);
+        OrderStatus previousStatus = order.getStatus();
+        BigDecimal previousAmount = order.getTotalAmount();
         
         if (!order.canBeModified()) {
             throw new IllegalStateException("Pedido não pode ser modificado no status atual: " + order.getStatus());
         }
         
         order.applyDiscount(discountAmount);
-        return orderRepositoryPort.save(order);
+        return saveAndRecord(order, previousStatus, previousAmount);
     }
     
     /**
@@ -349,7 +430,70 @@ public class OrderService implements OrderUseCase {
      * @return número de pedidos
      */
     public Long countOrdersByCustomerId(UUID customerId) {
-        return orderRepositoryPort.countByCustomerId(customerId);
+        return customerOrderStatsPort.findByCustomerId(customerId).getOrderCount();
+    }
+    
+    /**
+     * Busca o resumo materializado de pedidos de um cliente
+     * 
+     * @param customerId ID do cliente
+     * @return quantidade de pedidos, total de vendas e contagem por status
+     */
+    @Override
+    public CustomerOrderStats getCustomerOrderStats(UUID customerId) {
+        validateCustomerId(customerId);
+        return customerOrderStatsPort.findByCustomerId(customerId);
+    }
+    
+    /**
+     * Persiste o pedido e aplica a transição ao agregado do cliente
+     * 
+     * Deve ser chamado dentro da transação do caso de uso, para que pedido e
+     * agregado sejam confirmados ou desfeitos juntos.
+     * 
+     * @param order pedido a persistir
+     * @param previousStatus status antes da alteração, ou null para pedidos novos
+     * @param previousAmount valor total antes da alteração, ou null para pedidos novos
+     * @return o pedido persistido
+     */
+    private Order saveAndRecord(Order order, OrderStatus previousStatus, BigDecimal previousAmount) {
+        Order savedOrder = orderRepositoryPort.save(order);
+        customerOrderStatsPort.recordTransition(savedOrder.getCustomerId(), previousStatus, previousAmount,
+                savedOrder.getStatus(), savedOrder.getTotalAmount());
+        return savedOrder;
+    }
+    
+    /**
+     * Aplica uma alteração de itens ao pedido, gravando apenas o delta
+     * 
+     * A alteração grava o item afetado e os totais do pedido condicionados à
+     * versão lida. Se outra requisição alterou o pedido nesse intervalo, o
+     * pedido é relido e a alteração reaplicada uma única vez; um segundo
+     * conflito é propagado ao chamador.
+     * 
+     * @param orderId ID do pedido
+     * @param mutation alteração em memória seguida da gravação do delta
+     * @return o pedido atualizado
+     */
+    private Order mutateItems(UUID orderId, Function<Order, Order> mutation) {
+        try {
+            return applyItemMutation(getOrderById(orderId), mutation);
+        } catch (OptimisticLockingFailureException e) {
+            return applyItemMutation(getOrderById(orderId), mutation);
+        }
+    }
+    
+    private Order applyItemMutation(Order order, Function<Order, Order> mutation) {
+        if (!order.canBeModified()) {
+            throw new IllegalStateException("Pedido não pode ser modificado no status atual: " + order.getStatus());
+        }
+        
+        OrderStatus previousStatus = order.getStatus();
+        BigDecimal previousAmount = order.getTotalAmount();
+        Order savedOrder = mutation.apply(order);
+        customerOrderStatsPort.recordTransition(savedOrder.getCustomerId(), previousStatus, previousAmount,
+                savedOrder.getStatus(), savedOrder.getTotalAmount());
+        return savedOrder;
     }
     
     // Métodos de validação privados
@@ -399,6 +543,18 @@ public class OrderService implements OrderUseCase {
         return orderRepositoryPort.findOrdersByCustomerIdPaginated(customerId, page, size);
     }
     
+    @Override
+    public List<Order> findLatestOrdersByCustomerId(UUID customerId, OrderCursor cursor, int limit) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("ID do cliente é obrigatório");
+        }
+        // Uma página completa mais o pedido que indica a existência da próxima
+        if (limit <= 0 || limit > MAX_HISTORY_PAGE_SIZE + 1) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + (MAX_HISTORY_PAGE_SIZE + 1));
+        }
+        return orderRepositoryPort.findLatestByCustomerId(customerId, cursor, limit);
+    }
+    
     @Override
     public List<Order> findActiveOrdersByCustomerId(UUID customerId) {
         if (customerId == null) {
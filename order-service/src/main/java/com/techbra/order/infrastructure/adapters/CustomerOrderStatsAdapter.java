@@ -0,0 +1,96 @@
+package com.techbra.order.infrastructure.adapters;
+
+import com.techbra.order.domain.CustomerOrderStats;
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderStatus;
+import com.techbra.order.domain.ports.out.CustomerOrderStatsPort;
+import com.techbra.order.infrastructure.persistence.CustomerOrderStatsEntity;
+import com.techbra.order.infrastructure.persistence.CustomerOrderStatsJpaRepository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adaptador de saída que mantém o agregado de pedidos por cliente em PostgreSQL
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class CustomerOrderStatsAdapter implements CustomerOrderStatsPort {
+    
+    /** Menor UUID na ordenação do PostgreSQL; início da varredura de clientes */
+    private static final UUID FIRST_CUSTOMER_ID = new UUID(0L, 0L);
+    
+    private final CustomerOrderStatsJpaRepository statsJpaRepository;
+    
+    public CustomerOrderStatsAdapter(CustomerOrderStatsJpaRepository statsJpaRepository) {
+        this.statsJpaRepository = statsJpaRepository;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(UUID customerId, OrderStatus previousStatus, BigDecimal previousAmount,
+                                 OrderStatus newStatus, BigDecimal newAmount) {
+        BigDecimal before = previousAmount != null ? previousAmount : BigDecimal.ZERO;
+        BigDecimal after = newAmount != null ? newAmount : BigDecimal.ZERO;
+        
+        if (previousStatus == newStatus) {
+            if (newStatus != null && before.compareTo(after) != 0) {
+                statsJpaRepository.applyDelta(customerId, newStatus.name(), 0, after.subtract(before));
+            }
+            return;
+        }
+        if (previousStatus != null) {
+            statsJpaRepository.applyDelta(customerId, previousStatus.name(), -1, before.negate());
+        }
+        if (newStatus != null) {
+            statsJpaRepository.applyDelta(customerId, newStatus.name(), 1, after);
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordNewOrders(List<Order> orders) {
+        Map<CustomerOrderStatsEntity.Key, CustomerOrderStatsEntity> deltas = new LinkedHashMap<>();
+        for (Order order : orders) {
+            BigDecimal amount = order.getTotalAmount() != null ? order.getTotalAmount() : BigDecimal.ZERO;
+            deltas.computeIfAbsent(new CustomerOrderStatsEntity.Key(order.getCustomerId(), order.getStatus()),
+                            key -> new CustomerOrderStatsEntity(key.getCustomerId(), key.getStatus(), 0L, BigDecimal.ZERO))
+                    .add(1, amount);
+        }
+        for (CustomerOrderStatsEntity delta : deltas.values()) {
+            statsJpaRepository.applyDelta(delta.getId().getCustomerId(), delta.getId().getStatus().name(),
+                    delta.getOrderCount(), delta.getTotalAmount());
+        }
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerOrderStats findByCustomerId(UUID customerId) {
+        CustomerOrderStats stats = new CustomerOrderStats(customerId);
+        for (CustomerOrderStatsEntity row : statsJpaRepository.findByIdCustomerId(customerId)) {
+            stats.put(row.getId().getStatus(), row.getOrderCount(), row.getTotalAmount());
+        }
+        return stats;
+    }
+    
+    @Override
+    @Transactional
+    public List<UUID> reconcileCustomers(UUID afterCustomerId, int limit) {
+        UUID from = afterCustomerId != null ? afterCustomerId : FIRST_CUSTOMER_ID;
+        List<UUID> customerIds = statsJpaRepository.findCustomerIdsAfter(from, limit);
+        if (customerIds.isEmpty()) {
+            return customerIds;
+        }
+        UUID to = customerIds.get(customerIds.size() - 1);
+        statsJpaRepository.lockForReconciliation();
+        statsJpaRepository.deleteCustomerRange(from, to);
+        statsJpaRepository.insertCustomerRangeFromOrders(from, to);
+        return customerIds;
+    }
+}
@@ -1,18 +1,30 @@
 package com.techbra.order.infrastructure.adapters;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techbra.order.domain.CustomerOrderStats;
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderItem;
+import com.techbra.order.domain.OrderCursor;
 import com.techbra.order.domain.OrderStatus;
+import com.techbra.order.domain.ports.in.CreateOrderCommand;
 import com.techbra.order.domain.ports.in.OrderUseCase;
+import com.techbra.order.web.dto.BulkCreateOrdersRequest;
 import com.techbra.order.web.dto.CreateOrderRequest;
 import com.techbra.order.web.dto.OrderItemRequest;
+import com.techbra.order.web.dto.OrderPageResponse;
 import com.techbra.order.web.dto.OrderResponse;
 import com.techbra.order.web.dto.AddItemRequest;
 import com.techbra.order.web.dto.UpdateQuantityRequest;
 import com.techbra.order.web.dto.ApplyDiscountRequest;
+import com.techbra.order.web.dto.CustomerOrderStatsResponse;
+import com.techbra.order.web.export.OrderExportFormat;
+import com.techbra.order.web.export.OrderExportWriter;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
@@ -35,10 +47,14 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/orders")
 public class OrderControllerAdapter {
     
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    
     private final OrderUseCase orderUseCase;
+    private final ObjectMapper objectMapper;
     
-    public OrderControllerAdapter(OrderUseCase orderUseCase) {
+    public OrderControllerAdapter(OrderUseCase orderUseCase, ObjectMapper objectMapper) {
         this.orderUseCase = orderUseCase;
+        this.objectMapper = objectMapper;
     }
     
     /**
@@ -71,6 +87,19 @@ public class OrderControllerAdapter {
                 .body(OrderResponse.fromDomain(order));
     }
     
+    /**
+     * Cria vários pedidos, com seus itens, em uma única requisição
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<OrderResponse>> createOrders(@Valid @RequestBody BulkCreateOrdersRequest request) {
+        List<CreateOrderCommand> commands = request.getOrders().stream()
+                .map(this::toCreateOrderCommand)
+                .collect(Collectors.toList());
+        List<Order> orders = orderUseCase.createOrders(commands);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(orders.stream().map(OrderResponse::fromDomain).collect(Collectors.toList()));
+    }
+    
     /**
      * Busca todos os pedidos com paginação
      */
@@ -202,6 +231,31 @@ public class OrderControllerAdapter {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Busca o histórico de pedidos de um cliente paginado por cursor
+     */
+    @GetMapping("/customer/{customerId}/latest")
+    public ResponseEntity<OrderPageResponse> getLatestOrdersByCustomerId(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamanho de página deve estar entre 1 e " + MAX_HISTORY_PAGE_SIZE);
+        }
+        OrderCursor after = cursor != null && !cursor.isBlank() ? OrderCursor.decode(cursor) : null;
+        // Um pedido além do limite indica se há próxima página, sem devolver cursor na última
+        List<Order> orders = orderUseCase.findLatestOrdersByCustomerId(customerId, after, limit + 1);
+        String nextCursor = null;
+        if (orders.size() > limit) {
+            orders = orders.subList(0, limit);
+            nextCursor = OrderCursor.of(orders.get(limit - 1)).encode();
+        }
+        List<OrderResponse> items = orders.stream()
+                .map(OrderResponse::fromDomain)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new OrderPageResponse(items, nextCursor));
+    }
+    
     /**
      * Busca pedidos por status
      */
@@ -265,6 +319,15 @@ public class OrderControllerAdapter {
         return ResponseEntity.ok(totalSales);
     }
     
+    /**
+     * Busca o resumo de pedidos de um cliente (quantidade, total de vendas e contagem por status)
+     */
+    @GetMapping("/customer/{customerId}/summary")
+    public ResponseEntity<CustomerOrderStatsResponse> getCustomerOrderSummary(@PathVariable UUID customerId) {
+        CustomerOrderStats stats = orderUseCase.getCustomerOrderStats(customerId);
+        return ResponseEntity.ok(CustomerOrderStatsResponse.fromDomain(stats));
+    }
+    
     /**
      * Busca pedidos por período
      */
@@ -279,6 +342,36 @@ public class OrderControllerAdapter {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Exporta pedidos por período em streaming (NDJSON ou CSV)
+     * 
+     * Os pedidos são lidos do banco por cursor e escritos diretamente na
+     * resposta, mantendo o uso de memória constante para qualquer período.
+     */
+    @GetMapping("/date-range/export")
+    public ResponseEntity<StreamingResponseBody> exportOrdersByDateRange(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Data inicial deve ser anterior à data final");
+        }
+        OrderExportFormat exportFormat = OrderExportFormat.fromValue(format);
+        
+        StreamingResponseBody body = outputStream -> {
+            OrderExportWriter writer = new OrderExportWriter(exportFormat, objectMapper, outputStream);
+            writer.writeHeader();
+            orderUseCase.exportOrdersByDateRange(startDate, endDate, writer::write);
+            writer.finish();
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders-export." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+    
     /**
      * Busca pedidos de um cliente por status
      */
@@ -292,4 +385,15 @@ public class OrderControllerAdapter {
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
+    
+    private CreateOrderCommand toCreateOrderCommand(CreateOrderRequest request) {
+        List<OrderItem> items = request.hasItems()
+                ? request.getItems().stream()
+                    .map(item -> new OrderItem(item.getProductId(), item.getProductName(), item.getProductSku(),
+                            item.getUnitPrice(), item.getQuantity()))
+                    .collect(Collectors.toList())
+                : List.of();
+        return new CreateOrderCommand(request.getCustomerId(), request.getShippingAddress(),
+                request.getBillingAddress(), request.getPaymentMethod(), request.getNotes(), items);
+    }
 }
\ No newline at end of file
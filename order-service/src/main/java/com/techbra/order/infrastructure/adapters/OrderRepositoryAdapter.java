@@ -1,20 +1,32 @@
 package com.techbra.order.infrastructure.adapters;
 
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderCursor;
+import com.techbra.order.domain.OrderItem;
 import com.techbra.order.domain.OrderStatus;
 import com.techbra.order.domain.ports.out.OrderRepositoryPort;
+import com.techbra.order.infrastructure.cache.OrderCache;
 import com.techbra.order.infrastructure.persistence.OrderJpaRepository;
 import com.techbra.order.infrastructure.persistence.OrderMapper;
 import com.techbra.order.infrastructure.persistence.OrderEntity;
+import com.techbra.order.infrastructure.persistence.OrderItemEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador que implementa a porta de saída OrderRepositoryPort
@@ -27,31 +39,188 @@ import java.util.stream.Collectors;
  */
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
     
+    private static final List<OrderStatus> ACTIVE_STATUSES =
+            List.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING);
+    private static final List<OrderStatus> CANCELLABLE_STATUSES =
+            List.of(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+    
+    /**
+     * Quantidade de pedidos mantidos no contexto de persistência durante a exportação
+     */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+    
     private final OrderJpaRepository orderJpaRepository;
     private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final OrderCache orderCache;
     
-    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, OrderMapper orderMapper) {
+    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, OrderMapper orderMapper,
+                                  EntityManager entityManager, OrderCache orderCache) {
         this.orderJpaRepository = orderJpaRepository;
         this.orderMapper = orderMapper;
+        this.entityManager = entityManager;
+        this.orderCache = orderCache;
     }
     
     @Override
     public Order save(Order order) {
         var orderEntity = orderMapper.toEntity(order);
-        var savedEntity = orderJpaRepository.save(orderEntity);
+        OrderEntity savedEntity;
+        try {
+            savedEntity = orderJpaRepository.save(orderEntity);
+        } catch (RuntimeException e) {
+            // Conflito de versão ou falha de escrita: a entrada em cache não é mais confiável
+            orderCache.invalidate(order.getId(), null);
+            throw e;
+        }
+        invalidateCached(savedEntity);
         return orderMapper.toDomain(savedEntity);
     }
     
+    @Override
+    @Transactional
+    public List<Order> saveAllNew(List<Order> orders) {
+        List<OrderEntity> entities = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            OrderEntity entity = orderMapper.toEntity(order);
+            // IDs e versões ficam a cargo do Hibernate: persist direto, sem o SELECT do merge
+            entity.setId(null);
+            entity.setVersion(null);
+            entity.getItems().forEach(item -> {
+                item.setId(null);
+                item.setVersion(null);
+            });
+            entityManager.persist(entity);
+            entities.add(entity);
+        }
+        entityManager.flush();
+        return orderMapper.toDomainList(entities);
+    }
+    
+    @Override
+    @Transactional(noRollbackFor = OptimisticLockingFailureException.class)
+    public Order insertItem(Order order, OrderItem item) {
+        updateTotalsOrFail(order);
+        OrderItemEntity itemEntity = orderMapper.toItemEntity(item,
+                entityManager.getReference(OrderEntity.class, order.getId()));
+        itemEntity.setId(null);
+        itemEntity.setVersion(null);
+        entityManager.persist(itemEntity);
+        entityManager.flush();
+        item.setId(itemEntity.getId());
+        item.setVersion(itemEntity.getVersion());
+        return order;
+    }
+    
+    @Override
+    @Transactional(noRollbackFor = OptimisticLockingFailureException.class)
+    public Order updateItem(Order order, OrderItem item) {
+        updateTotalsOrFail(order);
+        int updated = orderJpaRepository.updateItemQuantity(order.getId(), item.getId(),
+                item.getQuantity(), item.getTotalPrice(), item.getUpdatedAt());
+        if (updated == 0) {
+            throw new IllegalArgumentException("Item não encontrado no pedido");
+        }
+        item.setVersion(item.getVersion() != null ? item.getVersion() + 1 : 1L);
+        return order;
+    }
+    
+    @Override
+    @Transactional(noRollbackFor = OptimisticLockingFailureException.class)
+    public Order deleteItem(Order order, UUID itemId) {
+        updateTotalsOrFail(order);
+        if (orderJpaRepository.deleteItem(order.getId(), itemId) == 0) {
+            throw new IllegalArgumentException("Item não encontrado: " + itemId);
+        }
+        return order;
+    }
+    
+    /**
+     * Grava apenas os totais do pedido, condicionados à versão em que ele foi lido
+     * 
+     * Substitui o merge do agregado inteiro nas alterações de item: o cabeçalho
+     * é atualizado por um único UPDATE e a versão incrementada garante que duas
+     * alterações concorrentes não se sobreponham.
+     * 
+     * @throws IllegalArgumentException se o pedido não tiver versão (não foi lido do banco)
+     * @throws ObjectOptimisticLockingFailureException se o pedido foi alterado após a leitura
+     */
+    private void updateTotalsOrFail(Order order) {
+        UUID id = order.getId();
+        Long version = order.getVersion();
+        if (version == null) {
+            throw new IllegalArgumentException("Pedido sem versão não pode ter itens alterados: " + id);
+        }
+        int updated = orderJpaRepository.updateTotalsIfVersionMatches(id, version,
+                order.getTotalAmount(), order.getDiscountAmount(), order.getFinalAmount(), order.getUpdatedAt());
+        if (updated == 0) {
+            // Cópia gerenciada (se houver) está desatualizada: a releitura deve ir ao banco
+            orderCache.invalidate(id, null);
+            entityManager.detach(entityManager.getReference(OrderEntity.class, id));
+            throw new ObjectOptimisticLockingFailureException(OrderEntity.class, id);
+        }
+        order.setVersion(version + 1);
+        invalidateCached(id, order.getVersion());
+    }
+    
     @Override
     public Optional<Order> findById(UUID id) {
-        return orderJpaRepository.findById(id)
-                .map(orderMapper::toDomain);
+        Optional<OrderEntity> cached = orderCache.get(id);
+        if (cached.isPresent()) {
+            return cached.map(orderMapper::toDomain);
+        }
+        return orderJpaRepository.findWithItemsById(id)
+                .map(this::toDomainAndCache);
     }
     
     @Override
     public Optional<Order> findByOrderNumber(String orderNumber) {
+        Optional<OrderEntity> cached = orderCache.getByOrderNumber(orderNumber);
+        if (cached.isPresent()) {
+            return cached.map(orderMapper::toDomain);
+        }
         return orderJpaRepository.findByOrderNumber(orderNumber)
-                .map(orderMapper::toDomain);
+                .map(this::toDomainAndCache);
+    }
+    
+    /**
+     * Converte a entidade lida do banco e guarda um snapshot desanexado no cache
+     */
+    private Order toDomainAndCache(OrderEntity entity) {
+        Order order = orderMapper.toDomain(entity);
+        orderCache.put(orderMapper.toEntity(order));
+        return order;
+    }
+    
+    /**
+     * Invalida o pedido no cache imediatamente e novamente ao fim da transação,
+     * para que leituras feitas antes do commit (ou de um rollback) não permaneçam em cache
+     * 
+     * A versão é lida novamente após o commit, pois o Hibernate só a incrementa no flush.
+     */
+    private void invalidateCached(OrderEntity savedEntity) {
+        UUID id = savedEntity.getId();
+        orderCache.invalidate(id, savedEntity.getVersion());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    orderCache.invalidate(id, status == STATUS_COMMITTED ? savedEntity.getVersion() : null);
+                }
+            });
+        }
+    }
+    
+    private void invalidateCached(UUID id, long version) {
+        orderCache.invalidate(id, version);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    orderCache.invalidate(id, status == STATUS_COMMITTED ? version : null);
+                }
+            });
+        }
     }
     
     @Override
@@ -86,6 +255,36 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Consumer<Order> consumer) {
+        try (Stream<OrderEntity> stream = orderJpaRepository.streamByCreatedAtBetween(startDate, endDate)) {
+            List<OrderEntity> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<OrderEntity> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    flushExportChunk(chunk, consumer);
+                }
+            }
+            flushExportChunk(chunk, consumer);
+        }
+    }
+    
+    /**
+     * Entrega um lote de pedidos ao consumidor e libera o contexto de persistência
+     * 
+     * Os itens do lote são carregados em uma única consulta (@BatchSize) ao
+     * converter o primeiro pedido; o clear() mantém a memória constante.
+     */
+    private void flushExportChunk(List<OrderEntity> chunk, Consumer<Order> consumer) {
+        for (OrderEntity entity : chunk) {
+            consumer.accept(orderMapper.toDomain(entity));
+        }
+        chunk.clear();
+        entityManager.clear();
+    }
+    
     @Override
     public List<Order> findByCustomerIdAndCreatedAtBetween(UUID customerId, LocalDateTime startDate, LocalDateTime endDate) {
         return orderJpaRepository.findByCustomerIdAndCreatedAtBetween(customerId, startDate, endDate)
@@ -117,6 +316,7 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     @Override
     public void deleteById(UUID id) {
         orderJpaRepository.deleteById(id);
+        orderCache.invalidate(id, null);
     }
     
     @Override
@@ -130,7 +330,8 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     @Override
     public List<Order> findAllPaginated(int page, int size) {
         var pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        return orderJpaRepository.findAll(pageable)
+        List<UUID> ids = orderJpaRepository.findPageIds(pageable);
+        return orderJpaRepository.findAllWithItemsByIdIn(ids)
                 .stream()
                 .map(orderMapper::toDomain)
                 .collect(Collectors.toList());
@@ -139,7 +340,8 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     @Override
     public List<Order> findByCustomerIdPaginated(UUID customerId, int page, int size) {
         var pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        return orderJpaRepository.findByCustomerId(customerId, pageable)
+        List<UUID> ids = orderJpaRepository.findPageIdsByCustomerId(customerId, pageable);
+        return orderJpaRepository.findAllWithItemsByIdIn(ids)
                 .stream()
                 .map(orderMapper::toDomain)
                 .collect(Collectors.toList());
@@ -150,16 +352,23 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         return findByCustomerIdPaginated(customerId, page, size);
     }
     
+    @Override
+    public List<Order> findLatestByCustomerId(UUID customerId, OrderCursor cursor, int limit) {
+        var pageable = org.springframework.data.domain.PageRequest.of(0, limit);
+        List<UUID> ids = cursor == null
+                ? orderJpaRepository.findLatestIdsByCustomerId(customerId, pageable)
+                : orderJpaRepository.findLatestIdsByCustomerIdBefore(
+                        customerId, cursor.getCreatedAt(), cursor.getId(), pageable);
+        return orderJpaRepository.findAllWithItemsByIdIn(ids)
+                .stream()
+                .map(orderMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public List<Order> findActiveOrdersByCustomerId(UUID customerId) {
-        List<OrderEntity> pendingOrders = orderJpaRepository.findByCustomerIdAndStatus(customerId, OrderStatus.PENDING);
-        List<OrderEntity> confirmedOrders = orderJpaRepository.findByCustomerIdAndStatus(customerId, OrderStatus.CONFIRMED);
-        List<OrderEntity> preparingOrders = orderJpaRepository.findByCustomerIdAndStatus(customerId, OrderStatus.PREPARING);
-        
-        List<OrderEntity> allActiveOrders = new ArrayList<>();
-        allActiveOrders.addAll(pendingOrders);
-        allActiveOrders.addAll(confirmedOrders);
-        allActiveOrders.addAll(preparingOrders);
+        List<OrderEntity> allActiveOrders = orderJpaRepository.findByCustomerIdAndStatusIn(
+                customerId, ACTIVE_STATUSES);
         
         return allActiveOrders.stream()
                 .map(orderMapper::toDomain)
@@ -168,12 +377,8 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     
     @Override
     public List<Order> findCancellableOrdersByCustomerId(UUID customerId) {
-        List<OrderEntity> pendingOrders = orderJpaRepository.findByCustomerIdAndStatus(customerId, OrderStatus.PENDING);
-        List<OrderEntity> confirmedOrders = orderJpaRepository.findByCustomerIdAndStatus(customerId, OrderStatus.CONFIRMED);
-        
-        List<OrderEntity> allCancellableOrders = new ArrayList<>();
-        allCancellableOrders.addAll(pendingOrders);
-        allCancellableOrders.addAll(confirmedOrders);
+        List<OrderEntity> allCancellableOrders = orderJpaRepository.findByCustomerIdAndStatusIn(
+                customerId, CANCELLABLE_STATUSES);
         
         return allCancellableOrders.stream()
                 .map(orderMapper::toDomain)
@@ -0,0 +1,34 @@
+package com.techbra.order.infrastructure.adapters;
+
+import com.techbra.order.domain.ports.out.SchedulerLeasePort;
+import com.techbra.order.infrastructure.persistence.SchedulerLeaseJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Adaptador de saída que mantém os leases das tarefas agendadas em PostgreSQL
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class SchedulerLeaseAdapter implements SchedulerLeasePort {
+    
+    private final SchedulerLeaseJpaRepository schedulerLeaseJpaRepository;
+    
+    public SchedulerLeaseAdapter(SchedulerLeaseJpaRepository schedulerLeaseJpaRepository) {
+        this.schedulerLeaseJpaRepository = schedulerLeaseJpaRepository;
+    }
+    
+    @Override
+    @Transactional
+    public boolean tryAcquire(String name, String owner, Duration duration) {
+        return schedulerLeaseJpaRepository.tryAcquire(name, owner, duration.toSeconds()) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void release(String name, String owner) {
+        schedulerLeaseJpaRepository.release(name, owner);
+    }
+}
@@ -0,0 +1,193 @@
+package com.techbra.order.infrastructure.cache;
+
+import com.techbra.order.infrastructure.persistence.OrderEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache local (in-process) de pedidos, limitado por tamanho e por TTL
+ * 
+ * Armazena snapshots desanexados de {@link OrderEntity}, nunca gerenciados
+ * pelo Hibernate, indexados por ID e por número do pedido. A invalidação é
+ * sensível à versão (@Version): ao salvar um pedido, o cache registra a
+ * versão mínima aceita para aquele ID, impedindo que uma leitura concorrente
+ * mais antiga reponha um snapshot desatualizado.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class OrderCache {
+    
+    private static final String METRIC_PREFIX = "order.cache";
+    
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<UUID, Entry> entries;
+    private final Map<String, UUID> idsByOrderNumber = new HashMap<>();
+    
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    
+    public OrderCache(int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(maxSize, ttl, meterRegistry, System::nanoTime);
+    }
+    
+    OrderCache(int maxSize, Duration ttl, MeterRegistry meterRegistry, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Tamanho máximo do cache deve ser maior que zero");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                if (size() > OrderCache.this.maxSize) {
+                    removeNumberIndex(eldest.getValue());
+                    OrderCache.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        
+        this.hits = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "hit")
+                .description("Leituras de pedidos atendidas pelo cache").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "miss")
+                .description("Leituras de pedidos que precisaram consultar o banco").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions")
+                .description("Pedidos removidos do cache por limite de tamanho").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, OrderCache::size)
+                .description("Quantidade de entradas no cache de pedidos").register(meterRegistry);
+    }
+    
+    /**
+     * Busca o snapshot de um pedido pelo ID
+     * 
+     * @param id ID do pedido
+     * @return snapshot desanexado, se presente e dentro do TTL
+     */
+    public synchronized Optional<OrderEntity> get(UUID id) {
+        Entry entry = entries.get(id);
+        if (entry == null || entry.snapshot == null || isExpired(entry)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.snapshot);
+    }
+    
+    /**
+     * Busca o snapshot de um pedido pelo número do pedido
+     * 
+     * @param orderNumber número do pedido
+     * @return snapshot desanexado, se presente e dentro do TTL
+     */
+    public synchronized Optional<OrderEntity> getByOrderNumber(String orderNumber) {
+        UUID id = idsByOrderNumber.get(orderNumber);
+        if (id == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        return get(id);
+    }
+    
+    /**
+     * Armazena o snapshot de um pedido lido do banco
+     * 
+     * O snapshot é ignorado se o cache já conhece uma versão mais recente do pedido.
+     * 
+     * @param snapshot entidade desanexada, que não será mais modificada pelo chamador
+     */
+    public synchronized void put(OrderEntity snapshot) {
+        if (snapshot == null || snapshot.getId() == null) {
+            return;
+        }
+        Entry current = entries.get(snapshot.getId());
+        if (current != null && !isExpired(current) && isOlder(snapshot.getVersion(), current.version)) {
+            return;
+        }
+        if (current != null) {
+            removeNumberIndex(current);
+        }
+        entries.put(snapshot.getId(), new Entry(snapshot, snapshot.getVersion(), expiresAt()));
+        if (snapshot.getOrderNumber() != null) {
+            idsByOrderNumber.put(snapshot.getOrderNumber(), snapshot.getId());
+        }
+    }
+    
+    /**
+     * Invalida um pedido após uma escrita
+     * 
+     * @param id ID do pedido
+     * @param minimumVersion versão mínima aceita em leituras futuras, ou null se desconhecida
+     */
+    public synchronized void invalidate(UUID id, Long minimumVersion) {
+        if (id == null) {
+            return;
+        }
+        Entry current = entries.remove(id);
+        if (current != null) {
+            removeNumberIndex(current);
+        }
+        if (minimumVersion != null) {
+            entries.put(id, new Entry(null, minimumVersion, expiresAt()));
+        }
+    }
+    
+    /**
+     * Remove todas as entradas do cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+        idsByOrderNumber.clear();
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    private boolean isExpired(Entry entry) {
+        return clock.getAsLong() - entry.expiresAt > 0;
+    }
+    
+    private long expiresAt() {
+        return clock.getAsLong() + ttlNanos;
+    }
+    
+    private static boolean isOlder(Long candidate, Long known) {
+        return known != null && (candidate == null || candidate < known);
+    }
+    
+    private void removeNumberIndex(Entry entry) {
+        if (entry.snapshot != null && entry.snapshot.getOrderNumber() != null) {
+            idsByOrderNumber.remove(entry.snapshot.getOrderNumber(), entry.snapshot.getId());
+        }
+    }
+    
+    /**
+     * Entrada do cache: snapshot (nulo para marcas de invalidação) e versão conhecida
+     */
+    private static final class Entry {
+        private final OrderEntity snapshot;
+        private final Long version;
+        private final long expiresAt;
+        
+        private Entry(OrderEntity snapshot, Long version, long expiresAt) {
+            this.snapshot = snapshot;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.techbra.order.infrastructure.messaging;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serializer de eventos no formato configurado para o produtor
+ * 
+ * Registros em formato diferente de JSON levam o header event-format. Em JSON o
+ * registro segue sem header e com o mesmo conteúdo do JsonSerializer, legível
+ * por consumidores antigos.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class EventSerializer<T> implements Serializer<T> {
+
+    private final EventWireFormat format;
+
+    public EventSerializer(EventWireFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Sem acesso aos headers o formato não pode ser sinalizado, então o evento segue em JSON
+     */
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return write(EventWireFormat.JSON, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        if (data == null || format == EventWireFormat.JSON) {
+            return serialize(topic, data);
+        }
+        headers.remove(EventWireFormat.HEADER);
+        headers.add(EventWireFormat.HEADER, format.headerValue());
+        return write(format, data);
+    }
+
+    private byte[] write(EventWireFormat wireFormat, T data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return wireFormat.objectMapper().writeValueAsBytes(data);
+        } catch (Exception e) {
+            throw new SerializationException("Falha ao serializar " + data.getClass().getSimpleName()
+                    + " em " + wireFormat, e);
+        }
+    }
+}
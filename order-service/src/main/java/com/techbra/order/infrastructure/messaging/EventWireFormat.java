@@ -0,0 +1,85 @@
+package com.techbra.order.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Formato de serialização dos eventos trocados pelo Kafka
+ * 
+ * O formato de cada registro é indicado no header event-format; registros sem
+ * o header são JSON. O billing-service aceita os dois formatos no
+ * billing-events, então order.kafka.event-format=smile só deve ser habilitado
+ * depois que todos os seus consumidores estiverem atualizados.
+ * 
+ * SMILE é a codificação binária do Jackson para o mesmo modelo do JSON: usa as
+ * mesmas anotações dos eventos, grava números em binário e referencia nomes de
+ * campos já vistos no registro (como os de cada item do pedido) em vez de repeti-los.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public enum EventWireFormat {
+
+    JSON(JacksonUtils.enhancedObjectMapper()),
+    SMILE(SmileMapper.builder()
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .findAndAddModules()
+            .build());
+
+    public static final String HEADER = "event-format";
+
+    private final ObjectMapper objectMapper;
+    private final byte[] headerValue;
+
+    EventWireFormat(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.headerValue = name().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * ObjectMapper do formato, com as mesmas opções do JsonSerializer/JsonDeserializer do Spring
+     */
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public byte[] headerValue() {
+        return headerValue.clone();
+    }
+
+    /**
+     * Identifica o formato de um registro pelo header event-format
+     * 
+     * @return JSON quando o registro não tem o header
+     * @throws IllegalArgumentException se o header indicar um formato desconhecido
+     */
+    public static EventWireFormat of(Headers headers) {
+        Header header = headers != null ? headers.lastHeader(HEADER) : null;
+        if (header == null || header.value() == null) {
+            return JSON;
+        }
+        return fromName(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converte o nome configurado ou recebido no header (json, smile) no formato
+     * 
+     * @throws IllegalArgumentException se o formato for desconhecido
+     */
+    public static EventWireFormat fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de evento desconhecido: " + name, e);
+        }
+    }
+}
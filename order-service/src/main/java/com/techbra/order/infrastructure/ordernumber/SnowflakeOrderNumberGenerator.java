@@ -0,0 +1,98 @@
+package com.techbra.order.infrastructure.ordernumber;
+
+import com.techbra.order.domain.ports.out.OrderNumberGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de números de pedido no estilo Snowflake
+ * 
+ * Cada número codifica um identificador de 63 bits composto por
+ * 41 bits de timestamp (ms desde {@link #EPOCH_MILLIS}), 10 bits de nó e
+ * 12 bits de sequência, formatado como {@code ORD-} seguido de 13 dígitos
+ * em base 32 (Crockford). Números de um mesmo nó são estritamente crescentes
+ * e, com largura fixa, também ordenáveis lexicograficamente.
+ * 
+ * O par (timestamp, sequência) é mantido em um único {@link AtomicLong} e
+ * avançado por CAS, sem locks. Se a sequência de um milissegundo se esgota,
+ * o gerador avança para o milissegundo seguinte; se o relógio retrocede, ele
+ * continua a partir do último valor emitido. Em ambos os casos a unicidade
+ * é preservada.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+    
+    /**
+     * Época do gerador: 2024-01-01T00:00:00Z
+     */
+    public static final long EPOCH_MILLIS = 1704067200000L;
+    
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String PREFIX = "ORD-";
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+    
+    public SnowflakeOrderNumberGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+    
+    SnowflakeOrderNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("ID do nó deve estar entre 0 e " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+    
+    @Override
+    public String nextOrderNumber() {
+        return format(nextId());
+    }
+    
+    /**
+     * Gera o próximo identificador numérico
+     * 
+     * @return identificador de 63 bits (timestamp | nó | sequência)
+     */
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        while (true) {
+            long previous = lastTimestampAndSequence.get();
+            long next = (previous >>> SEQUENCE_BITS) < now
+                    ? now << SEQUENCE_BITS
+                    : previous + 1;
+            if (lastTimestampAndSequence.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+    
+    /**
+     * Formata um identificador como número de pedido
+     * 
+     * @param id identificador gerado por {@link #nextId()}
+     * @return número de pedido com largura fixa
+     */
+    static String format(long id) {
+        char[] buffer = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+        long remaining = id;
+        for (int i = buffer.length - 1; i >= PREFIX.length(); i--) {
+            buffer[i] = ALPHABET[(int) (remaining & 31)];
+            remaining >>>= 5;
+        }
+        return new String(buffer);
+    }
+}
@@ -0,0 +1,131 @@
+package com.techbra.order.infrastructure.persistence;
+
+import com.techbra.order.domain.OrderStatus;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entidade JPA do agregado materializado de pedidos por cliente e status
+ * 
+ * As linhas são mantidas por upserts incrementais (ver
+ * {@link CustomerOrderStatsJpaRepository#applyDelta}); a entidade é usada
+ * apenas para leitura.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "customer_order_stats")
+public class CustomerOrderStatsEntity {
+    
+    @EmbeddedId
+    private Key id;
+    
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+    
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public CustomerOrderStatsEntity() {}
+    
+    public CustomerOrderStatsEntity(UUID customerId, OrderStatus status, Long orderCount, BigDecimal totalAmount) {
+        this.id = new Key(customerId, status);
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Acumula uma variação de quantidade e valor
+     * 
+     * @param countDelta variação da quantidade de pedidos
+     * @param amountDelta variação do valor total
+     */
+    public void add(long countDelta, BigDecimal amountDelta) {
+        this.orderCount = this.orderCount + countDelta;
+        this.totalAmount = this.totalAmount.add(amountDelta);
+    }
+    
+    public Key getId() {
+        return id;
+    }
+    
+    public void setId(Key id) {
+        this.id = id;
+    }
+    
+    public Long getOrderCount() {
+        return orderCount;
+    }
+    
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+    
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+    
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    /**
+     * Chave composta (cliente, status)
+     */
+    @Embeddable
+    public static class Key implements Serializable {
+        
+        @Column(name = "customer_id", nullable = false)
+        private UUID customerId;
+        
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false, length = 30)
+        private OrderStatus status;
+        
+        public Key() {}
+        
+        public Key(UUID customerId, OrderStatus status) {
+            this.customerId = customerId;
+            this.status = status;
+        }
+        
+        public UUID getCustomerId() {
+            return customerId;
+        }
+        
+        public OrderStatus getStatus() {
+            return status;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(customerId, key.customerId) && status == key.status;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(customerId, status);
+        }
+    }
+}
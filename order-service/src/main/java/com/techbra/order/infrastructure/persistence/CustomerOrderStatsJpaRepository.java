@@ -0,0 +1,95 @@
+package com.techbra.order.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório JPA do agregado materializado de pedidos por cliente
+ * 
+ * As escritas são feitas por comandos nativos atômicos (upsert com incremento)
+ * para que transições concorrentes do mesmo cliente não percam atualizações.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Repository
+public interface CustomerOrderStatsJpaRepository extends JpaRepository<CustomerOrderStatsEntity, CustomerOrderStatsEntity.Key> {
+    
+    /**
+     * Busca as linhas do agregado de um cliente (uma por status)
+     */
+    List<CustomerOrderStatsEntity> findByIdCustomerId(UUID customerId);
+    
+    /**
+     * Soma os deltas de quantidade e valor à linha (cliente, status), criando-a se necessário
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_stats (customer_id, status, order_count, total_amount, updated_at) " +
+                   "VALUES (:customerId, :status, :countDelta, :amountDelta, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (customer_id, status) DO UPDATE SET " +
+                   "order_count = customer_order_stats.order_count + EXCLUDED.order_count, " +
+                   "total_amount = customer_order_stats.total_amount + EXCLUDED.total_amount, " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void applyDelta(@Param("customerId") UUID customerId,
+                    @Param("status") String status,
+                    @Param("countDelta") long countDelta,
+                    @Param("amountDelta") BigDecimal amountDelta);
+    
+    /**
+     * Busca os próximos clientes com pedidos ou com linhas no agregado, em ordem de ID
+     * 
+     * Cada ramo para no limite pelo índice de customer_id, de modo que o custo
+     * de cada página não cresce com a posição do cursor.
+     * 
+     * @param afterCustomerId cliente a partir do qual (exclusive) a página começa
+     * @param limit quantidade máxima de clientes
+     * @return IDs dos clientes em ordem crescente
+     */
+    @Query(value = "SELECT customer_id FROM (" +
+                   "(SELECT DISTINCT customer_id FROM orders WHERE customer_id > :afterCustomerId " +
+                   " ORDER BY customer_id LIMIT :limit) " +
+                   "UNION " +
+                   "(SELECT DISTINCT customer_id FROM customer_order_stats WHERE customer_id > :afterCustomerId " +
+                   " ORDER BY customer_id LIMIT :limit)" +
+                   ") customers ORDER BY customer_id LIMIT :limit",
+           nativeQuery = true)
+    List<UUID> findCustomerIdsAfter(@Param("afterCustomerId") UUID afterCustomerId, @Param("limit") int limit);
+    
+    /**
+     * Bloqueia o agregado contra atualizações incrementais até o fim da transação
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE customer_order_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconciliation();
+    
+    /**
+     * Remove as linhas do agregado dos clientes no intervalo (fromCustomerId, toCustomerId]
+     */
+    @Modifying
+    @Query(value = "DELETE FROM customer_order_stats " +
+                   "WHERE customer_id > :fromCustomerId AND customer_id <= :toCustomerId",
+           nativeQuery = true)
+    void deleteCustomerRange(@Param("fromCustomerId") UUID fromCustomerId, @Param("toCustomerId") UUID toCustomerId);
+    
+    /**
+     * Recalcula a partir da tabela de pedidos o agregado dos clientes no intervalo (fromCustomerId, toCustomerId]
+     * 
+     * @return número de linhas inseridas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_stats (customer_id, status, order_count, total_amount, updated_at) " +
+                   "SELECT customer_id, status, COUNT(*), COALESCE(SUM(total_amount), 0), CURRENT_TIMESTAMP " +
+                   "FROM orders WHERE customer_id > :fromCustomerId AND customer_id <= :toCustomerId " +
+                   "GROUP BY customer_id, status",
+           nativeQuery = true)
+    int insertCustomerRangeFromOrders(@Param("fromCustomerId") UUID fromCustomerId,
+                                      @Param("toCustomerId") UUID toCustomerId);
+}
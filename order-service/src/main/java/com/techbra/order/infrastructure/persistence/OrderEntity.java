@@ -2,6 +2,7 @@ package com.techbra.order.infrastructure.persistence;
 
 import com.techbra.order.domain.OrderStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -31,8 +32,17 @@ import java.util.UUID;
     @Index(name = "idx_customer_status", columnList = "customer_id, status")
 })
 @EntityListeners(AuditingEntityListener.class)
+@NamedEntityGraph(
+    name = OrderEntity.GRAPH_WITH_ITEMS,
+    attributeNodes = @NamedAttributeNode("items")
+)
 public class OrderEntity {
     
+    /**
+     * Plano de busca que carrega os itens junto com o pedido em uma única consulta
+     */
+    public static final String GRAPH_WITH_ITEMS = "OrderEntity.withItems";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     @Column(name = "id", updatable = false, nullable = false)
@@ -84,6 +94,7 @@ public class OrderEntity {
     private LocalDateTime cancelledAt;
     
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<OrderItemEntity> items = new ArrayList<>();
     
     @Version
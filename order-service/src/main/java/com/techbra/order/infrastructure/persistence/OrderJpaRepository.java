@@ -1,18 +1,28 @@
 package com.techbra.order.infrastructure.persistence;
 
 import com.techbra.order.domain.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA para a entidade OrderEntity
@@ -32,14 +42,25 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param orderNumber o número único do pedido
      * @return Optional contendo o pedido se encontrado
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     Optional<OrderEntity> findByOrderNumber(String orderNumber);
     
+    /**
+     * Busca um pedido pelo ID carregando seus itens na mesma consulta
+     * 
+     * @param id o ID do pedido
+     * @return Optional contendo o pedido se encontrado
+     */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
+    Optional<OrderEntity> findWithItemsById(UUID id);
+    
     /**
      * Busca todos os pedidos de um cliente específico
      * 
      * @param customerId o ID do cliente
      * @return lista de pedidos do cliente
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByCustomerId(UUID customerId);
     
     /**
@@ -57,6 +78,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param status o status do pedido
      * @return lista de pedidos com o status especificado
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByStatus(OrderStatus status);
     
     /**
@@ -75,6 +97,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param status o status do pedido
      * @return lista de pedidos do cliente com o status especificado
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByCustomerIdAndStatus(UUID customerId, OrderStatus status);
     
     /**
@@ -84,6 +107,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param endDate data de fim
      * @return lista de pedidos criados no período
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     /**
@@ -96,6 +120,26 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      */
     Page<OrderEntity> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
+    /**
+     * Percorre os pedidos criados em um período por meio de um cursor do banco
+     * 
+     * Os registros são lidos em lotes de tamanho fixo (fetch size), sem
+     * materializar todo o resultado em memória. Deve ser consumido dentro
+     * de uma transação e o Stream precisa ser fechado após o uso.
+     * 
+     * @param startDate data de início
+     * @param endDate data de fim
+     * @return stream de pedidos ordenados por data de criação
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM OrderEntity o WHERE o.createdAt BETWEEN :startDate AND :endDate ORDER BY o.createdAt, o.id")
+    Stream<OrderEntity> streamByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate);
+    
     /**
      * Busca pedidos de um cliente criados em um período específico
      * 
@@ -104,6 +148,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param endDate data de fim
      * @return lista de pedidos do cliente criados no período
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByCustomerIdAndCreatedAtBetween(UUID customerId, LocalDateTime startDate, LocalDateTime endDate);
     
     /**
@@ -136,6 +181,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param customerId o ID do cliente
      * @return lista de pedidos ativos do cliente
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     @Query("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId AND o.status NOT IN ('CANCELLED', 'DELIVERED', 'RETURNED')")
     List<OrderEntity> findActiveOrdersByCustomerId(@Param("customerId") UUID customerId);
     
@@ -145,6 +191,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param customerId o ID do cliente
      * @return lista de pedidos que podem ser cancelados
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     @Query("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId AND o.status IN ('PENDING', 'CONFIRMED', 'PROCESSING')")
     List<OrderEntity> findCancellableOrdersByCustomerId(@Param("customerId") UUID customerId);
     
@@ -154,6 +201,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param statuses lista de status
      * @return lista de pedidos com os status especificados
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByStatusIn(List<OrderStatus> statuses);
     
     /**
@@ -175,6 +223,101 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
     @Query("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC")
     Page<OrderEntity> findLatestOrdersByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
     
+    /**
+     * Busca os IDs da primeira página do histórico de um cliente por keyset
+     * 
+     * A ordenação (created_at DESC, id DESC) é servida pelo índice
+     * idx_orders_customer_created_id, sem COUNT nem OFFSET. Os pedidos
+     * são carregados em seguida por {@link #findAllWithItemsByIdIn(List)}.
+     * 
+     * @param customerId o ID do cliente
+     * @param pageable limite de registros (apenas o tamanho é considerado)
+     * @return IDs dos pedidos mais recentes do cliente
+     */
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<UUID> findLatestIdsByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+    
+    /**
+     * Busca os IDs da página seguinte do histórico de um cliente a partir de um cursor
+     * 
+     * @param customerId o ID do cliente
+     * @param createdAt data de criação do último pedido da página anterior
+     * @param id ID do último pedido da página anterior
+     * @param pageable limite de registros (apenas o tamanho é considerado)
+     * @return IDs dos pedidos anteriores ao cursor
+     */
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.customerId = :customerId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<UUID> findLatestIdsByCustomerIdBefore(@Param("customerId") UUID customerId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               Pageable pageable);
+    
+    /**
+     * Busca os IDs de uma página de pedidos
+     * 
+     * @param pageable configuração de paginação
+     * @return IDs dos pedidos da página
+     */
+    @Query("SELECT o.id FROM OrderEntity o")
+    List<UUID> findPageIds(Pageable pageable);
+    
+    /**
+     * Busca os IDs de uma página de pedidos de um cliente
+     * 
+     * @param customerId o ID do cliente
+     * @param pageable configuração de paginação
+     * @return IDs dos pedidos do cliente na página
+     */
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.customerId = :customerId")
+    List<UUID> findPageIdsByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+    
+    /**
+     * Busca pedidos de um cliente com qualquer um dos status informados
+     * 
+     * @param customerId o ID do cliente
+     * @param statuses lista de status
+     * @return lista de pedidos do cliente, com itens carregados
+     */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
+    List<OrderEntity> findByCustomerIdAndStatusIn(UUID customerId, List<OrderStatus> statuses);
+    
+    /**
+     * Carrega pedidos e seus itens a partir de uma lista de IDs
+     * 
+     * @param ids IDs dos pedidos
+     * @return pedidos encontrados, sem ordem garantida
+     */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
+    List<OrderEntity> findByIdIn(Collection<UUID> ids);
+    
+    /**
+     * Segunda fase da busca paginada: carrega os pedidos de uma página
+     * com seus itens em uma única consulta, preservando a ordem dos IDs
+     * obtidos na primeira fase.
+     * 
+     * @param ids IDs dos pedidos na ordem desejada
+     * @return pedidos com itens, na mesma ordem dos IDs
+     */
+    default List<OrderEntity> findAllWithItemsByIdIn(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, OrderEntity> byId = new HashMap<>();
+        for (OrderEntity entity : findByIdIn(ids)) {
+            byId.put(entity.getId(), entity);
+        }
+        List<OrderEntity> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            OrderEntity entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+    
     /**
      * Busca todos os pedidos ordenados por data de criação (mais recentes primeiro)
      * 
@@ -190,6 +333,7 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      * @param createdBefore data limite para criação
      * @return lista de pedidos que atendem aos critérios
      */
+    @EntityGraph(OrderEntity.GRAPH_WITH_ITEMS)
     List<OrderEntity> findByStatusAndCreatedAtBefore(OrderStatus status, LocalDateTime createdBefore);
     
     /**
@@ -200,4 +344,44 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      */
     @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM OrderEntity o WHERE o.customerId = :customerId AND o.status IN ('CONFIRMED', 'PROCESSING', 'SHIPPED', 'DELIVERED')")
     BigDecimal calculateTotalSalesByCustomerId(@Param("customerId") UUID customerId);
-}
\ No newline at end of file
+    
+    /**
+     * Atualiza os totais do pedido e incrementa a versão, se a versão lida ainda for a atual
+     * 
+     * @return 1 se atualizado, 0 se o pedido foi alterado concorrentemente
+     */
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.totalAmount = :totalAmount, o.discountAmount = :discountAmount, " +
+           "o.finalAmount = :finalAmount, o.updatedAt = :updatedAt, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.version = :version")
+    int updateTotalsIfVersionMatches(@Param("id") UUID id,
+                                     @Param("version") Long version,
+                                     @Param("totalAmount") BigDecimal totalAmount,
+                                     @Param("discountAmount") BigDecimal discountAmount,
+                                     @Param("finalAmount") BigDecimal finalAmount,
+                                     @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Atualiza a quantidade e o preço total de um único item do pedido
+     * 
+     * @return número de itens atualizados (0 ou 1)
+     */
+    @Modifying
+    @Query("UPDATE OrderItemEntity i SET i.quantity = :quantity, i.totalPrice = :totalPrice, " +
+           "i.updatedAt = :updatedAt, i.version = i.version + 1 " +
+           "WHERE i.id = :itemId AND i.order.id = :orderId")
+    int updateItemQuantity(@Param("orderId") UUID orderId,
+                           @Param("itemId") UUID itemId,
+                           @Param("quantity") Integer quantity,
+                           @Param("totalPrice") BigDecimal totalPrice,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Remove um único item do pedido
+     * 
+     * @return número de itens removidos (0 ou 1)
+     */
+    @Modifying
+    @Query("DELETE FROM OrderItemEntity i WHERE i.id = :itemId AND i.order.id = :orderId")
+    int deleteItem(@Param("orderId") UUID orderId, @Param("itemId") UUID itemId);
+}
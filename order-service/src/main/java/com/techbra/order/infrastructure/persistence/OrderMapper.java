@@ -134,7 +134,7 @@ public class OrderMapper {
      * @param orderEntity a entidade de pedido pai
      * @return a entidade JPA do item
      */
-    private OrderItemEntity toItemEntity(OrderItem item, OrderEntity orderEntity) {
+    public OrderItemEntity toItemEntity(OrderItem item, OrderEntity orderEntity) {
         if (item == null) {
             return null;
         }
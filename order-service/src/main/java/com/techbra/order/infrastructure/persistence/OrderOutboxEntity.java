@@ -0,0 +1,156 @@
+package com.techbra.order.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA de um evento pendente na outbox de pedidos
+ * 
+ * Cada linha é gravada na mesma transação que altera o pedido e removida
+ * pelo relay após a confirmação do envio ao Kafka. O ID vem de uma sequência
+ * para preservar a ordem de inserção e permitir inserts em lote.
+ * 
+ * Um envio que falha é reagendado ({@code nextAttemptAt}); ao atingir o
+ * máximo de tentativas o evento é estacionado ({@link Status#PARKED}) e só
+ * volta a ser enviado após intervenção manual.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "order_outbox")
+public class OrderOutboxEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_id_seq")
+    @SequenceGenerator(name = "order_outbox_id_seq", sequenceName = "order_outbox_id_seq", allocationSize = 50)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+    
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+    
+    @Column(name = "event_type", nullable = false, updatable = false, length = 50)
+    private String eventType;
+    
+    @Column(name = "topic", nullable = false, updatable = false, length = 255)
+    private String topic;
+    
+    @Column(name = "message_key", nullable = false, updatable = false, length = 255)
+    private String messageKey;
+    
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    public OrderOutboxEntity() {}
+    
+    public OrderOutboxEntity(UUID aggregateId, String eventType, String topic, String messageKey, String payload) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.attempts = 0;
+        this.status = Status.PENDING;
+        this.nextAttemptAt = this.createdAt;
+    }
+    
+    /**
+     * Registra uma tentativa de envio que falhou
+     * 
+     * @param error descrição do erro
+     * @param retryDelay espera até a próxima tentativa
+     * @param maxAttempts número de tentativas a partir do qual o evento é estacionado
+     */
+    public void recordFailure(String error, Duration retryDelay, int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        this.lastError = error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.PARKED;
+        } else {
+            this.nextAttemptAt = LocalDateTime.now().plus(retryDelay);
+        }
+    }
+    
+    public boolean isParked() {
+        return status == Status.PARKED;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public String getTopic() {
+        return topic;
+    }
+    
+    public String getMessageKey() {
+        return messageKey;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public Integer getAttempts() {
+        return attempts;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    
+    /**
+     * Situação de um evento na outbox
+     */
+    public enum Status {
+        /** Aguardando envio pelo relay */
+        PENDING,
+        /** Máximo de tentativas atingido; aguarda intervenção manual */
+        PARKED
+    }
+}
@@ -0,0 +1,40 @@
+package com.techbra.order.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositório JPA da outbox de eventos de pedidos
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, Long> {
+    
+    /**
+     * Bloqueia o próximo lote de eventos pendentes e vencidos, em ordem de inserção
+     * 
+     * Um evento só entra no lote se nenhum evento anterior do mesmo pedido
+     * estiver aguardando nova tentativa ou estacionado, preservando a ordem
+     * dos eventos de cada pedido. Linhas já bloqueadas são ignoradas
+     * (SKIP LOCKED); o relay roda em uma única instância por vez (lease).
+     * 
+     * @param now instante de referência para as tentativas vencidas
+     * @param limit tamanho máximo do lote
+     * @return eventos pendentes bloqueados até o fim da transação
+     */
+    @Query(value = "SELECT * FROM order_outbox o " +
+                   "WHERE o.status = 'PENDING' AND o.next_attempt_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM order_outbox p " +
+                   "                WHERE p.aggregate_id = o.aggregate_id AND p.id < o.id " +
+                   "                AND (p.status = 'PARKED' OR p.next_attempt_at > :now)) " +
+                   "ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OrderOutboxEntity> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -4,8 +4,6 @@ import com.techbra.order.domain.Order;
 import com.techbra.order.domain.OrderRepository;
 import com.techbra.order.domain.OrderStatus;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -15,7 +13,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Implementação do repositório de domínio OrderRepository
@@ -103,16 +100,16 @@ public class OrderRepositoryImpl implements OrderRepository {
     @Transactional(readOnly = true)
     public List<Order> findAll(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<OrderEntity> entityPage = jpaRepository.findAll(pageable);
-        return mapper.toDomainList(entityPage.getContent());
+        List<UUID> ids = jpaRepository.findPageIds(pageable);
+        return mapper.toDomainList(jpaRepository.findAllWithItemsByIdIn(ids));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Order> findByCustomerId(UUID customerId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<OrderEntity> entityPage = jpaRepository.findByCustomerId(customerId, pageable);
-        return mapper.toDomainList(entityPage.getContent());
+        List<UUID> ids = jpaRepository.findPageIdsByCustomerId(customerId, pageable);
+        return mapper.toDomainList(jpaRepository.findAllWithItemsByIdIn(ids));
     }
     
     @Override
@@ -156,12 +153,8 @@ public class OrderRepositoryImpl implements OrderRepository {
     @Transactional(readOnly = true)
     public List<Order> findLatestByCustomerId(UUID customerId, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        List<OrderEntity> entities = jpaRepository.findByCustomerId(customerId);
-        return entities.stream()
-            .sorted((o1, o2) -> o2.getCreatedAt().compareTo(o1.getCreatedAt()))
-            .limit(limit)
-            .map(mapper::toDomain)
-            .collect(Collectors.toList());
+        List<UUID> ids = jpaRepository.findLatestIdsByCustomerId(customerId, pageable);
+        return mapper.toDomainList(jpaRepository.findAllWithItemsByIdIn(ids));
     }
     
     @Override
@@ -0,0 +1,43 @@
+package com.techbra.order.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA do lease de uma tarefa agendada
+ * 
+ * As linhas são gravadas apenas pelos comandos nativos de
+ * {@link SchedulerLeaseJpaRepository}.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLeaseEntity {
+    
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+    
+    @Column(name = "owner", nullable = false)
+    private String owner;
+    
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+    
+    protected SchedulerLeaseEntity() {}
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getOwner() {
+        return owner;
+    }
+    
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+}
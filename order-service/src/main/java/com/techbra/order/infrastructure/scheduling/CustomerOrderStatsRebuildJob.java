@@ -0,0 +1,96 @@
+package com.techbra.order.infrastructure.scheduling;
+
+import com.techbra.order.domain.ports.out.CustomerOrderStatsPort;
+import com.techbra.order.domain.ports.out.SchedulerLeasePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job de reconstrução periódica do agregado de pedidos por cliente
+ *
+ * O agregado é mantido incrementalmente a cada transição de pedido; esta
+ * reconstrução a partir da tabela de pedidos corrige eventuais divergências
+ * (alterações feitas fora do serviço, correções manuais etc.).
+ *
+ * A reconstrução percorre os clientes em trechos de
+ * {@code order.stats.rebuild.chunk-size}, cada um em sua própria transação,
+ * de modo que as escritas de pedidos esperam no máximo por um trecho. Apenas
+ * a instância que detém o lease executa o job; o lease é renovado a cada
+ * trecho e, se a instância cair, expira e a próxima execução recomeça em
+ * outra instância.
+ *
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "order.stats.rebuild.enabled", havingValue = "true", matchIfMissing = true)
+public class CustomerOrderStatsRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerOrderStatsRebuildJob.class);
+
+    static final String LEASE_NAME = "customer-order-stats-rebuild";
+
+    private final CustomerOrderStatsPort customerOrderStatsPort;
+    private final SchedulerLeasePort schedulerLeasePort;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+    private final String owner;
+
+    public CustomerOrderStatsRebuildJob(CustomerOrderStatsPort customerOrderStatsPort,
+                                        SchedulerLeasePort schedulerLeasePort,
+                                        @Value("${order.stats.rebuild.chunk-size:500}") int chunkSize,
+                                        @Value("${order.stats.rebuild.lease:PT10M}") Duration leaseDuration) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Tamanho do trecho da reconstrução deve ser maior que zero");
+        }
+        this.customerOrderStatsPort = customerOrderStatsPort;
+        this.schedulerLeasePort = schedulerLeasePort;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "order-service") + "-" + UUID.randomUUID();
+    }
+
+    /**
+     * Reconstrói o agregado conforme o agendamento configurado
+     */
+    @Scheduled(cron = "${order.stats.rebuild.cron:0 30 3 * * *}")
+    public void rebuild() {
+        if (!schedulerLeasePort.tryAcquire(LEASE_NAME, owner, leaseDuration)) {
+            logger.debug("Reconstrução do agregado de pedidos por cliente em execução em outra instância");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int customers = 0;
+        try {
+            UUID lastCustomerId = null;
+            List<UUID> reconciled;
+            do {
+                reconciled = customerOrderStatsPort.reconcileCustomers(lastCustomerId, chunkSize);
+                if (!reconciled.isEmpty()) {
+                    customers += reconciled.size();
+                    lastCustomerId = reconciled.get(reconciled.size() - 1);
+                }
+                if (reconciled.size() == chunkSize && !schedulerLeasePort.tryAcquire(LEASE_NAME, owner, leaseDuration)) {
+                    logger.warn("Lease da reconstrução do agregado de pedidos por cliente perdido: owner={}", owner);
+                    break;
+                }
+            } while (reconciled.size() == chunkSize);
+            logger.info("Agregado de pedidos por cliente reconstruído: {} clientes em {} ms",
+                    customers, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Erro ao reconstruir agregado de pedidos por cliente após {} clientes: {}",
+                    customers, e.getMessage(), e);
+        } finally {
+            schedulerLeasePort.release(LEASE_NAME, owner);
+        }
+    }
+}
@@ -6,26 +6,31 @@ import com.techbra.order.domain.event.OrderPayload.OrderItemPayload;
 import com.techbra.order.domain.event.OrderPayload.AddressPayload;
 import com.techbra.order.domain.Order;
 import com.techbra.order.domain.OrderItem;
-import com.techbra.order.domain.Address;
+import com.techbra.order.infrastructure.persistence.OrderOutboxEntity;
+import com.techbra.order.infrastructure.persistence.OrderOutboxJpaRepository;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
-import org.springframework.util.concurrent.ListenableFuture;
-import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Serviço responsável por publicar eventos de pedidos no Kafka
  * 
- * Esta classe gerencia a publicação de eventos relacionados aos pedidos
- * no tópico billing-events do Kafka.
+ * Os eventos não são enviados diretamente: são gravados na outbox
+ * (tabela order_outbox) na mesma transação que persiste o pedido e
+ * drenados em lote para o tópico billing-events pelo {@link OrderOutboxRelay}.
+ * Assim a criação do pedido não espera pelo Kafka e nenhum evento de um
+ * pedido confirmado no banco é perdido.
  * 
  * @author TechBra Team
  * @version 1.0.0
@@ -38,45 +43,62 @@ public class OrderEventPublisher {
     @Value("${kafka.topics.billing-events:billing-events}")
     private String billingEventsTopic;
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OrderOutboxJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public OrderEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public OrderEventPublisher(OrderOutboxJpaRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Publica um evento de criação de pedido
      * 
+     * Deve ser chamado dentro da transação que persiste o pedido.
+     * 
      * @param order o pedido que foi criado
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderCreatedEvent(Order order) {
-        try {
-            OrderEvent event = createOrderEvent("ORDER_CREATED", order);
-            publishEvent(event);
-            logger.info("Evento de criação de pedido publicado com sucesso. OrderId: {}, EventId: {}", 
-                       order.getId(), event.getEventId());
-        } catch (Exception e) {
-            logger.error("Erro ao publicar evento de criação de pedido. OrderId: {}", order.getId(), e);
-            throw new RuntimeException("Falha ao publicar evento de pedido", e);
+        OrderEvent event = createOrderEvent("ORDER_CREATED", order);
+        publishEvent(event);
+        logger.debug("Evento de criação de pedido gravado na outbox. OrderId: {}, EventId: {}", 
+                    order.getId(), event.getEventId());
+    }
+
+    /**
+     * Publica eventos de criação para vários pedidos
+     * 
+     * Todos os eventos são gravados na outbox com um único lote de inserts
+     * e enviados juntos pelo relay. Deve ser chamado dentro da transação que
+     * persiste os pedidos.
+     * 
+     * @param orders os pedidos que foram criados
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCreatedEvents(List<Order> orders) {
+        List<OrderOutboxEntity> entries = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            entries.add(toOutboxEntry(createOrderEvent("ORDER_CREATED", order)));
         }
+        outboxRepository.saveAll(entries);
+        logger.debug("{} eventos de criação de pedido gravados na outbox", entries.size());
     }
 
     /**
      * Publica um evento de atualização de pedido
      * 
+     * Deve ser chamado dentro da transação que persiste o pedido.
+     * 
      * @param order o pedido que foi atualizado
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderUpdatedEvent(Order order) {
-        try {
-            OrderEvent event = createOrderEvent("ORDER_UPDATED", order);
-            publishEvent(event);
-            logger.info("Evento de atualização de pedido publicado com sucesso. OrderId: {}, EventId: {}", 
-                       order.getId(), event.getEventId());
-        } catch (Exception e) {
-            logger.error("Erro ao publicar evento de atualização de pedido. OrderId: {}", order.getId(), e);
-            throw new RuntimeException("Falha ao publicar evento de pedido", e);
-        }
+        OrderEvent event = createOrderEvent("ORDER_UPDATED", order);
+        publishEvent(event);
+        logger.debug("Evento de atualização de pedido gravado na outbox. OrderId: {}, EventId: {}", 
+                    order.getId(), event.getEventId());
     }
 
     /**
@@ -86,7 +108,7 @@ public class OrderEventPublisher {
      * @param order pedido fonte dos dados
      * @return evento criado
      */
-    private OrderEvent createOrderEvent(String eventType, Order order) {
+    OrderEvent createOrderEvent(String eventType, Order order) {
         // Converter itens do pedido
         List<OrderItemPayload> itemPayloads = order.getItems().stream()
                 .map(this::convertToItemPayload)
@@ -138,45 +160,43 @@ public class OrderEventPublisher {
     /**
      * Converte um endereço para o payload do evento
      * 
+     * O pedido guarda o endereço como texto livre, que é enviado no campo street.
+     * 
      * @param address endereço
      * @return payload do endereço
      */
-    private AddressPayload convertToAddressPayload(Address address) {
+    private AddressPayload convertToAddressPayload(String address) {
         if (address == null) {
             return null;
         }
-        return new AddressPayload(
-                address.getStreet(),
-                address.getCity(),
-                address.getState(),
-                address.getZipCode(),
-                address.getCountry()
-        );
+        return new AddressPayload(address, null, null, null, null);
     }
 
     /**
-     * Publica o evento no tópico do Kafka
+     * Grava o evento na outbox para envio ao tópico do Kafka
      * 
      * @param event evento a ser publicado
      */
     private void publishEvent(OrderEvent event) {
-        String key = event.getOrderId().toString();
-        
-        ListenableFuture<SendResult<String, Object>> future = 
-                kafkaTemplate.send(billingEventsTopic, key, event);
-
-        future.addCallback(new ListenableFutureCallback<SendResult<String, Object>>() {
-            @Override
-            public void onSuccess(SendResult<String, Object> result) {
-                logger.debug("Evento enviado com sucesso para o tópico {} com key {} e offset {}",
-                           billingEventsTopic, key, result.getRecordMetadata().offset());
-            }
-
-            @Override
-            public void onFailure(Throwable ex) {
-                logger.error("Falha ao enviar evento para o tópico {} com key {}", 
-                           billingEventsTopic, key, ex);
-            }
-        });
+        outboxRepository.save(toOutboxEntry(event));
+    }
+
+    /**
+     * Serializa o evento como entrada da outbox para o tópico billing-events
+     * 
+     * @param event evento a ser publicado
+     * @return entrada da outbox
+     */
+    private OrderOutboxEntity toOutboxEntry(OrderEvent event) {
+        try {
+            return new OrderOutboxEntity(
+                    event.getOrderId(),
+                    event.getEventType(),
+                    billingEventsTopic,
+                    event.getOrderId().toString(),
+                    objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento de pedido " + event.getEventId(), e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+package com.techbra.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techbra.order.domain.event.OrderEvent;
+import com.techbra.order.domain.ports.out.SchedulerLeasePort;
+import com.techbra.order.infrastructure.persistence.OrderOutboxEntity;
+import com.techbra.order.infrastructure.persistence.OrderOutboxJpaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relay que drena a outbox de eventos de pedidos para o Kafka em lotes
+ * 
+ * A cada execução bloqueia até {@code order.outbox.batch-size} eventos
+ * pendentes, envia todos ao producer de uma vez, força o envio com
+ * {@code flush()} e aguarda as confirmações. Eventos confirmados são
+ * removidos da outbox. Enquanto houver lotes cheios a drenagem continua na
+ * mesma execução; quando a outbox esvazia, o relay espera
+ * {@code order.outbox.linger} antes de consultar novamente.
+ * 
+ * A ordem dos eventos de cada pedido é preservada: quando o lote tem mais de
+ * um evento do mesmo pedido, cada evento só é enviado depois que o anterior
+ * foi confirmado, e um evento que falha bloqueia os seguintes do pedido. O
+ * evento que falhou é reagendado com backoff exponencial e, após
+ * {@code order.outbox.retry.max-attempts} tentativas, estacionado até
+ * intervenção manual; os demais pedidos continuam sendo drenados. Apenas a
+ * instância que detém o lease drena a outbox, para que dois pods não enviem
+ * eventos do mesmo pedido ao mesmo tempo.
+ * 
+ * A entrega é at-least-once: uma falha entre a confirmação do Kafka e o
+ * commit da remoção reenvia o evento, que pode ser deduplicado pelo eventId.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutboxRelay.class);
+    
+    static final String LEASE_NAME = "order-outbox-relay";
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    private final OrderOutboxJpaRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeasePort schedulerLeasePort;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final int maxAttempts;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration leaseDuration;
+    private final String owner;
+    
+    public OrderOutboxRelay(OrderOutboxJpaRepository outboxRepository,
+                            KafkaTemplate<String, Object> kafkaTemplate,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            SchedulerLeasePort schedulerLeasePort,
+                            @Value("${order.outbox.batch-size:200}") int batchSize,
+                            @Value("${order.outbox.send-timeout:PT10S}") Duration sendTimeout,
+                            @Value("${order.outbox.retry.max-attempts:10}") int maxAttempts,
+                            @Value("${order.outbox.retry.initial-delay:PT1S}") Duration initialRetryDelay,
+                            @Value("${order.outbox.retry.max-delay:PT5M}") Duration maxRetryDelay,
+                            @Value("${order.outbox.lease:PT30S}") Duration leaseDuration) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote da outbox deve ser maior que zero");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Máximo de tentativas da outbox deve ser maior que zero");
+        }
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerLeasePort = schedulerLeasePort;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = initialRetryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.leaseDuration = leaseDuration;
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "order-service") + "-" + UUID.randomUUID();
+    }
+    
+    /**
+     * Drena a outbox enquanto houver lotes cheios e o lease pertencer a esta instância
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.linger:PT0.1S}")
+    public void drain() {
+        try {
+            if (!schedulerLeasePort.tryAcquire(LEASE_NAME, owner, leaseDuration)) {
+                return;
+            }
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize && schedulerLeasePort.tryAcquire(LEASE_NAME, owner, leaseDuration));
+        } catch (Exception e) {
+            logger.error("Erro ao drenar outbox de eventos de pedidos: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Libera o lease ao encerrar, para que outra instância assuma sem esperar a expiração
+     */
+    @PreDestroy
+    public void releaseLease() {
+        try {
+            schedulerLeasePort.release(LEASE_NAME, owner);
+        } catch (Exception e) {
+            logger.warn("Não foi possível liberar o lease do relay da outbox: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Envia um lote de eventos pendentes em uma única transação
+     * 
+     * Os eventos são enviados em rodadas: cada rodada leva o próximo evento
+     * de cada pedido cujo evento anterior foi confirmado. Sem pedidos
+     * repetidos no lote, há uma única rodada.
+     * 
+     * @return número de eventos confirmados pelo Kafka e removidos da outbox
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OrderOutboxEntity> batch = outboxRepository.lockNextBatch(LocalDateTime.now(), batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            
+            Map<UUID, Deque<OrderOutboxEntity>> pendingByOrder = new LinkedHashMap<>();
+            for (OrderOutboxEntity entry : batch) {
+                pendingByOrder.computeIfAbsent(entry.getAggregateId(), id -> new ArrayDeque<>()).add(entry);
+            }
+            
+            List<OrderOutboxEntity> sent = new ArrayList<>(batch.size());
+            List<OrderOutboxEntity> failed = new ArrayList<>();
+            while (!pendingByOrder.isEmpty()) {
+                List<OrderOutboxEntity> round = new ArrayList<>(pendingByOrder.size());
+                for (Deque<OrderOutboxEntity> pending : pendingByOrder.values()) {
+                    round.add(pending.poll());
+                }
+                pendingByOrder.values().removeIf(Deque::isEmpty);
+                
+                for (OrderOutboxEntity entry : sendRound(round)) {
+                    failed.add(entry);
+                    // Os eventos seguintes do pedido ficam na outbox, atrás do que falhou
+                    pendingByOrder.remove(entry.getAggregateId());
+                }
+                round.removeAll(failed);
+                sent.addAll(round);
+            }
+            
+            outboxRepository.deleteAllInBatch(sent);
+            return sent.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+    
+    /**
+     * Envia uma rodada de eventos de pedidos distintos e aguarda as confirmações
+     * 
+     * @return eventos cujo envio falhou, já reagendados ou estacionados
+     */
+    private List<OrderOutboxEntity> sendRound(List<OrderOutboxEntity> round) {
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(round.size());
+        for (OrderOutboxEntity entry : round) {
+            futures.add(send(entry));
+        }
+        kafkaTemplate.flush();
+        
+        List<OrderOutboxEntity> failed = new ArrayList<>();
+        for (int i = 0; i < round.size(); i++) {
+            OrderOutboxEntity entry = round.get(i);
+            try {
+                futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordFailure(entry, "Envio interrompido");
+                failed.add(entry);
+            } catch (Exception e) {
+                recordFailure(entry, e.getMessage());
+                failed.add(entry);
+            }
+        }
+        return failed;
+    }
+    
+    private void recordFailure(OrderOutboxEntity entry, String error) {
+        entry.recordFailure(truncate(error), retryDelay(entry.getAttempts() + 1), maxAttempts);
+        if (entry.isParked()) {
+            logger.error("Evento {} da outbox (pedido {}) estacionado após {} tentativas; "
+                    + "os eventos seguintes do pedido aguardam intervenção: {}",
+                    entry.getId(), entry.getAggregateId(), entry.getAttempts(), error);
+        } else {
+            logger.warn("Falha ao enviar evento {} da outbox (pedido {}, tentativa {}, próxima em {}): {}",
+                    entry.getId(), entry.getAggregateId(), entry.getAttempts(), entry.getNextAttemptAt(), error);
+        }
+    }
+    
+    /**
+     * Espera antes da tentativa informada: dobra a cada falha, até o máximo configurado
+     */
+    Duration retryDelay(int attempt) {
+        int exponent = Math.min(attempt - 1, 30);
+        Duration delay = initialRetryDelay.multipliedBy(1L << exponent);
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+    
+    private CompletableFuture<SendResult<String, Object>> send(OrderOutboxEntity entry) {
+        try {
+            OrderEvent event = objectMapper.readValue(entry.getPayload(), OrderEvent.class);
+            return kafkaTemplate.send(entry.getTopic(), entry.getMessageKey(), event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,42 @@
+package com.techbra.order.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de request para criação de pedidos em lote
+ * 
+ * Cada elemento segue o formato de {@link CreateOrderRequest}, incluindo
+ * os itens do pedido.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class BulkCreateOrdersRequest {
+    
+    @JsonProperty("orders")
+    @NotEmpty(message = "Lista de pedidos é obrigatória")
+    @Size(max = 500, message = "Máximo de 500 pedidos por requisição")
+    @Valid
+    private List<CreateOrderRequest> orders;
+    
+    // Construtor padrão
+    public BulkCreateOrdersRequest() {}
+    
+    public BulkCreateOrdersRequest(List<CreateOrderRequest> orders) {
+        this.orders = orders;
+    }
+    
+    // Getters e Setters
+    public List<CreateOrderRequest> getOrders() {
+        return orders;
+    }
+    
+    public void setOrders(List<CreateOrderRequest> orders) {
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,76 @@
+package com.techbra.order.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.techbra.order.domain.CustomerOrderStats;
+import com.techbra.order.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO de resposta com o resumo materializado de pedidos de um cliente
+ *
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class CustomerOrderStatsResponse {
+
+    @JsonProperty("customerId")
+    private UUID customerId;
+
+    @JsonProperty("orderCount")
+    private Long orderCount;
+
+    @JsonProperty("totalSales")
+    private BigDecimal totalSales;
+
+    @JsonProperty("countsByStatus")
+    private Map<OrderStatus, Long> countsByStatus;
+
+    public CustomerOrderStatsResponse() {}
+
+    /**
+     * Converte o agregado de domínio para o DTO de resposta
+     */
+    public static CustomerOrderStatsResponse fromDomain(CustomerOrderStats stats) {
+        CustomerOrderStatsResponse response = new CustomerOrderStatsResponse();
+        response.customerId = stats.getCustomerId();
+        response.orderCount = stats.getOrderCount();
+        response.totalSales = stats.getTotalSales();
+        response.countsByStatus = stats.getCountsByStatus();
+        return response;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getTotalSales() {
+        return totalSales;
+    }
+
+    public void setTotalSales(BigDecimal totalSales) {
+        this.totalSales = totalSales;
+    }
+
+    public Map<OrderStatus, Long> getCountsByStatus() {
+        return countsByStatus;
+    }
+
+    public void setCountsByStatus(Map<OrderStatus, Long> countsByStatus) {
+        this.countsByStatus = countsByStatus;
+    }
+}
@@ -0,0 +1,58 @@
+package com.techbra.order.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para páginas de pedidos paginadas por cursor
+ *
+ * O campo nextCursor é opaco para o cliente e deve ser reenviado
+ * para obter a página seguinte; quando nulo, não há mais pedidos.
+ *
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class OrderPageResponse {
+
+    @JsonProperty("items")
+    private List<OrderResponse> items;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("hasMore")
+    private Boolean hasMore;
+
+    public OrderPageResponse() {}
+
+    public OrderPageResponse(List<OrderResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    public List<OrderResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,47 @@
+package com.techbra.order.web.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos suportados pela exportação de pedidos em streaming
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public enum OrderExportFormat {
+    
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv"));
+    
+    private final String extension;
+    private final MediaType mediaType;
+    
+    OrderExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+    
+    /**
+     * Resolve o formato a partir do parâmetro da requisição
+     * 
+     * @param value nome do formato (ndjson ou csv)
+     * @return o formato correspondente
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static OrderExportFormat fromValue(String value) {
+        for (OrderExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação não suportado: " + value);
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,110 @@
+package com.techbra.order.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techbra.order.domain.Order;
+import com.techbra.order.web.dto.OrderResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve pedidos diretamente na resposta HTTP, um registro por vez
+ * 
+ * Nenhuma lista de pedidos é mantida em memória: cada pedido é convertido
+ * e escrito assim que recebido, usando apenas um buffer de tamanho fixo.
+ * 
+ * @author TechBra Team
+ * @version 1.0.0
+ */
+public class OrderExportWriter {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final String CSV_HEADER = "id,orderNumber,customerId,status,totalAmount,"
+            + "discountAmount,finalAmount,itemCount,totalQuantity,createdAt,updatedAt";
+    
+    private final OrderExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+    
+    public OrderExportWriter(OrderExportFormat format, ObjectMapper objectMapper, OutputStream outputStream) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    /**
+     * Escreve o cabeçalho do arquivo, quando o formato exigir
+     */
+    public void writeHeader() throws IOException {
+        if (format == OrderExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+    
+    /**
+     * Escreve um pedido no formato configurado
+     * 
+     * @param order pedido a ser exportado
+     */
+    public void write(Order order) {
+        try {
+            if (format == OrderExportFormat.CSV) {
+                writeCsvLine(order);
+            } else {
+                writer.write(objectMapper.writeValueAsString(OrderResponse.fromDomain(order)));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever pedido na exportação: " + order.getId(), e);
+        }
+    }
+    
+    /**
+     * Descarrega o buffer restante na resposta
+     */
+    public void finish() throws IOException {
+        writer.flush();
+    }
+    
+    private void writeCsvLine(Order order) throws IOException {
+        writer.write(csv(order.getId()));
+        writer.write(',');
+        writer.write(csv(order.getOrderNumber()));
+        writer.write(',');
+        writer.write(csv(order.getCustomerId()));
+        writer.write(',');
+        writer.write(csv(order.getStatus()));
+        writer.write(',');
+        writer.write(csv(order.getTotalAmount()));
+        writer.write(',');
+        writer.write(csv(order.getDiscountAmount()));
+        writer.write(',');
+        writer.write(csv(order.getFinalAmount()));
+        writer.write(',');
+        writer.write(String.valueOf(order.getItems().size()));
+        writer.write(',');
+        writer.write(String.valueOf(order.getTotalItemsCount()));
+        writer.write(',');
+        writer.write(csv(order.getCreatedAt()));
+        writer.write(',');
+        writer.write(csv(order.getUpdatedAt()));
+    }
+    
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
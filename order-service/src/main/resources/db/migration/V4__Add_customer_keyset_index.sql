@@ -0,0 +1,16 @@
+-- Migration V4: Add keyset pagination index for customer order history
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Supports seek pagination on (created_at, id) per customer so
+--              "latest N" and "next page" queries stay constant-cost
+
+CREATE INDEX IF NOT EXISTS idx_orders_customer_created_id
+    ON orders(customer_id, created_at DESC, id DESC);
+
+COMMENT ON INDEX idx_orders_customer_created_id IS 'Keyset pagination index for customer order history (created_at DESC, id DESC)';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V4__Add_customer_keyset_index completed successfully at %', NOW();
+END $$;
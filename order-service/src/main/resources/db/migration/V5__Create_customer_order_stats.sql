@@ -0,0 +1,32 @@
+-- Migration V5: Create materialized customer order aggregate
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Per-customer, per-status order count and total amount, maintained
+--              incrementally by the order service so total-sales and count
+--              endpoints no longer scan the customer's order history
+
+CREATE TABLE IF NOT EXISTS customer_order_stats (
+    customer_id UUID NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(19,2) NOT NULL DEFAULT 0.00,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (customer_id, status)
+);
+
+COMMENT ON TABLE customer_order_stats IS 'Materialized per-customer order aggregate, one row per (customer, status)';
+COMMENT ON COLUMN customer_order_stats.order_count IS 'Number of orders of the customer currently in this status';
+COMMENT ON COLUMN customer_order_stats.total_amount IS 'Sum of total_amount of the orders of the customer currently in this status';
+
+-- Backfill from existing orders
+INSERT INTO customer_order_stats (customer_id, status, order_count, total_amount, updated_at)
+SELECT customer_id, status, COUNT(*), COALESCE(SUM(total_amount), 0), CURRENT_TIMESTAMP
+FROM orders
+GROUP BY customer_id, status
+ON CONFLICT (customer_id, status) DO NOTHING;
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V5__Create_customer_order_stats completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,32 @@
+-- Migration V6: Create transactional outbox for order events
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Order events are written to order_outbox in the same transaction
+--              as the order and drained to Kafka in batches by the outbox relay
+
+CREATE SEQUENCE IF NOT EXISTS order_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id BIGINT PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_outbox_aggregate_id ON order_outbox(aggregate_id);
+
+COMMENT ON TABLE order_outbox IS 'Pending order events, removed by the relay once acknowledged by Kafka';
+COMMENT ON COLUMN order_outbox.id IS 'Sequence id; defines relay order';
+COMMENT ON COLUMN order_outbox.payload IS 'Serialized OrderEvent (JSON)';
+COMMENT ON COLUMN order_outbox.attempts IS 'Number of failed send attempts';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V6__Create_order_outbox completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,20 @@
+-- Migration V7: Create scheduler leases
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Time-bound leases that let a single pod run each scheduled job
+--              (e.g. the customer order stats reconciliation); an expired lease
+--              is taken over by another pod
+
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE scheduler_leases IS 'Leases of the order-service scheduled jobs';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V7__Create_scheduler_leases completed successfully at %', NOW();
+END $$;
@@ -0,0 +1,24 @@
+-- Migration V8: Retry state for the order outbox
+-- Author: TechBra Team
+-- Date: 2026-10-17
+-- Description: Failed events are retried with backoff (next_attempt_at) and parked
+--              after the maximum number of attempts; later events of the same order
+--              wait until the earlier one is sent, keeping per-order ordering
+
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Relay batches scan pending events in id order; parked rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_order_outbox_pending_id ON order_outbox(id) WHERE status = 'PENDING';
+-- Earlier events of the same order are looked up by (aggregate_id, id)
+CREATE INDEX IF NOT EXISTS idx_order_outbox_aggregate_id_id ON order_outbox(aggregate_id, id);
+DROP INDEX IF EXISTS idx_order_outbox_aggregate_id;
+
+COMMENT ON COLUMN order_outbox.status IS 'PENDING (to be relayed) or PARKED (max attempts reached, needs manual action)';
+COMMENT ON COLUMN order_outbox.next_attempt_at IS 'Earliest time of the next send attempt (backoff after failures)';
+
+-- Log migration completion
+DO $$
+BEGIN
+    RAISE NOTICE 'Migration V8__Add_order_outbox_retry_state completed successfully at %', NOW();
+END $$;
@@ -1,20 +1,30 @@
 package com.techbra.order.domain.service;
 
+import com.techbra.order.domain.CustomerOrderStats;
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderCursor;
 import com.techbra.order.domain.OrderItem;
 import com.techbra.order.domain.OrderStatus;
+import com.techbra.order.domain.ports.in.CreateOrderCommand;
+import com.techbra.order.domain.ports.out.CustomerOrderStatsPort;
+import com.techbra.order.domain.ports.out.OrderNumberGenerator;
 import com.techbra.order.domain.ports.out.OrderRepositoryPort;
+import com.techbra.order.service.OrderEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +36,15 @@ class OrderServiceTest {
     @Mock
     private OrderRepositoryPort orderRepositoryPort;
 
+    @Mock
+    private CustomerOrderStatsPort customerOrderStatsPort;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -165,4 +184,205 @@ class OrderServiceTest {
         assertTrue(result.isEmpty());
         verify(orderRepositoryPort, times(1)).findAllPaginated(page, size);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findLatestOrdersByCustomerId_WithCursor_ShouldDelegateKeysetQuery() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        OrderCursor cursor = OrderCursor.of(order2);
+        when(orderRepositoryPort.findLatestByCustomerId(customerId, cursor, 10)).thenReturn(List.of(order1));
+
+        // When
+        List<Order> result = orderService.findLatestOrdersByCustomerId(customerId, cursor, 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(orderRepositoryPort, times(1)).findLatestByCustomerId(customerId, cursor, 10);
+        verify(orderRepositoryPort, never()).findByCustomerId(any());
+    }
+
+    @Test
+    void findLatestOrdersByCustomerId_WithInvalidLimit_ShouldThrowException() {
+        // When & Then
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> orderService.findLatestOrdersByCustomerId(UUID.randomUUID(), null, 0)
+        );
+        verify(orderRepositoryPort, never()).findLatestByCustomerId(any(), any(), anyInt());
+    }
+
+    @Test
+    void orderCursor_EncodeAndDecode_ShouldRoundTrip() {
+        // Given
+        OrderCursor cursor = OrderCursor.of(order1);
+
+        // When
+        OrderCursor decoded = OrderCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("invalido"));
+    }
+
+    @Test
+    void confirmOrder_ShouldRecordStatusTransitionInCustomerStats() {
+        // Given
+        when(orderRepositoryPort.findById(order1.getId())).thenReturn(Optional.of(order1));
+        when(orderRepositoryPort.save(order1)).thenReturn(order1);
+
+        // When
+        orderService.confirmOrder(order1.getId());
+
+        // Then
+        verify(customerOrderStatsPort, times(1)).recordTransition(
+            order1.getCustomerId(), OrderStatus.PENDING, BigDecimal.valueOf(150.00),
+            OrderStatus.CONFIRMED, BigDecimal.valueOf(150.00));
+    }
+
+    @Test
+    void calculateCustomerTotalSales_ShouldReadMaterializedStats() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        CustomerOrderStats stats = new CustomerOrderStats(customerId);
+        stats.put(OrderStatus.PENDING, 3, BigDecimal.valueOf(90.00));
+        stats.put(OrderStatus.CONFIRMED, 2, BigDecimal.valueOf(200.00));
+        stats.put(OrderStatus.DELIVERED, 1, BigDecimal.valueOf(50.00));
+        when(customerOrderStatsPort.findByCustomerId(customerId)).thenReturn(stats);
+
+        // When
+        BigDecimal totalSales = orderService.calculateCustomerTotalSales(customerId);
+        Long count = orderService.countOrdersByCustomerId(customerId);
+
+        // Then
+        assertEquals(0, BigDecimal.valueOf(250.00).compareTo(totalSales));
+        assertEquals(6L, count);
+        verify(orderRepositoryPort, never()).calculateTotalSalesByCustomerId(any());
+        verify(orderRepositoryPort, never()).countByCustomerId(any());
+    }
+
+    @Test
+    void createOrder_ShouldUseInjectedOrderNumberGeneratorAndWriteOutboxEvent() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        when(orderNumberGenerator.nextOrderNumber()).thenReturn("ORD-0000000000001");
+        when(orderRepositoryPort.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Order created = orderService.createOrder(customerId, "Rua A, 1", "Rua A, 1", "PIX");
+
+        // Then
+        assertEquals("ORD-0000000000001", created.getOrderNumber());
+        verify(customerOrderStatsPort).recordTransition(customerId, null, null, OrderStatus.PENDING, BigDecimal.ZERO);
+        verify(orderEventPublisher).publishOrderCreatedEvent(created);
+    }
+
+    @Test
+    void createOrders_ShouldPersistStatsAndEventsInSingleBatch() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        List<CreateOrderCommand> commands = List.of(
+            new CreateOrderCommand(customerId, "Rua A, 1", "Rua A, 1", "PIX", null,
+                List.of(new OrderItem(UUID.randomUUID(), "Produto 1", "SKU-1", BigDecimal.TEN, 2))),
+            new CreateOrderCommand(customerId, "Rua A, 1", "Rua A, 1", "PIX", null,
+                List.of(new OrderItem(UUID.randomUUID(), "Produto 2", "SKU-2", BigDecimal.ONE, 5)))
+        );
+        when(orderNumberGenerator.nextOrderNumber()).thenReturn("ORD-0000000000001", "ORD-0000000000002");
+        when(orderRepositoryPort.saveAllNew(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Order> created = orderService.createOrders(commands);
+
+        // Then
+        assertEquals(2, created.size());
+        assertEquals(0, BigDecimal.valueOf(20).compareTo(created.get(0).getTotalAmount()));
+        verify(orderRepositoryPort, times(1)).saveAllNew(anyList());
+        verify(orderRepositoryPort, never()).save(any());
+        verify(customerOrderStatsPort, times(1)).recordNewOrders(created);
+        verify(orderEventPublisher, times(1)).publishOrderCreatedEvents(created);
+    }
+
+    @Test
+    void createOrders_WithInvalidOrder_ShouldNotWriteAnything() {
+        // Given
+        List<CreateOrderCommand> commands = List.of(
+            new CreateOrderCommand(UUID.randomUUID(), "Rua A, 1", "Rua A, 1", "PIX", null, List.of()),
+            new CreateOrderCommand(UUID.randomUUID(), "Rua A, 1", "Rua A, 1", " ", null, List.of())
+        );
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrders(commands));
+        verify(orderRepositoryPort, never()).saveAllNew(anyList());
+        verifyNoInteractions(customerOrderStatsPort, orderEventPublisher);
+    }
+
+    @Test
+    void updateItemQuantity_ShouldWriteOnlyChangedItem() {
+        // Given
+        OrderItem item = order1.getItems().get(0);
+        when(orderRepositoryPort.findById(order1.getId())).thenReturn(Optional.of(order1));
+        when(orderRepositoryPort.updateItem(order1, item)).thenReturn(order1);
+
+        // When
+        orderService.updateItemQuantity(order1.getId(), item.getId(), 3);
+
+        // Then
+        assertEquals(3, item.getQuantity());
+        verify(orderRepositoryPort, never()).save(any());
+        verify(customerOrderStatsPort).recordTransition(order1.getCustomerId(), OrderStatus.PENDING,
+            BigDecimal.valueOf(150.00), OrderStatus.PENDING, order1.getTotalAmount());
+    }
+
+    @Test
+    void removeItemFromOrder_WithVersionConflict_ShouldReloadAndRetryOnce() {
+        // Given
+        UUID itemId = order1.getItems().get(0).getId();
+        Order reloaded = copyOf(order1);
+        when(orderRepositoryPort.findById(order1.getId())).thenReturn(Optional.of(order1), Optional.of(reloaded));
+        when(orderRepositoryPort.deleteItem(any(Order.class), eq(itemId)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, order1.getId()))
+            .thenReturn(reloaded);
+
+        // When
+        Order result = orderService.removeItemFromOrder(order1.getId(), itemId);
+
+        // Then
+        assertSame(reloaded, result);
+        assertTrue(result.getItems().isEmpty());
+        verify(orderRepositoryPort, times(2)).findById(order1.getId());
+        verify(customerOrderStatsPort, times(1)).recordTransition(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void addItemToOrder_WithRepeatedVersionConflict_ShouldPropagate() {
+        // Given
+        when(orderRepositoryPort.findById(order1.getId())).thenAnswer(invocation -> Optional.of(copyOf(order1)));
+        when(orderRepositoryPort.insertItem(any(), any()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, order1.getId()));
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> orderService.addItemToOrder(
+            order1.getId(), UUID.randomUUID(), "Produto", "SKU", BigDecimal.TEN, 1));
+        verify(orderRepositoryPort, times(2)).insertItem(any(), any());
+        verifyNoInteractions(customerOrderStatsPort);
+    }
+
+    private Order copyOf(Order source) {
+        Order copy = new Order();
+        copy.setId(source.getId());
+        copy.setCustomerId(source.getCustomerId());
+        copy.setStatus(source.getStatus());
+        copy.setTotalAmount(source.getTotalAmount());
+        List<OrderItem> items = new ArrayList<>();
+        for (OrderItem item : source.getItems()) {
+            OrderItem itemCopy = new OrderItem();
+            itemCopy.setId(item.getId());
+            itemCopy.setProductId(item.getProductId());
+            itemCopy.setQuantity(item.getQuantity());
+            itemCopy.setUnitPrice(item.getUnitPrice());
+            itemCopy.setOrder(copy);
+            items.add(itemCopy);
+        }
+        copy.setItems(items);
+        return copy;
+    }
+}
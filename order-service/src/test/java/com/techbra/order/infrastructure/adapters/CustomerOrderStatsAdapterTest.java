@@ -0,0 +1,109 @@
+package com.techbra.order.infrastructure.adapters;
+
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderStatus;
+import com.techbra.order.infrastructure.persistence.CustomerOrderStatsJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOrderStatsAdapterTest {
+
+    @Mock
+    private CustomerOrderStatsJpaRepository statsJpaRepository;
+
+    @InjectMocks
+    private CustomerOrderStatsAdapter adapter;
+
+    private final UUID customerId = UUID.randomUUID();
+
+    @Test
+    void recordTransition_NewOrder_ShouldOnlyIncrementNewStatus() {
+        adapter.recordTransition(customerId, null, null, OrderStatus.PENDING, BigDecimal.ZERO);
+
+        verify(statsJpaRepository).applyDelta(customerId, "PENDING", 1, BigDecimal.ZERO);
+        verifyNoMoreInteractions(statsJpaRepository);
+    }
+
+    @Test
+    void recordTransition_StatusChange_ShouldMoveCountAndAmount() {
+        BigDecimal amount = BigDecimal.valueOf(120.00);
+
+        adapter.recordTransition(customerId, OrderStatus.PENDING, amount, OrderStatus.CONFIRMED, amount);
+
+        verify(statsJpaRepository).applyDelta(customerId, "PENDING", -1, amount.negate());
+        verify(statsJpaRepository).applyDelta(customerId, "CONFIRMED", 1, amount);
+        verifyNoMoreInteractions(statsJpaRepository);
+    }
+
+    @Test
+    void recordTransition_AmountChangeOnly_ShouldApplyAmountDelta() {
+        adapter.recordTransition(customerId, OrderStatus.PENDING, BigDecimal.valueOf(100.00),
+                OrderStatus.PENDING, BigDecimal.valueOf(130.00));
+
+        verify(statsJpaRepository).applyDelta(eq(customerId), eq("PENDING"), eq(0L),
+                argThat(delta -> delta.compareTo(BigDecimal.valueOf(30)) == 0));
+        verifyNoMoreInteractions(statsJpaRepository);
+    }
+
+    @Test
+    void recordTransition_NoChange_ShouldNotTouchStats() {
+        adapter.recordTransition(customerId, OrderStatus.PENDING, BigDecimal.TEN, OrderStatus.PENDING, BigDecimal.TEN);
+
+        verifyNoInteractions(statsJpaRepository);
+    }
+
+    @Test
+    void recordNewOrders_ShouldApplyOneDeltaPerCustomerAndStatus() {
+        UUID otherCustomerId = UUID.randomUUID();
+        Order first = new Order(customerId, null, "ORD-1");
+        first.setTotalAmount(BigDecimal.valueOf(10));
+        Order second = new Order(customerId, null, "ORD-2");
+        second.setTotalAmount(BigDecimal.valueOf(15));
+        Order third = new Order(otherCustomerId, null, "ORD-3");
+
+        adapter.recordNewOrders(List.of(first, second, third));
+
+        verify(statsJpaRepository).applyDelta(customerId, "PENDING", 2, BigDecimal.valueOf(25));
+        verify(statsJpaRepository).applyDelta(otherCustomerId, "PENDING", 1, BigDecimal.ZERO);
+        verifyNoMoreInteractions(statsJpaRepository);
+    }
+
+    @Test
+    void reconcileCustomers_ShouldRebuildOnlyTheRangeOfTheChunk() {
+        UUID after = new UUID(0L, 10L);
+        UUID first = new UUID(0L, 11L);
+        UUID last = new UUID(0L, 20L);
+        when(statsJpaRepository.findCustomerIdsAfter(after, 2)).thenReturn(List.of(first, last));
+
+        List<UUID> reconciled = adapter.reconcileCustomers(after, 2);
+
+        assertEquals(List.of(first, last), reconciled);
+        var inOrder = inOrder(statsJpaRepository);
+        inOrder.verify(statsJpaRepository).lockForReconciliation();
+        inOrder.verify(statsJpaRepository).deleteCustomerRange(after, last);
+        inOrder.verify(statsJpaRepository).insertCustomerRangeFromOrders(after, last);
+    }
+
+    @Test
+    void reconcileCustomers_FromStart_ShouldBeginAtTheSmallestCustomerId() {
+        when(statsJpaRepository.findCustomerIdsAfter(new UUID(0L, 0L), 500)).thenReturn(List.of());
+
+        List<UUID> reconciled = adapter.reconcileCustomers(null, 500);
+
+        assertTrue(reconciled.isEmpty());
+        verify(statsJpaRepository, never()).lockForReconciliation();
+        verify(statsJpaRepository, never()).deleteCustomerRange(any(), any());
+    }
+}
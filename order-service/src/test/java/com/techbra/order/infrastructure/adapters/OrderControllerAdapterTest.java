@@ -2,17 +2,24 @@ package com.techbra.order.infrastructure.adapters;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderCursor;
 import com.techbra.order.domain.OrderItem;
 import com.techbra.order.domain.OrderStatus;
 import com.techbra.order.domain.ports.in.OrderUseCase;
+import com.techbra.order.domain.ports.in.CreateOrderCommand;
+import com.techbra.order.web.dto.BulkCreateOrdersRequest;
+import com.techbra.order.web.dto.CreateOrderRequest;
+import com.techbra.order.web.dto.OrderItemRequest;
 import com.techbra.order.web.dto.OrderResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -20,8 +27,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -216,4 +226,149 @@ class OrderControllerAdapterTest {
 
         verify(orderUseCase, times(1)).findAllOrders(0, 10);
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportOrdersByDateRange_WithNdjsonFormat_ShouldStreamOneOrderPerLine() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(2);
+            mockOrders.forEach(consumer);
+            return null;
+        }).when(orderUseCase).exportOrdersByDateRange(any(), any(), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/orders/date-range/export")
+                .param("startDate", "2025-01-01T00:00:00")
+                .param("endDate", "2025-01-31T23:59:59"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains(order1.getId().toString()));
+        assertTrue(lines[1].contains(order2.getId().toString()));
+    }
+
+    @Test
+    void exportOrdersByDateRange_WithCsvFormat_ShouldWriteHeaderAndRows() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(2);
+            mockOrders.forEach(consumer);
+            return null;
+        }).when(orderUseCase).exportOrdersByDateRange(any(), any(), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/orders/date-range/export")
+                .param("startDate", "2025-01-01T00:00:00")
+                .param("endDate", "2025-01-31T23:59:59")
+                .param("format", "csv"))
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.trim().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,orderNumber,customerId,status"));
+        assertTrue(lines[1].startsWith(order1.getId().toString()));
+    }
+
+    @Test
+    void exportOrdersByDateRange_WithUnsupportedFormat_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/orders/date-range/export")
+                .param("startDate", "2025-01-01T00:00:00")
+                .param("endDate", "2025-01-31T23:59:59")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderUseCase, never()).exportOrdersByDateRange(any(), any(), any());
+    }
+
+    @Test
+    void getLatestOrdersByCustomerId_WithMoreOrders_ShouldReturnPageWithNextCursor() throws Exception {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        when(orderUseCase.findLatestOrdersByCustomerId(customerId, null, 2)).thenReturn(List.of(order2, order1));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/customer/{customerId}/latest", customerId)
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(order2.getId().toString())))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(OrderCursor.of(order2).encode())));
+    }
+
+    @Test
+    void getLatestOrdersByCustomerId_WithExactlyLimitOrdersLeft_ShouldNotReturnNextCursor() throws Exception {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        when(orderUseCase.findLatestOrdersByCustomerId(customerId, null, 3)).thenReturn(List.of(order2, order1));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/customer/{customerId}/latest", customerId)
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getLatestOrdersByCustomerId_WithLimitAboveMaximum_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/orders/customer/{customerId}/latest", UUID.randomUUID())
+                .param("limit", "101"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderUseCase, never()).findLatestOrdersByCustomerId(any(), any(), anyInt());
+    }
+
+    @Test
+    void createOrders_WithValidBulkRequest_ShouldCreateAllOrdersInOneCall() throws Exception {
+        // Given
+        CreateOrderRequest first = new CreateOrderRequest(order1.getCustomerId(), "Rua A, 1", "Rua A, 1", "PIX");
+        OrderItemRequest item = new OrderItemRequest();
+        item.setProductId(UUID.randomUUID());
+        item.setProductName("Produto");
+        item.setUnitPrice(BigDecimal.TEN);
+        item.setQuantity(2);
+        first.setItems(List.of(item));
+        CreateOrderRequest second = new CreateOrderRequest(order2.getCustomerId(), "Rua B, 2", "Rua B, 2", "BOLETO");
+        when(orderUseCase.createOrders(anyList())).thenReturn(mockOrders);
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkCreateOrdersRequest(List.of(first, second)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateOrderCommand>> commands = ArgumentCaptor.forClass(List.class);
+        verify(orderUseCase, times(1)).createOrders(commands.capture());
+        assertEquals(2, commands.getValue().size());
+        assertEquals(1, commands.getValue().get(0).getItems().size());
+        assertEquals(BigDecimal.valueOf(20), commands.getValue().get(0).getItems().get(0).getTotalPrice());
+        verify(orderUseCase, never()).addItemToOrder(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createOrders_WithEmptyBulkRequest_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orders\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderUseCase, never()).createOrders(anyList());
+    }
+}
@@ -0,0 +1,91 @@
+package com.techbra.order.infrastructure.adapters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.event.OrderEvent;
+import com.techbra.order.infrastructure.persistence.OrderOutboxEntity;
+import com.techbra.order.infrastructure.persistence.OrderOutboxJpaRepository;
+import com.techbra.order.service.OrderEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste da gravação de eventos na outbox e da consulta de lotes do relay
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OrderOutboxPersistenceTest {
+
+    @Autowired
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Test
+    void publishOrderCreatedEvent_ShouldWriteOutboxRowsReadableInInsertionOrder() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        OrderEventPublisher publisher = new OrderEventPublisher(outboxRepository, objectMapper);
+        ReflectionTestUtils.setField(publisher, "billingEventsTopic", "billing-events");
+
+        Order first = new Order(UUID.randomUUID(), null, "ORD-0000000000001");
+        first.setShippingAddress("Rua A, 1");
+        Order second = new Order(UUID.randomUUID(), null, "ORD-0000000000002");
+        publisher.publishOrderCreatedEvent(first);
+        publisher.publishOrderCreatedEvent(second);
+        outboxRepository.flush();
+
+        List<OrderOutboxEntity> batch = outboxRepository.lockNextBatch(LocalDateTime.now(), 10);
+
+        assertEquals(2, batch.size());
+        assertEquals(first.getId(), batch.get(0).getAggregateId());
+        assertEquals(second.getId(), batch.get(1).getAggregateId());
+        assertEquals("billing-events", batch.get(0).getTopic());
+        assertEquals(first.getId().toString(), batch.get(0).getMessageKey());
+
+        OrderEvent event = objectMapper.readValue(batch.get(0).getPayload(), OrderEvent.class);
+        assertEquals("ORDER_CREATED", event.getEventType());
+        assertEquals(first.getId(), event.getOrderId());
+        assertEquals("ORD-0000000000001", event.getPayload().getOrderNumber());
+        assertEquals("Rua A, 1", event.getPayload().getShippingAddress().getStreet());
+        assertEquals(1, outboxRepository.lockNextBatch(LocalDateTime.now(), 1).size());
+    }
+
+    @Test
+    void lockNextBatch_ShouldHoldBackLaterEventsOfAnOrderWaitingForRetry() {
+        UUID retryingOrderId = UUID.randomUUID();
+        UUID parkedOrderId = UUID.randomUUID();
+        UUID otherOrderId = UUID.randomUUID();
+        OrderOutboxEntity retrying = outboxRepository.save(entry(retryingOrderId, "ORDER_CREATED"));
+        retrying.recordFailure("broker indisponível", Duration.ofMinutes(1), 10);
+        OrderOutboxEntity heldBack = outboxRepository.save(entry(retryingOrderId, "ORDER_UPDATED"));
+        OrderOutboxEntity parked = outboxRepository.save(entry(parkedOrderId, "ORDER_CREATED"));
+        parked.recordFailure("payload inválido", Duration.ZERO, 1);
+        outboxRepository.save(entry(parkedOrderId, "ORDER_UPDATED"));
+        OrderOutboxEntity other = outboxRepository.save(entry(otherOrderId, "ORDER_CREATED"));
+        outboxRepository.flush();
+
+        List<OrderOutboxEntity> batch = outboxRepository.lockNextBatch(LocalDateTime.now(), 10);
+        List<OrderOutboxEntity> later = outboxRepository.lockNextBatch(LocalDateTime.now().plusMinutes(2), 10);
+
+        assertEquals(List.of(other.getId()), batch.stream().map(OrderOutboxEntity::getId).toList());
+        assertEquals(List.of(retrying.getId(), heldBack.getId(), other.getId()),
+                later.stream().map(OrderOutboxEntity::getId).toList());
+    }
+
+    private static OrderOutboxEntity entry(UUID orderId, String eventType) {
+        return new OrderOutboxEntity(orderId, eventType, "billing-events", orderId.toString(), "{}");
+    }
+}
@@ -0,0 +1,306 @@
+package com.techbra.order.infrastructure.adapters;
+
+import com.techbra.order.domain.Order;
+import com.techbra.order.domain.OrderItem;
+import com.techbra.order.domain.OrderStatus;
+import com.techbra.order.infrastructure.cache.OrderCache;
+import com.techbra.order.infrastructure.persistence.OrderEntity;
+import com.techbra.order.infrastructure.persistence.OrderItemEntity;
+import com.techbra.order.infrastructure.persistence.OrderJpaRepository;
+import com.techbra.order.infrastructure.persistence.OrderMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de regressão do número de comandos SQL emitidos pelas listagens de pedidos
+ *
+ * Garante que a conversão para o domínio não dispara uma consulta de itens
+ * por pedido (N+1): a quantidade de comandos deve ser fixa, independente
+ * do tamanho da página. O mesmo vale para as alterações de item, que gravam
+ * apenas o delta, independente do tamanho do pedido.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class OrderRepositoryAdapterQueryCountTest {
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private OrderRepositoryAdapter adapter;
+    private Statistics statistics;
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OrderRepositoryAdapter(orderJpaRepository, new OrderMapper(), entityManager.getEntityManager(),
+                new OrderCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        customerId = UUID.randomUUID();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void findByStatus_ShouldUseSingleStatementRegardlessOfSize(int orderCount) {
+        persistOrders(orderCount, OrderStatus.PENDING);
+
+        List<Order> orders = countStatements(1, () -> adapter.findByStatus(OrderStatus.PENDING));
+
+        assertEquals(orderCount, orders.size());
+        orders.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void findByCreatedAtBetween_ShouldUseSingleStatementRegardlessOfSize(int orderCount) {
+        persistOrders(orderCount, OrderStatus.CONFIRMED);
+
+        List<Order> orders = countStatements(1, () -> adapter.findByCreatedAtBetween(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)));
+
+        assertEquals(orderCount, orders.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void findActiveOrdersByCustomerId_ShouldUseSingleStatementRegardlessOfSize(int orderCount) {
+        persistOrders(orderCount, OrderStatus.PREPARING);
+
+        List<Order> orders = countStatements(1, () -> adapter.findActiveOrdersByCustomerId(customerId));
+
+        assertEquals(orderCount, orders.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void findAllPaginated_ShouldUseTwoStatementsRegardlessOfPageSize(int pageSize) {
+        persistOrders(pageSize, OrderStatus.PENDING);
+
+        List<Order> orders = countStatements(2, () -> adapter.findAllPaginated(0, pageSize));
+
+        assertEquals(pageSize, orders.size());
+        orders.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void findLatestByCustomerId_ShouldUseTwoStatementsAndKeepOrdering(int pageSize) {
+        persistOrders(pageSize, OrderStatus.PENDING);
+
+        List<Order> orders = countStatements(2, () -> adapter.findLatestByCustomerId(customerId, null, pageSize));
+
+        assertEquals(pageSize, orders.size());
+        for (int i = 1; i < orders.size(); i++) {
+            assertFalse(orders.get(i).getCreatedAt().isAfter(orders.get(i - 1).getCreatedAt()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {150, 250})
+    void streamByCreatedAtBetween_ShouldLoadItemsOncePerChunk(int orderCount) {
+        persistOrders(orderCount, OrderStatus.CONFIRMED);
+        List<Order> exported = new ArrayList<>();
+
+        long chunks = (orderCount + 99) / 100;
+        countStatements(1 + chunks, () -> {
+            adapter.streamByCreatedAtBetween(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+                    exported::add);
+            return exported;
+        });
+
+        assertEquals(orderCount, exported.size());
+        exported.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+    }
+
+    @Test
+    void findById_WhenCached_ShouldNotHitDatabase() {
+        persistOrders(1, OrderStatus.PENDING);
+        UUID orderId = orderJpaRepository.findAll().get(0).getId();
+        entityManager.clear();
+
+        Order loaded = countStatements(1, () -> adapter.findById(orderId).orElseThrow());
+        Order cached = countStatements(0, () -> adapter.findById(orderId).orElseThrow());
+
+        assertNotSame(loaded, cached);
+        assertEquals(ITEMS_PER_ORDER, cached.getItems().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {20, 100})
+    void saveAllNew_ShouldUseOneBatchedInsertPerTableRegardlessOfSize(int orderCount) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order(customerId, null, "ORD-BULK-" + i);
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                order.addItem(new OrderItem(UUID.randomUUID(), "Produto " + j, "SKU-" + j, BigDecimal.TEN, 1));
+            }
+            orders.add(order);
+        }
+
+        // Um insert preparado para orders e um para order_items, reutilizados entre os lotes JDBC
+        List<Order> saved = countStatements(2, () -> adapter.saveAllNew(orders));
+
+        assertEquals(orderCount, saved.size());
+        assertEquals("ORD-BULK-0", saved.get(0).getOrderNumber());
+        assertEquals(orderCount, orderJpaRepository.count());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 200})
+    void insertItem_ShouldWriteOnlyHeaderAndNewItemRegardlessOfOrderSize(int itemCount) {
+        Order order = loadOrderWithItems(itemCount);
+        OrderItem item = new OrderItem(UUID.randomUUID(), "Produto novo", "SKU-NOVO", BigDecimal.ONE, 2);
+        order.addItem(item);
+
+        Order saved = countStatements(2, () -> adapter.insertItem(order, item));
+
+        assertEquals(1L, saved.getVersion());
+        entityManager.clear();
+        OrderEntity reloaded = orderJpaRepository.findWithItemsById(order.getId()).orElseThrow();
+        assertEquals(itemCount + 1, reloaded.getItems().size());
+        assertEquals(0, saved.getTotalAmount().compareTo(reloaded.getTotalAmount()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 200})
+    void updateItem_ShouldWriteOnlyHeaderAndChangedItemRegardlessOfOrderSize(int itemCount) {
+        Order order = loadOrderWithItems(itemCount);
+        OrderItem item = order.getItems().get(0);
+        item.updateQuantity(7);
+        order.recalculateAmounts();
+
+        countStatements(2, () -> adapter.updateItem(order, item));
+
+        entityManager.clear();
+        OrderItemEntity reloaded = entityManager.find(OrderItemEntity.class, item.getId());
+        assertEquals(7, reloaded.getQuantity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 200})
+    void deleteItem_ShouldWriteOnlyHeaderAndRemovedItemRegardlessOfOrderSize(int itemCount) {
+        Order order = loadOrderWithItems(itemCount);
+        OrderItem item = order.getItems().get(0);
+        order.removeItem(item);
+
+        countStatements(2, () -> adapter.deleteItem(order, item.getId()));
+
+        entityManager.clear();
+        assertEquals(itemCount - 1, orderJpaRepository.findWithItemsById(order.getId()).orElseThrow().getItems().size());
+    }
+
+    @Test
+    void insertItem_WithStaleVersion_ShouldFailWithoutWritingItem() {
+        Order stale = loadOrderWithItems(ITEMS_PER_ORDER);
+        Order current = adapter.findById(stale.getId()).orElseThrow();
+        OrderItem first = new OrderItem(UUID.randomUUID(), "Produto A", "SKU-A", BigDecimal.ONE, 1);
+        current.addItem(first);
+        adapter.insertItem(current, first);
+
+        OrderItem second = new OrderItem(UUID.randomUUID(), "Produto B", "SKU-B", BigDecimal.ONE, 1);
+        stale.addItem(second);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> adapter.insertItem(stale, second));
+        entityManager.clear();
+        assertEquals(ITEMS_PER_ORDER + 1,
+                orderJpaRepository.findWithItemsById(stale.getId()).orElseThrow().getItems().size());
+    }
+
+    @Test
+    void insertItem_WithoutVersion_ShouldFailWithoutWriting() {
+        Order order = loadOrderWithItems(ITEMS_PER_ORDER);
+        order.setVersion(null);
+        OrderItem item = new OrderItem(UUID.randomUUID(), "Produto A", "SKU-A", BigDecimal.ONE, 1);
+        order.addItem(item);
+
+        statistics.clear();
+        assertThrows(IllegalArgumentException.class, () -> adapter.insertItem(order, item));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        entityManager.clear();
+        assertEquals(ITEMS_PER_ORDER,
+                orderJpaRepository.findWithItemsById(order.getId()).orElseThrow().getItems().size());
+    }
+
+    private Order loadOrderWithItems(int itemCount) {
+        OrderEntity entity = new OrderEntity();
+        entity.setOrderNumber("ORD-TEST-" + UUID.randomUUID());
+        entity.setCustomerId(customerId);
+        entity.setStatus(OrderStatus.PENDING);
+        entity.setCreatedAt(LocalDateTime.now());
+        entity.setUpdatedAt(LocalDateTime.now());
+        for (int j = 0; j < itemCount; j++) {
+            OrderItemEntity item = new OrderItemEntity(UUID.randomUUID(), "Produto " + j, "SKU-" + j, BigDecimal.TEN, 1);
+            item.setCreatedAt(LocalDateTime.now());
+            item.setUpdatedAt(LocalDateTime.now());
+            entity.addItem(item);
+        }
+        entityManager.persist(entity);
+        entityManager.flush();
+        entityManager.clear();
+        Order order = adapter.findById(entity.getId()).orElseThrow();
+        entityManager.clear();
+        return order;
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> query) {
+        statistics.clear();
+        T result = query.get();
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Número inesperado de comandos SQL");
+        return result;
+    }
+
+    private void persistOrders(int count, OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            OrderEntity order = new OrderEntity();
+            order.setOrderNumber("ORD-TEST-" + UUID.randomUUID());
+            order.setCustomerId(customerId);
+            order.setStatus(status);
+            order.setCreatedAt(now.minusMinutes(i));
+            order.setUpdatedAt(now.minusMinutes(i));
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                OrderItemEntity item = new OrderItemEntity(
+                        UUID.randomUUID(), "Produto " + j, "SKU-" + j, BigDecimal.TEN, 1);
+                item.setCreatedAt(now);
+                item.setUpdatedAt(now);
+                order.addItem(item);
+            }
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
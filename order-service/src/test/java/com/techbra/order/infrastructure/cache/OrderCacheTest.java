@@ -0,0 +1,99 @@
+package com.techbra.order.infrastructure.cache;
+
+import com.techbra.order.infrastructure.persistence.OrderEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCacheTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OrderCache(2, Duration.ofSeconds(10), meterRegistry, clock::get);
+    }
+
+    @Test
+    void get_AfterPut_ShouldReturnSnapshotByIdAndOrderNumber() {
+        // Given
+        OrderEntity order = snapshot(1L);
+        cache.put(order);
+
+        // When & Then
+        assertSame(order, cache.get(order.getId()).orElseThrow());
+        assertSame(order, cache.getByOrderNumber(order.getOrderNumber()).orElseThrow());
+        assertEquals(2.0, meterRegistry.get("order.cache.gets").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void get_AfterTtl_ShouldMiss() {
+        // Given
+        OrderEntity order = snapshot(1L);
+        cache.put(order);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Then
+        assertTrue(cache.get(order.getId()).isEmpty());
+        assertEquals(1.0, meterRegistry.get("order.cache.gets").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void put_BeyondMaxSize_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        OrderEntity first = snapshot(1L);
+        OrderEntity second = snapshot(1L);
+        OrderEntity third = snapshot(1L);
+        cache.put(first);
+        cache.put(second);
+        cache.get(first.getId());
+
+        // When
+        cache.put(third);
+
+        // Then
+        assertTrue(cache.get(first.getId()).isPresent());
+        assertTrue(cache.get(second.getId()).isEmpty());
+        assertTrue(cache.getByOrderNumber(second.getOrderNumber()).isEmpty());
+        assertEquals(1.0, meterRegistry.get("order.cache.evictions").counter().count());
+    }
+
+    @Test
+    void invalidate_WithVersion_ShouldRejectOlderSnapshots() {
+        // Given
+        OrderEntity stale = snapshot(1L);
+        cache.put(stale);
+
+        // When
+        cache.invalidate(stale.getId(), 2L);
+        cache.put(stale);
+
+        // Then
+        assertTrue(cache.get(stale.getId()).isEmpty());
+
+        OrderEntity fresh = snapshot(2L);
+        fresh.setId(stale.getId());
+        cache.put(fresh);
+        assertSame(fresh, cache.get(stale.getId()).orElseThrow());
+    }
+
+    private static OrderEntity snapshot(Long version) {
+        OrderEntity entity = new OrderEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setOrderNumber("ORD-" + UUID.randomUUID());
+        entity.setVersion(version);
+        return entity;
+    }
+}
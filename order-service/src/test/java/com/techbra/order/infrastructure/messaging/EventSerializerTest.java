@@ -0,0 +1,74 @@
+package com.techbra.order.infrastructure.messaging;
+
+import com.techbra.order.domain.event.OrderEvent;
+import com.techbra.order.domain.event.OrderPayload;
+import com.techbra.order.domain.event.OrderPayload.OrderItemPayload;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSerializerTest {
+
+    private static final String TOPIC = "billing-events";
+
+    @Test
+    void serialize_WithSmile_ShouldSignalFormatAndBeReadableAsSmile() throws Exception {
+        // Given
+        OrderEvent event = orderEvent(20);
+        Headers headers = new RecordHeaders();
+
+        // When
+        byte[] data = new EventSerializer<OrderEvent>(EventWireFormat.SMILE).serialize(TOPIC, headers, event);
+
+        // Then
+        assertEquals(EventWireFormat.SMILE, EventWireFormat.of(headers));
+        OrderEvent received = EventWireFormat.SMILE.objectMapper().readValue(data, OrderEvent.class);
+        assertEquals(event.getEventId(), received.getEventId());
+        assertEquals(event.getOrderId(), received.getOrderId());
+        assertEquals(20, received.getPayload().getItems().size());
+        assertTrue(data.length < EventWireFormat.JSON.objectMapper().writeValueAsBytes(event).length);
+    }
+
+    @Test
+    void serialize_WithJson_ShouldMatchJsonSerializerWithoutHeader() {
+        // Given
+        OrderEvent event = orderEvent(2);
+        Headers headers = new RecordHeaders();
+
+        // When
+        byte[] data = new EventSerializer<OrderEvent>(EventWireFormat.fromName("json")).serialize(TOPIC, headers, event);
+
+        // Then
+        assertNull(headers.lastHeader(EventWireFormat.HEADER));
+        try (JsonSerializer<OrderEvent> jsonSerializer = new JsonSerializer<>()) {
+            assertEquals(new String(jsonSerializer.serialize(TOPIC, event), StandardCharsets.UTF_8),
+                    new String(data, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void fromName_WithUnknownFormat_ShouldFail() {
+        assertThrows(IllegalArgumentException.class, () -> EventWireFormat.fromName("avro"));
+    }
+
+    private OrderEvent orderEvent(int itemCount) {
+        List<OrderItemPayload> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemPayload(UUID.randomUUID(), "Produto " + i, 2, new BigDecimal("10.50"), new BigDecimal("21.00")));
+        }
+        OrderPayload payload = new OrderPayload("ORD-1", LocalDateTime.now(), LocalDateTime.now(), items,
+                null, null, "PIX", null);
+        return new OrderEvent("ORDER_CREATED", UUID.randomUUID(), UUID.randomUUID(),
+                new BigDecimal("21.00").multiply(BigDecimal.valueOf(itemCount)), "PENDING", payload);
+    }
+}
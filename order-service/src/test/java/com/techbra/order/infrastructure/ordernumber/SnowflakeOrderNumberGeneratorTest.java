@@ -0,0 +1,101 @@
+package com.techbra.order.infrastructure.ordernumber;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+    private static final int NODES = 4;
+    private static final int THREADS_PER_NODE = 4;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    void nextOrderNumber_AcrossConcurrentNodes_ShouldBeUniqueAndMonotonicPerThread() throws Exception {
+        Set<String> generated = ConcurrentHashMap.newKeySet(NODES * THREADS_PER_NODE * IDS_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(NODES * THREADS_PER_NODE);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int node = 0; node < NODES; node++) {
+                SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(node);
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        String previous = "";
+                        boolean monotonic = true;
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            String orderNumber = generator.nextOrderNumber();
+                            monotonic &= orderNumber.compareTo(previous) > 0;
+                            generated.add(orderNumber);
+                            previous = orderNumber;
+                        }
+                        return monotonic;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(60, TimeUnit.SECONDS), "Números de um mesmo nó devem ser crescentes");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(NODES * THREADS_PER_NODE * IDS_PER_THREAD, generated.size());
+    }
+
+    @Test
+    void nextId_WhenSequenceIsExhausted_ShouldBorrowNextMillisecond() {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7, () -> 1_750_000_000_000L);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            assertEquals(7, (next >>> SnowflakeOrderNumberGenerator.SEQUENCE_BITS) & SnowflakeOrderNumberGenerator.MAX_NODE_ID);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextId_WhenClockMovesBackwards_ShouldStayMonotonic() {
+        AtomicLong clock = new AtomicLong(1_750_000_000_000L);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1, clock::get);
+
+        long beforeRegression = generator.nextId();
+        clock.addAndGet(-5_000);
+
+        assertTrue(generator.nextId() > beforeRegression);
+    }
+
+    @Test
+    void format_ShouldHaveFixedWidthAndPreserveNumericOrder() {
+        String small = SnowflakeOrderNumberGenerator.format(31);
+        String large = SnowflakeOrderNumberGenerator.format(Long.MAX_VALUE);
+
+        assertEquals("ORD-000000000000Z", small);
+        assertEquals(small.length(), large.length());
+        assertTrue(large.length() <= 50);
+        assertTrue(small.compareTo(large) < 0);
+    }
+
+    @Test
+    void constructor_WithInvalidNodeId_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderNumberGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeOrderNumberGenerator(SnowflakeOrderNumberGenerator.MAX_NODE_ID + 1));
+    }
+}
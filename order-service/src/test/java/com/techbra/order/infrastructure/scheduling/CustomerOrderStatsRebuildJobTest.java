@@ -0,0 +1,86 @@
+package com.techbra.order.infrastructure.scheduling;
+
+import com.techbra.order.domain.ports.out.CustomerOrderStatsPort;
+import com.techbra.order.domain.ports.out.SchedulerLeasePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOrderStatsRebuildJobTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Mock
+    private CustomerOrderStatsPort customerOrderStatsPort;
+
+    @Mock
+    private SchedulerLeasePort schedulerLeasePort;
+
+    private CustomerOrderStatsRebuildJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new CustomerOrderStatsRebuildJob(customerOrderStatsPort, schedulerLeasePort, 2, LEASE);
+    }
+
+    @Test
+    void rebuild_ShouldReconcileChunksFromTheLastCustomerUntilShortChunk() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(schedulerLeasePort.tryAcquire(eq(CustomerOrderStatsRebuildJob.LEASE_NAME), anyString(), eq(LEASE)))
+                .thenReturn(true);
+        when(customerOrderStatsPort.reconcileCustomers(null, 2)).thenReturn(List.of(first, second));
+        when(customerOrderStatsPort.reconcileCustomers(second, 2)).thenReturn(List.of(third));
+
+        // When
+        job.rebuild();
+
+        // Then
+        verify(customerOrderStatsPort).reconcileCustomers(null, 2);
+        verify(customerOrderStatsPort).reconcileCustomers(second, 2);
+        verifyNoMoreInteractions(customerOrderStatsPort);
+        verify(schedulerLeasePort).release(eq(CustomerOrderStatsRebuildJob.LEASE_NAME), anyString());
+    }
+
+    @Test
+    void rebuild_WhenLeaseHeldElsewhere_ShouldDoNothing() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(CustomerOrderStatsRebuildJob.LEASE_NAME), anyString(), eq(LEASE)))
+                .thenReturn(false);
+
+        // When
+        job.rebuild();
+
+        // Then
+        verifyNoInteractions(customerOrderStatsPort);
+        verify(schedulerLeasePort, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void rebuild_WhenLeaseRenewalFails_ShouldStopAfterCurrentChunk() {
+        // Given
+        when(schedulerLeasePort.tryAcquire(eq(CustomerOrderStatsRebuildJob.LEASE_NAME), anyString(), eq(LEASE)))
+                .thenReturn(true, false);
+        when(customerOrderStatsPort.reconcileCustomers(null, 2))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        // When
+        job.rebuild();
+
+        // Then
+        verify(customerOrderStatsPort, times(1)).reconcileCustomers(any(), eq(2));
+        verify(schedulerLeasePort).release(eq(CustomerOrderStatsRebuildJob.LEASE_NAME), anyString());
+    }
+}
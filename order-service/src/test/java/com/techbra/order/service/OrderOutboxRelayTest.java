@@ -0,0 +1,200 @@
+package com.techbra.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.techbra.order.domain.event.OrderEvent;
+import com.techbra.order.domain.ports.out.SchedulerLeasePort;
+import com.techbra.order.infrastructure.persistence.OrderOutboxEntity;
+import com.techbra.order.infrastructure.persistence.OrderOutboxJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    private static final String TOPIC = "billing-events";
+
+    @Mock
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SchedulerLeasePort schedulerLeasePort;
+
+    private ObjectMapper objectMapper;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        relay = new OrderOutboxRelay(outboxRepository, kafkaTemplate, objectMapper, transactionManager,
+                schedulerLeasePort, 2, Duration.ofSeconds(1), 3, Duration.ofSeconds(1), Duration.ofSeconds(3),
+                Duration.ofSeconds(30));
+    }
+
+    @Test
+    void relayBatch_ShouldSendWholeBatchAndDeleteAcknowledgedEvents() {
+        List<OrderOutboxEntity> batch = List.of(entry(), entry());
+        when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(batch);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(acknowledged());
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any(OrderEvent.class));
+        verify(kafkaTemplate, times(1)).flush();
+        verify(outboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    void relayBatch_WhenSendFails_ShouldKeepFailedEventForRetry() {
+        OrderOutboxEntity ok = entry();
+        OrderOutboxEntity failing = entry();
+        when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(List.of(ok, failing));
+        when(kafkaTemplate.send(eq(TOPIC), eq(ok.getMessageKey()), any())).thenReturn(acknowledged());
+        when(kafkaTemplate.send(eq(TOPIC), eq(failing.getMessageKey()), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(1, relayed);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<OrderOutboxEntity>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        assertEquals(List.of(ok), new ArrayList<>(deleted.getValue()));
+        assertEquals(1, failing.getAttempts());
+        assertTrue(failing.getLastError().contains("broker indisponível"));
+        assertEquals(OrderOutboxEntity.Status.PENDING, failing.getStatus());
+        assertTrue(failing.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void relayBatch_ShouldSendNextEventOfAnOrderOnlyAfterThePreviousIsAcknowledged() {
+        UUID orderId = UUID.randomUUID();
+        OrderOutboxEntity created = entry(orderId, "ORDER_CREATED");
+        OrderOutboxEntity updated = entry(orderId, "ORDER_UPDATED");
+        when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(List.of(created, updated));
+        List<String> sentTypes = new ArrayList<>();
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenAnswer(invocation -> {
+            sentTypes.add(((OrderEvent) invocation.getArgument(2)).getEventType());
+            return acknowledged();
+        });
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        assertEquals(List.of("ORDER_CREATED", "ORDER_UPDATED"), sentTypes);
+        verify(kafkaTemplate, times(2)).flush();
+    }
+
+    @Test
+    void relayBatch_WhenEventFails_ShouldNotSendLaterEventsOfTheSameOrder() {
+        UUID orderId = UUID.randomUUID();
+        OrderOutboxEntity created = entry(orderId, "ORDER_CREATED");
+        OrderOutboxEntity updated = entry(orderId, "ORDER_UPDATED");
+        when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(List.of(created, updated));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(0, relayed);
+        verify(kafkaTemplate, times(1)).send(eq(TOPIC), anyString(), any());
+        assertEquals(1, created.getAttempts());
+        assertEquals(0, updated.getAttempts());
+        verify(outboxRepository).deleteAllInBatch(List.of());
+    }
+
+    @Test
+    void relayBatch_WhenMaxAttemptsReached_ShouldParkTheEvent() {
+        OrderOutboxEntity failing = entry();
+        failing.recordFailure("erro", Duration.ZERO, 3);
+        failing.recordFailure("erro", Duration.ZERO, 3);
+        when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(List.of(failing));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        relay.relayBatch();
+
+        assertEquals(3, failing.getAttempts());
+        assertTrue(failing.isParked());
+    }
+
+    @Test
+    void retryDelay_ShouldDoubleUpToTheMaximum() {
+        assertEquals(Duration.ofSeconds(1), relay.retryDelay(1));
+        assertEquals(Duration.ofSeconds(2), relay.retryDelay(2));
+        assertEquals(Duration.ofSeconds(3), relay.retryDelay(3));
+        assertEquals(Duration.ofSeconds(3), relay.retryDelay(40));
+    }
+
+    @Test
+    void drain_WhenLeaseHeldElsewhere_ShouldNotReadTheOutbox() {
+        when(schedulerLeasePort.tryAcquire(eq(OrderOutboxRelay.LEASE_NAME), anyString(), any())).thenReturn(false);
+
+        relay.drain();
+
+        verifyNoInteractions(outboxRepository, kafkaTemplate);
+    }
+
+    @Test
+    void drain_ShouldContinueWhileBatchesAreFull() {
+        when(schedulerLeasePort.tryAcquire(eq(OrderOutboxRelay.LEASE_NAME), anyString(), any())).thenReturn(true);
+        when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(entry(), entry()))
+                .thenReturn(List.of(entry()));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(acknowledged());
+
+        relay.drain();
+
+        verify(outboxRepository, times(2)).lockNextBatch(any(LocalDateTime.class), eq(2));
+        verify(kafkaTemplate, times(3)).send(eq(TOPIC), anyString(), any(OrderEvent.class));
+    }
+
+    private OrderOutboxEntity entry() {
+        return entry(UUID.randomUUID(), "ORDER_CREATED");
+    }
+
+    private OrderOutboxEntity entry(UUID orderId, String eventType) {
+        try {
+            OrderEvent event = new OrderEvent(eventType, orderId, UUID.randomUUID(),
+                    BigDecimal.TEN, "PENDING", null);
+            return new OrderOutboxEntity(orderId, event.getEventType(), TOPIC, orderId.toString(),
+                    objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+}